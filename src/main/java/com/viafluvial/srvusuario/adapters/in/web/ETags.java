@@ -0,0 +1,46 @@
+package com.viafluvial.srvusuario.adapters.in.web;
+
+import org.springframework.http.ResponseEntity;
+
+/**
+ * ETag forte derivado da coluna {@code version} ({@code "3"}) e leitura do If-Match correspondente.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Resposta 200 com o ETag da versao; sem versao conhecida, sem cabecalho.
+     */
+    public static <T> ResponseEntity<T> ok(T body, Long version) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (version != null) {
+            response.eTag(String.valueOf(version));
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Converte o If-Match em versao esperada. Ausente ou {@code *} significa "qualquer versao" ({@code null}).
+     *
+     * @throws IllegalArgumentException para ETag fraco, lista de ETags ou valor que nao e uma versao
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            throw new IllegalArgumentException("If-Match exige ETag forte: " + ifMatch);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match invalido: " + ifMatch);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.viafluvial.srvusuario.adapters.in.web;
 
+import com.viafluvial.srvusuario.common.error.UniqueConstraintViolationException;
 import com.viafluvial.srvusuario.common.logging.CorrelationIdFilter;
 import com.viafluvial.srvusuario.domain.exception.*;
 import jakarta.servlet.http.HttpServletRequest;
@@ -78,6 +79,23 @@ public class GlobalExceptionHandler {
             .body(problem(request, HttpStatus.CONFLICT, "DUPLICATE_EMAIL", ex.getMessage(), details));
     }
 
+    @ExceptionHandler(UniqueConstraintViolationException.class)
+    public org.springframework.http.ResponseEntity<ProblemDetail> handleUniqueConstraint(UniqueConstraintViolationException ex, HttpServletRequest request) {
+        log.warn("CONFLICT: {}", ex.getMessage());
+        return org.springframework.http.ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(problem(request, HttpStatus.CONFLICT, "CONFLICT", ex.getMessage(), null));
+    }
+
+    @ExceptionHandler(StaleVersionException.class)
+    public org.springframework.http.ResponseEntity<ProblemDetail> handleStaleVersion(StaleVersionException ex, HttpServletRequest request) {
+        log.warn("STALE_VERSION: {}", ex.getMessage());
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("resourceId", ex.getResourceId().toString());
+        details.put("expectedVersion", ex.getExpectedVersion());
+        return org.springframework.http.ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+            .body(problem(request, HttpStatus.PRECONDITION_FAILED, "STALE_VERSION", ex.getMessage(), details));
+    }
+
     @ExceptionHandler(InvalidUserStateException.class)
     public org.springframework.http.ResponseEntity<ProblemDetail> handleInvalidUserState(InvalidUserStateException ex, HttpServletRequest request) {
         log.warn("INVALID_USER_STATE: {}", ex.getMessage());
@@ -1,13 +1,18 @@
 package com.viafluvial.srvusuario.adapters.in.web.controller;
 
+import com.viafluvial.srvusuario.adapters.in.web.ETags;
 import com.viafluvial.srvusuario.adapters.in.web.api.AgenciesApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.AgencyBatchGetResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.AgencyDTOApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.BatchGetRequestApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.ExistsResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.PagedAgencyResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.mapper.AgencyApiMapper;
 import com.viafluvial.srvusuario.adapters.in.web.mapper.PagedResponseApiMapper;
 import com.viafluvial.srvusuario.application.dto.AgencyDTO;
 import com.viafluvial.srvusuario.application.dto.ExistsResponseDTO;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.application.dto.PagedResponse;
 import com.viafluvial.srvusuario.application.port.in.AgencyUseCase;
 import jakarta.validation.Valid;
@@ -18,6 +23,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -41,19 +47,28 @@ public class AgencyController implements AgenciesApi {
         LocalDateTime createdFrom,
         LocalDateTime createdTo,
         Integer page,
-        Integer size
+        Integer size,
+        String after,
+        String count
     ) {
         int pageValue = page != null ? page : 1;
         int sizeValue = size != null ? size : 20;
+        if (after != null) {
+            PagedResponse<AgencyDTO> slice = agencyService.searchAgenciesAfter(
+                cnpj, createdFrom, createdTo, PageCursor.decode(after), sizeValue);
+            return ResponseEntity.ok(PagedResponseApiMapper.toPagedAgencyResponse(slice));
+        }
         Pageable pageable = PageRequest.of(pageValue - 1, sizeValue);
 
-        PagedResponse<AgencyDTO> result = agencyService.searchAgencies(cnpj, createdFrom, createdTo, pageable);
+        PagedResponse<AgencyDTO> result = agencyService.searchAgencies(
+            cnpj, createdFrom, createdTo, pageable, CountMode.fromValue(count));
         return ResponseEntity.ok(PagedResponseApiMapper.toPagedAgencyResponse(result));
     }
 
     @Override
     public ResponseEntity<AgencyDTOApi> getAgencyById(UUID id) {
-        return ResponseEntity.ok(AgencyApiMapper.toApi(agencyService.getAgencyById(id)));
+        AgencyDTO agency = agencyService.getAgencyById(id);
+        return ETags.ok(AgencyApiMapper.toApi(agency), agency.getVersion());
     }
 
     @Override
@@ -61,6 +76,11 @@ public class AgencyController implements AgenciesApi {
         return ResponseEntity.ok(AgencyApiMapper.toApi(agencyService.getAgencyByUserId(userId)));
     }
 
+    @Override
+    public ResponseEntity<AgencyBatchGetResponseApi> batchGetAgenciesByUser(@Valid BatchGetRequestApi batchGetRequestApi) {
+        return ResponseEntity.ok(AgencyApiMapper.toBatchGetResponse(agencyService.getAgenciesByUserIds(batchGetRequestApi.getIds())));
+    }
+
     @Override
     public ResponseEntity<ExistsResponseApi> agencyExists(String cnpj) {
         ExistsResponseDTO response = ExistsResponseDTO.of(agencyService.existsByCnpj(cnpj));
@@ -72,4 +92,10 @@ public class AgencyController implements AgenciesApi {
         AgencyDTO updated = agencyService.updateAgency(id, AgencyApiMapper.toApp(agencyDTOApi));
         return ResponseEntity.ok(AgencyApiMapper.toApi(updated));
     }
+
+    @Override
+    public ResponseEntity<AgencyDTOApi> patchAgency(UUID id, Map<String, Object> patch, String ifMatch) {
+        AgencyDTO patched = agencyService.patchAgency(id, patch, ETags.expectedVersion(ifMatch));
+        return ETags.ok(AgencyApiMapper.toApi(patched), patched.getVersion());
+    }
 }
@@ -8,6 +8,8 @@ import com.viafluvial.srvusuario.adapters.in.web.dto.PagedApprovalResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.mapper.ApprovalApiMapper;
 import com.viafluvial.srvusuario.adapters.in.web.mapper.PagedResponseApiMapper;
 import com.viafluvial.srvusuario.application.dto.ApprovalCreateDTO;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.application.dto.PagedResponse;
 import com.viafluvial.srvusuario.application.dto.ApprovalDTO;
 import com.viafluvial.srvusuario.application.port.in.ApprovalUseCase;
@@ -38,12 +40,16 @@ public class ApprovalController implements ApprovalsApi {
     }
 
     @Override
-    public ResponseEntity<PagedApprovalResponseApi> listApprovals(ApprovalStatusApi status, Integer page, Integer size) {
+    public ResponseEntity<PagedApprovalResponseApi> listApprovals(ApprovalStatusApi status, Integer page, Integer size, String after, String count) {
         Approval.ApprovalStatus parsed = ApprovalApiMapper.toDomainStatus(status);
         int pageValue = page != null ? page : 1;
         int sizeValue = size != null ? size : 20;
+        if (after != null) {
+            PagedResponse<ApprovalDTO> slice = approvalService.searchApprovalsAfter(parsed, PageCursor.decode(after), sizeValue);
+            return ResponseEntity.ok(PagedResponseApiMapper.toPagedApprovalResponse(slice));
+        }
         Pageable pageable = PageRequest.of(pageValue - 1, sizeValue);
-        PagedResponse<ApprovalDTO> result = approvalService.searchApprovals(parsed, pageable);
+        PagedResponse<ApprovalDTO> result = approvalService.searchApprovals(parsed, pageable, CountMode.fromValue(count));
         return ResponseEntity.ok(PagedResponseApiMapper.toPagedApprovalResponse(result));
     }
 
@@ -1,15 +1,22 @@
 package com.viafluvial.srvusuario.adapters.in.web.controller;
 
+import com.viafluvial.srvusuario.adapters.in.web.ETags;
 import com.viafluvial.srvusuario.adapters.in.web.api.BoatmenApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.BatchGetRequestApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.BoatmanBatchGetResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.BoatmanDTOApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.BoatmanDocumentsDTOApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.ExistsResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.PagedBoatmanResponseApi;
+import com.viafluvial.srvusuario.adapters.in.web.export.ExportFormat;
+import com.viafluvial.srvusuario.adapters.in.web.export.StreamingExporter;
 import com.viafluvial.srvusuario.adapters.in.web.mapper.BoatmanApiMapper;
 import com.viafluvial.srvusuario.adapters.in.web.mapper.PagedResponseApiMapper;
 import com.viafluvial.srvusuario.application.dto.BoatmanDTO;
 import com.viafluvial.srvusuario.application.dto.BoatmanDocumentsDTO;
 import com.viafluvial.srvusuario.application.dto.ExistsResponseDTO;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.application.dto.PagedResponse;
 import com.viafluvial.srvusuario.application.port.in.BoatmanUseCase;
 import jakarta.validation.Valid;
@@ -18,6 +25,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -27,9 +35,11 @@ import java.util.UUID;
 public class BoatmanController implements BoatmenApi {
 
     private final BoatmanUseCase boatmanService;
+    private final StreamingExporter exporter;
 
-    public BoatmanController(BoatmanUseCase boatmanService) {
+    public BoatmanController(BoatmanUseCase boatmanService, StreamingExporter exporter) {
         this.boatmanService = boatmanService;
+        this.exporter = exporter;
     }
 
     @Override
@@ -48,13 +58,30 @@ public class BoatmanController implements BoatmenApi {
         LocalDateTime createdFrom,
         LocalDateTime createdTo,
         Integer page,
-        Integer size
+        Integer size,
+        String after,
+        String count
     ) {
         int pageValue = page != null ? page : 1;
         int sizeValue = size != null ? size : 20;
-        Pageable pageable = PageRequest.of(pageValue - 1, sizeValue);
 
         BigDecimal rating = ratingMin != null ? BigDecimal.valueOf(ratingMin) : null;
+        if (after != null) {
+            PagedResponse<BoatmanDTO> slice = boatmanService.searchBoatmenAfter(
+                cpf,
+                cnpj,
+                rating,
+                approvedFrom,
+                approvedTo,
+                createdFrom,
+                createdTo,
+                PageCursor.decode(after),
+                sizeValue
+            );
+            return ResponseEntity.ok(PagedResponseApiMapper.toPagedBoatmanResponse(slice));
+        }
+
+        Pageable pageable = PageRequest.of(pageValue - 1, sizeValue);
         PagedResponse<BoatmanDTO> result = boatmanService.searchBoatmen(
             cpf,
             cnpj,
@@ -63,12 +90,41 @@ public class BoatmanController implements BoatmenApi {
             approvedTo,
             createdFrom,
             createdTo,
-            pageable
+            pageable,
+            CountMode.fromValue(count)
         );
 
         return ResponseEntity.ok(PagedResponseApiMapper.toPagedBoatmanResponse(result));
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportBoatmen(
+        String cpf,
+        String cnpj,
+        Double ratingMin,
+        LocalDateTime approvedFrom,
+        LocalDateTime approvedTo,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.fromValue(format);
+        BigDecimal rating = ratingMin != null ? BigDecimal.valueOf(ratingMin) : null;
+
+        return exporter.<BoatmanDTO, BoatmanDTOApi>export(
+            "boatmen", exportFormat, BoatmanApiMapper.EXPORT_COLUMNS, BoatmanApiMapper::toApi,
+            sink -> boatmanService.exportBoatmen(
+                cpf,
+                cnpj,
+                rating,
+                approvedFrom,
+                approvedTo,
+                createdFrom,
+                createdTo,
+                sink
+            ));
+    }
+
     @Override
     public ResponseEntity<ExistsResponseApi> boatmanExists(String cpf, String cnpj) {
         if ((cpf == null || cpf.isBlank()) && (cnpj == null || cnpj.isBlank())) {
@@ -97,15 +153,21 @@ public class BoatmanController implements BoatmenApi {
         return ResponseEntity.ok(BoatmanApiMapper.toApi(boatmanService.getBoatmanByUserId(userId)));
     }
 
+    @Override
+    public ResponseEntity<BoatmanBatchGetResponseApi> batchGetBoatmenByUser(@Valid BatchGetRequestApi batchGetRequestApi) {
+        return ResponseEntity.ok(BoatmanApiMapper.toBatchGetResponse(boatmanService.getBoatmenByUserIds(batchGetRequestApi.getIds())));
+    }
+
     @Override
     public ResponseEntity<BoatmanDocumentsDTOApi> getBoatmanDocuments(UUID id) {
         BoatmanDocumentsDTO documents = boatmanService.getBoatmanDocuments(id);
-        return ResponseEntity.ok(BoatmanApiMapper.toApi(documents));
+        return ETags.ok(BoatmanApiMapper.toApi(documents), documents.getVersion());
     }
 
     @Override
-    public ResponseEntity<BoatmanDocumentsDTOApi> updateBoatmanDocuments(UUID id, BoatmanDocumentsDTOApi documentsDTOApi) {
-        BoatmanDocumentsDTO updated = boatmanService.updateBoatmanDocuments(id, BoatmanApiMapper.toApp(documentsDTOApi));
-        return ResponseEntity.ok(BoatmanApiMapper.toApi(updated));
+    public ResponseEntity<BoatmanDocumentsDTOApi> updateBoatmanDocuments(UUID id, BoatmanDocumentsDTOApi documentsDTOApi, String ifMatch) {
+        BoatmanDocumentsDTO updated = boatmanService.updateBoatmanDocuments(
+            id, BoatmanApiMapper.toApp(documentsDTOApi), ETags.expectedVersion(ifMatch));
+        return ETags.ok(BoatmanApiMapper.toApi(updated), updated.getVersion());
     }
 }
@@ -1,12 +1,19 @@
 package com.viafluvial.srvusuario.adapters.in.web.controller;
 
+import com.viafluvial.srvusuario.adapters.in.web.ETags;
 import com.viafluvial.srvusuario.adapters.in.web.api.PassengersApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.BatchGetRequestApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.ExistsResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.PagedPassengerResponseApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.PassengerBatchGetResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.PassengerDTOApi;
+import com.viafluvial.srvusuario.adapters.in.web.export.ExportFormat;
+import com.viafluvial.srvusuario.adapters.in.web.export.StreamingExporter;
 import com.viafluvial.srvusuario.adapters.in.web.mapper.PagedResponseApiMapper;
 import com.viafluvial.srvusuario.adapters.in.web.mapper.PassengerApiMapper;
 import com.viafluvial.srvusuario.application.dto.ExistsResponseDTO;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.application.dto.PagedResponse;
 import com.viafluvial.srvusuario.application.dto.PassengerDTO;
 import com.viafluvial.srvusuario.application.port.in.PassengerUseCase;
@@ -16,17 +23,21 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
 public class PassengerController implements PassengersApi {
 
     private final PassengerUseCase passengerService;
+    private final StreamingExporter exporter;
 
-    public PassengerController(PassengerUseCase passengerService) {
+    public PassengerController(PassengerUseCase passengerService, StreamingExporter exporter) {
         this.passengerService = passengerService;
+        this.exporter = exporter;
     }
 
     @Override
@@ -41,15 +52,36 @@ public class PassengerController implements PassengersApi {
         LocalDateTime createdFrom,
         LocalDateTime createdTo,
         Integer page,
-        Integer size
+        Integer size,
+        String after,
+        String count
     ) {
         int pageValue = page != null ? page : 1;
         int sizeValue = size != null ? size : 20;
+        if (after != null) {
+            PagedResponse<PassengerDTO> slice = passengerService.searchPassengersAfter(
+                cpf, createdFrom, createdTo, PageCursor.decode(after), sizeValue);
+            return ResponseEntity.ok(PagedResponseApiMapper.toPagedPassengerResponse(slice));
+        }
         Pageable pageable = PageRequest.of(pageValue - 1, sizeValue);
-        PagedResponse<PassengerDTO> result = passengerService.searchPassengers(cpf, createdFrom, createdTo, pageable);
+        PagedResponse<PassengerDTO> result = passengerService.searchPassengers(
+            cpf, createdFrom, createdTo, pageable, CountMode.fromValue(count));
         return ResponseEntity.ok(PagedResponseApiMapper.toPagedPassengerResponse(result));
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportPassengers(
+        String cpf,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.fromValue(format);
+        return exporter.export(
+            "passengers", exportFormat, PassengerApiMapper.EXPORT_COLUMNS, PassengerApiMapper::toApi,
+            sink -> passengerService.exportPassengers(cpf, createdFrom, createdTo, sink));
+    }
+
     @Override
     public ResponseEntity<ExistsResponseApi> passengerExists(String cpf) {
         ExistsResponseDTO response = ExistsResponseDTO.of(passengerService.existsByCpf(cpf));
@@ -58,7 +90,8 @@ public class PassengerController implements PassengersApi {
 
     @Override
     public ResponseEntity<PassengerDTOApi> getPassengerById(UUID id) {
-        return ResponseEntity.ok(PassengerApiMapper.toApi(passengerService.getPassengerById(id)));
+        PassengerDTO passenger = passengerService.getPassengerById(id);
+        return ETags.ok(PassengerApiMapper.toApi(passenger), passenger.getVersion());
     }
 
     @Override
@@ -66,9 +99,20 @@ public class PassengerController implements PassengersApi {
         return ResponseEntity.ok(PassengerApiMapper.toApi(passengerService.getPassengerByUserId(userId)));
     }
 
+    @Override
+    public ResponseEntity<PassengerBatchGetResponseApi> batchGetPassengersByUser(@Valid BatchGetRequestApi batchGetRequestApi) {
+        return ResponseEntity.ok(PassengerApiMapper.toBatchGetResponse(passengerService.getPassengersByUserIds(batchGetRequestApi.getIds())));
+    }
+
     @Override
     public ResponseEntity<PassengerDTOApi> updatePassenger(UUID id, @Valid PassengerDTOApi passengerDTOApi) {
         PassengerDTO updated = passengerService.updatePassenger(id, PassengerApiMapper.toApp(passengerDTOApi));
         return ResponseEntity.ok(PassengerApiMapper.toApi(updated));
     }
+
+    @Override
+    public ResponseEntity<PassengerDTOApi> patchPassenger(UUID id, Map<String, Object> patch, String ifMatch) {
+        PassengerDTO patched = passengerService.patchPassenger(id, patch, ETags.expectedVersion(ifMatch));
+        return ETags.ok(PassengerApiMapper.toApi(patched), patched.getVersion());
+    }
 }
@@ -1,16 +1,26 @@
 package com.viafluvial.srvusuario.adapters.in.web.controller;
 
+import com.viafluvial.srvusuario.adapters.in.web.ETags;
 import com.viafluvial.srvusuario.adapters.in.web.api.UsersApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.BatchGetRequestApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.ExistsResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.PagedUserResponseApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.UserBatchCreateRequestApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.UserBatchCreateResponseApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.UserBatchGetResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.UserCreateDTOApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.UserDTOApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.UserStatusApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.UserTypeApi;
+import com.viafluvial.srvusuario.adapters.in.web.export.ExportFormat;
+import com.viafluvial.srvusuario.adapters.in.web.export.StreamingExporter;
 import com.viafluvial.srvusuario.adapters.in.web.mapper.PagedResponseApiMapper;
 import com.viafluvial.srvusuario.adapters.in.web.mapper.UserApiMapper;
 import com.viafluvial.srvusuario.application.dto.ExistsResponseDTO;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.application.dto.PagedResponse;
+import com.viafluvial.srvusuario.application.dto.UserCreateDTO;
 import com.viafluvial.srvusuario.application.dto.UserDTO;
 import com.viafluvial.srvusuario.application.port.in.UserManagementUseCase;
 import com.viafluvial.srvusuario.domain.model.UserStatus;
@@ -25,6 +35,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -35,9 +46,11 @@ import java.util.UUID;
 public class UserController implements UsersApi {
 
     private final UserManagementUseCase userService;
+    private final StreamingExporter exporter;
 
-    public UserController(UserManagementUseCase userService) {
+    public UserController(UserManagementUseCase userService, StreamingExporter exporter) {
         this.userService = userService;
+        this.exporter = exporter;
     }
 
     @Override
@@ -46,9 +59,23 @@ public class UserController implements UsersApi {
         return ResponseEntity.status(HttpStatus.CREATED).body(UserApiMapper.toApi(createdUser));
     }
 
+    @Override
+    public ResponseEntity<UserBatchCreateResponseApi> createUsers(@Valid UserBatchCreateRequestApi userBatchCreateRequestApi) {
+        List<UserCreateDTO> users = userBatchCreateRequestApi.getItems().stream()
+            .map(UserApiMapper::toApp)
+            .toList();
+        return ResponseEntity.ok(UserApiMapper.toBatchResponse(userService.createUsers(users)));
+    }
+
+    @Override
+    public ResponseEntity<UserBatchGetResponseApi> batchGetUsers(@Valid BatchGetRequestApi batchGetRequestApi) {
+        return ResponseEntity.ok(UserApiMapper.toBatchGetResponse(userService.getUsersByIds(batchGetRequestApi.getIds())));
+    }
+
     @Override
     public ResponseEntity<UserDTOApi> getUserById(UUID id) {
-        return ResponseEntity.ok(UserApiMapper.toApi(userService.getUserById(id)));
+        UserDTO user = userService.getUserById(id);
+        return ETags.ok(UserApiMapper.toApi(user), user.getVersion());
     }
 
     @Override
@@ -59,34 +86,82 @@ public class UserController implements UsersApi {
     @Override
     public ResponseEntity<PagedUserResponseApi> searchUsers(
         String email,
+        String name,
         UserTypeApi type,
         UserStatusApi status,
         Boolean emailVerified,
         LocalDateTime createdFrom,
         LocalDateTime createdTo,
         Integer page,
-        Integer size
+        Integer size,
+        String after,
+        String count
     ) {
         int pageValue = page != null ? page : 1;
         int sizeValue = size != null ? size : 20;
-        Pageable pageable = PageRequest.of(pageValue - 1, sizeValue);
 
         UserType parsedType = UserApiMapper.toDomainUserType(type);
         UserStatus parsedStatus = UserApiMapper.toDomainUserStatus(status);
 
+        if (after != null) {
+            PagedResponse<UserDTO> slice = userService.searchUsersAfter(
+                email,
+                name,
+                parsedType,
+                parsedStatus,
+                emailVerified,
+                createdFrom,
+                createdTo,
+                PageCursor.decode(after),
+                sizeValue
+            );
+            return ResponseEntity.ok(PagedResponseApiMapper.toPagedUserResponse(slice));
+        }
+
+        Pageable pageable = PageRequest.of(pageValue - 1, sizeValue);
         PagedResponse<UserDTO> result = userService.searchUsers(
             email,
+            name,
             parsedType,
             parsedStatus,
             emailVerified,
             createdFrom,
             createdTo,
-            pageable
+            pageable,
+            CountMode.fromValue(count)
         );
 
         return ResponseEntity.ok(PagedResponseApiMapper.toPagedUserResponse(result));
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+        String email,
+        String name,
+        UserTypeApi type,
+        UserStatusApi status,
+        Boolean emailVerified,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.fromValue(format);
+        UserType parsedType = UserApiMapper.toDomainUserType(type);
+        UserStatus parsedStatus = UserApiMapper.toDomainUserStatus(status);
+
+        return exporter.export("users", exportFormat, UserApiMapper.EXPORT_COLUMNS, UserApiMapper::toApi,
+            sink -> userService.exportUsers(
+                email,
+                name,
+                parsedType,
+                parsedStatus,
+                emailVerified,
+                createdFrom,
+                createdTo,
+                sink
+            ));
+    }
+
     @Override
     public ResponseEntity<List<UserDTOApi>> getUsersByType(UserTypeApi userType) {
         UserType parsedType = UserApiMapper.toDomainUserType(userType);
@@ -140,6 +215,12 @@ public class UserController implements UsersApi {
         return ResponseEntity.ok(UserApiMapper.toApi(updated));
     }
 
+    @Override
+    public ResponseEntity<UserDTOApi> patchUser(UUID id, Map<String, Object> patch, String ifMatch) {
+        UserDTO patched = userService.patchUser(id, patch, ETags.expectedVersion(ifMatch));
+        return ETags.ok(UserApiMapper.toApi(patched), patched.getVersion());
+    }
+
     @Override
     public ResponseEntity<Void> deleteUser(UUID id) {
         userService.deleteUser(id);
@@ -0,0 +1,29 @@
+package com.viafluvial.srvusuario.adapters.in.web.export;
+
+import java.util.function.Function;
+
+/**
+ * Coluna do CSV de exportacao: cabecalho e valor extraido de cada linha.
+ */
+public final class ExportColumn<T> {
+
+    private final String header;
+    private final Function<T, Object> value;
+
+    private ExportColumn(String header, Function<T, Object> value) {
+        this.header = header;
+        this.value = value;
+    }
+
+    public static <T> ExportColumn<T> of(String header, Function<T, Object> value) {
+        return new ExportColumn<>(header, value);
+    }
+
+    public String getHeader() {
+        return header;
+    }
+
+    public Object valueOf(T row) {
+        return value.apply(row);
+    }
+}
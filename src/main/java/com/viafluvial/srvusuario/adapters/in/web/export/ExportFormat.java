@@ -0,0 +1,50 @@
+package com.viafluvial.srvusuario.adapters.in.web.export;
+
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Formato das exportacoes ({@code format=}).
+ */
+public enum ExportFormat {
+    /** Um objeto JSON por linha, com os mesmos campos das respostas JSON. */
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON),
+    /** CSV (RFC 4180) com linha de cabecalho. */
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8));
+
+    private final String value;
+    private final MediaType mediaType;
+
+    ExportFormat(String value, MediaType mediaType) {
+        this.value = value;
+        this.mediaType = mediaType;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Converte o parametro {@code format=}; ausente ou em branco significa {@link #NDJSON}.
+     *
+     * @throws IllegalArgumentException para valores desconhecidos
+     */
+    public static ExportFormat fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return NDJSON;
+        }
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        for (ExportFormat format : values()) {
+            if (format.value.equals(normalized)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Formato de exportacao invalido: " + value);
+    }
+}
@@ -0,0 +1,180 @@
+package com.viafluvial.srvusuario.adapters.in.web.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Monta as respostas de exportacao: cada linha entregue pelo use case e convertida para o DTO da API e escrita
+ * direto no corpo (NDJSON ou CSV), via {@link StreamingResponseBody}, sem acumular a lista em memoria.
+ * Se o cliente desconecta, a falha de escrita interrompe a leitura no banco.
+ */
+@Component
+public class StreamingExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamingExporter.class);
+
+    private final ObjectWriter ndjsonWriter;
+
+    public StreamingExporter(ObjectMapper objectMapper) {
+        // Uma linha por objeto, sem flush a cada valor: o buffer do Writer agrupa as linhas.
+        this.ndjsonWriter = objectMapper.writer()
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Fonte das linhas: recebe o consumidor e devolve quantas linhas entregou.
+     */
+    @FunctionalInterface
+    public interface Source<D> {
+        long export(Consumer<D> sink);
+    }
+
+    public <D, A> ResponseEntity<StreamingResponseBody> export(
+        String name,
+        ExportFormat format,
+        List<ExportColumn<A>> columns,
+        Function<D, A> toApi,
+        Source<D> source
+    ) {
+        StreamingResponseBody body = out -> {
+            try (RowWriter<A> writer = format == ExportFormat.CSV
+                ? new CsvRowWriter<>(out, columns)
+                : new NdjsonRowWriter<>(out, ndjsonWriter)) {
+                long rows = source.export(item -> writer.write(toApi.apply(item)));
+                log.info("Exportacao {} ({}) enviada: {} linhas", name, format.getValue(), rows);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        return ResponseEntity.ok()
+            .contentType(format.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(name + "." + format.getValue())
+                .build()
+                .toString())
+            .body(body);
+    }
+
+    private abstract static class RowWriter<A> implements AutoCloseable {
+
+        protected final Writer writer;
+
+        RowWriter(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+
+        final void write(A row) {
+            try {
+                writeRow(row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        abstract void writeRow(A row) throws IOException;
+
+        @Override
+        public void close() throws IOException {
+            // Fecha so o Writer: o stream da resposta pertence ao container.
+            writer.flush();
+        }
+    }
+
+    static final class NdjsonRowWriter<A> extends RowWriter<A> {
+
+        private final ObjectWriter objectWriter;
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream out, ObjectWriter objectWriter) throws IOException {
+            super(out);
+            this.objectWriter = objectWriter;
+            this.generator = objectWriter.createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                .setRootValueSeparator(null);
+        }
+
+        @Override
+        void writeRow(A row) throws IOException {
+            objectWriter.writeValue(generator, row);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.flush();
+            super.close();
+        }
+    }
+
+    static final class CsvRowWriter<A> extends RowWriter<A> {
+
+        private final List<ExportColumn<A>> columns;
+
+        CsvRowWriter(OutputStream out, List<ExportColumn<A>> columns) throws IOException {
+            super(out);
+            this.columns = columns;
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(columns.get(i).getHeader()));
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        void writeRow(A row) throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(format(columns.get(i).valueOf(row))));
+            }
+            writer.write("\r\n");
+        }
+
+        private static String format(Object value) {
+            if (value == null) {
+                return "";
+            }
+            if (value instanceof Double number) {
+                return BigDecimal.valueOf(number).toPlainString();
+            }
+            if (value instanceof BigDecimal number) {
+                return number.toPlainString();
+            }
+            return value.toString();
+        }
+
+        static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
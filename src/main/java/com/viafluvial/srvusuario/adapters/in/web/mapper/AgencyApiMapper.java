@@ -1,7 +1,9 @@
 package com.viafluvial.srvusuario.adapters.in.web.mapper;
 
+import com.viafluvial.srvusuario.adapters.in.web.dto.AgencyBatchGetResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.AgencyDTOApi;
 import com.viafluvial.srvusuario.application.dto.AgencyDTO;
+import com.viafluvial.srvusuario.application.dto.BatchGetResult;
 
 public final class AgencyApiMapper {
 
@@ -42,6 +44,13 @@ public final class AgencyApiMapper {
             .build();
     }
 
+    public static AgencyBatchGetResponseApi toBatchGetResponse(BatchGetResult<AgencyDTO> result) {
+        AgencyBatchGetResponseApi api = new AgencyBatchGetResponseApi();
+        api.setItems(result.getItems().stream().map(AgencyApiMapper::toApi).toList());
+        api.setNotFound(result.getNotFound());
+        return api;
+    }
+
     public static AgencyDTOApi toApi(AgencyDTO app) {
         if (app == null) {
             return null;
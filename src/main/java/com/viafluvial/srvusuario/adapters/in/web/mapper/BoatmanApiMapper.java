@@ -1,12 +1,32 @@
 package com.viafluvial.srvusuario.adapters.in.web.mapper;
 
+import com.viafluvial.srvusuario.adapters.in.web.dto.BoatmanBatchGetResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.BoatmanDTOApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.BoatmanDocumentsDTOApi;
+import com.viafluvial.srvusuario.adapters.in.web.export.ExportColumn;
+import com.viafluvial.srvusuario.application.dto.BatchGetResult;
 import com.viafluvial.srvusuario.application.dto.BoatmanDTO;
 import com.viafluvial.srvusuario.application.dto.BoatmanDocumentsDTO;
 
+import java.util.List;
+
 public final class BoatmanApiMapper {
 
+    /** Colunas do CSV de exportacao (sem URLs de documentos). */
+    public static final List<ExportColumn<BoatmanDTOApi>> EXPORT_COLUMNS = List.of(
+        ExportColumn.of("id", BoatmanDTOApi::getId),
+        ExportColumn.of("userId", BoatmanDTOApi::getUserId),
+        ExportColumn.of("cpf", BoatmanDTOApi::getCpf),
+        ExportColumn.of("cnpj", BoatmanDTOApi::getCnpj),
+        ExportColumn.of("companyName", BoatmanDTOApi::getCompanyName),
+        ExportColumn.of("rating", BoatmanDTOApi::getRating),
+        ExportColumn.of("totalTrips", BoatmanDTOApi::getTotalTrips),
+        ExportColumn.of("totalRevenue", BoatmanDTOApi::getTotalRevenue),
+        ExportColumn.of("approvedAt", BoatmanDTOApi::getApprovedAt),
+        ExportColumn.of("createdAt", BoatmanDTOApi::getCreatedAt),
+        ExportColumn.of("updatedAt", BoatmanDTOApi::getUpdatedAt)
+    );
+
     private BoatmanApiMapper() {
     }
 
@@ -29,6 +49,13 @@ public final class BoatmanApiMapper {
             .build();
     }
 
+    public static BoatmanBatchGetResponseApi toBatchGetResponse(BatchGetResult<BoatmanDTO> result) {
+        BoatmanBatchGetResponseApi api = new BoatmanBatchGetResponseApi();
+        api.setItems(result.getItems().stream().map(BoatmanApiMapper::toApi).toList());
+        api.setNotFound(result.getNotFound());
+        return api;
+    }
+
     public static BoatmanDTOApi toApi(BoatmanDTO app) {
         if (app == null) {
             return null;
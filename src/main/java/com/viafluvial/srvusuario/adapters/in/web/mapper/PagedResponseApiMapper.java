@@ -1,11 +1,13 @@
 package com.viafluvial.srvusuario.adapters.in.web.mapper;
 
+import com.viafluvial.srvusuario.adapters.in.web.dto.CountModeApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.ExistsResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.PagedAgencyResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.PagedApprovalResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.PagedBoatmanResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.PagedPassengerResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.PagedUserResponseApi;
+import com.viafluvial.srvusuario.application.dto.CountMode;
 import com.viafluvial.srvusuario.application.dto.ExistsResponseDTO;
 import com.viafluvial.srvusuario.application.dto.PagedResponse;
 import com.viafluvial.srvusuario.application.dto.AgencyDTO;
@@ -38,8 +40,11 @@ public final class PagedResponseApiMapper {
         api.setItems(mapUsers(response.getItems()));
         api.setPage(response.getPage());
         api.setSize(response.getSize());
-        api.setTotalItems(response.getTotalItems());
-        api.setTotalPages(response.getTotalPages());
+        api.setTotalItems(totalItems(response));
+        api.setTotalPages(totalPages(response));
+        api.setNextCursor(response.getNextCursor());
+        api.setHasNext(response.isHasNext());
+        api.setCountMode(countMode(response.getCountMode()));
         return api;
     }
 
@@ -51,8 +56,11 @@ public final class PagedResponseApiMapper {
         api.setItems(mapPassengers(response.getItems()));
         api.setPage(response.getPage());
         api.setSize(response.getSize());
-        api.setTotalItems(response.getTotalItems());
-        api.setTotalPages(response.getTotalPages());
+        api.setTotalItems(totalItems(response));
+        api.setTotalPages(totalPages(response));
+        api.setNextCursor(response.getNextCursor());
+        api.setHasNext(response.isHasNext());
+        api.setCountMode(countMode(response.getCountMode()));
         return api;
     }
 
@@ -64,8 +72,11 @@ public final class PagedResponseApiMapper {
         api.setItems(mapBoatmen(response.getItems()));
         api.setPage(response.getPage());
         api.setSize(response.getSize());
-        api.setTotalItems(response.getTotalItems());
-        api.setTotalPages(response.getTotalPages());
+        api.setTotalItems(totalItems(response));
+        api.setTotalPages(totalPages(response));
+        api.setNextCursor(response.getNextCursor());
+        api.setHasNext(response.isHasNext());
+        api.setCountMode(countMode(response.getCountMode()));
         return api;
     }
 
@@ -77,8 +88,11 @@ public final class PagedResponseApiMapper {
         api.setItems(mapAgencies(response.getItems()));
         api.setPage(response.getPage());
         api.setSize(response.getSize());
-        api.setTotalItems(response.getTotalItems());
-        api.setTotalPages(response.getTotalPages());
+        api.setTotalItems(totalItems(response));
+        api.setTotalPages(totalPages(response));
+        api.setNextCursor(response.getNextCursor());
+        api.setHasNext(response.isHasNext());
+        api.setCountMode(countMode(response.getCountMode()));
         return api;
     }
 
@@ -90,11 +104,32 @@ public final class PagedResponseApiMapper {
         api.setItems(mapApprovals(response.getItems()));
         api.setPage(response.getPage());
         api.setSize(response.getSize());
-        api.setTotalItems(response.getTotalItems());
-        api.setTotalPages(response.getTotalPages());
+        api.setTotalItems(totalItems(response));
+        api.setTotalPages(totalPages(response));
+        api.setNextCursor(response.getNextCursor());
+        api.setHasNext(response.isHasNext());
+        api.setCountMode(countMode(response.getCountMode()));
         return api;
     }
 
+    private static CountModeApi countMode(CountMode countMode) {
+        if (countMode == null) {
+            return null;
+        }
+        return CountModeApi.fromValue(countMode.getValue());
+    }
+
+    /**
+     * No modo cursor e com {@code count=none} nao ha COUNT; os totais ficam ausentes na resposta em vez de {@code -1}.
+     */
+    private static Long totalItems(PagedResponse<?> response) {
+        return response.isTotalKnown() ? response.getTotalItems() : null;
+    }
+
+    private static Integer totalPages(PagedResponse<?> response) {
+        return response.isTotalKnown() ? response.getTotalPages() : null;
+    }
+
     private static List<com.viafluvial.srvusuario.adapters.in.web.dto.UserDTOApi> mapUsers(List<UserDTO> users) {
         if (users == null) {
             return null;
@@ -1,11 +1,34 @@
 package com.viafluvial.srvusuario.adapters.in.web.mapper;
 
 import com.viafluvial.srvusuario.adapters.in.web.dto.CabinTypeApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.PassengerBatchGetResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.PassengerDTOApi;
+import com.viafluvial.srvusuario.adapters.in.web.export.ExportColumn;
+import com.viafluvial.srvusuario.application.dto.BatchGetResult;
 import com.viafluvial.srvusuario.application.dto.PassengerDTO;
 
+import java.util.List;
+
 public final class PassengerApiMapper {
 
+    /** Colunas do CSV de exportacao. */
+    public static final List<ExportColumn<PassengerDTOApi>> EXPORT_COLUMNS = List.of(
+        ExportColumn.of("id", PassengerDTOApi::getId),
+        ExportColumn.of("userId", PassengerDTOApi::getUserId),
+        ExportColumn.of("cpf", PassengerDTOApi::getCpf),
+        ExportColumn.of("rg", PassengerDTOApi::getRg),
+        ExportColumn.of("birthDate", PassengerDTOApi::getBirthDate),
+        ExportColumn.of("address", PassengerDTOApi::getAddress),
+        ExportColumn.of("city", PassengerDTOApi::getCity),
+        ExportColumn.of("state", PassengerDTOApi::getState),
+        ExportColumn.of("zipCode", PassengerDTOApi::getZipCode),
+        ExportColumn.of("preferredCabinType", PassengerDTOApi::getPreferredCabinType),
+        ExportColumn.of("totalTrips", PassengerDTOApi::getTotalTrips),
+        ExportColumn.of("totalSpent", PassengerDTOApi::getTotalSpent),
+        ExportColumn.of("createdAt", PassengerDTOApi::getCreatedAt),
+        ExportColumn.of("updatedAt", PassengerDTOApi::getUpdatedAt)
+    );
+
     private PassengerApiMapper() {
     }
 
@@ -31,6 +54,13 @@ public final class PassengerApiMapper {
             .build();
     }
 
+    public static PassengerBatchGetResponseApi toBatchGetResponse(BatchGetResult<PassengerDTO> result) {
+        PassengerBatchGetResponseApi api = new PassengerBatchGetResponseApi();
+        api.setItems(result.getItems().stream().map(PassengerApiMapper::toApi).toList());
+        api.setNotFound(result.getNotFound());
+        return api;
+    }
+
     public static PassengerDTOApi toApi(PassengerDTO app) {
         if (app == null) {
             return null;
@@ -1,16 +1,39 @@
 package com.viafluvial.srvusuario.adapters.in.web.mapper;
 
+import com.viafluvial.srvusuario.adapters.in.web.dto.BatchItemStatusApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.UserBatchCreateResponseApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.UserBatchGetResponseApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.UserBatchItemResultApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.UserCreateDTOApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.UserDTOApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.UserStatusApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.UserTypeApi;
+import com.viafluvial.srvusuario.adapters.in.web.export.ExportColumn;
+import com.viafluvial.srvusuario.application.dto.BatchGetResult;
+import com.viafluvial.srvusuario.application.dto.BatchItemResult;
 import com.viafluvial.srvusuario.application.dto.UserCreateDTO;
 import com.viafluvial.srvusuario.application.dto.UserDTO;
 import com.viafluvial.srvusuario.domain.model.UserStatus;
 import com.viafluvial.srvusuario.domain.model.UserType;
 
+import java.util.List;
+
 public final class UserApiMapper {
 
+    /** Colunas do CSV de exportacao (sem senha). */
+    public static final List<ExportColumn<UserDTOApi>> EXPORT_COLUMNS = List.of(
+        ExportColumn.of("id", UserDTOApi::getId),
+        ExportColumn.of("userType", UserDTOApi::getUserType),
+        ExportColumn.of("email", UserDTOApi::getEmail),
+        ExportColumn.of("fullName", UserDTOApi::getFullName),
+        ExportColumn.of("phone", UserDTOApi::getPhone),
+        ExportColumn.of("status", UserDTOApi::getStatus),
+        ExportColumn.of("emailVerified", UserDTOApi::getEmailVerified),
+        ExportColumn.of("createdAt", UserDTOApi::getCreatedAt),
+        ExportColumn.of("updatedAt", UserDTOApi::getUpdatedAt),
+        ExportColumn.of("lastLogin", UserDTOApi::getLastLogin)
+    );
+
     private UserApiMapper() {
     }
 
@@ -46,6 +69,13 @@ public final class UserApiMapper {
             .build();
     }
 
+    public static UserBatchGetResponseApi toBatchGetResponse(BatchGetResult<UserDTO> result) {
+        UserBatchGetResponseApi api = new UserBatchGetResponseApi();
+        api.setItems(result.getItems().stream().map(UserApiMapper::toApi).toList());
+        api.setNotFound(result.getNotFound());
+        return api;
+    }
+
     public static UserDTOApi toApi(UserDTO app) {
         if (app == null) {
             return null;
@@ -65,6 +95,25 @@ public final class UserApiMapper {
         return api;
     }
 
+    public static UserBatchCreateResponseApi toBatchResponse(List<BatchItemResult<UserDTO>> results) {
+        UserBatchCreateResponseApi api = new UserBatchCreateResponseApi();
+        int created = 0;
+        for (BatchItemResult<UserDTO> result : results) {
+            UserBatchItemResultApi item = new UserBatchItemResultApi();
+            item.setIndex(result.getIndex());
+            item.setStatus(BatchItemStatusApi.fromValue(result.getStatus().name()));
+            item.setUser(toApi(result.getItem()));
+            item.setError(result.getError());
+            api.addItemsItem(item);
+            if (result.isSuccess()) {
+                created++;
+            }
+        }
+        api.setCreated(created);
+        api.setFailed(results.size() - created);
+        return api;
+    }
+
     public static UserType toDomainUserType(UserTypeApi apiType) {
         if (apiType == null) {
             return null;
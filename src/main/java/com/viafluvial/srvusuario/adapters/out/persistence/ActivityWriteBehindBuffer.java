@@ -0,0 +1,342 @@
+package com.viafluvial.srvusuario.adapters.out.persistence;
+
+import com.viafluvial.srvusuario.application.port.out.UserActivityPort;
+import com.viafluvial.srvusuario.infrastructure.cache.UserCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind de {@code users.last_login} e {@code user_sessions.last_activity}.
+ * Os registros ficam num mapa concorrente por chave (varios logins do mesmo usuario viram uma unica linha,
+ * com o instante mais recente) e sao gravados a cada {@code flush-interval} em lotes de {@code batch-size}
+ * linhas por {@code UPDATE ... FROM (VALUES ...)}, fora da transacao de autenticacao.
+ * O buffer e limitado por {@code max-pending}: acima disso, chaves novas sao gravadas na hora (backpressure).
+ * No shutdown o flush final roda depois que o servidor web terminou de drenar as requisicoes.
+ * Fora do PostgreSQL (H2 nos testes) o lote vira um batch JDBC de UPDATEs por linha.
+ */
+@Component
+public class ActivityWriteBehindBuffer implements UserActivityPort, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ActivityWriteBehindBuffer.class);
+
+    /**
+     * Para depois do graceful shutdown do servidor web (fase {@code DEFAULT_PHASE - 1024}).
+     */
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    enum Kind {
+        LAST_LOGIN("users", "last_login", "last_login"),
+        SESSION_ACTIVITY("user_sessions", "last_activity", "session_activity");
+
+        private final String table;
+        private final String column;
+        private final String tag;
+
+        Kind(String table, String column, String tag) {
+            this.table = table;
+            this.column = column;
+            this.tag = tag;
+        }
+
+        /**
+         * Nunca retrocede o timestamp: um flush atrasado nao sobrescreve um valor mais novo gravado por outra instancia.
+         */
+        String valuesUpdate(int rows) {
+            StringBuilder values = new StringBuilder();
+            for (int i = 0; i < rows; i++) {
+                values.append(i == 0 ? "" : ", ").append("(CAST(? AS uuid), CAST(? AS timestamp))");
+            }
+            return "UPDATE " + table + " AS t SET " + column + " = v.ts FROM (VALUES " + values + ") AS v(id, ts)"
+                + " WHERE t.id = v.id AND (t." + column + " IS NULL OR t." + column + " < v.ts)";
+        }
+
+        String rowUpdate() {
+            return "UPDATE " + table + " SET " + column + " = ? WHERE id = ? AND (" + column + " IS NULL OR " + column + " < ?)";
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final UserCache userCache;
+    private final boolean enabled;
+    private final Duration flushInterval;
+    private final int batchSize;
+    private final int maxPending;
+
+    private final Map<Kind, Map<UUID, Pending>> buffers = new EnumMap<>(Kind.class);
+    private final Map<Kind, Timer> lag = new EnumMap<>(Kind.class);
+    private final Map<Kind, DistributionSummary> batchSizes = new EnumMap<>(Kind.class);
+    private final Map<Kind, Counter> failures = new EnumMap<>(Kind.class);
+    private final Map<Kind, Counter> overflows = new EnumMap<>(Kind.class);
+
+    private volatile Boolean postgres;
+    private volatile boolean running;
+    private ScheduledExecutorService scheduler;
+
+    public ActivityWriteBehindBuffer(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        UserCache userCache,
+        MeterRegistry meterRegistry,
+        @Value("${app.activity.write-behind.enabled:true}") boolean enabled,
+        @Value("${app.activity.write-behind.flush-interval:1s}") Duration flushInterval,
+        @Value("${app.activity.write-behind.batch-size:500}") int batchSize,
+        @Value("${app.activity.write-behind.max-pending:100000}") int maxPending
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.userCache = userCache;
+        this.enabled = enabled;
+        this.flushInterval = flushInterval;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxPending = Math.max(1, maxPending);
+
+        for (Kind kind : Kind.values()) {
+            Map<UUID, Pending> buffer = new ConcurrentHashMap<>();
+            buffers.put(kind, buffer);
+            Gauge.builder("activity.buffer.pending", buffer, Map::size)
+                .description("Timestamps de atividade aguardando gravacao")
+                .tag("kind", kind.tag)
+                .register(meterRegistry);
+            lag.put(kind, Timer.builder("activity.buffer.lag")
+                .description("Tempo entre o registro da atividade e a gravacao no banco")
+                .tag("kind", kind.tag)
+                .register(meterRegistry));
+            batchSizes.put(kind, DistributionSummary.builder("activity.buffer.batch.size")
+                .description("Linhas por UPDATE em lote")
+                .tag("kind", kind.tag)
+                .register(meterRegistry));
+            failures.put(kind, Counter.builder("activity.buffer.flush.failures")
+                .description("Lotes que falharam e voltaram ao buffer")
+                .tag("kind", kind.tag)
+                .register(meterRegistry));
+            overflows.put(kind, Counter.builder("activity.buffer.overflow")
+                .description("Registros gravados na hora porque o buffer estava cheio")
+                .tag("kind", kind.tag)
+                .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void recordLastLogin(UUID userId, LocalDateTime lastLogin) {
+        record(Kind.LAST_LOGIN, userId, lastLogin);
+    }
+
+    @Override
+    public void recordSessionActivity(UUID sessionId, LocalDateTime lastActivity) {
+        record(Kind.SESSION_ACTIVITY, sessionId, lastActivity);
+    }
+
+    private void record(Kind kind, UUID id, LocalDateTime at) {
+        if (id == null || at == null) {
+            return;
+        }
+        Map<UUID, Pending> buffer = buffers.get(kind);
+        if (!enabled || (buffer.size() >= maxPending && !buffer.containsKey(id))) {
+            if (enabled) {
+                overflows.get(kind).increment();
+            }
+            writeThrough(kind, id, at);
+            return;
+        }
+        buffer.merge(id, new Pending(at, System.nanoTime()), Pending::merge);
+    }
+
+    /**
+     * Drena o buffer em lotes de {@code batch-size}, limitado ao que estava pendente no inicio do flush:
+     * registros que chegam durante a drenagem ficam para a proxima rodada. Um lote que falha volta ao buffer.
+     *
+     * @return quantidade de linhas gravadas
+     */
+    synchronized int flush() {
+        int written = 0;
+        for (Kind kind : Kind.values()) {
+            Map<UUID, Pending> buffer = buffers.get(kind);
+            Iterator<UUID> keys = buffer.keySet().iterator();
+            int budget = buffer.size();
+            while (keys.hasNext() && budget > 0) {
+                List<UUID> ids = new ArrayList<>(batchSize);
+                List<Pending> values = new ArrayList<>(batchSize);
+                while (keys.hasNext() && budget > 0 && ids.size() < batchSize) {
+                    budget--;
+                    UUID id = keys.next();
+                    // remove atomico: um registro que chegar depois entra de novo no mapa e vai no proximo lote.
+                    Pending pending = buffer.remove(id);
+                    if (pending != null) {
+                        ids.add(id);
+                        values.add(pending);
+                    }
+                }
+                if (ids.isEmpty()) {
+                    continue;
+                }
+                try {
+                    transaction.executeWithoutResult(status -> writeBatch(kind, ids, values));
+                } catch (RuntimeException e) {
+                    failures.get(kind).increment();
+                    for (int i = 0; i < ids.size(); i++) {
+                        buffer.merge(ids.get(i), values.get(i), Pending::merge);
+                    }
+                    log.warn("Falha ao gravar lote de {}: linhas={}; mantidas no buffer", kind.column, ids.size(), e);
+                    break;
+                }
+                afterWrite(kind, ids, values);
+                written += ids.size();
+            }
+        }
+        return written;
+    }
+
+    int pending(Kind kind) {
+        return buffers.get(kind).size();
+    }
+
+    private void writeBatch(Kind kind, List<UUID> ids, List<Pending> values) {
+        if (isPostgres()) {
+            Object[] args = new Object[ids.size() * 2];
+            for (int i = 0; i < ids.size(); i++) {
+                args[i * 2] = ids.get(i);
+                args[i * 2 + 1] = values.get(i).at;
+            }
+            jdbcTemplate.update(kind.valuesUpdate(ids.size()), args);
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            LocalDateTime at = values.get(i).at;
+            rows.add(new Object[] {at, ids.get(i), at});
+        }
+        jdbcTemplate.batchUpdate(kind.rowUpdate(), rows);
+    }
+
+    private void writeThrough(Kind kind, UUID id, LocalDateTime at) {
+        transaction.executeWithoutResult(status -> jdbcTemplate.update(kind.rowUpdate(), at, id, at));
+        if (kind == Kind.LAST_LOGIN) {
+            userCache.evict(id);
+        }
+    }
+
+    private void afterWrite(Kind kind, List<UUID> ids, List<Pending> values) {
+        long now = System.nanoTime();
+        Timer timer = lag.get(kind);
+        for (Pending pending : values) {
+            timer.record(now - pending.enqueuedNanos, TimeUnit.NANOSECONDS);
+        }
+        batchSizes.get(kind).record(ids.size());
+        if (kind == Kind.LAST_LOGIN) {
+            for (UUID id : ids) {
+                userCache.evict(id);
+            }
+        }
+    }
+
+    private boolean isPostgres() {
+        Boolean detected = postgres;
+        if (detected == null) {
+            detected = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+            postgres = detected;
+        }
+        return Boolean.TRUE.equals(detected);
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "activity-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = Math.max(1, flushInterval.toMillis());
+        scheduler.scheduleWithFixedDelay(this::scheduledFlush, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(flushInterval.toMillis() + 5_000, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            scheduler = null;
+        }
+        int written = flush();
+        int left = 0;
+        for (Kind kind : Kind.values()) {
+            left += pending(kind);
+        }
+        if (left > 0) {
+            log.warn("Shutdown com timestamps de atividade nao gravados: gravados={}, pendentes={}", written, left);
+        } else {
+            log.info("Buffer de atividade gravado no shutdown: linhas={}", written);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Falha no flush do buffer de atividade", e);
+        }
+    }
+
+    private static final class Pending {
+        private final LocalDateTime at;
+        private final long enqueuedNanos;
+
+        private Pending(LocalDateTime at, long enqueuedNanos) {
+            this.at = at;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+        /**
+         * Mantem o instante mais recente e o enfileiramento mais antigo, que e o que o lag mede.
+         */
+        private static Pending merge(Pending current, Pending incoming) {
+            LocalDateTime at = incoming.at.isAfter(current.at) ? incoming.at : current.at;
+            return new Pending(at, Math.min(current.enqueuedNanos, incoming.enqueuedNanos));
+        }
+    }
+}
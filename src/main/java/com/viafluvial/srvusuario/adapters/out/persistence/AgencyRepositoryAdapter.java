@@ -3,31 +3,67 @@ package com.viafluvial.srvusuario.adapters.out.persistence;
 import com.viafluvial.srvusuario.adapters.out.persistence.mapper.AgencyPersistenceMapper;
 import com.viafluvial.srvusuario.adapters.out.persistence.repository.AgencyRepository;
 import com.viafluvial.srvusuario.adapters.out.persistence.repository.spec.AgencySpecifications;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.MergePatch;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.application.port.out.AgencyRepositoryPort;
 import com.viafluvial.srvusuario.domain.model.Agency;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
 
 @Repository
 public class AgencyRepositoryAdapter implements AgencyRepositoryPort {
 
+    private static final String TABLE = "agencies";
+
     private final AgencyRepository agencyRepository;
     private final AgencyPersistenceMapper agencyMapper;
+    private final UniqueKeyFilters uniqueKeyFilters;
+    private final TableStatistics tableStatistics;
+    private final PartialUpdate partialUpdate;
+    private final ConditionalInsert conditionalInsert;
 
-    public AgencyRepositoryAdapter(AgencyRepository agencyRepository, AgencyPersistenceMapper agencyMapper) {
+    public AgencyRepositoryAdapter(
+        AgencyRepository agencyRepository,
+        AgencyPersistenceMapper agencyMapper,
+        UniqueKeyFilters uniqueKeyFilters,
+        TableStatistics tableStatistics,
+        PartialUpdate partialUpdate,
+        ConditionalInsert conditionalInsert
+    ) {
         this.agencyRepository = agencyRepository;
         this.agencyMapper = agencyMapper;
+        this.uniqueKeyFilters = uniqueKeyFilters;
+        this.tableStatistics = tableStatistics;
+        this.partialUpdate = partialUpdate;
+        this.conditionalInsert = conditionalInsert;
     }
 
     @Override
     public Agency save(Agency agency) {
-        return agencyMapper.toDomain(agencyRepository.save(agencyMapper.toEntity(agency)));
+        Agency saved = agencyMapper.toDomain(agencyRepository.save(agencyMapper.toEntity(agency)));
+        uniqueKeyFilters.put(UniqueKeyFilters.KeySpace.AGENCY_CNPJ, saved.getCnpj());
+        return saved;
+    }
+
+    @Override
+    public Optional<Agency> insertIfAbsent(Agency agency) {
+        com.viafluvial.srvusuario.adapters.out.persistence.entity.Agency entity = agencyMapper.toEntity(agency);
+        if (!conditionalInsert.insert(entity)) {
+            return Optional.empty();
+        }
+        uniqueKeyFilters.put(UniqueKeyFilters.KeySpace.AGENCY_CNPJ, entity.getCnpj());
+        return Optional.of(agencyMapper.toDomain(entity));
     }
 
     @Override
@@ -35,23 +71,64 @@ public class AgencyRepositoryAdapter implements AgencyRepositoryPort {
         return agencyRepository.findById(id).map(agencyMapper::toDomain);
     }
 
+    @Override
+    public boolean patch(UUID id, MergePatch patch, Long expectedVersion) {
+        return partialUpdate.apply(com.viafluvial.srvusuario.adapters.out.persistence.entity.Agency.class,
+            id, patch.changes(), expectedVersion);
+    }
+
+    @Override
+    public Slice<Agency> search(
+        String cnpj,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        Pageable pageable,
+        CountMode countMode
+    ) {
+        boolean unfiltered = SearchPages.unfiltered(cnpj, createdFrom, createdTo);
+        return SearchPages.fetch(agencyRepository, searchSpec(cnpj, createdFrom, createdTo), pageable, countMode,
+            () -> unfiltered ? tableStatistics.estimatedRows(TABLE) : OptionalLong.empty(), agencyMapper::toDomain);
+    }
+
     @Override
     public Optional<Agency> findByUserId(UUID userId) {
         return agencyRepository.findByUserId(userId).map(agencyMapper::toDomain);
     }
 
+    @Override
+    public List<Agency> findByUserIds(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return agencyRepository.findByUserIdAny(userIds.toArray(UUID[]::new)).stream().map(agencyMapper::toDomain).toList();
+    }
+
     @Override
     public boolean existsByCnpj(String cnpj) {
-        return agencyRepository.existsByCnpj(cnpj);
+        return uniqueKeyFilters.exists(UniqueKeyFilters.KeySpace.AGENCY_CNPJ, cnpj, agencyRepository::existsByCnpj);
     }
 
     @Override
     public Page<Agency> search(String cnpj, LocalDateTime createdFrom, LocalDateTime createdTo, Pageable pageable) {
-        Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.Agency> spec = Specification
+        return agencyRepository.findAll(searchSpec(cnpj, createdFrom, createdTo), pageable).map(agencyMapper::toDomain);
+    }
+
+    @Override
+    public Slice<Agency> searchAfter(String cnpj, LocalDateTime createdFrom, LocalDateTime createdTo, PageCursor after, int size) {
+        Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.Agency> spec = searchSpec(cnpj, createdFrom, createdTo)
+            .and(AgencySpecifications.seekAfter(KeysetSlices.createdAt(after), KeysetSlices.id(after)));
+
+        return KeysetSlices.fetch(agencyRepository, spec, size, agencyMapper::toDomain);
+    }
+
+    private Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.Agency> searchSpec(
+        String cnpj,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo
+    ) {
+        return Specification
             .where(AgencySpecifications.cnpjEquals(cnpj))
             .and(AgencySpecifications.createdFrom(createdFrom))
             .and(AgencySpecifications.createdTo(createdTo));
-
-        return agencyRepository.findAll(spec, pageable).map(agencyMapper::toDomain);
     }
 }
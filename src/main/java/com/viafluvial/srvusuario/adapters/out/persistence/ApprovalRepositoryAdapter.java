@@ -2,25 +2,39 @@ package com.viafluvial.srvusuario.adapters.out.persistence;
 
 import com.viafluvial.srvusuario.adapters.out.persistence.mapper.ApprovalPersistenceMapper;
 import com.viafluvial.srvusuario.adapters.out.persistence.repository.ApprovalRepository;
+import com.viafluvial.srvusuario.adapters.out.persistence.repository.spec.ApprovalSpecifications;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.application.port.out.ApprovalRepositoryPort;
 import com.viafluvial.srvusuario.domain.model.Approval;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
 
 @Repository
 public class ApprovalRepositoryAdapter implements ApprovalRepositoryPort {
 
+    private static final String TABLE = "approvals";
+
     private final ApprovalRepository approvalRepository;
     private final ApprovalPersistenceMapper approvalMapper;
+    private final TableStatistics tableStatistics;
 
-    public ApprovalRepositoryAdapter(ApprovalRepository approvalRepository, ApprovalPersistenceMapper approvalMapper) {
+    public ApprovalRepositoryAdapter(
+        ApprovalRepository approvalRepository,
+        ApprovalPersistenceMapper approvalMapper,
+        TableStatistics tableStatistics
+    ) {
         this.approvalRepository = approvalRepository;
         this.approvalMapper = approvalMapper;
+        this.tableStatistics = tableStatistics;
     }
 
     @Override
@@ -50,4 +64,22 @@ public class ApprovalRepositoryAdapter implements ApprovalRepositoryPort {
     public Page<Approval> findAll(Pageable pageable) {
         return approvalRepository.findAll(pageable).map(approvalMapper::toDomain);
     }
+
+    @Override
+    public Slice<Approval> search(Approval.ApprovalStatus status, Pageable pageable, CountMode countMode) {
+        Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.Approval> spec =
+            Specification.where(ApprovalSpecifications.hasStatus(approvalMapper.map(status)));
+
+        return SearchPages.fetch(approvalRepository, spec, pageable, countMode,
+            () -> status == null ? tableStatistics.estimatedRows(TABLE) : OptionalLong.empty(), approvalMapper::toDomain);
+    }
+
+    @Override
+    public Slice<Approval> findAfter(Approval.ApprovalStatus status, PageCursor after, int size) {
+        Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.Approval> spec = Specification
+            .where(ApprovalSpecifications.hasStatus(approvalMapper.map(status)))
+            .and(ApprovalSpecifications.seekAfter(KeysetSlices.createdAt(after), KeysetSlices.id(after)));
+
+        return KeysetSlices.fetch(approvalRepository, spec, size, approvalMapper::toDomain);
+    }
 }
@@ -3,32 +3,75 @@ package com.viafluvial.srvusuario.adapters.out.persistence;
 import com.viafluvial.srvusuario.adapters.out.persistence.mapper.BoatmanPersistenceMapper;
 import com.viafluvial.srvusuario.adapters.out.persistence.repository.BoatmanRepository;
 import com.viafluvial.srvusuario.adapters.out.persistence.repository.spec.BoatmanSpecifications;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.MergePatch;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.application.port.out.BoatmanRepositoryPort;
 import com.viafluvial.srvusuario.domain.model.Boatman;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Repository
 public class BoatmanRepositoryAdapter implements BoatmanRepositoryPort {
 
+    private static final String TABLE = "boatmen";
+
     private final BoatmanRepository boatmanRepository;
     private final BoatmanPersistenceMapper boatmanMapper;
+    private final UniqueKeyFilters uniqueKeyFilters;
+    private final TableStatistics tableStatistics;
+    private final ScrollingExport scrollingExport;
+    private final PartialUpdate partialUpdate;
+    private final ConditionalInsert conditionalInsert;
 
-    public BoatmanRepositoryAdapter(BoatmanRepository boatmanRepository, BoatmanPersistenceMapper boatmanMapper) {
+    public BoatmanRepositoryAdapter(
+        BoatmanRepository boatmanRepository,
+        BoatmanPersistenceMapper boatmanMapper,
+        UniqueKeyFilters uniqueKeyFilters,
+        TableStatistics tableStatistics,
+        ScrollingExport scrollingExport,
+        PartialUpdate partialUpdate,
+        ConditionalInsert conditionalInsert
+    ) {
         this.boatmanRepository = boatmanRepository;
         this.boatmanMapper = boatmanMapper;
+        this.uniqueKeyFilters = uniqueKeyFilters;
+        this.tableStatistics = tableStatistics;
+        this.scrollingExport = scrollingExport;
+        this.partialUpdate = partialUpdate;
+        this.conditionalInsert = conditionalInsert;
     }
 
     @Override
     public Boatman save(Boatman boatman) {
-        return boatmanMapper.toDomain(boatmanRepository.save(boatmanMapper.toEntity(boatman)));
+        Boatman saved = boatmanMapper.toDomain(boatmanRepository.save(boatmanMapper.toEntity(boatman)));
+        uniqueKeyFilters.put(UniqueKeyFilters.KeySpace.BOATMAN_CPF, saved.getCpf());
+        uniqueKeyFilters.put(UniqueKeyFilters.KeySpace.BOATMAN_CNPJ, saved.getCnpj());
+        return saved;
+    }
+
+    @Override
+    public Optional<Boatman> insertIfAbsent(Boatman boatman) {
+        // Tres restricoes unicas (cpf, cnpj, user_id) e o PostgreSQL aceita um so alvo: ON CONFLICT sem alvo.
+        com.viafluvial.srvusuario.adapters.out.persistence.entity.Boatman entity = boatmanMapper.toEntity(boatman);
+        if (!conditionalInsert.insert(entity)) {
+            return Optional.empty();
+        }
+        uniqueKeyFilters.put(UniqueKeyFilters.KeySpace.BOATMAN_CPF, entity.getCpf());
+        uniqueKeyFilters.put(UniqueKeyFilters.KeySpace.BOATMAN_CNPJ, entity.getCnpj());
+        return Optional.of(boatmanMapper.toDomain(entity));
     }
 
     @Override
@@ -36,19 +79,33 @@ public class BoatmanRepositoryAdapter implements BoatmanRepositoryPort {
         return boatmanRepository.findById(id).map(boatmanMapper::toDomain);
     }
 
+    @Override
+    public boolean patch(UUID id, MergePatch patch, Long expectedVersion) {
+        return partialUpdate.apply(com.viafluvial.srvusuario.adapters.out.persistence.entity.Boatman.class,
+            id, patch.changes(), expectedVersion);
+    }
+
     @Override
     public Optional<Boatman> findByUserId(UUID userId) {
         return boatmanRepository.findByUserId(userId).map(boatmanMapper::toDomain);
     }
 
+    @Override
+    public List<Boatman> findByUserIds(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return boatmanRepository.findByUserIdAny(userIds.toArray(UUID[]::new)).stream().map(boatmanMapper::toDomain).toList();
+    }
+
     @Override
     public boolean existsByCpf(String cpf) {
-        return boatmanRepository.existsByCpf(cpf);
+        return uniqueKeyFilters.exists(UniqueKeyFilters.KeySpace.BOATMAN_CPF, cpf, boatmanRepository::existsByCpf);
     }
 
     @Override
     public boolean existsByCnpj(String cnpj) {
-        return boatmanRepository.existsByCnpj(cnpj);
+        return uniqueKeyFilters.exists(UniqueKeyFilters.KeySpace.BOATMAN_CNPJ, cnpj, boatmanRepository::existsByCnpj);
     }
 
     @Override
@@ -62,7 +119,77 @@ public class BoatmanRepositoryAdapter implements BoatmanRepositoryPort {
         LocalDateTime createdTo,
         Pageable pageable
     ) {
-        Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.Boatman> spec = Specification
+        Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.Boatman> spec =
+            searchSpec(cpf, cnpj, ratingMin, approvedFrom, approvedTo, createdFrom, createdTo);
+
+        return boatmanRepository.findAll(spec, pageable).map(boatmanMapper::toDomain);
+    }
+
+    @Override
+    public Slice<Boatman> search(
+        String cpf,
+        String cnpj,
+        BigDecimal ratingMin,
+        LocalDateTime approvedFrom,
+        LocalDateTime approvedTo,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        Pageable pageable,
+        CountMode countMode
+    ) {
+        Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.Boatman> spec =
+            searchSpec(cpf, cnpj, ratingMin, approvedFrom, approvedTo, createdFrom, createdTo);
+        boolean unfiltered = SearchPages.unfiltered(cpf, cnpj, ratingMin, approvedFrom, approvedTo, createdFrom, createdTo);
+
+        return SearchPages.fetch(boatmanRepository, spec, pageable, countMode,
+            () -> unfiltered ? tableStatistics.estimatedRows(TABLE) : OptionalLong.empty(), boatmanMapper::toDomain);
+    }
+
+    @Override
+    public Slice<Boatman> searchAfter(
+        String cpf,
+        String cnpj,
+        BigDecimal ratingMin,
+        LocalDateTime approvedFrom,
+        LocalDateTime approvedTo,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        PageCursor after,
+        int size
+    ) {
+        Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.Boatman> spec =
+            searchSpec(cpf, cnpj, ratingMin, approvedFrom, approvedTo, createdFrom, createdTo)
+                .and(BoatmanSpecifications.seekAfter(KeysetSlices.createdAt(after), KeysetSlices.id(after)));
+
+        return KeysetSlices.fetch(boatmanRepository, spec, size, boatmanMapper::toDomain);
+    }
+
+    @Override
+    public long forEachMatching(
+        String cpf,
+        String cnpj,
+        BigDecimal ratingMin,
+        LocalDateTime approvedFrom,
+        LocalDateTime approvedTo,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        Consumer<Boatman> action
+    ) {
+        return scrollingExport.forEach(com.viafluvial.srvusuario.adapters.out.persistence.entity.Boatman.class,
+            searchSpec(cpf, cnpj, ratingMin, approvedFrom, approvedTo, createdFrom, createdTo),
+            entity -> action.accept(boatmanMapper.toDomain(entity)));
+    }
+
+    private Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.Boatman> searchSpec(
+        String cpf,
+        String cnpj,
+        BigDecimal ratingMin,
+        LocalDateTime approvedFrom,
+        LocalDateTime approvedTo,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo
+    ) {
+        return Specification
             .where(BoatmanSpecifications.cpfEquals(cpf))
             .and(BoatmanSpecifications.cnpjEquals(cnpj))
             .and(BoatmanSpecifications.ratingMin(ratingMin))
@@ -70,7 +197,5 @@ public class BoatmanRepositoryAdapter implements BoatmanRepositoryPort {
             .and(BoatmanSpecifications.approvedTo(approvedTo))
             .and(BoatmanSpecifications.createdFrom(createdFrom))
             .and(BoatmanSpecifications.createdTo(createdTo));
-
-        return boatmanRepository.findAll(spec, pageable).map(boatmanMapper::toDomain);
     }
 }
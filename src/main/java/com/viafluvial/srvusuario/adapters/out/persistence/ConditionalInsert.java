@@ -0,0 +1,158 @@
+package com.viafluvial.srvusuario.adapters.out.persistence;
+
+import com.viafluvial.srvusuario.common.id.UuidV7;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.metamodel.mapping.SelectableMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * INSERT de uma entidade nova com {@code ON CONFLICT DO NOTHING}: a restricao unica do banco decide a duplicidade
+ * no mesmo comando, sem {@code exists} antes e sem abortar a transacao quando ha conflito.
+ * A entidade nao passa pelo contexto de persistencia; o id (UUIDv7) e gerado aqui quando ausente.
+ * O comando e SQL do PostgreSQL montado a partir do mapeamento do Hibernate, com {@code RETURNING} das colunas
+ * simples: o que o banco preencheu ou ajustou (version, created_at, updated_at) volta para a entidade.
+ */
+@Component
+public class ConditionalInsert {
+
+    private final ObjectProvider<EntityManager> entityManager;
+
+    public ConditionalInsert(ObjectProvider<EntityManager> entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * @param conflictAttributes atributos da restricao unica arbitra; vazio vale para qualquer restricao unica
+     * @return false se a linha ja existia (nada foi inserido e a entidade fica como estava)
+     */
+    public <E> boolean insert(E entity, String... conflictAttributes) {
+        EntityManager em = entityManager.getObject();
+        SharedSessionContractImplementor session = em.unwrap(SharedSessionContractImplementor.class);
+        EntityPersister persister = session.getEntityPersister(null, entity);
+        if (persister.getIdentifier(entity, session) == null) {
+            persister.setIdentifier(entity, UuidV7.generate(), session);
+        }
+        // O INSERT roda direto na conexao: alteracoes pendentes da sessao precisam chegar antes ao banco.
+        em.flush();
+
+        Statement statement = statement(persister, entity, session, conflictAttributes);
+        return em.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(statement.sql)) {
+                for (int i = 0; i < statement.values.size(); i++) {
+                    bind(ps, i + 1, statement.mappings.get(i), statement.values.get(i), session);
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (!rs.next()) {
+                        return false;
+                    }
+                    for (int i = 0; i < statement.returned.size(); i++) {
+                        AttributeMapping attribute = statement.returned.get(i);
+                        JdbcMapping mapping = attribute.asBasicValuedModelPart().getJdbcMapping();
+                        Object value = mapping.getJdbcValueExtractor().extract(rs, i + 1, session);
+                        persister.setValue(entity, attribute.getStateArrayPosition(), mapping.convertToDomainValue(value));
+                    }
+                    return true;
+                }
+            }
+        });
+    }
+
+    Statement statement(EntityPersister persister, Object entity, SharedSessionContractImplementor session,
+                        String... conflictAttributes) {
+        Statement statement = new Statement();
+        List<String> columns = new ArrayList<>();
+        collect(persister.getIdentifierMapping(), persister.getIdentifier(entity, session), session, columns, statement);
+
+        List<String> returning = new ArrayList<>();
+        persister.getAttributeMappings().forEach(attribute -> {
+            if (attribute.isPluralAttributeMapping()) {
+                return;
+            }
+            BasicValuedModelPart basic = attribute.asBasicValuedModelPart();
+            if (basic != null) {
+                returning.add(basic.getSelectionExpression());
+                statement.returned.add(attribute);
+            }
+            Object value = attribute.getValue(entity);
+            // Nulos ficam de fora: a coluna recebe o DEFAULT da migration (ex.: version).
+            if (attribute.getAttributeMetadata().isInsertable() && value != null) {
+                collect(attribute, value, session, columns, statement);
+            }
+        });
+
+        String table = persister.getIdentifierMapping().getSelectable(0).getContainingTableExpression();
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+            .append(" (").append(String.join(", ", columns)).append(") VALUES (");
+        for (int i = 0; i < columns.size(); i++) {
+            sql.append(i > 0 ? ", ?" : "?");
+        }
+        sql.append(") ON CONFLICT");
+        if (conflictAttributes.length > 0) {
+            List<String> targets = new ArrayList<>();
+            for (String name : conflictAttributes) {
+                AttributeMapping attribute = persister.findAttributeMapping(name);
+                if (attribute == null) {
+                    throw new IllegalArgumentException("Atributo desconhecido em " + persister.getEntityName() + ": " + name);
+                }
+                attribute.forEachSelectable((index, selectable) -> targets.add(selectable.getSelectionExpression()));
+            }
+            sql.append(" (").append(String.join(", ", targets)).append(')');
+        }
+        sql.append(" DO NOTHING RETURNING ").append(String.join(", ", returning));
+        statement.sql = sql.toString();
+        return statement;
+    }
+
+    /**
+     * Colunas e valores JDBC de um atributo; associacoes viram a(s) coluna(s) de chave estrangeira.
+     */
+    private static void collect(ModelPart part, Object value, SharedSessionContractImplementor session,
+                                List<String> columns, Statement statement) {
+        List<SelectableMapping> selectables = new ArrayList<>();
+        part.forEachSelectable((index, selectable) -> selectables.add(selectable));
+        part.forEachDisassembledJdbcValue(part.disassemble(value, session), (index, jdbcValue, mapping) -> {
+            SelectableMapping selectable = selectables.get(index);
+            if (selectable.isInsertable()) {
+                columns.add(selectable.getSelectionExpression());
+                statement.values.add(jdbcValue);
+                statement.mappings.add(mapping);
+            }
+        }, session);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void bind(PreparedStatement ps, int position, JdbcMapping mapping, Object value,
+                             SharedSessionContractImplementor session) throws SQLException {
+        ((ValueBinder<Object>) mapping.getJdbcValueBinder()).bind(ps, value, position, session);
+    }
+
+    static final class Statement {
+        private String sql;
+        private final List<Object> values = new ArrayList<>();
+        private final List<JdbcMapping> mappings = new ArrayList<>();
+        private final List<AttributeMapping> returned = new ArrayList<>();
+
+        String sql() {
+            return sql;
+        }
+
+        List<Object> values() {
+            return values;
+        }
+    }
+}
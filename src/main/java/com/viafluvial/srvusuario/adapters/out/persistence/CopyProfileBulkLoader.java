@@ -0,0 +1,423 @@
+package com.viafluvial.srvusuario.adapters.out.persistence;
+
+import com.viafluvial.srvusuario.adapters.out.persistence.UniqueKeyFilters.KeySpace;
+import com.viafluvial.srvusuario.application.dto.BulkLoadReport;
+import com.viafluvial.srvusuario.application.dto.BulkLoadTarget;
+import com.viafluvial.srvusuario.application.port.out.ProfileBulkLoadPort;
+import com.viafluvial.srvusuario.infrastructure.cache.NotFoundCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Carga em massa de {@code passengers}/{@code boatmen} para migracoes do sistema legado.
+ * O CSV e transmitido pelo {@code CopyManager} do driver para uma tabela temporaria de staging com colunas texto,
+ * de modo que valores invalidos nao abortam o COPY. Em seguida, tudo na mesma transacao:
+ * <ol>
+ *   <li>um UPDATE marca o motivo de rejeicao de cada linha invalida (obrigatorios, formato, tamanho,
+ *       usuario inexistente e chaves unicas ja cadastradas: user_id, cpf e, em boatmen, cnpj - V3/V4);</li>
+ *   <li>repeticoes das chaves unicas dentro do arquivo sao rejeitadas, mantendo a primeira ocorrencia;</li>
+ *   <li>um unico {@code INSERT ... SELECT ... ON CONFLICT DO NOTHING} grava as linhas validas. Linhas que perdem
+ *       para uma insercao concorrente sao contadas como conflito em vez de derrubar a carga.</li>
+ * </ol>
+ * Os triggers de pg_notify nao disparam por linha inserida ({@code app.bulk_load}, V35): a carga emite uma unica
+ * notificacao {@code BULK_LOAD}, que faz as instancias reconstruirem os Bloom filters das chaves carregadas.
+ * Exige PostgreSQL.
+ */
+@Component
+public class CopyProfileBulkLoader implements ProfileBulkLoadPort {
+
+    private static final Logger log = LoggerFactory.getLogger(CopyProfileBulkLoader.class);
+
+    static final String BULK_LOAD_OP = "BULK_LOAD";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final List<String> CABIN_TYPES = List.of("STANDARD", "EXECUTIVE", "VIP", "SUITE");
+
+    enum Type {
+        TEXT,
+        UUID,
+        DATE,
+        CABIN
+    }
+
+    static final class Column {
+
+        private final String name;
+        private final Type type;
+        private final int maxLength;
+        private final boolean required;
+
+        private Column(String name, Type type, int maxLength, boolean required) {
+            this.name = name;
+            this.type = type;
+            this.maxLength = maxLength;
+            this.required = required;
+        }
+
+        static Column required(String name, Type type, int maxLength) {
+            return new Column(name, type, maxLength, true);
+        }
+
+        static Column optional(String name, Type type, int maxLength) {
+            return new Column(name, type, maxLength, false);
+        }
+
+        String name() {
+            return name;
+        }
+
+        /**
+         * Valor convertido para o tipo da coluna real; so e avaliado em linhas ja validadas.
+         */
+        String value(String alias) {
+            String raw = alias + "." + name;
+            return switch (type) {
+                case UUID -> "bulk_load_try_uuid(" + raw + ")";
+                case DATE -> "bulk_load_try_date(" + raw + ")";
+                case CABIN -> "upper(" + raw + ")";
+                case TEXT -> raw;
+            };
+        }
+
+        void appendChecks(StringBuilder sql, String alias) {
+            String raw = alias + "." + name;
+            if (required) {
+                when(sql, raw + " IS NULL", name + " obrigatorio");
+            }
+            switch (type) {
+                case UUID -> when(sql, raw + " IS NOT NULL AND bulk_load_try_uuid(" + raw + ") IS NULL", name + " invalido");
+                case DATE -> when(sql, raw + " IS NOT NULL AND bulk_load_try_date(" + raw + ") IS NULL",
+                    name + " invalida (esperado YYYY-MM-DD)");
+                case CABIN -> when(sql, "upper(" + raw + ") NOT IN (" + CABIN_TYPES.stream()
+                    .map(value -> "'" + value + "'")
+                    .collect(Collectors.joining(", ")) + ")", name + " invalido");
+                case TEXT -> {
+                }
+            }
+            if (maxLength > 0) {
+                when(sql, "length(" + raw + ") > " + maxLength, name + " excede " + maxLength + " caracteres");
+            }
+        }
+    }
+
+    enum Layout {
+        PASSENGERS(
+            BulkLoadTarget.PASSENGERS,
+            "passengers",
+            List.of(
+                Column.required("user_id", Type.UUID, 0),
+                Column.required("cpf", Type.TEXT, 14),
+                Column.optional("rg", Type.TEXT, 20),
+                Column.optional("birth_date", Type.DATE, 0),
+                Column.optional("address", Type.TEXT, 255),
+                Column.optional("city", Type.TEXT, 100),
+                Column.optional("state", Type.TEXT, 2),
+                Column.optional("zip_code", Type.TEXT, 10),
+                Column.optional("preferred_cabin_type", Type.CABIN, 0)
+            ),
+            List.of("user_id", "cpf"),
+            List.of(KeySpace.PASSENGER_CPF)
+        ),
+        BOATMEN(
+            BulkLoadTarget.BOATMEN,
+            "boatmen",
+            List.of(
+                Column.required("user_id", Type.UUID, 0),
+                Column.required("cpf", Type.TEXT, 14),
+                Column.optional("rg", Type.TEXT, 20),
+                Column.optional("birth_date", Type.DATE, 0),
+                Column.required("company_name", Type.TEXT, 255),
+                Column.required("cnpj", Type.TEXT, 18),
+                Column.optional("company_address", Type.TEXT, 255),
+                Column.optional("company_city", Type.TEXT, 100),
+                Column.optional("company_state", Type.TEXT, 2),
+                Column.optional("company_zip_code", Type.TEXT, 10),
+                Column.optional("document_cpf_url", Type.TEXT, 500),
+                Column.optional("document_cnpj_url", Type.TEXT, 500),
+                Column.optional("document_address_proof_url", Type.TEXT, 500)
+            ),
+            List.of("user_id", "cpf", "cnpj"),
+            List.of(KeySpace.BOATMAN_CPF, KeySpace.BOATMAN_CNPJ)
+        );
+
+        private final BulkLoadTarget target;
+        private final String table;
+        private final List<Column> columns;
+        private final List<String> uniqueKeys;
+        private final List<KeySpace> keySpaces;
+
+        Layout(BulkLoadTarget target, String table, List<Column> columns, List<String> uniqueKeys, List<KeySpace> keySpaces) {
+            this.target = target;
+            this.table = table;
+            this.columns = columns;
+            this.uniqueKeys = uniqueKeys;
+            this.keySpaces = keySpaces;
+        }
+
+        static Layout of(BulkLoadTarget target) {
+            for (Layout layout : values()) {
+                if (layout.target == target) {
+                    return layout;
+                }
+            }
+            throw new IllegalArgumentException("Destino de carga sem layout: " + target);
+        }
+
+        String staging() {
+            return table + "_load";
+        }
+
+        /**
+         * Colunas do cabecalho na ordem do arquivo, validadas contra o layout.
+         *
+         * @throws IllegalArgumentException cabecalho ausente, coluna desconhecida/repetida ou obrigatoria ausente
+         */
+        List<String> parseHeader(String line) {
+            if (line == null || line.isBlank()) {
+                throw new IllegalArgumentException("CSV vazio: cabecalho ausente");
+            }
+            Set<String> known = columns.stream().map(Column::name).collect(Collectors.toSet());
+            Set<String> header = new LinkedHashSet<>();
+            for (String cell : line.replace("\uFEFF", "").split(",", -1)) {
+                String name = cell.trim().replace("\"", "").toLowerCase(Locale.ROOT);
+                if (!known.contains(name)) {
+                    throw new IllegalArgumentException("Coluna desconhecida para " + table + ": '" + name + "'");
+                }
+                if (!header.add(name)) {
+                    throw new IllegalArgumentException("Coluna repetida no cabecalho: " + name);
+                }
+            }
+            for (Column column : columns) {
+                if (column.required && !header.contains(column.name)) {
+                    throw new IllegalArgumentException("Coluna obrigatoria ausente no cabecalho: " + column.name);
+                }
+            }
+            return new ArrayList<>(header);
+        }
+
+        /**
+         * Staging sem indices nem constraints; {@code line_no} e a linha do arquivo (cabecalho = 1).
+         */
+        String createStagingSql() {
+            return "CREATE TEMP TABLE " + staging() + " (line_no BIGINT GENERATED ALWAYS AS IDENTITY (START WITH 2), "
+                + columns.stream().map(column -> column.name + " TEXT").collect(Collectors.joining(", "))
+                + ", reject_reason TEXT) ON COMMIT DROP";
+        }
+
+        /**
+         * FORCE_NULL trata {@code ""} como ausente, igual a um campo vazio sem aspas.
+         */
+        String copySql(List<String> header) {
+            String names = String.join(", ", header);
+            return "COPY " + staging() + " (" + names + ") FROM STDIN WITH (FORMAT csv, FORCE_NULL (" + names + "))";
+        }
+
+        /**
+         * Uma passada: o primeiro motivo encontrado por linha. So as linhas rejeitadas sao reescritas.
+         */
+        String rejectInvalidSql() {
+            StringBuilder reason = new StringBuilder("CASE");
+            for (Column column : columns) {
+                column.appendChecks(reason, "s");
+            }
+            when(reason, "NOT EXISTS (SELECT 1 FROM users u WHERE u.id = bulk_load_try_uuid(s.user_id))", "usuario inexistente");
+            for (String key : uniqueKeys) {
+                when(reason, "EXISTS (SELECT 1 FROM " + table + " t WHERE t." + key + " = " + column(key).value("s") + ")",
+                    key + " ja cadastrado em " + table);
+            }
+            reason.append(" END");
+            return "UPDATE " + staging() + " AS r SET reject_reason = v.reason FROM (SELECT s.line_no, " + reason
+                + " AS reason FROM " + staging() + " AS s) AS v WHERE r.line_no = v.line_no AND v.reason IS NOT NULL";
+        }
+
+        /**
+         * Rejeita repeticoes de uma chave unica no proprio arquivo, mantendo a primeira linha valida.
+         */
+        String rejectDuplicatesSql(String key) {
+            return "UPDATE " + staging() + " AS r SET reject_reason = '" + key
+                + " repetido no arquivo (primeira ocorrencia na linha ' || d.first_line || ')'"
+                + " FROM (SELECT s.line_no, min(s.line_no) OVER (PARTITION BY " + column(key).value("s") + ") AS first_line"
+                + " FROM " + staging() + " AS s WHERE s.reject_reason IS NULL) AS d"
+                + " WHERE r.line_no = d.line_no AND d.line_no <> d.first_line";
+        }
+
+        String mergeSql() {
+            return "INSERT INTO " + table + " ("
+                + columns.stream().map(Column::name).collect(Collectors.joining(", "))
+                + ") SELECT "
+                + columns.stream().map(column -> column.value("s")).collect(Collectors.joining(", "))
+                + " FROM " + staging() + " AS s WHERE s.reject_reason IS NULL ORDER BY s.line_no ON CONFLICT DO NOTHING";
+        }
+
+        private Column column(String name) {
+            return columns.stream()
+                .filter(column -> column.name.equals(name))
+                .findFirst()
+                .orElseThrow();
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final UniqueKeyFilters uniqueKeyFilters;
+    private final NotFoundCache notFoundCache;
+    private final MeterRegistry meterRegistry;
+    private final int maxReportedRejections;
+
+    public CopyProfileBulkLoader(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        UniqueKeyFilters uniqueKeyFilters,
+        NotFoundCache notFoundCache,
+        MeterRegistry meterRegistry,
+        @Value("${app.bulk-load.max-reported-rejections:1000}") int maxReportedRejections
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.uniqueKeyFilters = uniqueKeyFilters;
+        this.notFoundCache = notFoundCache;
+        this.meterRegistry = meterRegistry;
+        this.maxReportedRejections = Math.max(0, maxReportedRejections);
+    }
+
+    @Override
+    public BulkLoadReport load(BulkLoadTarget target, Reader csv) {
+        Layout layout = Layout.of(target);
+        if (!isPostgres()) {
+            throw new IllegalStateException("Carga via COPY exige PostgreSQL");
+        }
+
+        BufferedReader reader = csv instanceof BufferedReader buffered ? buffered : new BufferedReader(csv, COPY_BUFFER_SIZE);
+        List<String> header;
+        try {
+            header = layout.parseHeader(reader.readLine());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        log.info("Iniciando carga em massa: tabela={}, colunas={}", layout.table, header);
+        long start = System.nanoTime();
+        BulkLoadReport report = transaction.execute(status -> run(layout, header, reader, start));
+        long elapsedNanos = System.nanoTime() - start;
+
+        // O BULK_LOAD chega tambem a esta instancia pelo listener; refazer aqui cobre pg-notify desabilitado.
+        layout.keySpaces.forEach(uniqueKeyFilters::rebuildAsync);
+        notFoundCache.clear();
+
+        BulkLoadReport finished = new BulkLoadReport(
+            target, report.getRowsRead(), report.getRowsLoaded(), report.getRowsRejected(), report.getRowsConflicted(),
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos), report.getRejections());
+        record(layout, finished, elapsedNanos);
+        log.info("Carga em massa concluida: tabela={}, lidas={}, gravadas={}, rejeitadas={}, conflitos={}, tempo={}ms, linhas/s={}",
+            layout.table, finished.getRowsRead(), finished.getRowsLoaded(), finished.getRowsRejected(),
+            finished.getRowsConflicted(), finished.getElapsedMillis(), finished.getRowsPerSecond());
+        return finished;
+    }
+
+    private BulkLoadReport run(Layout layout, List<String> header, BufferedReader reader, long start) {
+        jdbcTemplate.execute("SET LOCAL app.bulk_load = 'on'");
+        // Carga administrativa: nao herda o statement_timeout pensado para requisicoes.
+        jdbcTemplate.execute("SET LOCAL statement_timeout = 0");
+        jdbcTemplate.execute(layout.createStagingSql());
+
+        long rowsRead = copy(layout, header, reader);
+        log.debug("COPY concluido: tabela={}, linhas={}, tempo={}ms", layout.table, rowsRead, millisSince(start));
+
+        // Tabelas temporarias nao passam pelo autovacuum; sem estatisticas o planner erra os joins da validacao.
+        jdbcTemplate.execute("ANALYZE " + layout.staging());
+        jdbcTemplate.update(layout.rejectInvalidSql());
+        for (String key : layout.uniqueKeys) {
+            jdbcTemplate.update(layout.rejectDuplicatesSql(key));
+        }
+        log.debug("Validacao concluida: tabela={}, tempo={}ms", layout.table, millisSince(start));
+
+        long loaded = jdbcTemplate.update(layout.mergeSql());
+        Long rejected = jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM " + layout.staging() + " WHERE reject_reason IS NOT NULL", Long.class);
+        long rowsRejected = rejected != null ? rejected : 0;
+        List<BulkLoadReport.Rejection> rejections = maxReportedRejections == 0 ? List.of() : jdbcTemplate.query(
+            "SELECT line_no, reject_reason FROM " + layout.staging()
+                + " WHERE reject_reason IS NOT NULL ORDER BY line_no LIMIT ?",
+            (rs, rowNum) -> new BulkLoadReport.Rejection(rs.getLong("line_no"), rs.getString("reject_reason")),
+            maxReportedRejections);
+
+        if (loaded > 0) {
+            jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class,
+                PgNotifyCacheInvalidationListener.CHANNEL,
+                "{\"table\":\"" + layout.table + "\",\"op\":\"" + BULK_LOAD_OP + "\"}");
+        }
+        return new BulkLoadReport(layout.target, rowsRead, loaded, rowsRejected,
+            rowsRead - loaded - rowsRejected, 0, rejections);
+    }
+
+    private long copy(Layout layout, List<String> header, BufferedReader reader) {
+        Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn(layout.copySql(header), reader, COPY_BUFFER_SIZE);
+            } catch (SQLException e) {
+                // CSV malformado (aspas, numero de campos): o COPY inteiro falha e a transacao e desfeita.
+                throw new IllegalArgumentException("CSV invalido: " + e.getMessage(), e);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return rows != null ? rows : 0;
+    }
+
+    private void record(Layout layout, BulkLoadReport report, long elapsedNanos) {
+        String tag = layout.target.getValue();
+        rows(tag, "loaded").increment(report.getRowsLoaded());
+        rows(tag, "rejected").increment(report.getRowsRejected());
+        rows(tag, "conflicted").increment(report.getRowsConflicted());
+        Timer.builder("bulk.load.duration")
+            .description("Duracao de cargas em massa (COPY, validacao e merge)")
+            .tag("target", tag)
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Counter rows(String target, String outcome) {
+        return Counter.builder("bulk.load.rows")
+            .description("Linhas processadas por cargas em massa")
+            .tag("target", target)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private boolean isPostgres() {
+        Boolean postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+            "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        return Boolean.TRUE.equals(postgres);
+    }
+
+    private static long millisSince(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private static void when(StringBuilder sql, String condition, String reason) {
+        sql.append(" WHEN ").append(condition).append(" THEN '").append(reason).append("'");
+    }
+}
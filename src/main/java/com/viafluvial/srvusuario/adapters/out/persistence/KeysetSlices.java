@@ -0,0 +1,45 @@
+package com.viafluvial.srvusuario.adapters.out.persistence;
+
+import com.viafluvial.srvusuario.adapters.out.persistence.repository.spec.KeysetSpecifications;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Execucao das buscas em modo cursor: busca {@code size + 1} linhas na ordem do keyset
+ * (sem COUNT) e usa a linha extra apenas para saber se existe proxima pagina.
+ */
+final class KeysetSlices {
+
+    private KeysetSlices() {
+    }
+
+    static <E, D> Slice<D> fetch(
+        JpaSpecificationExecutor<E> repository,
+        Specification<E> spec,
+        int size,
+        Function<E, D> mapper
+    ) {
+        List<E> rows = repository.findBy(spec, query -> query.sortBy(KeysetSpecifications.SORT).limit(size + 1).all());
+
+        boolean hasNext = rows.size() > size;
+        List<D> content = (hasNext ? rows.subList(0, size) : rows).stream().map(mapper).toList();
+        return new SliceImpl<>(content, PageRequest.of(0, size, KeysetSpecifications.SORT), hasNext);
+    }
+
+    static LocalDateTime createdAt(PageCursor after) {
+        return after == null ? null : after.getCreatedAt();
+    }
+
+    static UUID id(PageCursor after) {
+        return after == null ? null : after.getId();
+    }
+}
@@ -0,0 +1,70 @@
+package com.viafluvial.srvusuario.adapters.out.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * UPDATE parcial de uma linha: {@code SET} so nas colunas recebidas, {@code WHERE id = ?} e, quando ha If-Match,
+ * {@code AND version = ?}. Nao carrega a entidade; {@code updated_at} e {@code version} ficam com os triggers.
+ */
+@Component
+public class PartialUpdate {
+
+    private final ObjectProvider<EntityManager> entityManager;
+
+    public PartialUpdate(ObjectProvider<EntityManager> entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * @param changes atributo da entidade -> novo valor (ja no tipo da entidade)
+     * @param expectedVersion versao exigida; {@code null} atualiza sem checar
+     * @return false se nenhuma linha atendeu ao {@code WHERE}
+     */
+    public <E> boolean apply(Class<E> entityType, UUID id, Map<String, Object> changes, Long expectedVersion) {
+        if (changes.isEmpty()) {
+            throw new IllegalArgumentException("Nenhum campo para atualizar");
+        }
+        // EntityManager compartilhado: participa da transacao corrente do use case.
+        EntityManager em = entityManager.getObject();
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaUpdate<E> update = cb.createCriteriaUpdate(entityType);
+        Root<E> root = update.from(entityType);
+        changes.forEach((attribute, value) -> update.set(root.get(attribute), value));
+
+        Predicate where = cb.equal(root.get("id"), id);
+        if (expectedVersion != null) {
+            where = cb.and(where, cb.equal(root.get("version"), expectedVersion));
+        }
+        update.where(where);
+
+        // Alteracoes pendentes de outras entidades da transacao vao ao banco antes do UPDATE direto.
+        em.flush();
+        int rows = em.createQuery(update).executeUpdate();
+        detach(em, entityType, id);
+        return rows > 0;
+    }
+
+    /**
+     * O UPDATE em massa nao passa pelo contexto: so a copia gerenciada desta linha sai, para a releitura ver
+     * os triggers; as demais entidades da transacao continuam gerenciadas.
+     */
+    private static void detach(EntityManager em, Class<?> entityType, UUID id) {
+        SharedSessionContractImplementor session = em.unwrap(SharedSessionContractImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(entityType);
+        Object managed = session.getPersistenceContextInternal().getEntity(session.generateEntityKey(id, persister));
+        if (managed != null) {
+            em.detach(managed);
+        }
+    }
+}
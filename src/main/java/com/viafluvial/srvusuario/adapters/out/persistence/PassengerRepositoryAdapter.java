@@ -3,31 +3,74 @@ package com.viafluvial.srvusuario.adapters.out.persistence;
 import com.viafluvial.srvusuario.adapters.out.persistence.mapper.PassengerPersistenceMapper;
 import com.viafluvial.srvusuario.adapters.out.persistence.repository.PassengerRepository;
 import com.viafluvial.srvusuario.adapters.out.persistence.repository.spec.PassengerSpecifications;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.MergePatch;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.application.port.out.PassengerRepositoryPort;
 import com.viafluvial.srvusuario.domain.model.Passenger;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Repository
 public class PassengerRepositoryAdapter implements PassengerRepositoryPort {
 
+    private static final String TABLE = "passengers";
+
     private final PassengerRepository passengerRepository;
     private final PassengerPersistenceMapper passengerMapper;
+    private final UniqueKeyFilters uniqueKeyFilters;
+    private final TableStatistics tableStatistics;
+    private final ScrollingExport scrollingExport;
+    private final PartialUpdate partialUpdate;
+    private final ConditionalInsert conditionalInsert;
 
-    public PassengerRepositoryAdapter(PassengerRepository passengerRepository, PassengerPersistenceMapper passengerMapper) {
+    public PassengerRepositoryAdapter(
+        PassengerRepository passengerRepository,
+        PassengerPersistenceMapper passengerMapper,
+        UniqueKeyFilters uniqueKeyFilters,
+        TableStatistics tableStatistics,
+        ScrollingExport scrollingExport,
+        PartialUpdate partialUpdate,
+        ConditionalInsert conditionalInsert
+    ) {
         this.passengerRepository = passengerRepository;
         this.passengerMapper = passengerMapper;
+        this.uniqueKeyFilters = uniqueKeyFilters;
+        this.tableStatistics = tableStatistics;
+        this.scrollingExport = scrollingExport;
+        this.partialUpdate = partialUpdate;
+        this.conditionalInsert = conditionalInsert;
     }
 
     @Override
     public Passenger save(Passenger passenger) {
-        return passengerMapper.toDomain(passengerRepository.save(passengerMapper.toEntity(passenger)));
+        Passenger saved = passengerMapper.toDomain(passengerRepository.save(passengerMapper.toEntity(passenger)));
+        uniqueKeyFilters.put(UniqueKeyFilters.KeySpace.PASSENGER_CPF, saved.getCpf());
+        return saved;
+    }
+
+    @Override
+    public Optional<Passenger> insertIfAbsent(Passenger passenger) {
+        // Sem alvo no ON CONFLICT: cobre tanto cpf quanto user_id.
+        com.viafluvial.srvusuario.adapters.out.persistence.entity.Passenger entity = passengerMapper.toEntity(passenger);
+        if (!conditionalInsert.insert(entity)) {
+            return Optional.empty();
+        }
+        uniqueKeyFilters.put(UniqueKeyFilters.KeySpace.PASSENGER_CPF, entity.getCpf());
+        return Optional.of(passengerMapper.toDomain(entity));
     }
 
     @Override
@@ -35,23 +78,73 @@ public class PassengerRepositoryAdapter implements PassengerRepositoryPort {
         return passengerRepository.findById(id).map(passengerMapper::toDomain);
     }
 
+    @Override
+    public Slice<Passenger> search(
+        String cpf,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        Pageable pageable,
+        CountMode countMode
+    ) {
+        boolean unfiltered = SearchPages.unfiltered(cpf, createdFrom, createdTo);
+        return SearchPages.fetch(passengerRepository, searchSpec(cpf, createdFrom, createdTo), pageable, countMode,
+            () -> unfiltered ? tableStatistics.estimatedRows(TABLE) : OptionalLong.empty(), passengerMapper::toDomain);
+    }
+
     @Override
     public Optional<Passenger> findByUserId(UUID userId) {
         return passengerRepository.findByUserId(userId).map(passengerMapper::toDomain);
     }
 
+    @Override
+    public List<Passenger> findByUserIds(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return passengerRepository.findByUserIdAny(userIds.toArray(UUID[]::new)).stream().map(passengerMapper::toDomain).toList();
+    }
+
     @Override
     public boolean existsByCpf(String cpf) {
-        return passengerRepository.existsByCpf(cpf);
+        return uniqueKeyFilters.exists(UniqueKeyFilters.KeySpace.PASSENGER_CPF, cpf, passengerRepository::existsByCpf);
+    }
+
+    @Override
+    public boolean patch(UUID id, MergePatch patch, Long expectedVersion) {
+        Map<String, Object> changes = new LinkedHashMap<>(patch.changes());
+        changes.computeIfPresent("preferredCabinType", (name, cabin) ->
+            com.viafluvial.srvusuario.adapters.out.persistence.entity.Passenger.CabinType.valueOf(((Passenger.CabinType) cabin).name()));
+        return partialUpdate.apply(com.viafluvial.srvusuario.adapters.out.persistence.entity.Passenger.class,
+            id, changes, expectedVersion);
     }
 
     @Override
     public Page<Passenger> search(String cpf, LocalDateTime createdFrom, LocalDateTime createdTo, Pageable pageable) {
-        Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.Passenger> spec = Specification
+        return passengerRepository.findAll(searchSpec(cpf, createdFrom, createdTo), pageable).map(passengerMapper::toDomain);
+    }
+
+    @Override
+    public Slice<Passenger> searchAfter(String cpf, LocalDateTime createdFrom, LocalDateTime createdTo, PageCursor after, int size) {
+        Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.Passenger> spec = searchSpec(cpf, createdFrom, createdTo)
+            .and(PassengerSpecifications.seekAfter(KeysetSlices.createdAt(after), KeysetSlices.id(after)));
+
+        return KeysetSlices.fetch(passengerRepository, spec, size, passengerMapper::toDomain);
+    }
+
+    @Override
+    public long forEachMatching(String cpf, LocalDateTime createdFrom, LocalDateTime createdTo, Consumer<Passenger> action) {
+        return scrollingExport.forEach(com.viafluvial.srvusuario.adapters.out.persistence.entity.Passenger.class,
+            searchSpec(cpf, createdFrom, createdTo), entity -> action.accept(passengerMapper.toDomain(entity)));
+    }
+
+    private Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.Passenger> searchSpec(
+        String cpf,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo
+    ) {
+        return Specification
             .where(PassengerSpecifications.cpfEquals(cpf))
             .and(PassengerSpecifications.createdFrom(createdFrom))
             .and(PassengerSpecifications.createdTo(createdTo));
-
-        return passengerRepository.findAll(spec, pageable).map(passengerMapper::toDomain);
     }
 }
@@ -0,0 +1,296 @@
+package com.viafluvial.srvusuario.adapters.out.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.viafluvial.srvusuario.adapters.out.persistence.UniqueKeyFilters.KeySpace;
+import com.viafluvial.srvusuario.infrastructure.cache.NotFoundCache;
+import com.viafluvial.srvusuario.infrastructure.cache.ProfileCache;
+import com.viafluvial.srvusuario.infrastructure.cache.TwoTierCacheManager;
+import com.viafluvial.srvusuario.infrastructure.cache.UserCache;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * Escuta o canal {@code cache_invalidation} (triggers da V31/V32) e invalida as entradas de cache
+ * do registro alterado, inclusive quando a escrita vem de fora do servico ou de outra instancia.
+ * Insercoes e alteracoes tambem alimentam os Bloom filters de chaves unicas.
+ * Cargas em massa ({@link CopyProfileBulkLoader}) enviam uma unica notificacao {@code BULK_LOAD} por tabela.
+ * A mesma conexao escuta o canal do {@link PgNotifyCacheInvalidationTransport}, que difunde as evictions do
+ * {@link TwoTierCacheManager} entre as instancias.
+ * Usa uma conexao dedicada, fora do pool do Hikari, com a URL e as credenciais de {@code spring.datasource.*};
+ * {@code app.cache.pg-notify.url} permite apontar para uma conexao direta quando o datasource passa por um
+ * pooler em modo transacao (onde LISTEN nao funciona).
+ * Notificacoes enviadas enquanto a conexao esta caida se perdem: a cada LISTEN bem-sucedido os caches locais
+ * sao limpos.
+ * Sem datasource ou em bancos que nao sao PostgreSQL (ex.: H2 nos testes) o listener nao inicia.
+ */
+@Component
+public class PgNotifyCacheInvalidationListener implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PgNotifyCacheInvalidationListener.class);
+
+    static final String CHANNEL = "cache_invalidation";
+    private static final int POLL_TIMEOUT_MS = 500;
+    private static final long RECONNECT_DELAY_MS = 5_000;
+
+    private final ObjectProvider<DataSource> dataSource;
+    private final ObjectProvider<DataSourceProperties> dataSourceProperties;
+    private final CacheManager cacheManager;
+    private final UserCache userCache;
+    private final ProfileCache profileCache;
+    private final NotFoundCache notFoundCache;
+    private final UniqueKeyFilters uniqueKeyFilters;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<PgNotifyCacheInvalidationTransport> transport;
+    private final boolean enabled;
+    private final String listenUrl;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public PgNotifyCacheInvalidationListener(
+        ObjectProvider<DataSource> dataSource,
+        ObjectProvider<DataSourceProperties> dataSourceProperties,
+        CacheManager cacheManager,
+        UserCache userCache,
+        ProfileCache profileCache,
+        NotFoundCache notFoundCache,
+        UniqueKeyFilters uniqueKeyFilters,
+        ObjectMapper objectMapper,
+        ObjectProvider<PgNotifyCacheInvalidationTransport> transport,
+        @Value("${app.cache.pg-notify.enabled:true}") boolean enabled,
+        @Value("${app.cache.pg-notify.url:}") String listenUrl
+    ) {
+        this.dataSource = dataSource;
+        this.dataSourceProperties = dataSourceProperties;
+        this.cacheManager = cacheManager;
+        this.userCache = userCache;
+        this.profileCache = profileCache;
+        this.notFoundCache = notFoundCache;
+        this.uniqueKeyFilters = uniqueKeyFilters;
+        this.objectMapper = objectMapper;
+        this.transport = transport;
+        this.enabled = enabled;
+        this.listenUrl = listenUrl;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || !isPostgres()) {
+            log.info("Listener de invalidacao via pg_notify desabilitado");
+            return;
+        }
+        running = true;
+        transport.ifAvailable(PgNotifyCacheInvalidationTransport::activate);
+        worker = new Thread(this::listenLoop, "pg-notify-cache-listener");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    void dispatch(String channel, String payload) {
+        if (PgNotifyCacheInvalidationTransport.CHANNEL.equals(channel)) {
+            transport.ifAvailable(available -> available.deliver(payload));
+        } else {
+            handle(payload);
+        }
+    }
+
+    /**
+     * Aplica a invalidacao descrita no payload do trigger.
+     */
+    void handle(String payload) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(payload);
+        } catch (IOException e) {
+            log.warn("Payload de invalidacao invalido: {}", payload);
+            return;
+        }
+
+        String table = node.path("table").asText();
+        String op = node.path("op").asText();
+        if (CopyProfileBulkLoader.BULK_LOAD_OP.equals(op)) {
+            onBulkLoad(table);
+            return;
+        }
+        UUID id = uuid(node.path("id"));
+        UUID userId = uuid(node.path("user_id"));
+        String email = text(node.path("email"));
+
+        if ("INSERT".equals(op)) {
+            notFoundCache.evictUser("users".equals(table) ? id : userId);
+        }
+        applyToUniqueKeyFilters(table, op, node.path("new"));
+
+        switch (table) {
+            case "users" -> userCache.evict(id, email);
+            case "boatmen" -> profileCache.evictBoatman(id, userId);
+            case "passengers" -> profileCache.evictPassenger(id, userId);
+            case "agencies" -> profileCache.evictAgency(id, userId);
+            case "admins" -> profileCache.evictAdmin(id, userId);
+            default -> log.debug("Tabela sem cache associado: {}", table);
+        }
+        log.debug("Invalidacao via pg_notify aplicada: table={}, id={}", table, id);
+    }
+
+    /**
+     * Cargas em massa nao notificam por linha: reconstroi os filtros das chaves da tabela e limpa o cache negativo.
+     */
+    private void onBulkLoad(String table) {
+        switch (table) {
+            case "passengers" -> uniqueKeyFilters.rebuildAsync(KeySpace.PASSENGER_CPF);
+            case "boatmen" -> {
+                uniqueKeyFilters.rebuildAsync(KeySpace.BOATMAN_CPF);
+                uniqueKeyFilters.rebuildAsync(KeySpace.BOATMAN_CNPJ);
+            }
+            default -> log.debug("Carga em massa sem filtro associado: {}", table);
+        }
+        notFoundCache.clear();
+        log.debug("Carga em massa notificada via pg_notify: table={}", table);
+    }
+
+    private void applyToUniqueKeyFilters(String table, String op, JsonNode newKeys) {
+        if ("DELETE".equals(op)) {
+            switch (table) {
+                // ON DELETE CASCADE remove tambem os perfis do usuario.
+                case "users" -> uniqueKeyFilters.recordDeletion(KeySpace.values());
+                case "passengers" -> uniqueKeyFilters.recordDeletion(KeySpace.PASSENGER_CPF);
+                case "boatmen" -> uniqueKeyFilters.recordDeletion(KeySpace.BOATMAN_CPF, KeySpace.BOATMAN_CNPJ);
+                case "agencies" -> uniqueKeyFilters.recordDeletion(KeySpace.AGENCY_CNPJ);
+                default -> {
+                }
+            }
+            return;
+        }
+        switch (table) {
+            case "users" -> uniqueKeyFilters.put(KeySpace.USER_EMAIL, text(newKeys.path("email")));
+            case "passengers" -> uniqueKeyFilters.put(KeySpace.PASSENGER_CPF, text(newKeys.path("cpf")));
+            case "boatmen" -> {
+                uniqueKeyFilters.put(KeySpace.BOATMAN_CPF, text(newKeys.path("cpf")));
+                uniqueKeyFilters.put(KeySpace.BOATMAN_CNPJ, text(newKeys.path("cnpj")));
+            }
+            case "agencies" -> uniqueKeyFilters.put(KeySpace.AGENCY_CNPJ, text(newKeys.path("cnpj")));
+            default -> {
+            }
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = openConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                    statement.execute("LISTEN " + PgNotifyCacheInvalidationTransport.CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                clearLocalCaches();
+                uniqueKeyFilters.notificationsResumed();
+                log.info("Escutando canal {} para invalidacao de cache", CHANNEL);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification.getName(), notification.getParameter());
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                uniqueKeyFilters.notificationsLost();
+                log.warn("Conexao de LISTEN perdida, reconectando em {} ms", RECONNECT_DELAY_MS, e);
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Descarta o L1 de todos os caches (inclusive o negativo): o que foi invalidado durante a queda nao chegou.
+     * O L2 compartilhado fica como esta, porque quem gravou ja o invalidou diretamente.
+     */
+    void clearLocalCaches() {
+        CacheManager local = cacheManager instanceof TwoTierCacheManager twoTier
+            ? twoTier.getLocalCacheManager()
+            : cacheManager;
+        for (String name : local.getCacheNames()) {
+            Cache cache = local.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    private Connection openConnection() throws SQLException {
+        if (listenUrl != null && !listenUrl.isBlank()) {
+            return DriverManager.getConnection(listenUrl);
+        }
+        // O LISTEN segura a conexao indefinidamente; tirada do pool, ela reduziria o pool da aplicacao.
+        DataSourceProperties properties = dataSourceProperties.getIfAvailable();
+        if (properties != null && properties.getUrl() != null) {
+            return DriverManager.getConnection(
+                properties.getUrl(), properties.determineUsername(), properties.determinePassword());
+        }
+        return dataSource.getObject().getConnection();
+    }
+
+    private boolean isPostgres() {
+        DataSource available = dataSource.getIfAvailable();
+        if (available == null) {
+            return false;
+        }
+        try (Connection connection = available.getConnection()) {
+            return connection.isWrapperFor(PGConnection.class);
+        } catch (SQLException e) {
+            log.warn("Nao foi possivel verificar o banco para o listener de pg_notify", e);
+            return false;
+        }
+    }
+
+    private static String text(JsonNode node) {
+        return node.isTextual() ? node.asText() : null;
+    }
+
+    private static UUID uuid(JsonNode node) {
+        return node.isTextual() ? UUID.fromString(node.asText()) : null;
+    }
+}
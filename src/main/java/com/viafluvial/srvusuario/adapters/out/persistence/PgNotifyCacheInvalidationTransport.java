@@ -0,0 +1,151 @@
+package com.viafluvial.srvusuario.adapters.out.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.viafluvial.srvusuario.infrastructure.cache.CacheInvalidationMessage;
+import com.viafluvial.srvusuario.infrastructure.cache.CacheInvalidationTransport;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Difunde as invalidacoes do {@link com.viafluvial.srvusuario.infrastructure.cache.TwoTierCacheManager} entre
+ * instancias pelo PostgreSQL: publica com {@code pg_notify} no canal {@value #CHANNEL}, e o
+ * {@link PgNotifyCacheInvalidationListener} entrega aqui o que chega nesse canal pela mesma conexao de LISTEN
+ * (inclusive as mensagens da propria instancia, que o gerenciador descarta).
+ * O envio e assincrono e usa uma conexao propria, fora da transacao de quem invalidou: uma transacao readOnly
+ * pode estar numa replica, onde NOTIFY falha. Enquanto o listener nao inicia (H2, pg-notify desabilitado)
+ * nada e publicado.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.pg-notify.enabled", havingValue = "true", matchIfMissing = true)
+public class PgNotifyCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(PgNotifyCacheInvalidationTransport.class);
+
+    static final String CHANNEL = "cache_eviction";
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+
+    private final ObjectProvider<JdbcTemplate> jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-eviction-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean active;
+
+    public PgNotifyCacheInvalidationTransport(ObjectProvider<JdbcTemplate> jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        if (!active) {
+            return;
+        }
+        String payload = toPayload(message);
+        executor.execute(() -> send(payload));
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Chamado pelo listener ao iniciar contra um PostgreSQL.
+     */
+    void activate() {
+        active = true;
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Entrega aos assinantes uma mensagem recebida no canal {@value #CHANNEL}.
+     */
+    void deliver(String payload) {
+        CacheInvalidationMessage message = fromPayload(payload);
+        if (message == null) {
+            return;
+        }
+        for (Consumer<CacheInvalidationMessage> listener : listeners) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException e) {
+                log.warn("Falha ao entregar invalidacao de cache: {}", message, e);
+            }
+        }
+    }
+
+    /**
+     * Chaves UUID e texto (as usadas nos caches) seguem com o tipo; outras viram limpeza do cache inteiro,
+     * que e sempre seguro.
+     */
+    String toPayload(CacheInvalidationMessage message) {
+        ObjectNode node = objectMapper.createObjectNode()
+            .put("origin", message.getOrigin())
+            .put("cache", message.getCacheName());
+        Object key = message.getKey();
+        if (key instanceof UUID uuid) {
+            node.put("key", uuid.toString()).put("keyType", "uuid");
+        } else if (key instanceof String text) {
+            node.put("key", text).put("keyType", "string");
+        }
+        return node.toString();
+    }
+
+    CacheInvalidationMessage fromPayload(String payload) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(payload);
+        } catch (IOException e) {
+            log.warn("Payload de invalidacao de cache invalido: {}", payload);
+            return null;
+        }
+        JsonNode key = node.path("key");
+        Object value = null;
+        if (key.isTextual()) {
+            value = "uuid".equals(node.path("keyType").asText()) ? UUID.fromString(key.asText()) : key.asText();
+        }
+        return new CacheInvalidationMessage(node.path("origin").asText(), node.path("cache").asText(), value);
+    }
+
+    private void send(String payload) {
+        JdbcTemplate jdbc = jdbcTemplate.getIfAvailable();
+        if (jdbc == null) {
+            return;
+        }
+        try {
+            jdbc.queryForList(NOTIFY_SQL, CHANNEL, payload);
+        } catch (DataAccessException e) {
+            // A instancia que perde a mensagem se recupera ao reconectar o LISTEN ou pelo TTL.
+            log.warn("Falha ao publicar invalidacao de cache via pg_notify: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
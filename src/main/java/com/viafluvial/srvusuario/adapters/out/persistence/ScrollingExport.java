@@ -0,0 +1,131 @@
+package com.viafluvial.srvusuario.adapters.out.persistence;
+
+import com.viafluvial.srvusuario.adapters.out.persistence.repository.spec.KeysetSpecifications;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * Leitura das exportacoes: percorre o resultado de uma {@link Specification} de busca com cursor forward-only
+ * numa {@link StatelessSession}, sem contexto de persistencia (cada entidade fica destacada e vira lixo logo
+ * depois de entregue), buscando {@code app.export.fetch-size} linhas por ida ao banco. A memoria nao cresce com o
+ * volume exportado. A ordem e a do modo cursor ({@code created_at DESC, id DESC}).
+ * <p>
+ * A transacao e marcada {@code readOnly} (vai para as replicas quando ha roteamento). O driver do PostgreSQL so
+ * usa cursor com protocolo estendido: com {@code preferQueryMode=simple} (pooler) ele ignora o fetch size e
+ * carrega o resultado inteiro, por isso {@code app.export.url} permite uma conexao direta dedicada, como o LISTEN.
+ */
+@Component
+public class ScrollingExport {
+
+    private static final Logger log = LoggerFactory.getLogger(ScrollingExport.class);
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private final int fetchSize;
+    private final String exportUrl;
+
+    public ScrollingExport(
+        ObjectProvider<EntityManagerFactory> entityManagerFactory,
+        @Value("${app.export.fetch-size:1000}") int fetchSize,
+        @Value("${app.export.url:}") String exportUrl
+    ) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.fetchSize = fetchSize;
+        this.exportUrl = exportUrl;
+    }
+
+    /**
+     * Entrega ao {@code action}, em ordem, cada entidade que atende a {@code spec}. Uma excecao do
+     * {@code action} (ex.: cliente desconectou) interrompe a leitura e fecha o cursor.
+     *
+     * @return quantidade de entidades entregues
+     */
+    public <E> long forEach(Class<E> entityType, Specification<E> spec, Consumer<? super E> action) {
+        SessionFactory sessionFactory = entityManagerFactory.getObject().unwrap(SessionFactory.class);
+        Connection dedicated = openDedicatedConnection();
+        try (StatelessSession session = dedicated != null
+            ? sessionFactory.withStatelessOptions().connection(dedicated).openStatelessSession()
+            : sessionFactory.openStatelessSession()) {
+            // Antes do primeiro comando: com LazyConnectionDataSourceProxy, decide a replica.
+            session.doWork(connection -> connection.setReadOnly(true));
+            Transaction transaction = session.beginTransaction();
+            try {
+                long rows = scroll(session, entityType, spec, action);
+                transaction.commit();
+                return rows;
+            } catch (RuntimeException e) {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+                throw e;
+            }
+        } finally {
+            closeQuietly(dedicated);
+        }
+    }
+
+    private <E> long scroll(StatelessSession session, Class<E> entityType, Specification<E> spec,
+                            Consumer<? super E> action) {
+        CriteriaBuilder cb = session.getCriteriaBuilder();
+        CriteriaQuery<E> query = cb.createQuery(entityType);
+        Root<E> root = query.from(entityType);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(KeysetSpecifications.SORT, root, cb));
+
+        long rows = 0;
+        try (ScrollableResults<E> results = session.createQuery(query)
+            .setFetchSize(fetchSize)
+            .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                action.accept(results.get());
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private Connection openDedicatedConnection() {
+        if (exportUrl == null || exportUrl.isBlank()) {
+            return null;
+        }
+        try {
+            return DriverManager.getConnection(exportUrl);
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Falha ao abrir conexao de exportacao", e);
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Falha ao fechar conexao de exportacao: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.viafluvial.srvusuario.adapters.out.persistence;
+
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Execucao das buscas por offset conforme o {@link CountMode}:
+ * <ul>
+ *   <li>{@code EXACT}: {@code findAll(spec, pageable)}, com COUNT(*) sobre os mesmos filtros;</li>
+ *   <li>{@code NONE}: busca {@code size + 1} linhas e devolve um {@link Slice} com {@code hasNext}, sem COUNT;</li>
+ *   <li>{@code ESTIMATE}: mesma busca do {@code NONE} mais a estimativa recebida; sem estimativa, cai no exato.</li>
+ * </ul>
+ */
+final class SearchPages {
+
+    private SearchPages() {
+    }
+
+    static <E, D> Slice<D> fetch(
+        JpaSpecificationExecutor<E> repository,
+        Specification<E> spec,
+        Pageable pageable,
+        CountMode countMode,
+        Supplier<OptionalLong> estimate,
+        Function<E, D> mapper
+    ) {
+        if (countMode == CountMode.NONE) {
+            return slice(repository, spec, pageable, mapper);
+        }
+        if (countMode == CountMode.ESTIMATE) {
+            OptionalLong estimated = estimate.get();
+            if (estimated.isPresent()) {
+                Slice<D> slice = slice(repository, spec, pageable, mapper);
+                // Estatisticas defasadas nao podem contradizer o que a propria pagina ja mostrou.
+                long seen = pageable.getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+                return new PageImpl<>(slice.getContent(), pageable, Math.max(estimated.getAsLong(), seen));
+            }
+        }
+        return repository.findAll(spec, pageable).map(mapper);
+    }
+
+    /**
+     * Mesma semantica de {@link #fetch(JpaSpecificationExecutor, Specification, Pageable, CountMode, Supplier, Function)}
+     * para buscas que carregam as linhas por conta propria (ex.: projecoes), dado {@code (offset, limit)}.
+     */
+    static <D> Slice<D> fetch(
+        Pageable pageable,
+        CountMode countMode,
+        RowLoader<D> rows,
+        LongSupplier count,
+        Supplier<OptionalLong> estimate
+    ) {
+        OptionalLong estimated = countMode == CountMode.ESTIMATE ? estimate.get() : OptionalLong.empty();
+        if (countMode == CountMode.NONE || estimated.isPresent()) {
+            List<D> fetched = rows.load(pageable.getOffset(), pageable.getPageSize() + 1);
+            boolean hasNext = fetched.size() > pageable.getPageSize();
+            List<D> content = hasNext ? fetched.subList(0, pageable.getPageSize()) : fetched;
+            if (estimated.isEmpty()) {
+                return new SliceImpl<>(content, pageable, hasNext);
+            }
+            long seen = pageable.getOffset() + content.size() + (hasNext ? 1 : 0);
+            return new PageImpl<>(content, pageable, Math.max(estimated.getAsLong(), seen));
+        }
+        // PageableExecutionUtils pula o COUNT quando a propria pagina ja determina o total.
+        return PageableExecutionUtils.getPage(rows.load(pageable.getOffset(), pageable.getPageSize()), pageable, count);
+    }
+
+    /**
+     * Verdadeiro quando nenhum filtro foi informado; so nesse caso a estimativa da tabela inteira vale para a busca.
+     */
+    static boolean unfiltered(Object... filters) {
+        for (Object filter : filters) {
+            if (filter instanceof String text ? !text.isBlank() : filter != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <E, D> Slice<D> slice(
+        JpaSpecificationExecutor<E> repository,
+        Specification<E> spec,
+        Pageable pageable,
+        Function<E, D> mapper
+    ) {
+        Window<E> window = repository.findBy(spec, query -> query
+            .sortBy(pageable.getSort())
+            .limit(pageable.getPageSize())
+            .scroll(position(pageable)));
+
+        List<D> content = window.getContent().stream().map(mapper).toList();
+        return new SliceImpl<>(content, pageable, window.hasNext());
+    }
+
+    @FunctionalInterface
+    interface RowLoader<D> {
+        List<D> load(long offset, int limit);
+    }
+
+    /**
+     * {@code ScrollPosition.offset(n)} continua apos a linha {@code n} (retorna a partir de {@code n + 1}).
+     */
+    private static ScrollPosition position(Pageable pageable) {
+        long offset = pageable.getOffset();
+        return offset == 0 ? ScrollPosition.offset() : ScrollPosition.offset(offset - 1);
+    }
+}
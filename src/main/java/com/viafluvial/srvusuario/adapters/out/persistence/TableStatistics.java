@@ -0,0 +1,44 @@
+package com.viafluvial.srvusuario.adapters.out.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalLong;
+
+/**
+ * Estimativas de linhas mantidas pelo planner do PostgreSQL ({@code pg_class.reltuples}, atualizado por
+ * ANALYZE/autovacuum). Usadas pelo modo {@code count=estimate} no lugar de um COUNT(*) sobre a tabela inteira.
+ * Fora do PostgreSQL, ou em tabela nunca analisada, nao ha estimativa e o chamador volta ao COUNT exato.
+ */
+@Component
+public class TableStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(TableStatistics.class);
+
+    private static final String RELTUPLES_SQL = "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)";
+
+    private final ObjectProvider<JdbcTemplate> jdbcTemplate;
+
+    public TableStatistics(ObjectProvider<JdbcTemplate> jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public OptionalLong estimatedRows(String table) {
+        JdbcTemplate jdbc = jdbcTemplate.getIfAvailable();
+        if (jdbc == null) {
+            return OptionalLong.empty();
+        }
+        try {
+            Long rows = jdbc.queryForObject(RELTUPLES_SQL, Long.class, table);
+            // reltuples = -1 (PostgreSQL 14+) quando a tabela ainda nao foi analisada.
+            return rows == null || rows < 0 ? OptionalLong.empty() : OptionalLong.of(rows);
+        } catch (DataAccessException e) {
+            log.debug("Estimativa de linhas indisponivel para {}: {}", table, e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.viafluvial.srvusuario.adapters.out.persistence;
+
+import com.viafluvial.srvusuario.adapters.out.persistence.repository.AgencyRepository;
+import com.viafluvial.srvusuario.adapters.out.persistence.repository.BoatmanRepository;
+import com.viafluvial.srvusuario.adapters.out.persistence.repository.PassengerRepository;
+import com.viafluvial.srvusuario.adapters.out.persistence.repository.UserRepository;
+import com.viafluvial.srvusuario.infrastructure.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filters das chaves unicas (email, CPF, CNPJ) usados nas checagens de existencia.
+ * Um "nao" do filtro e definitivo e dispensa a consulta; "talvez" cai na busca indexada.
+ * Os filtros sao construidos apos o startup por varredura em streaming, recebem as chaves
+ * de cada save e sao reconstruidos quando as remocoes acumuladas passam do limite
+ * (Bloom filter nao remove elementos). Enquanto nao ficam prontos, toda checagem vai ao banco.
+ * Insercoes de outras instancias chegam pelo pg_notify: enquanto o LISTEN esta caido os filtros sao descartados
+ * (o "nao" deixaria de ser definitivo) e, na reconexao, reconstruidos. Uma reconstrucao periodica
+ * ({@code app.bloom.rebuild-interval}) limita o efeito de qualquer notificacao perdida sem queda detectada.
+ */
+@Component
+public class UniqueKeyFilters {
+
+    private static final Logger log = LoggerFactory.getLogger(UniqueKeyFilters.class);
+
+    public enum KeySpace {
+        USER_EMAIL("users.email"),
+        PASSENGER_CPF("passengers.cpf"),
+        BOATMAN_CPF("boatmen.cpf"),
+        BOATMAN_CNPJ("boatmen.cnpj"),
+        AGENCY_CNPJ("agencies.cnpj");
+
+        private final String tag;
+
+        KeySpace(String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+    }
+
+    private final Map<KeySpace, Slot> slots = new EnumMap<>(KeySpace.class);
+    private final Map<KeySpace, Supplier<Stream<String>>> sources = new EnumMap<>(KeySpace.class);
+    private final Map<KeySpace, Supplier<Long>> counts = new EnumMap<>(KeySpace.class);
+    private final TransactionTemplate readOnlyTransaction;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "unique-key-filters");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final boolean enabled;
+    private final long minimumCapacity;
+    private final double falsePositiveRate;
+    private final double rebuildDeletionRatio;
+    private final Duration rebuildInterval;
+    // Incrementada a cada queda do LISTEN: uma reconstrucao iniciada antes nao pode publicar o seu filtro.
+    private final AtomicLong notificationEpoch = new AtomicLong();
+    private volatile boolean notificationsDown;
+
+    public UniqueKeyFilters(
+        UserRepository userRepository,
+        PassengerRepository passengerRepository,
+        BoatmanRepository boatmanRepository,
+        AgencyRepository agencyRepository,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${app.bloom.enabled:true}") boolean enabled,
+        @Value("${app.bloom.minimum-capacity:100000}") long minimumCapacity,
+        @Value("${app.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+        @Value("${app.bloom.rebuild-deletion-ratio:0.1}") double rebuildDeletionRatio,
+        @Value("${app.bloom.rebuild-interval:6h}") Duration rebuildInterval
+    ) {
+        this.enabled = enabled;
+        this.minimumCapacity = minimumCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildDeletionRatio = rebuildDeletionRatio;
+        this.rebuildInterval = rebuildInterval;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        sources.put(KeySpace.USER_EMAIL, userRepository::streamAllEmails);
+        sources.put(KeySpace.PASSENGER_CPF, passengerRepository::streamAllCpfs);
+        sources.put(KeySpace.BOATMAN_CPF, boatmanRepository::streamAllCpfs);
+        sources.put(KeySpace.BOATMAN_CNPJ, boatmanRepository::streamAllCnpjs);
+        sources.put(KeySpace.AGENCY_CNPJ, agencyRepository::streamAllCnpjs);
+        counts.put(KeySpace.USER_EMAIL, userRepository::count);
+        counts.put(KeySpace.PASSENGER_CPF, passengerRepository::count);
+        counts.put(KeySpace.BOATMAN_CPF, boatmanRepository::count);
+        counts.put(KeySpace.BOATMAN_CNPJ, boatmanRepository::count);
+        counts.put(KeySpace.AGENCY_CNPJ, agencyRepository::count);
+
+        for (KeySpace space : KeySpace.values()) {
+            slots.put(space, new Slot(space, meterRegistry));
+        }
+    }
+
+    /**
+     * Checagem de existencia com o filtro na frente da consulta.
+     */
+    public boolean exists(KeySpace space, String value, Predicate<String> query) {
+        Slot slot = slots.get(space);
+        BloomFilter filter = slot.current;
+        if (!enabled || filter == null || value == null) {
+            return query.test(value);
+        }
+        if (!filter.mightContain(value)) {
+            slot.negative.increment();
+            return false;
+        }
+        boolean exists = query.test(value);
+        (exists ? slot.positive : slot.falsePositive).increment();
+        return exists;
+    }
+
+    /**
+     * Registra uma chave gravada (insercao ou alteracao).
+     */
+    public void put(KeySpace space, String value) {
+        if (value == null) {
+            return;
+        }
+        Slot slot = slots.get(space);
+        BloomFilter building = slot.building;
+        if (building != null) {
+            building.put(value);
+        }
+        BloomFilter current = slot.current;
+        if (current != null) {
+            current.put(value);
+        }
+    }
+
+    /**
+     * Registra remocoes; acima do limite de remocoes o filtro e reconstruido em background.
+     */
+    public void recordDeletion(KeySpace... spaces) {
+        for (KeySpace space : spaces) {
+            Slot slot = slots.get(space);
+            long deletions = slot.deletions.incrementAndGet();
+            if (enabled && slot.current != null && deletions > slot.loaded * rebuildDeletionRatio) {
+                rebuildAsync(space);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            log.info("Bloom filters de chaves unicas desabilitados");
+            return;
+        }
+        for (KeySpace space : KeySpace.values()) {
+            rebuildAsync(space);
+        }
+        if (rebuildInterval != null && !rebuildInterval.isZero() && !rebuildInterval.isNegative()) {
+            long period = rebuildInterval.toMillis();
+            executor.scheduleAtFixedRate(() -> {
+                for (KeySpace space : KeySpace.values()) {
+                    rebuildAsync(space);
+                }
+            }, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * O LISTEN caiu: descarta os filtros ate a reconexao, e as checagens vao ao banco.
+     */
+    public void notificationsLost() {
+        notificationEpoch.incrementAndGet();
+        notificationsDown = true;
+        for (Slot slot : slots.values()) {
+            slot.current = null;
+        }
+    }
+
+    /**
+     * O LISTEN voltou; se houve queda, reconstroi todos os filtros a partir do banco.
+     */
+    public void notificationsResumed() {
+        if (!notificationsDown) {
+            return;
+        }
+        notificationsDown = false;
+        if (!enabled) {
+            return;
+        }
+        log.info("Notificacoes restabelecidas; reconstruindo Bloom filters");
+        for (KeySpace space : KeySpace.values()) {
+            rebuildAsync(space);
+        }
+    }
+
+    public void rebuildAsync(KeySpace space) {
+        Slot slot = slots.get(space);
+        if (slot.rebuilding.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                try {
+                    rebuild(space);
+                } catch (RuntimeException e) {
+                    log.warn("Falha ao construir Bloom filter: keyspace={}", space.getTag(), e);
+                } finally {
+                    slot.rebuilding.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Reconstroi o filtro a partir de uma varredura em streaming; saves concorrentes entram nos dois filtros.
+     */
+    void rebuild(KeySpace space) {
+        Slot slot = slots.get(space);
+        slot.rebuildTimer.record(() -> {
+            long rows = counts.get(space).get();
+            BloomFilter filter = BloomFilter.create(Math.max(minimumCapacity, rows * 2), falsePositiveRate);
+            slot.building = filter;
+            long deletionsBefore = slot.deletions.get();
+            long epoch = notificationEpoch.get();
+
+            Long loaded = readOnlyTransaction.execute(status -> {
+                try (Stream<String> values = sources.get(space).get()) {
+                    long total = 0;
+                    for (String value : (Iterable<String>) values::iterator) {
+                        filter.put(value);
+                        total++;
+                    }
+                    return total;
+                }
+            });
+
+            slot.building = null;
+            if (notificationsDown || epoch != notificationEpoch.get()) {
+                log.info("Bloom filter descartado: notificacoes interrompidas durante a construcao, keyspace={}",
+                    space.getTag());
+                return;
+            }
+            slot.loaded = loaded != null ? loaded : 0;
+            slot.deletions.addAndGet(-deletionsBefore);
+            slot.current = filter;
+            log.info("Bloom filter construido: keyspace={}, chaves={}, bits={}, hashes={}",
+                space.getTag(), slot.loaded, filter.bitSize(), filter.hashFunctions());
+        });
+    }
+
+    boolean isReady(KeySpace space) {
+        return slots.get(space).current != null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static final class Slot {
+        private volatile BloomFilter current;
+        private volatile BloomFilter building;
+        private volatile long loaded;
+        private final AtomicLong deletions = new AtomicLong();
+        private final AtomicBoolean rebuilding = new AtomicBoolean();
+        private final Counter negative;
+        private final Counter positive;
+        private final Counter falsePositive;
+        private final Timer rebuildTimer;
+
+        private Slot(KeySpace space, MeterRegistry registry) {
+            String tag = space.getTag();
+            negative = checks(registry, tag, "negative");
+            positive = checks(registry, tag, "positive");
+            falsePositive = checks(registry, tag, "false_positive");
+            rebuildTimer = Timer.builder("bloom.filter.rebuild")
+                .description("Tempo de reconstrucao do Bloom filter por varredura")
+                .tag("keyspace", tag)
+                .register(registry);
+            Gauge.builder("bloom.filter.expected.false.positive.rate", this,
+                    slot -> slot.current != null ? slot.current.expectedFalsePositiveRate() : Double.NaN)
+                .description("Taxa de falso positivo esperada pela ocupacao atual do filtro")
+                .tag("keyspace", tag)
+                .register(registry);
+            Gauge.builder("bloom.filter.false.positive.rate", this, Slot::observedFalsePositiveRate)
+                .description("Falsos positivos / checagens de chaves inexistentes")
+                .tag("keyspace", tag)
+                .register(registry);
+        }
+
+        private double observedFalsePositiveRate() {
+            double falsePositives = falsePositive.count();
+            double absent = falsePositives + negative.count();
+            return absent == 0 ? 0.0 : falsePositives / absent;
+        }
+
+        private static Counter checks(MeterRegistry registry, String tag, String result) {
+            return Counter.builder("bloom.filter.checks")
+                .description("Checagens de existencia pelo Bloom filter")
+                .tag("keyspace", tag)
+                .tag("result", result)
+                .register(registry);
+        }
+    }
+}
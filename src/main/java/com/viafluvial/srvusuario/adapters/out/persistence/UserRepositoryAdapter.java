@@ -1,42 +1,186 @@
 package com.viafluvial.srvusuario.adapters.out.persistence;
 
+import com.viafluvial.srvusuario.adapters.out.persistence.repository.UserRepository;
+import com.viafluvial.srvusuario.adapters.out.persistence.repository.projection.UserView;
+import com.viafluvial.srvusuario.adapters.out.persistence.repository.spec.UserSpecifications;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.MergePatch;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
+import com.viafluvial.srvusuario.application.dto.Registration;
+import com.viafluvial.srvusuario.application.dto.UserDTO;
 import com.viafluvial.srvusuario.application.port.out.UserRepositoryPort;
 import com.viafluvial.srvusuario.domain.model.User;
+import com.viafluvial.srvusuario.domain.model.UserPreference;
 import com.viafluvial.srvusuario.domain.model.UserStatus;
 import com.viafluvial.srvusuario.domain.model.UserType;
-import com.viafluvial.srvusuario.adapters.out.persistence.repository.spec.UserSpecifications;
-import com.viafluvial.srvusuario.adapters.out.persistence.repository.UserRepository;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Repository
 public class UserRepositoryAdapter implements UserRepositoryPort {
 
+    private static final String TABLE = "users";
+
+    /**
+     * Os dois INSERTs na mesma CTE: ids (uuid_generate_v7), datas, versao e preferencias vem dos DEFAULTs e voltam
+     * no SELECT final. Com email duplicado {@code new_user} fica vazia e nenhuma linha e gravada.
+     */
+    private static final String INSERT_WITH_DEFAULT_PREFERENCES = """
+        WITH new_user AS (
+            INSERT INTO users (user_type, email, password_hash, full_name, phone, status, email_verified)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (email) DO NOTHING
+            RETURNING id, created_at, updated_at, version
+        ), new_preferences AS (
+            INSERT INTO user_preferences (user_id)
+            SELECT id FROM new_user
+            RETURNING id, user_id, email_notifications, sms_notifications, push_notifications,
+                      receive_promotions, receive_trip_updates, language, theme, created_at, updated_at
+        )
+        SELECT u.id AS user_id, u.created_at AS user_created_at, u.updated_at AS user_updated_at, u.version,
+               p.id AS preferences_id, p.email_notifications, p.sms_notifications, p.push_notifications,
+               p.receive_promotions, p.receive_trip_updates, p.language, p.theme, p.created_at, p.updated_at
+        FROM new_user u
+        JOIN new_preferences p ON p.user_id = u.id
+        """;
+
     private final UserRepository userRepository;
+    private final UniqueKeyFilters uniqueKeyFilters;
+    private final TableStatistics tableStatistics;
+    private final ScrollingExport scrollingExport;
+    private final PartialUpdate partialUpdate;
+    private final ConditionalInsert conditionalInsert;
+    private final JdbcTemplate jdbcTemplate;
 
-    public UserRepositoryAdapter(UserRepository userRepository) {
+    public UserRepositoryAdapter(
+        UserRepository userRepository,
+        UniqueKeyFilters uniqueKeyFilters,
+        TableStatistics tableStatistics,
+        ScrollingExport scrollingExport,
+        PartialUpdate partialUpdate,
+        ConditionalInsert conditionalInsert,
+        JdbcTemplate jdbcTemplate
+    ) {
         this.userRepository = userRepository;
+        this.uniqueKeyFilters = uniqueKeyFilters;
+        this.tableStatistics = tableStatistics;
+        this.scrollingExport = scrollingExport;
+        this.partialUpdate = partialUpdate;
+        this.conditionalInsert = conditionalInsert;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
     public User save(User user) {
         com.viafluvial.srvusuario.adapters.out.persistence.entity.User entity = toEntity(user);
         com.viafluvial.srvusuario.adapters.out.persistence.entity.User saved = userRepository.save(entity);
+        uniqueKeyFilters.put(UniqueKeyFilters.KeySpace.USER_EMAIL, saved.getEmail());
         return toDomain(saved);
     }
 
+    @Override
+    public Optional<User> insertIfAbsent(User user) {
+        com.viafluvial.srvusuario.adapters.out.persistence.entity.User entity = toEntity(user);
+        if (!conditionalInsert.insert(entity, "email")) {
+            return Optional.empty();
+        }
+        uniqueKeyFilters.put(UniqueKeyFilters.KeySpace.USER_EMAIL, entity.getEmail());
+        return Optional.of(toDomain(entity));
+    }
+
+    @Override
+    public Optional<Registration> insertWithDefaultPreferences(User user) {
+        com.viafluvial.srvusuario.adapters.out.persistence.entity.User entity = toEntity(user);
+        List<Registration> rows = jdbcTemplate.query(INSERT_WITH_DEFAULT_PREFERENCES,
+            (rs, rowNum) -> toRegistration(user, rs),
+            entity.getUserType() == null ? null : entity.getUserType().name(),
+            entity.getEmail(),
+            entity.getPasswordHash(),
+            entity.getFullName(),
+            entity.getPhone(),
+            entity.getStatus() == null ? null : entity.getStatus().name(),
+            entity.getEmailVerified());
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        uniqueKeyFilters.put(UniqueKeyFilters.KeySpace.USER_EMAIL, entity.getEmail());
+        return Optional.of(rows.get(0));
+    }
+
+    private static Registration toRegistration(User user, ResultSet rs) throws SQLException {
+        UUID userId = rs.getObject("user_id", UUID.class);
+        User created = User.builder()
+            .id(userId)
+            .userType(user.getUserType())
+            .email(user.getEmail())
+            .passwordHash(user.getPasswordHash())
+            .fullName(user.getFullName())
+            .phone(user.getPhone())
+            .status(user.getStatus())
+            .emailVerified(user.getEmailVerified())
+            .createdAt(rs.getObject("user_created_at", LocalDateTime.class))
+            .updatedAt(rs.getObject("user_updated_at", LocalDateTime.class))
+            .version(rs.getLong("version"))
+            .build();
+        UserPreference preferences = UserPreference.builder()
+            .id(rs.getObject("preferences_id", UUID.class))
+            .userId(userId)
+            .emailNotifications(rs.getObject("email_notifications", Boolean.class))
+            .smsNotifications(rs.getObject("sms_notifications", Boolean.class))
+            .pushNotifications(rs.getObject("push_notifications", Boolean.class))
+            .receivePromotions(rs.getObject("receive_promotions", Boolean.class))
+            .receiveTripUpdates(rs.getObject("receive_trip_updates", Boolean.class))
+            .language(rs.getString("language"))
+            .theme(rs.getString("theme"))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+            .build();
+        return new Registration(created, preferences);
+    }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        // IDs UUIDv7 gerados em memoria (UuidV7ValueGenerator): o Hibernate agrupa os INSERTs em hibernate.jdbc.batch_size.
+        List<com.viafluvial.srvusuario.adapters.out.persistence.entity.User> saved =
+            userRepository.saveAll(users.stream().map(this::toEntity).toList());
+        for (com.viafluvial.srvusuario.adapters.out.persistence.entity.User entity : saved) {
+            uniqueKeyFilters.put(UniqueKeyFilters.KeySpace.USER_EMAIL, entity.getEmail());
+        }
+        return saved.stream().map(this::toDomain).toList();
+    }
+
     @Override
     public Optional<User> findById(UUID id) {
         return userRepository.findById(id).map(this::toDomain);
     }
 
+    @Override
+    public List<User> findByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return userRepository.findByIdAny(ids.toArray(UUID[]::new)).stream().map(this::toDomain).toList();
+    }
+
     @Override
     public Optional<User> findByEmail(String email) {
         return userRepository.findByEmail(email).map(this::toDomain);
@@ -53,6 +197,16 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
         return userRepository.findByUserType(entityType).stream().map(this::toDomain).toList();
     }
 
+    @Override
+    public List<UserDTO> findViewsByUserType(UserType userType) {
+        return userRepository.findViewsByUserType(toEntityType(userType)).stream().map(this::toDTO).toList();
+    }
+
+    @Override
+    public List<User> findRecentlyActive(int limit) {
+        return userRepository.findRecentlyActive(PageRequest.of(0, limit)).stream().map(this::toDomain).toList();
+    }
+
     @Override
     public Page<User> search(
         String email,
@@ -62,24 +216,128 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
         LocalDateTime createdFrom,
         LocalDateTime createdTo,
         Pageable pageable
+    ) {
+        Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.User> spec =
+            searchSpec(email, null, userType, status, emailVerified, createdFrom, createdTo);
+
+        return userRepository.findAll(spec, pageable).map(this::toDomain);
+    }
+
+    @Override
+    public Slice<User> search(
+        String email,
+        String name,
+        UserType userType,
+        UserStatus status,
+        Boolean emailVerified,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        Pageable pageable,
+        CountMode countMode
+    ) {
+        Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.User> spec =
+            searchSpec(email, name, userType, status, emailVerified, createdFrom, createdTo);
+        boolean unfiltered = SearchPages.unfiltered(email, name, userType, status, emailVerified, createdFrom, createdTo);
+
+        return SearchPages.fetch(userRepository, spec, pageable, countMode,
+            () -> unfiltered ? tableStatistics.estimatedRows(TABLE) : OptionalLong.empty(), this::toDomain);
+    }
+
+    @Override
+    public Slice<UserDTO> searchViews(
+        String email,
+        String name,
+        UserType userType,
+        UserStatus status,
+        Boolean emailVerified,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        Pageable pageable,
+        CountMode countMode
+    ) {
+        Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.User> spec =
+            searchSpec(email, name, userType, status, emailVerified, createdFrom, createdTo);
+        boolean unfiltered = SearchPages.unfiltered(email, name, userType, status, emailVerified, createdFrom, createdTo);
+
+        return SearchPages.fetch(
+            pageable,
+            countMode,
+            (offset, limit) -> userRepository.findViews(spec, pageable.getSort(), offset, limit).stream()
+                .map(this::toDTO)
+                .toList(),
+            () -> userRepository.count(spec),
+            () -> unfiltered ? tableStatistics.estimatedRows(TABLE) : OptionalLong.empty()
+        );
+    }
+
+    @Override
+    public Slice<User> searchAfter(
+        String email,
+        String name,
+        UserType userType,
+        UserStatus status,
+        Boolean emailVerified,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        PageCursor after,
+        int size
+    ) {
+        Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.User> spec =
+            searchSpec(email, name, userType, status, emailVerified, createdFrom, createdTo)
+                .and(UserSpecifications.seekAfter(KeysetSlices.createdAt(after), KeysetSlices.id(after)));
+
+        return KeysetSlices.fetch(userRepository, spec, size, this::toDomain);
+    }
+
+    @Override
+    public long forEachMatching(
+        String email,
+        String name,
+        UserType userType,
+        UserStatus status,
+        Boolean emailVerified,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        Consumer<User> action
+    ) {
+        return scrollingExport.forEach(com.viafluvial.srvusuario.adapters.out.persistence.entity.User.class,
+            searchSpec(email, name, userType, status, emailVerified, createdFrom, createdTo),
+            entity -> action.accept(toDomain(entity)));
+    }
+
+    private Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.User> searchSpec(
+        String email,
+        String name,
+        UserType userType,
+        UserStatus status,
+        Boolean emailVerified,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo
     ) {
         com.viafluvial.srvusuario.adapters.out.persistence.entity.User.UserType entityType = toEntityType(userType);
         com.viafluvial.srvusuario.adapters.out.persistence.entity.User.UserStatus entityStatus = toEntityStatus(status);
 
-        Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.User> spec = Specification
+        return Specification
             .where(UserSpecifications.emailContainsIgnoreCase(email))
+            .and(UserSpecifications.fullNameContainsIgnoreCase(name))
             .and(UserSpecifications.hasUserType(entityType))
             .and(UserSpecifications.hasStatus(entityStatus))
             .and(UserSpecifications.hasEmailVerified(emailVerified))
             .and(UserSpecifications.createdFrom(createdFrom))
             .and(UserSpecifications.createdTo(createdTo));
-
-        return userRepository.findAll(spec, pageable).map(this::toDomain);
     }
 
     @Override
     public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+        return uniqueKeyFilters.exists(UniqueKeyFilters.KeySpace.USER_EMAIL, email, userRepository::existsByEmail);
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(userRepository.findExistingEmails(emails));
     }
 
     @Override
@@ -87,9 +345,30 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
         return userRepository.existsById(id);
     }
 
+    @Override
+    public boolean touchLastLogin(UUID id, LocalDateTime lastLogin) {
+        return userRepository.touchLastLogin(id, lastLogin) > 0;
+    }
+
+    @Override
+    public boolean patch(UUID id, MergePatch patch, Long expectedVersion) {
+        Map<String, Object> changes = new LinkedHashMap<>(patch.changes());
+        changes.computeIfPresent("userType", (name, type) -> toEntityType((UserType) type));
+        changes.computeIfPresent("status", (name, status) -> toEntityStatus((UserStatus) status));
+
+        boolean updated = partialUpdate.apply(
+            com.viafluvial.srvusuario.adapters.out.persistence.entity.User.class, id, changes, expectedVersion);
+        if (updated && patch.contains("email")) {
+            uniqueKeyFilters.put(UniqueKeyFilters.KeySpace.USER_EMAIL, (String) patch.get("email"));
+        }
+        return updated;
+    }
+
     @Override
     public void deleteById(UUID id) {
         userRepository.deleteById(id);
+        // ON DELETE CASCADE remove tambem os perfis do usuario.
+        uniqueKeyFilters.recordDeletion(UniqueKeyFilters.KeySpace.values());
     }
 
     private com.viafluvial.srvusuario.adapters.out.persistence.entity.User toEntity(User user) {
@@ -129,6 +408,22 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
             .createdAt(entity.getCreatedAt())
             .updatedAt(entity.getUpdatedAt())
             .lastLogin(entity.getLastLogin())
+            .version(entity.getVersion())
+            .build();
+    }
+
+    private UserDTO toDTO(UserView view) {
+        return UserDTO.builder()
+            .id(view.getId())
+            .userType(toDomainType(view.getUserType()))
+            .email(view.getEmail())
+            .fullName(view.getFullName())
+            .phone(view.getPhone())
+            .status(toDomainStatus(view.getStatus()))
+            .emailVerified(view.getEmailVerified())
+            .createdAt(view.getCreatedAt())
+            .updatedAt(view.getUpdatedAt())
+            .lastLogin(view.getLastLogin())
             .build();
     }
 
@@ -1,7 +1,9 @@
 package com.viafluvial.srvusuario.adapters.out.persistence.entity;
 
 import com.viafluvial.srvusuario.adapters.out.persistence.entity.converter.AdminRoleConverter;
+import com.viafluvial.srvusuario.adapters.out.persistence.id.UuidV7ValueGenerator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.UuidGenerator;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -13,7 +15,7 @@ import java.util.UUID;
 public class Admin {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7ValueGenerator.class)
     private UUID id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -1,11 +1,16 @@
 package com.viafluvial.srvusuario.adapters.out.persistence.entity;
 
+import com.viafluvial.srvusuario.adapters.out.persistence.id.UuidV7ValueGenerator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UuidGenerator;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
 @Table(name = "agencies", indexes = {
     @Index(name = "idx_agencies_user_id", columnList = "user_id"),
     @Index(name = "idx_agencies_cnpj", columnList = "cnpj"),
@@ -15,7 +20,7 @@ import java.util.UUID;
 public class Agency {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7ValueGenerator.class)
     private UUID id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -94,6 +99,11 @@ public class Agency {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    /** Incrementada pelo trigger de UPDATE (V37); somente leitura para o JPA. */
+    @ColumnDefault("0")
+    @Column(name = "version", insertable = false, updatable = false)
+    private Long version;
+
     public Agency() {
     }
 
@@ -305,6 +315,10 @@ public class Agency {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public static AgencyBuilder builder() {
         return new AgencyBuilder();
     }
@@ -1,13 +1,18 @@
 package com.viafluvial.srvusuario.adapters.out.persistence.entity;
 
 import com.viafluvial.srvusuario.adapters.out.persistence.entity.converter.CabinTypeConverter;
+import com.viafluvial.srvusuario.adapters.out.persistence.id.UuidV7ValueGenerator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UuidGenerator;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
 @Table(name = "passengers", indexes = {
     @Index(name = "idx_passengers_user_id", columnList = "user_id"),
     @Index(name = "idx_passengers_cpf", columnList = "cpf"),
@@ -16,7 +21,7 @@ import java.util.UUID;
 public class Passenger {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7ValueGenerator.class)
     private UUID id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -60,6 +65,11 @@ public class Passenger {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    /** Incrementada pelo trigger de UPDATE (V37); somente leitura para o JPA. */
+    @ColumnDefault("0")
+    @Column(name = "version", insertable = false, updatable = false)
+    private Long version;
+
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
 
@@ -102,6 +112,8 @@ public class Passenger {
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
 
+    public Long getVersion() { return version; }
+
     public static PassengerBuilder builder() {
         return new PassengerBuilder();
     }
@@ -2,11 +2,16 @@ package com.viafluvial.srvusuario.adapters.out.persistence.entity;
 
 import com.viafluvial.srvusuario.adapters.out.persistence.entity.converter.UserStatusConverter;
 import com.viafluvial.srvusuario.adapters.out.persistence.entity.converter.UserTypeConverter;
+import com.viafluvial.srvusuario.adapters.out.persistence.id.UuidV7ValueGenerator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UuidGenerator;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
 @Table(name = "users", indexes = {
     @Index(name = "idx_users_email", columnList = "email"),
     @Index(name = "idx_users_user_type", columnList = "user_type"),
@@ -16,7 +21,7 @@ import java.util.UUID;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7ValueGenerator.class)
     private UUID id;
 
     @Column(nullable = false, length = 20)
@@ -51,6 +56,11 @@ public class User {
     @Column(name = "last_login")
     private LocalDateTime lastLogin;
 
+    /** Incrementada pelo trigger de UPDATE (V37); somente leitura para o JPA. */
+    @ColumnDefault("0")
+    @Column(name = "version", insertable = false, updatable = false)
+    private Long version;
+
     public User() {
     }
 
@@ -158,6 +168,10 @@ public class User {
         this.lastLogin = lastLogin;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,7 +1,9 @@
 package com.viafluvial.srvusuario.adapters.out.persistence.entity;
 
 import com.viafluvial.srvusuario.adapters.out.persistence.entity.converter.DeviceTypeConverter;
+import com.viafluvial.srvusuario.adapters.out.persistence.id.UuidV7ValueGenerator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.UuidGenerator;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -14,7 +16,7 @@ import java.util.UUID;
 public class UserSession {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7ValueGenerator.class)
     private UUID id;
 
     @Column(name = "user_id", nullable = false)
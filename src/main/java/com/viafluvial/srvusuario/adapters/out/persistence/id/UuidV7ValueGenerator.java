@@ -0,0 +1,19 @@
+package com.viafluvial.srvusuario.adapters.out.persistence.id;
+
+import com.viafluvial.srvusuario.common.id.UuidV7;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.util.UUID;
+
+/**
+ * Algoritmo de {@code @UuidGenerator} das entidades: ids UUIDv7, gerados em memoria como antes
+ * (mantem o batching de INSERTs), mas ordenados por tempo.
+ */
+public class UuidV7ValueGenerator implements UuidValueGenerator {
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return UuidV7.generate();
+    }
+}
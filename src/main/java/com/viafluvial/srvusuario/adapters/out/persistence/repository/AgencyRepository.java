@@ -3,16 +3,33 @@ package com.viafluvial.srvusuario.adapters.out.persistence.repository;
 import com.viafluvial.srvusuario.adapters.out.persistence.entity.Agency;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface AgencyRepository extends JpaRepository<Agency, UUID>, JpaSpecificationExecutor<Agency> {
 
     Optional<Agency> findByUserId(UUID userId);
 
+    /**
+     * Agencias de varios usuarios numa consulta ({@code user_id = ANY(?)}).
+     */
+    @Query(value = "SELECT * FROM agencies WHERE user_id = ANY(:userIds)", nativeQuery = true)
+    List<Agency> findByUserIdAny(@Param("userIds") UUID[] userIds);
+
     Optional<Agency> findByCnpj(String cnpj);
 
     boolean existsByCnpj(String cnpj);
+
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT a.cnpj FROM Agency a")
+    Stream<String> streamAllCnpjs();
 }
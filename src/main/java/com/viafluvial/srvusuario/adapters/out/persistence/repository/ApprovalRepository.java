@@ -2,6 +2,7 @@ package com.viafluvial.srvusuario.adapters.out.persistence.repository;
 
 import com.viafluvial.srvusuario.adapters.out.persistence.entity.Approval;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import org.springframework.data.domain.Page;
@@ -11,7 +12,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface ApprovalRepository extends JpaRepository<Approval, UUID> {
+public interface ApprovalRepository extends JpaRepository<Approval, UUID>, JpaSpecificationExecutor<Approval> {
 
     List<Approval> findByStatus(Approval.ApprovalStatus status);
 
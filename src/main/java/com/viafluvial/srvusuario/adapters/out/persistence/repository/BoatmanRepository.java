@@ -3,15 +3,28 @@ package com.viafluvial.srvusuario.adapters.out.persistence.repository;
 import com.viafluvial.srvusuario.adapters.out.persistence.entity.Boatman;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface BoatmanRepository extends JpaRepository<Boatman, UUID>, JpaSpecificationExecutor<Boatman> {
 
     Optional<Boatman> findByUserId(UUID userId);
 
+    /**
+     * Barqueiros de varios usuarios de uma vez, mesmo formato de {@link PassengerRepository#findByUserIdAny}.
+     */
+    @Query(value = "SELECT * FROM boatmen WHERE user_id = ANY(:userIds)", nativeQuery = true)
+    List<Boatman> findByUserIdAny(@Param("userIds") UUID[] userIds);
+
     Optional<Boatman> findByCpf(String cpf);
 
     Optional<Boatman> findByCnpj(String cnpj);
@@ -19,4 +32,12 @@ public interface BoatmanRepository extends JpaRepository<Boatman, UUID>, JpaSpec
     boolean existsByCpf(String cpf);
 
     boolean existsByCnpj(String cnpj);
+
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT b.cpf FROM Boatman b")
+    Stream<String> streamAllCpfs();
+
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT b.cnpj FROM Boatman b")
+    Stream<String> streamAllCnpjs();
 }
@@ -3,16 +3,34 @@ package com.viafluvial.srvusuario.adapters.out.persistence.repository;
 import com.viafluvial.srvusuario.adapters.out.persistence.entity.Passenger;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface PassengerRepository extends JpaRepository<Passenger, UUID>, JpaSpecificationExecutor<Passenger> {
 
     Optional<Passenger> findByUserId(UUID userId);
 
+    /**
+     * {@code user_id = ANY(?)} com um unico parametro array: o texto do SQL nao muda com a quantidade de ids
+     * (um so plano preparado), ao contrario de um {@code IN (?, ?, ...)}.
+     */
+    @Query(value = "SELECT * FROM passengers WHERE user_id = ANY(:userIds)", nativeQuery = true)
+    List<Passenger> findByUserIdAny(@Param("userIds") UUID[] userIds);
+
     Optional<Passenger> findByCpf(String cpf);
 
     boolean existsByCpf(String cpf);
+
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.cpf FROM Passenger p")
+    Stream<String> streamAllCpfs();
 }
@@ -1,29 +1,67 @@
 package com.viafluvial.srvusuario.adapters.out.persistence.repository;
 
 import com.viafluvial.srvusuario.adapters.out.persistence.entity.User;
+import com.viafluvial.srvusuario.adapters.out.persistence.repository.projection.UserView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User> {
+public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User>, UserViewRepository {
 
     @QueryHints(@QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
 
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Multi-get por id com um unico parametro array ({@code id = ANY(?)}), qualquer que seja o tamanho do lote.
+     */
+    @Query(value = "SELECT * FROM users WHERE id = ANY(:ids)", nativeQuery = true)
+    List<User> findByIdAny(@Param("ids") UUID[] ids);
+
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
+
     @Query("SELECT u FROM User u WHERE u.userType = :userType")
     @QueryHints(@QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_CACHEABLE, value = "true"))
     List<User> findByUserType(User.UserType userType);
 
+    @Query("SELECT new com.viafluvial.srvusuario.adapters.out.persistence.repository.projection.UserView("
+        + "u.id, u.userType, u.email, u.fullName, u.phone, u.status, u.emailVerified, u.createdAt, u.updatedAt, u.lastLogin) "
+        + "FROM User u WHERE u.userType = :userType")
+    List<UserView> findViewsByUserType(User.UserType userType);
+
+    /**
+     * Usuarios com login mais recente, para o aquecimento do cache; a ordem segue o indice da V38.
+     */
+    @Query("SELECT u FROM User u ORDER BY u.lastLogin DESC NULLS LAST, u.updatedAt DESC")
+    List<User> findRecentlyActive(Pageable pageable);
+
+    /**
+     * {@code UPDATE users SET last_login = ? WHERE id = ?}; o trigger da V13 cuida de {@code updated_at}.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.lastLogin = :lastLogin WHERE u.id = :id")
+    int touchLastLogin(@Param("id") UUID id, @Param("lastLogin") LocalDateTime lastLogin);
+
     List<User> findByStatus(User.UserStatus status);
 
     List<User> findByUserTypeAndStatus(User.UserType userType, User.UserStatus status);
@@ -0,0 +1,18 @@
+package com.viafluvial.srvusuario.adapters.out.persistence.repository;
+
+import com.viafluvial.srvusuario.adapters.out.persistence.entity.User;
+import com.viafluvial.srvusuario.adapters.out.persistence.repository.projection.UserView;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Fragmento do {@link UserRepository} para buscas por {@link Specification} projetadas em {@link UserView}.
+ * O {@code JpaSpecificationExecutor} sempre seleciona a entidade inteira; aqui a Specification e aplicada
+ * a uma {@code CriteriaQuery<UserView>} com constructor expression.
+ */
+public interface UserViewRepository {
+
+    List<UserView> findViews(Specification<User> spec, Sort sort, long offset, int limit);
+}
@@ -0,0 +1,47 @@
+package com.viafluvial.srvusuario.adapters.out.persistence.repository;
+
+import com.viafluvial.srvusuario.adapters.out.persistence.entity.User;
+import com.viafluvial.srvusuario.adapters.out.persistence.repository.projection.UserView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+class UserViewRepositoryImpl implements UserViewRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserView> findViews(Specification<User> spec, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserView> query = cb.createQuery(UserView.class);
+        Root<User> root = query.from(User.class);
+
+        Selection<?>[] columns = Arrays.stream(UserView.COLUMNS).map(root::get).toArray(Selection[]::new);
+        query.select(cb.construct(UserView.class, columns));
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(toOrders(sort, root, cb));
+        }
+
+        return entityManager.createQuery(query)
+            .setFirstResult(Math.toIntExact(offset))
+            .setMaxResults(limit)
+            .getResultList();
+    }
+}
@@ -0,0 +1,86 @@
+package com.viafluvial.srvusuario.adapters.out.persistence.repository.projection;
+
+import com.viafluvial.srvusuario.adapters.out.persistence.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projecao de leitura de {@link User} preenchida direto pela query (constructor expression):
+ * nao passa pelo persistence context e nao carrega {@code password_hash}.
+ */
+public class UserView {
+
+    /**
+     * Colunas selecionadas, na ordem do construtor.
+     */
+    public static final String[] COLUMNS = {
+        "id", "userType", "email", "fullName", "phone", "status", "emailVerified", "createdAt", "updatedAt", "lastLogin"
+    };
+
+    private final UUID id;
+    private final User.UserType userType;
+    private final String email;
+    private final String fullName;
+    private final String phone;
+    private final User.UserStatus status;
+    private final Boolean emailVerified;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final LocalDateTime lastLogin;
+
+    public UserView(UUID id, User.UserType userType, String email, String fullName, String phone,
+                    User.UserStatus status, Boolean emailVerified, LocalDateTime createdAt,
+                    LocalDateTime updatedAt, LocalDateTime lastLogin) {
+        this.id = id;
+        this.userType = userType;
+        this.email = email;
+        this.fullName = fullName;
+        this.phone = phone;
+        this.status = status;
+        this.emailVerified = emailVerified;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.lastLogin = lastLogin;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public User.UserType getUserType() {
+        return userType;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public User.UserStatus getStatus() {
+        return status;
+    }
+
+    public Boolean getEmailVerified() {
+        return emailVerified;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public LocalDateTime getLastLogin() {
+        return lastLogin;
+    }
+}
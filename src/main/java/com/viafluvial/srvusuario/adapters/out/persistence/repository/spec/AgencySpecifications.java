@@ -4,6 +4,7 @@ import com.viafluvial.srvusuario.adapters.out.persistence.entity.Agency;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 public final class AgencySpecifications {
 
@@ -26,4 +27,11 @@ public final class AgencySpecifications {
     public static Specification<Agency> createdTo(LocalDateTime createdTo) {
         return (root, query, cb) -> createdTo == null ? cb.conjunction() : cb.lessThanOrEqualTo(root.get("createdAt"), createdTo);
     }
+
+    /**
+     * Seek do modo cursor: registros depois de {@code (createdAt, id)} na ordem {@link KeysetSpecifications#SORT}.
+     */
+    public static Specification<Agency> seekAfter(LocalDateTime createdAt, UUID id) {
+        return KeysetSpecifications.seekAfter(createdAt, id);
+    }
 }
@@ -0,0 +1,24 @@
+package com.viafluvial.srvusuario.adapters.out.persistence.repository.spec;
+
+import com.viafluvial.srvusuario.adapters.out.persistence.entity.Approval;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public final class ApprovalSpecifications {
+
+    private ApprovalSpecifications() {
+    }
+
+    public static Specification<Approval> hasStatus(Approval.ApprovalStatus status) {
+        return (root, query, cb) -> status == null ? cb.conjunction() : cb.equal(root.get("status"), status);
+    }
+
+    /**
+     * Seek do modo cursor: registros depois de {@code (createdAt, id)} na ordem {@link KeysetSpecifications#SORT}.
+     */
+    public static Specification<Approval> seekAfter(LocalDateTime createdAt, UUID id) {
+        return KeysetSpecifications.seekAfter(createdAt, id);
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 public final class BoatmanSpecifications {
 
@@ -48,4 +49,11 @@ public final class BoatmanSpecifications {
     public static Specification<Boatman> createdTo(LocalDateTime createdTo) {
         return (root, query, cb) -> createdTo == null ? cb.conjunction() : cb.lessThanOrEqualTo(root.get("createdAt"), createdTo);
     }
+
+    /**
+     * Seek do modo cursor: registros depois de {@code (createdAt, id)} na ordem {@link KeysetSpecifications#SORT}.
+     */
+    public static Specification<Boatman> seekAfter(LocalDateTime createdAt, UUID id) {
+        return KeysetSpecifications.seekAfter(createdAt, id);
+    }
 }
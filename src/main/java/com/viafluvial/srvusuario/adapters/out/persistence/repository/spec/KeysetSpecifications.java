@@ -0,0 +1,41 @@
+package com.viafluvial.srvusuario.adapters.out.persistence.repository.spec;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Predicado de seek comum as buscas em modo cursor, sobre os indices {@code (created_at DESC, id DESC)} da V33.
+ */
+public final class KeysetSpecifications {
+
+    /**
+     * Ordem estavel das buscas em modo cursor; o {@code id} desempata registros com o mesmo {@code created_at}.
+     */
+    public static final Sort SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private KeysetSpecifications() {
+    }
+
+    /**
+     * {@code created_at <= :createdAt AND (created_at < :createdAt OR id < :id)}.
+     * O primeiro termo e redundante, mas e o que permite ao Postgres iniciar o index scan
+     * na posicao do cursor em vez de filtrar todas as linhas mais recentes.
+     */
+    static <T> Specification<T> seekAfter(LocalDateTime createdAt, UUID id) {
+        return (root, query, cb) -> {
+            if (createdAt == null || id == null) {
+                return cb.conjunction();
+            }
+            return cb.and(
+                cb.lessThanOrEqualTo(root.get("createdAt"), createdAt),
+                cb.or(
+                    cb.lessThan(root.get("createdAt"), createdAt),
+                    cb.lessThan(root.<UUID>get("id"), id)
+                )
+            );
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.viafluvial.srvusuario.adapters.out.persistence.repository.spec;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+import java.util.Locale;
+
+/**
+ * Traduz o filtro textual recebido na API para {@code lower(col) LIKE :pattern ESCAPE '\'}.
+ * Sem {@code *} o valor e buscado como substring ({@code %x%}); com {@code *} ele e um padrao ancorado,
+ * entao {@code joao*} vira {@code joao%} e cai no indice {@code text_pattern_ops} da V34 em vez do GIN trigram.
+ * {@code %}, {@code _} e {@code \} digitados pelo cliente sao escapados e tratados como literais.
+ * A mesma expressao roda no Postgres (indices da V34) e no H2 dos testes, que nao tem pg_trgm.
+ */
+final class LikePatterns {
+
+    static final char ESCAPE = '\\';
+    private static final char WILDCARD = '*';
+
+    private LikePatterns() {
+    }
+
+    static Predicate likeIgnoreCase(CriteriaBuilder cb, Expression<String> column, String value) {
+        String pattern = toPattern(value);
+        if (pattern == null) {
+            return cb.conjunction();
+        }
+        return cb.like(cb.lower(column), pattern, ESCAPE);
+    }
+
+    /**
+     * @return padrao LIKE em minusculas, ou {@code null} quando o filtro esta vazio
+     */
+    static String toPattern(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String term = value.trim().toLowerCase(Locale.ROOT);
+        boolean anchored = term.indexOf(WILDCARD) >= 0;
+
+        StringBuilder pattern = new StringBuilder(term.length() + 2);
+        if (!anchored) {
+            pattern.append('%');
+        }
+        boolean previousWildcard = false;
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (c == WILDCARD) {
+                // "**" equivale a "*"; evita "%%" no padrao.
+                if (!previousWildcard) {
+                    pattern.append('%');
+                }
+                previousWildcard = true;
+                continue;
+            }
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                pattern.append(ESCAPE);
+            }
+            pattern.append(c);
+            previousWildcard = false;
+        }
+        if (!anchored) {
+            pattern.append('%');
+        }
+        return pattern.toString();
+    }
+}
@@ -4,6 +4,7 @@ import com.viafluvial.srvusuario.adapters.out.persistence.entity.Passenger;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 public final class PassengerSpecifications {
 
@@ -26,4 +27,11 @@ public final class PassengerSpecifications {
     public static Specification<Passenger> createdTo(LocalDateTime createdTo) {
         return (root, query, cb) -> createdTo == null ? cb.conjunction() : cb.lessThanOrEqualTo(root.get("createdAt"), createdTo);
     }
+
+    /**
+     * Seek do modo cursor: registros depois de {@code (createdAt, id)} na ordem {@link KeysetSpecifications#SORT}.
+     */
+    public static Specification<Passenger> seekAfter(LocalDateTime createdAt, UUID id) {
+        return KeysetSpecifications.seekAfter(createdAt, id);
+    }
 }
@@ -4,19 +4,25 @@ import com.viafluvial.srvusuario.adapters.out.persistence.entity.User;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 public final class UserSpecifications {
 
     private UserSpecifications() {
     }
 
+    /**
+     * Substring do email, ou padrao ancorado quando o valor contem {@code *}; ver {@link LikePatterns}.
+     */
     public static Specification<User> emailContainsIgnoreCase(String email) {
-        return (root, query, cb) -> {
-            if (email == null || email.isBlank()) {
-                return cb.conjunction();
-            }
-            return cb.like(cb.lower(root.get("email")), "%" + email.trim().toLowerCase() + "%");
-        };
+        return (root, query, cb) -> LikePatterns.likeIgnoreCase(cb, root.get("email"), email);
+    }
+
+    /**
+     * Substring do nome completo, com as mesmas regras de {@link #emailContainsIgnoreCase(String)}.
+     */
+    public static Specification<User> fullNameContainsIgnoreCase(String fullName) {
+        return (root, query, cb) -> LikePatterns.likeIgnoreCase(cb, root.get("fullName"), fullName);
     }
 
     public static Specification<User> hasUserType(User.UserType userType) {
@@ -38,4 +44,11 @@ public final class UserSpecifications {
     public static Specification<User> createdTo(LocalDateTime createdTo) {
         return (root, query, cb) -> createdTo == null ? cb.conjunction() : cb.lessThanOrEqualTo(root.get("createdAt"), createdTo);
     }
+
+    /**
+     * Seek do modo cursor: registros depois de {@code (createdAt, id)} na ordem {@link KeysetSpecifications#SORT}.
+     */
+    public static Specification<User> seekAfter(LocalDateTime createdAt, UUID id) {
+        return KeysetSpecifications.seekAfter(createdAt, id);
+    }
 }
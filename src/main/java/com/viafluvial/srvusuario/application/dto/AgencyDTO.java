@@ -92,6 +92,9 @@ public class AgencyDTO {
     @Schema(description = "Data de atualização")
     private LocalDateTime updatedAt;
 
+    @Schema(description = "Versao da linha (ETag), somente leitura", example = "3")
+    private Long version;
+
     public AgencyDTO() {
     }
 
@@ -337,6 +340,14 @@ public class AgencyDTO {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public static AgencyDTOBuilder builder() {
         return new AgencyDTOBuilder();
     }
@@ -368,6 +379,7 @@ public class AgencyDTO {
         private LocalDateTime approvedAt;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
+        private Long version;
 
         public AgencyDTOBuilder id(UUID id) { this.id = id; return this; }
         public AgencyDTOBuilder userId(UUID userId) { this.userId = userId; return this; }
@@ -395,12 +407,15 @@ public class AgencyDTO {
         public AgencyDTOBuilder approvedAt(LocalDateTime approvedAt) { this.approvedAt = approvedAt; return this; }
         public AgencyDTOBuilder createdAt(LocalDateTime createdAt) { this.createdAt = createdAt; return this; }
         public AgencyDTOBuilder updatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; return this; }
+        public AgencyDTOBuilder version(Long version) { this.version = version; return this; }
 
         public AgencyDTO build() {
-            return new AgencyDTO(id, userId, companyName, cnpj, tradeName, companyEmail, companyPhone, whatsapp,
+            AgencyDTO dto = new AgencyDTO(id, userId, companyName, cnpj, tradeName, companyEmail, companyPhone, whatsapp,
                 address, city, state, zipCode, commissionPercent, documentCnpjUrl, documentContractUrl, totalSales,
                 totalRevenue, totalCommissionPaid, bankName, bankAccount, bankAgency, pixKey, adminNotes, approvedAt,
                 createdAt, updatedAt);
+            dto.setVersion(version);
+            return dto;
         }
     }
 }
@@ -0,0 +1,27 @@
+package com.viafluvial.srvusuario.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado de uma busca por lista de ids: os itens encontrados, na ordem do pedido e sem repeticao,
+ * e os ids que nao existem.
+ */
+public class BatchGetResult<T> {
+
+    private final List<T> items;
+    private final List<UUID> notFound;
+
+    public BatchGetResult(List<T> items, List<UUID> notFound) {
+        this.items = List.copyOf(items);
+        this.notFound = List.copyOf(notFound);
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public List<UUID> getNotFound() {
+        return notFound;
+    }
+}
@@ -0,0 +1,58 @@
+package com.viafluvial.srvusuario.application.dto;
+
+/**
+ * Resultado de um item de uma operacao em lote. {@code index} e a posicao do item no pedido (base 0);
+ * {@code item} so e preenchido quando o item foi processado e {@code error} quando nao foi.
+ */
+public class BatchItemResult<T> {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+
+    private final int index;
+    private final Status status;
+    private final T item;
+    private final String error;
+
+    private BatchItemResult(int index, Status status, T item, String error) {
+        this.index = index;
+        this.status = status;
+        this.item = item;
+        this.error = error;
+    }
+
+    public static <T> BatchItemResult<T> created(int index, T item) {
+        return new BatchItemResult<>(index, Status.CREATED, item, null);
+    }
+
+    public static <T> BatchItemResult<T> duplicate(int index, String error) {
+        return new BatchItemResult<>(index, Status.DUPLICATE, null, error);
+    }
+
+    public static <T> BatchItemResult<T> invalid(int index, String error) {
+        return new BatchItemResult<>(index, Status.INVALID, null, error);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public T getItem() {
+        return item;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isSuccess() {
+        return status == Status.CREATED;
+    }
+}
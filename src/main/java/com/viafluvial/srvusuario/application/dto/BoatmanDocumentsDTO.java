@@ -14,6 +14,9 @@ public class BoatmanDocumentsDTO {
     @Schema(description = "URL do comprovante de endereço", example = "https://.../endereco.pdf")
     private String documentAddressProofUrl;
 
+    @Schema(description = "Versao da linha do barqueiro (ETag), somente leitura", example = "3")
+    private Long version;
+
     public BoatmanDocumentsDTO() {
     }
 
@@ -47,6 +50,14 @@ public class BoatmanDocumentsDTO {
         this.documentAddressProofUrl = documentAddressProofUrl;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public static BoatmanDocumentsDTOBuilder builder() {
         return new BoatmanDocumentsDTOBuilder();
     }
@@ -55,6 +66,7 @@ public class BoatmanDocumentsDTO {
         private String documentCpfUrl;
         private String documentCnpjUrl;
         private String documentAddressProofUrl;
+        private Long version;
 
         public BoatmanDocumentsDTOBuilder documentCpfUrl(String documentCpfUrl) {
             this.documentCpfUrl = documentCpfUrl;
@@ -71,8 +83,15 @@ public class BoatmanDocumentsDTO {
             return this;
         }
 
+        public BoatmanDocumentsDTOBuilder version(Long version) {
+            this.version = version;
+            return this;
+        }
+
         public BoatmanDocumentsDTO build() {
-            return new BoatmanDocumentsDTO(documentCpfUrl, documentCnpjUrl, documentAddressProofUrl);
+            BoatmanDocumentsDTO dto = new BoatmanDocumentsDTO(documentCpfUrl, documentCnpjUrl, documentAddressProofUrl);
+            dto.setVersion(version);
+            return dto;
         }
     }
 }
@@ -0,0 +1,96 @@
+package com.viafluvial.srvusuario.application.dto;
+
+import java.util.List;
+
+/**
+ * Resultado de uma carga em massa. {@code rowsRead} = {@code rowsLoaded} + {@code rowsRejected} + {@code rowsConflicted};
+ * {@code rejections} traz apenas as primeiras linhas rejeitadas (limitado por configuracao).
+ */
+public class BulkLoadReport {
+
+    private final BulkLoadTarget target;
+    private final long rowsRead;
+    private final long rowsLoaded;
+    private final long rowsRejected;
+    private final long rowsConflicted;
+    private final long elapsedMillis;
+    private final List<Rejection> rejections;
+
+    public BulkLoadReport(
+        BulkLoadTarget target,
+        long rowsRead,
+        long rowsLoaded,
+        long rowsRejected,
+        long rowsConflicted,
+        long elapsedMillis,
+        List<Rejection> rejections
+    ) {
+        this.target = target;
+        this.rowsRead = rowsRead;
+        this.rowsLoaded = rowsLoaded;
+        this.rowsRejected = rowsRejected;
+        this.rowsConflicted = rowsConflicted;
+        this.elapsedMillis = elapsedMillis;
+        this.rejections = List.copyOf(rejections);
+    }
+
+    public BulkLoadTarget getTarget() {
+        return target;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getRowsLoaded() {
+        return rowsLoaded;
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected;
+    }
+
+    /**
+     * Linhas validas que perderam para uma insercao concorrente (ON CONFLICT DO NOTHING).
+     */
+    public long getRowsConflicted() {
+        return rowsConflicted;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Linhas lidas por segundo, do inicio do COPY ao fim do merge.
+     */
+    public long getRowsPerSecond() {
+        return elapsedMillis > 0 ? rowsRead * 1000 / elapsedMillis : rowsRead;
+    }
+
+    public List<Rejection> getRejections() {
+        return rejections;
+    }
+
+    /**
+     * Linha rejeitada: {@code line} e a linha do arquivo (o cabecalho e a linha 1).
+     */
+    public static class Rejection {
+
+        private final long line;
+        private final String reason;
+
+        public Rejection(long line, String reason) {
+            this.line = line;
+            this.reason = reason;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.viafluvial.srvusuario.application.dto;
+
+import java.util.Locale;
+
+/**
+ * Tabela de destino de uma carga em massa via CSV.
+ */
+public enum BulkLoadTarget {
+    PASSENGERS("passengers"),
+    BOATMEN("boatmen");
+
+    private final String value;
+
+    BulkLoadTarget(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * @throws IllegalArgumentException para valores desconhecidos
+     */
+    public static BulkLoadTarget fromValue(String value) {
+        String normalized = value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+        for (BulkLoadTarget target : values()) {
+            if (target.value.equals(normalized)) {
+                return target;
+            }
+        }
+        throw new IllegalArgumentException("Destino de carga invalido: " + value);
+    }
+}
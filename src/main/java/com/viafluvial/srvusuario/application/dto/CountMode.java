@@ -0,0 +1,43 @@
+package com.viafluvial.srvusuario.application.dto;
+
+import java.util.Locale;
+
+/**
+ * Como uma busca paginada calcula {@code totalItems}/{@code totalPages}.
+ */
+public enum CountMode {
+    /** COUNT(*) com os mesmos filtros da busca. */
+    EXACT("exact"),
+    /** Estimativa do planner ({@code pg_class.reltuples}) quando disponivel; caso contrario, COUNT(*). */
+    ESTIMATE("estimate"),
+    /** Sem contagem: apenas indica se ha proxima pagina. */
+    NONE("none");
+
+    private final String value;
+
+    CountMode(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Converte o parametro {@code count=}; ausente ou em branco significa {@link #EXACT}.
+     *
+     * @throws IllegalArgumentException para valores desconhecidos
+     */
+    public static CountMode fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        for (CountMode mode : values()) {
+            if (mode.value.equals(normalized)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Modo de contagem invalido: " + value);
+    }
+}
@@ -0,0 +1,206 @@
+package com.viafluvial.srvusuario.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * JSON Merge Patch (RFC 7386) ja validado: campo ausente fica como esta, campo com {@code null} e limpo.
+ * As chaves sao os nomes dos campos no dominio e os valores ja estao convertidos para os tipos do dominio,
+ * para que o adapter gere um UPDATE apenas com as colunas enviadas.
+ */
+public final class MergePatch {
+
+    private final Map<String, Object> changes;
+
+    private MergePatch(Map<String, Object> changes) {
+        this.changes = Collections.unmodifiableMap(changes);
+    }
+
+    /**
+     * Campos alterados, na ordem do corpo; valores podem ser {@code null}.
+     */
+    public Map<String, Object> changes() {
+        return changes;
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    public boolean contains(String field) {
+        return changes.containsKey(field);
+    }
+
+    public Object get(String field) {
+        return changes.get(field);
+    }
+
+    public static <T> Schema.Builder<T> schema(String resource) {
+        return new Schema.Builder<>(resource);
+    }
+
+    /**
+     * Campos alteraveis de um recurso: tipo, obrigatoriedade e leitura do valor atual.
+     */
+    public static final class Schema<T> {
+
+        private final String resource;
+        private final Map<String, Field<T>> fields;
+
+        private Schema(String resource, Map<String, Field<T>> fields) {
+            this.resource = resource;
+            this.fields = fields;
+        }
+
+        /**
+         * Valida e converte o corpo recebido.
+         *
+         * @throws IllegalArgumentException corpo ausente, campo desconhecido ou somente leitura, tipo incorreto
+         *                                  ou {@code null} em campo obrigatorio
+         */
+        public MergePatch parse(Map<String, ?> body) {
+            if (body == null) {
+                throw new IllegalArgumentException("Corpo do merge patch e obrigatorio");
+            }
+            Map<String, Object> changes = new LinkedHashMap<>();
+            body.forEach((name, raw) -> {
+                Field<T> field = fields.get(name);
+                if (field == null) {
+                    throw new IllegalArgumentException(
+                        "Campo '" + name + "' nao pode ser alterado em " + resource);
+                }
+                changes.put(name, field.convert(raw));
+            });
+            return new MergePatch(changes);
+        }
+
+        /**
+         * Mantem apenas os campos cujo valor difere do estado atual.
+         */
+        public MergePatch changedFrom(MergePatch patch, T current) {
+            Map<String, Object> changed = new LinkedHashMap<>();
+            patch.changes().forEach((name, value) -> {
+                if (!sameValue(fields.get(name).current.apply(current), value)) {
+                    changed.put(name, value);
+                }
+            });
+            return new MergePatch(changed);
+        }
+
+        private static boolean sameValue(Object current, Object value) {
+            if (current instanceof BigDecimal a && value instanceof BigDecimal b) {
+                return a.compareTo(b) == 0;
+            }
+            return Objects.equals(current, value);
+        }
+
+        public static final class Builder<T> {
+
+            private final String resource;
+            private final Map<String, Field<T>> fields = new LinkedHashMap<>();
+            private Field<T> last;
+
+            private Builder(String resource) {
+                this.resource = resource;
+            }
+
+            /** Campo que aceita {@code null} (limpa a coluna). */
+            public Builder<T> optional(String name, Class<?> type, Function<T, ?> current) {
+                return add(new Field<>(name, type, false, current));
+            }
+
+            /** Campo NOT NULL: {@code null} ou texto em branco sao rejeitados. */
+            public Builder<T> required(String name, Class<?> type, Function<T, ?> current) {
+                return add(new Field<>(name, type, true, current));
+            }
+
+            /** Regra extra para o ultimo campo declarado, aplicada a valores nao nulos. */
+            public Builder<T> validatedBy(Predicate<Object> rule, String message) {
+                last.rule = rule;
+                last.ruleMessage = message;
+                return this;
+            }
+
+            public Schema<T> build() {
+                return new Schema<>(resource, Map.copyOf(fields));
+            }
+
+            private Builder<T> add(Field<T> field) {
+                fields.put(field.name, field);
+                last = field;
+                return this;
+            }
+        }
+    }
+
+    private static final class Field<T> {
+
+        private final String name;
+        private final Class<?> type;
+        private final boolean required;
+        private final Function<T, ?> current;
+        private Predicate<Object> rule;
+        private String ruleMessage;
+
+        private Field(String name, Class<?> type, boolean required, Function<T, ?> current) {
+            this.name = name;
+            this.type = type;
+            this.required = required;
+            this.current = current;
+        }
+
+        Object convert(Object raw) {
+            if (raw == null || (required && raw instanceof String text && text.isBlank())) {
+                if (required) {
+                    throw new IllegalArgumentException("Campo '" + name + "' e obrigatorio e nao pode ser nulo");
+                }
+                return null;
+            }
+            Object value = coerce(raw);
+            if (rule != null && !rule.test(value)) {
+                throw new IllegalArgumentException(ruleMessage + ": " + raw);
+            }
+            return value;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Object coerce(Object raw) {
+            try {
+                if (type == String.class && raw instanceof String) {
+                    return raw;
+                }
+                if (type == Boolean.class && raw instanceof Boolean) {
+                    return raw;
+                }
+                if (type == Integer.class && raw instanceof Number number) {
+                    return Math.toIntExact(new BigDecimal(number.toString()).longValueExact());
+                }
+                if (type == BigDecimal.class && raw instanceof Number number) {
+                    return new BigDecimal(number.toString());
+                }
+                if (type == LocalDate.class && raw instanceof String text) {
+                    return LocalDate.parse(text);
+                }
+                if (type == LocalDateTime.class && raw instanceof String text) {
+                    return LocalDateTime.parse(text);
+                }
+                if (type.isEnum() && raw instanceof String text) {
+                    return Enum.valueOf((Class<? extends Enum>) type, text.trim().toUpperCase(Locale.ROOT));
+                }
+            } catch (ArithmeticException | DateTimeParseException | IllegalArgumentException e) {
+                throw new IllegalArgumentException("Valor invalido para o campo '" + name + "': " + raw);
+            }
+            throw new IllegalArgumentException(
+                "Campo '" + name + "' espera " + type.getSimpleName() + ", recebido: " + raw);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.viafluvial.srvusuario.application.dto;
+
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Posicao de paginacao por keyset: o ultimo {@code (created_at, id)} entregue.
+ * As buscas em modo cursor ordenam por {@code created_at DESC, id DESC} e continuam a partir desta posicao,
+ * sem OFFSET nem COUNT. O token e opaco para o cliente (base64url de {@code created_at|id}).
+ */
+public final class PageCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final UUID id;
+
+    private PageCursor(LocalDateTime createdAt, UUID id) {
+        this.createdAt = Objects.requireNonNull(createdAt, "createdAt");
+        this.id = Objects.requireNonNull(id, "id");
+    }
+
+    public static PageCursor of(LocalDateTime createdAt, UUID id) {
+        return new PageCursor(createdAt, id);
+    }
+
+    /**
+     * Decodifica o token recebido em {@code after=}. Token vazio ou nulo significa primeira pagina.
+     *
+     * @throws IllegalArgumentException se o token nao foi gerado por {@link #encode()}
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Cursor invalido: " + token);
+            }
+            return new PageCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor invalido: " + token, e);
+        }
+    }
+
+    /**
+     * Token da proxima pagina: posicao do ultimo item, ou {@code null} quando nao ha proxima pagina.
+     */
+    public static <T> String next(Slice<T> slice, Function<T, PageCursor> position) {
+        if (!slice.hasNext() || slice.getContent().isEmpty()) {
+            return null;
+        }
+        List<T> content = slice.getContent();
+        return position.apply(content.get(content.size() - 1)).encode();
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PageCursor other)) {
+            return false;
+        }
+        return createdAt.equals(other.createdAt) && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(createdAt, id);
+    }
+
+    @Override
+    public String toString() {
+        return "PageCursor{createdAt=" + createdAt + ", id=" + id + '}';
+    }
+}
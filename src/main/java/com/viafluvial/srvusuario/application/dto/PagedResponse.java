@@ -1,12 +1,19 @@
 package com.viafluvial.srvusuario.application.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 @Schema(description = "Resposta paginada padrão")
 public class PagedResponse<T> {
 
+    /**
+     * Valor de {@code totalItems}/{@code totalPages} quando o total nao foi calculado (modo cursor ou {@code count=none}).
+     */
+    public static final int UNKNOWN_TOTAL = -1;
+
     @Schema(description = "Itens da página")
     private List<T> items;
 
@@ -22,6 +29,15 @@ public class PagedResponse<T> {
     @Schema(description = "Total de páginas")
     private int totalPages;
 
+    @Schema(description = "Cursor opaco da proxima pagina (modo keyset); ausente na ultima pagina")
+    private String nextCursor;
+
+    @Schema(description = "Indica se existe proxima pagina")
+    private boolean hasNext;
+
+    @Schema(description = "Modo usado para calcular os totais")
+    private CountMode countMode = CountMode.EXACT;
+
     public PagedResponse() {
     }
 
@@ -33,6 +49,11 @@ public class PagedResponse<T> {
         this.totalPages = totalPages;
     }
 
+    public PagedResponse(List<T> items, int page, int size, long totalItems, int totalPages, String nextCursor) {
+        this(items, page, size, totalItems, totalPages);
+        this.nextCursor = nextCursor;
+    }
+
     public List<T> getItems() {
         return items;
     }
@@ -73,6 +94,34 @@ public class PagedResponse<T> {
         this.totalPages = totalPages;
     }
 
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public CountMode getCountMode() {
+        return countMode;
+    }
+
+    public void setCountMode(CountMode countMode) {
+        this.countMode = countMode;
+    }
+
+    public boolean isTotalKnown() {
+        return totalItems != UNKNOWN_TOTAL;
+    }
+
     public static <T> Builder<T> builder() {
         return new Builder<>();
     }
@@ -83,6 +132,9 @@ public class PagedResponse<T> {
         private int size;
         private long totalItems;
         private int totalPages;
+        private String nextCursor;
+        private Boolean hasNext;
+        private CountMode countMode = CountMode.EXACT;
 
         public Builder<T> items(List<T> items) {
             this.items = items;
@@ -109,8 +161,57 @@ public class PagedResponse<T> {
             return this;
         }
 
+        public Builder<T> nextCursor(String nextCursor) {
+            this.nextCursor = nextCursor;
+            return this;
+        }
+
+        public Builder<T> hasNext(boolean hasNext) {
+            this.hasNext = hasNext;
+            return this;
+        }
+
+        public Builder<T> countMode(CountMode countMode) {
+            this.countMode = countMode;
+            return this;
+        }
+
+        /**
+         * Pagina por offset a partir do resultado do repositorio: totais apenas quando ele e um {@link Page}
+         * (contagem exata ou estimada); um {@link Slice} puro so informa se ha proxima pagina.
+         */
+        public Builder<T> slice(Slice<?> slice, CountMode countMode) {
+            this.page = slice.getNumber() + 1;
+            this.size = slice.getSize();
+            this.hasNext = slice.hasNext();
+            if (slice instanceof Page<?> counted) {
+                this.totalItems = counted.getTotalElements();
+                this.totalPages = counted.getTotalPages();
+                this.countMode = countMode;
+            } else {
+                this.totalItems = UNKNOWN_TOTAL;
+                this.totalPages = UNKNOWN_TOTAL;
+                this.countMode = CountMode.NONE;
+            }
+            return this;
+        }
+
+        /**
+         * Pagina em modo cursor: sem numero de pagina nem totais (nao ha COUNT).
+         */
+        public Builder<T> keyset() {
+            this.page = 0;
+            this.totalItems = UNKNOWN_TOTAL;
+            this.totalPages = UNKNOWN_TOTAL;
+            this.countMode = CountMode.NONE;
+            return this;
+        }
+
         public PagedResponse<T> build() {
-            return new PagedResponse<>(items, page, size, totalItems, totalPages);
+            PagedResponse<T> response = new PagedResponse<>(items, page, size, totalItems, totalPages, nextCursor);
+            response.setHasNext(hasNext != null ? hasNext : nextCursor != null || page < totalPages);
+            response.setCountMode(countMode);
+            return response;
         }
     }
 }
@@ -55,6 +55,9 @@ public class PassengerDTO {
     @Schema(description = "Data de última atualização", example = "2024-01-20T15:45:30")
     private LocalDateTime updatedAt;
 
+    @Schema(description = "Versao da linha (ETag), somente leitura", example = "3")
+    private Long version;
+
     // Constructors
     public PassengerDTO() {
     }
@@ -189,6 +192,14 @@ public class PassengerDTO {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // Builder
     public static PassengerDTOBuilder builder() {
         return new PassengerDTOBuilder();
@@ -209,6 +220,7 @@ public class PassengerDTO {
         private BigDecimal totalSpent;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
+        private Long version;
 
         public PassengerDTOBuilder id(UUID id) {
             this.id = id;
@@ -280,8 +292,15 @@ public class PassengerDTO {
             return this;
         }
 
+        public PassengerDTOBuilder version(Long version) {
+            this.version = version;
+            return this;
+        }
+
         public PassengerDTO build() {
-            return new PassengerDTO(id, userId, cpf, rg, birthDate, address, city, state, zipCode, preferredCabinType, totalTrips, totalSpent, createdAt, updatedAt);
+            PassengerDTO dto = new PassengerDTO(id, userId, cpf, rg, birthDate, address, city, state, zipCode, preferredCabinType, totalTrips, totalSpent, createdAt, updatedAt);
+            dto.setVersion(version);
+            return dto;
         }
     }
 }
@@ -0,0 +1,26 @@
+package com.viafluvial.srvusuario.application.dto;
+
+import com.viafluvial.srvusuario.domain.model.User;
+import com.viafluvial.srvusuario.domain.model.UserPreference;
+
+/**
+ * Resultado do cadastro: usuario e preferencias padrao gravados no mesmo comando, ja com ids e defaults do banco.
+ */
+public final class Registration {
+
+    private final User user;
+    private final UserPreference preferences;
+
+    public Registration(User user, UserPreference preferences) {
+        this.user = user;
+        this.preferences = preferences;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public UserPreference getPreferences() {
+        return preferences;
+    }
+}
@@ -45,6 +45,12 @@ public class UserDTO {
     @Schema(description = "Data do último login", example = "2024-01-20T14:20:00")
     private LocalDateTime lastLogin;
 
+    @Schema(description = "Versao da linha (ETag), somente leitura", example = "3")
+    private Long version;
+
+    @Schema(description = "Preferencias criadas no cadastro; preenchido apenas na resposta do registro")
+    private UserPreferenceDTO preferences;
+
     // Construtores
     public UserDTO() {
     }
@@ -97,6 +103,12 @@ public class UserDTO {
     public LocalDateTime getLastLogin() { return lastLogin; }
     public void setLastLogin(LocalDateTime lastLogin) { this.lastLogin = lastLogin; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public UserPreferenceDTO getPreferences() { return preferences; }
+    public void setPreferences(UserPreferenceDTO preferences) { this.preferences = preferences; }
+
     // Builder
     public static UserDTOBuilder builder() {
         return new UserDTOBuilder();
@@ -114,6 +126,7 @@ public class UserDTO {
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
         private LocalDateTime lastLogin;
+        private Long version;
 
         public UserDTOBuilder id(UUID id) { this.id = id; return this; }
         public UserDTOBuilder userType(UserType userType) { this.userType = userType; return this; }
@@ -126,9 +139,12 @@ public class UserDTO {
         public UserDTOBuilder createdAt(LocalDateTime createdAt) { this.createdAt = createdAt; return this; }
         public UserDTOBuilder updatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; return this; }
         public UserDTOBuilder lastLogin(LocalDateTime lastLogin) { this.lastLogin = lastLogin; return this; }
+        public UserDTOBuilder version(Long version) { this.version = version; return this; }
 
         public UserDTO build() {
-            return new UserDTO(id, userType, email, password, fullName, phone, status, emailVerified, createdAt, updatedAt, lastLogin);
+            UserDTO dto = new UserDTO(id, userType, email, password, fullName, phone, status, emailVerified, createdAt, updatedAt, lastLogin);
+            dto.setVersion(version);
+            return dto;
         }
     }
 }
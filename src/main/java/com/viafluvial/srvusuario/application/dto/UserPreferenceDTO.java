@@ -0,0 +1,78 @@
+package com.viafluvial.srvusuario.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Preferencias de notificacao e exibicao do usuario")
+public class UserPreferenceDTO {
+
+    @Schema(description = "ID das preferencias", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID id;
+
+    @Schema(description = "ID do usuario", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID userId;
+
+    @Schema(description = "Notificacoes por email", example = "true")
+    private Boolean emailNotifications;
+
+    @Schema(description = "Notificacoes por SMS", example = "false")
+    private Boolean smsNotifications;
+
+    @Schema(description = "Notificacoes push", example = "true")
+    private Boolean pushNotifications;
+
+    @Schema(description = "Recebe promocoes", example = "true")
+    private Boolean receivePromotions;
+
+    @Schema(description = "Recebe atualizacoes de viagem", example = "true")
+    private Boolean receiveTripUpdates;
+
+    @Schema(description = "Idioma", example = "pt-BR")
+    private String language;
+
+    @Schema(description = "Tema", example = "light")
+    private String theme;
+
+    @Schema(description = "Data de criacao", example = "2024-01-15T10:30:00")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "Data de ultima atualizacao", example = "2024-01-15T10:30:00")
+    private LocalDateTime updatedAt;
+
+    public UserPreferenceDTO() {
+    }
+
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public UUID getUserId() { return userId; }
+    public void setUserId(UUID userId) { this.userId = userId; }
+
+    public Boolean getEmailNotifications() { return emailNotifications; }
+    public void setEmailNotifications(Boolean emailNotifications) { this.emailNotifications = emailNotifications; }
+
+    public Boolean getSmsNotifications() { return smsNotifications; }
+    public void setSmsNotifications(Boolean smsNotifications) { this.smsNotifications = smsNotifications; }
+
+    public Boolean getPushNotifications() { return pushNotifications; }
+    public void setPushNotifications(Boolean pushNotifications) { this.pushNotifications = pushNotifications; }
+
+    public Boolean getReceivePromotions() { return receivePromotions; }
+    public void setReceivePromotions(Boolean receivePromotions) { this.receivePromotions = receivePromotions; }
+
+    public Boolean getReceiveTripUpdates() { return receiveTripUpdates; }
+    public void setReceiveTripUpdates(Boolean receiveTripUpdates) { this.receiveTripUpdates = receiveTripUpdates; }
+
+    public String getLanguage() { return language; }
+    public void setLanguage(String language) { this.language = language; }
+
+    public String getTheme() { return theme; }
+    public void setTheme(String theme) { this.theme = theme; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
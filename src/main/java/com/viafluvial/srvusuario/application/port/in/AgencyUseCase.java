@@ -1,10 +1,15 @@
 package com.viafluvial.srvusuario.application.port.in;
 
 import com.viafluvial.srvusuario.application.dto.AgencyDTO;
+import com.viafluvial.srvusuario.application.dto.BatchGetResult;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.application.dto.PagedResponse;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -18,14 +23,35 @@ public interface AgencyUseCase {
 
     AgencyDTO getAgencyByUserId(UUID userId);
 
+    /**
+     * Equivalente em lote de {@link #getAgencyByUserId}, com as mesmas entradas de cache.
+     */
+    BatchGetResult<AgencyDTO> getAgenciesByUserIds(List<UUID> userIds);
+
     AgencyDTO updateAgency(UUID id, AgencyDTO agencyDTO);
 
+    /**
+     * JSON Merge Patch: altera so os campos enviados ({@code null} limpa o campo).
+     *
+     * @param expectedVersion versao do If-Match; {@code null} aplica sem checar
+     */
+    AgencyDTO patchAgency(UUID id, Map<String, Object> patch, Long expectedVersion);
+
     boolean existsByCnpj(String cnpj);
 
     PagedResponse<AgencyDTO> searchAgencies(
         String cnpj,
         LocalDateTime createdFrom,
         LocalDateTime createdTo,
-        Pageable pageable
+        Pageable pageable,
+        CountMode countMode
+    );
+
+    PagedResponse<AgencyDTO> searchAgenciesAfter(
+        String cnpj,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        PageCursor after,
+        int size
     );
 }
@@ -2,6 +2,8 @@ package com.viafluvial.srvusuario.application.port.in;
 
 import com.viafluvial.srvusuario.application.dto.ApprovalCreateDTO;
 import com.viafluvial.srvusuario.application.dto.ApprovalDTO;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.application.dto.PagedResponse;
 import com.viafluvial.srvusuario.domain.model.Approval;
 import org.springframework.data.domain.Pageable;
@@ -18,7 +20,9 @@ public interface ApprovalUseCase {
 
     List<ApprovalDTO> listApprovals(Approval.ApprovalStatus status);
 
-    PagedResponse<ApprovalDTO> searchApprovals(Approval.ApprovalStatus status, Pageable pageable);
+    PagedResponse<ApprovalDTO> searchApprovals(Approval.ApprovalStatus status, Pageable pageable, CountMode countMode);
+
+    PagedResponse<ApprovalDTO> searchApprovalsAfter(Approval.ApprovalStatus status, PageCursor after, int size);
 
     ApprovalDTO approve(UUID approvalId);
 
@@ -1,13 +1,18 @@
 package com.viafluvial.srvusuario.application.port.in;
 
-import com.viafluvial.srvusuario.application.dto.BoatmanDocumentsDTO;
+import com.viafluvial.srvusuario.application.dto.BatchGetResult;
 import com.viafluvial.srvusuario.application.dto.BoatmanDTO;
+import com.viafluvial.srvusuario.application.dto.BoatmanDocumentsDTO;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.application.dto.PagedResponse;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Port IN: Use case para gerenciamento de barqueiros.
@@ -18,11 +23,21 @@ public interface BoatmanUseCase {
 
     BoatmanDTO getBoatmanByUserId(UUID userId);
 
+    /**
+     * Equivalente em lote de {@link #getBoatmanByUserId}, com as mesmas entradas de cache.
+     */
+    BatchGetResult<BoatmanDTO> getBoatmenByUserIds(List<UUID> userIds);
+
     BoatmanDTO getBoatmanById(UUID id);
 
     BoatmanDocumentsDTO getBoatmanDocuments(UUID boatmanId);
 
-    BoatmanDocumentsDTO updateBoatmanDocuments(UUID boatmanId, BoatmanDocumentsDTO documentsDTO);
+    /**
+     * Atualiza so os documentos informados (campos nulos ficam como estao).
+     *
+     * @param expectedVersion versao do If-Match; {@code null} aplica sem checar
+     */
+    BoatmanDocumentsDTO updateBoatmanDocuments(UUID boatmanId, BoatmanDocumentsDTO documentsDTO, Long expectedVersion);
 
     PagedResponse<BoatmanDTO> searchBoatmen(
         String cpf,
@@ -32,7 +47,36 @@ public interface BoatmanUseCase {
         LocalDateTime approvedTo,
         LocalDateTime createdFrom,
         LocalDateTime createdTo,
-        Pageable pageable
+        Pageable pageable,
+        CountMode countMode
+    );
+
+    PagedResponse<BoatmanDTO> searchBoatmenAfter(
+        String cpf,
+        String cnpj,
+        BigDecimal ratingMin,
+        LocalDateTime approvedFrom,
+        LocalDateTime approvedTo,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        PageCursor after,
+        int size
+    );
+
+    /**
+     * Exportacao com os filtros de {@link #searchBoatmen}, sem acumular o resultado em memoria.
+     *
+     * @return quantidade de barqueiros exportados
+     */
+    long exportBoatmen(
+        String cpf,
+        String cnpj,
+        BigDecimal ratingMin,
+        LocalDateTime approvedFrom,
+        LocalDateTime approvedTo,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        Consumer<BoatmanDTO> sink
     );
 
     boolean existsByCpf(String cpf);
@@ -1,11 +1,17 @@
 package com.viafluvial.srvusuario.application.port.in;
 
+import com.viafluvial.srvusuario.application.dto.BatchGetResult;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.application.dto.PagedResponse;
 import com.viafluvial.srvusuario.application.dto.PassengerDTO;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Port IN: Use case para gerenciamento de passageiros.
@@ -16,16 +22,44 @@ public interface PassengerUseCase {
 
     PassengerDTO getPassengerByUserId(UUID userId);
 
+    /**
+     * Equivalente em lote de {@link #getPassengerByUserId}, com as mesmas entradas de cache.
+     */
+    BatchGetResult<PassengerDTO> getPassengersByUserIds(List<UUID> userIds);
+
     PassengerDTO getPassengerById(UUID id);
 
     PassengerDTO updatePassenger(UUID id, PassengerDTO passengerDTO);
 
+    /**
+     * JSON Merge Patch: altera so os campos enviados ({@code null} limpa o campo).
+     *
+     * @param expectedVersion versao do If-Match; {@code null} aplica sem checar
+     */
+    PassengerDTO patchPassenger(UUID id, Map<String, Object> patch, Long expectedVersion);
+
     PagedResponse<PassengerDTO> searchPassengers(
         String cpf,
         LocalDateTime createdFrom,
         LocalDateTime createdTo,
-        Pageable pageable
+        Pageable pageable,
+        CountMode countMode
+    );
+
+    PagedResponse<PassengerDTO> searchPassengersAfter(
+        String cpf,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        PageCursor after,
+        int size
     );
 
+    /**
+     * Exportacao com os filtros de {@link #searchPassengers}, sem acumular o resultado em memoria.
+     *
+     * @return quantidade de passageiros exportados
+     */
+    long exportPassengers(String cpf, LocalDateTime createdFrom, LocalDateTime createdTo, Consumer<PassengerDTO> sink);
+
     boolean existsByCpf(String cpf);
 }
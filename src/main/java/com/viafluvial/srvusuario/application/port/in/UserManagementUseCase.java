@@ -1,5 +1,9 @@
 package com.viafluvial.srvusuario.application.port.in;
 
+import com.viafluvial.srvusuario.application.dto.BatchGetResult;
+import com.viafluvial.srvusuario.application.dto.BatchItemResult;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.application.dto.PagedResponse;
 import com.viafluvial.srvusuario.application.dto.UserCreateDTO;
 import com.viafluvial.srvusuario.application.dto.UserDTO;
@@ -9,7 +13,9 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Port IN: Use case para gerenciamento de usuarios.
@@ -18,18 +24,63 @@ public interface UserManagementUseCase {
 
     UserDTO createUser(UserCreateDTO userCreateDTO);
 
+    /**
+     * Cria varios usuarios numa transacao. Itens invalidos ou com email ja cadastrado (ou repetido no lote)
+     * nao interrompem os demais; o resultado tem um item por entrada, na mesma ordem.
+     */
+    List<BatchItemResult<UserDTO>> createUsers(List<UserCreateDTO> users);
+
     UserDTO getUserById(UUID id);
 
     UserDTO getUserByEmail(String email);
 
+    /**
+     * Varios usuarios de uma vez: acertos do cache {@code users} e uma unica consulta para o restante.
+     */
+    BatchGetResult<UserDTO> getUsersByIds(List<UUID> ids);
+
     PagedResponse<UserDTO> searchUsers(
         String email,
+        String name,
+        UserType userType,
+        UserStatus status,
+        Boolean emailVerified,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        Pageable pageable,
+        CountMode countMode
+    );
+
+    /**
+     * Busca em modo cursor (keyset): sem OFFSET nem COUNT, custo constante em qualquer profundidade.
+     */
+    PagedResponse<UserDTO> searchUsersAfter(
+        String email,
+        String name,
         UserType userType,
         UserStatus status,
         Boolean emailVerified,
         LocalDateTime createdFrom,
         LocalDateTime createdTo,
-        Pageable pageable
+        PageCursor after,
+        int size
+    );
+
+    /**
+     * Exportacao: entrega ao {@code sink}, um a um e sem acumular em memoria, todos os usuarios que atendem
+     * aos mesmos filtros de {@link #searchUsers}.
+     *
+     * @return quantidade de usuarios exportados
+     */
+    long exportUsers(
+        String email,
+        String name,
+        UserType userType,
+        UserStatus status,
+        Boolean emailVerified,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        Consumer<UserDTO> sink
     );
 
     List<UserDTO> getUsersByType(UserType userType);
@@ -38,5 +89,12 @@ public interface UserManagementUseCase {
 
     UserDTO updateUser(UUID id, UserDTO userDTO);
 
+    /**
+     * JSON Merge Patch: altera so os campos enviados, com um UPDATE apenas dessas colunas.
+     *
+     * @param expectedVersion versao do If-Match; {@code null} aplica sem checar
+     */
+    UserDTO patchUser(UUID id, Map<String, Object> patch, Long expectedVersion);
+
     void deleteUser(UUID id);
 }
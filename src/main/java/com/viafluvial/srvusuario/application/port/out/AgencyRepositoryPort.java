@@ -1,10 +1,16 @@
 package com.viafluvial.srvusuario.application.port.out;
 
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.MergePatch;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.domain.model.Agency;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,11 +21,41 @@ public interface AgencyRepositoryPort {
 
     Agency save(Agency agency);
 
+    /**
+     * Insere uma agencia nova com {@code ON CONFLICT DO NOTHING}.
+     *
+     * @return agencia persistida, ou vazio se o CNPJ ou o usuario ja estao cadastrados
+     */
+    Optional<Agency> insertIfAbsent(Agency agency);
+
     Optional<Agency> findById(UUID id);
 
     Optional<Agency> findByUserId(UUID userId);
 
+    List<Agency> findByUserIds(Collection<UUID> userIds);
+
     boolean existsByCnpj(String cnpj);
 
+    /**
+     * UPDATE apenas das colunas do merge patch; com {@code expectedVersion}, so se a versao conferir.
+     *
+     * @return false se a agencia nao existe ou a versao nao confere
+     */
+    boolean patch(UUID id, MergePatch patch, Long expectedVersion);
+
     Page<Agency> search(String cnpj, LocalDateTime createdFrom, LocalDateTime createdTo, Pageable pageable);
+
+    /**
+     * Busca por offset com os totais calculados conforme {@code countMode}: retorna um {@link Page}
+     * (contagem exata ou estimada) ou, em {@link CountMode#NONE}, um {@link Slice} que so informa {@code hasNext}.
+     */
+    Slice<Agency> search(String cnpj, LocalDateTime createdFrom, LocalDateTime createdTo, Pageable pageable, CountMode countMode);
+
+    /**
+     * Busca em modo cursor (keyset), ordenada por {@code created_at DESC, id DESC}, sem COUNT.
+     *
+     * @param after posicao do ultimo item da pagina anterior; {@code null} para a primeira pagina
+     * @param size tamanho da pagina
+     */
+    Slice<Agency> searchAfter(String cnpj, LocalDateTime createdFrom, LocalDateTime createdTo, PageCursor after, int size);
 }
@@ -1,8 +1,11 @@
 package com.viafluvial.srvusuario.application.port.out;
 
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.domain.model.Approval;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,4 +25,18 @@ public interface ApprovalRepositoryPort {
     Page<Approval> findByStatus(Approval.ApprovalStatus status, Pageable pageable);
 
     Page<Approval> findAll(Pageable pageable);
+
+    /**
+     * Lista aprovacoes (opcionalmente por status) por offset com os totais calculados conforme {@code countMode}:
+     * retorna um {@link Page} (contagem exata ou estimada) ou, em {@link CountMode#NONE}, um {@link Slice}.
+     */
+    Slice<Approval> search(Approval.ApprovalStatus status, Pageable pageable, CountMode countMode);
+
+    /**
+     * Lista aprovacoes (opcionalmente por status) em modo cursor (keyset), ordenada por {@code created_at DESC, id DESC}, sem COUNT.
+     *
+     * @param after posicao do ultimo item da pagina anterior; {@code null} para a primeira pagina
+     * @param size tamanho da pagina
+     */
+    Slice<Approval> findAfter(Approval.ApprovalStatus status, PageCursor after, int size);
 }
@@ -1,13 +1,20 @@
 package com.viafluvial.srvusuario.application.port.out;
 
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.MergePatch;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.domain.model.Boatman;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Port OUT: persistencia de barqueiros.
@@ -16,14 +23,30 @@ public interface BoatmanRepositoryPort {
 
     Boatman save(Boatman boatman);
 
+    /**
+     * Insere um barqueiro novo com {@code ON CONFLICT DO NOTHING}.
+     *
+     * @return barqueiro persistido, ou vazio se CPF, CNPJ ou usuario ja estao cadastrados
+     */
+    Optional<Boatman> insertIfAbsent(Boatman boatman);
+
     Optional<Boatman> findById(UUID id);
 
     Optional<Boatman> findByUserId(UUID userId);
 
+    List<Boatman> findByUserIds(Collection<UUID> userIds);
+
     boolean existsByCpf(String cpf);
 
     boolean existsByCnpj(String cnpj);
 
+    /**
+     * UPDATE apenas das colunas do merge patch; com {@code expectedVersion}, so se a versao conferir.
+     *
+     * @return false se o barqueiro nao existe ou a versao nao confere
+     */
+    boolean patch(UUID id, MergePatch patch, Long expectedVersion);
+
     Page<Boatman> search(
         String cpf,
         String cnpj,
@@ -34,4 +57,54 @@ public interface BoatmanRepositoryPort {
         LocalDateTime createdTo,
         Pageable pageable
     );
+
+    /**
+     * Busca por offset com os totais calculados conforme {@code countMode}: retorna um {@link Page}
+     * (contagem exata ou estimada) ou, em {@link CountMode#NONE}, um {@link Slice} que so informa {@code hasNext}.
+     */
+    Slice<Boatman> search(
+        String cpf,
+        String cnpj,
+        BigDecimal ratingMin,
+        LocalDateTime approvedFrom,
+        LocalDateTime approvedTo,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        Pageable pageable,
+        CountMode countMode
+    );
+
+    /**
+     * Busca em modo cursor (keyset), ordenada por {@code created_at DESC, id DESC}, sem COUNT.
+     *
+     * @param after posicao do ultimo item da pagina anterior; {@code null} para a primeira pagina
+     * @param size tamanho da pagina
+     */
+    Slice<Boatman> searchAfter(
+        String cpf,
+        String cnpj,
+        BigDecimal ratingMin,
+        LocalDateTime approvedFrom,
+        LocalDateTime approvedTo,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        PageCursor after,
+        int size
+    );
+
+    /**
+     * Exportacao: todos os barqueiros que atendem aos filtros da busca, com cursor forward-only.
+     *
+     * @return quantidade de barqueiros entregues
+     */
+    long forEachMatching(
+        String cpf,
+        String cnpj,
+        BigDecimal ratingMin,
+        LocalDateTime approvedFrom,
+        LocalDateTime approvedTo,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        Consumer<Boatman> action
+    );
 }
@@ -1,12 +1,19 @@
 package com.viafluvial.srvusuario.application.port.out;
 
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.MergePatch;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.domain.model.Passenger;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Port OUT: persistencia de passageiros.
@@ -15,11 +22,48 @@ public interface PassengerRepositoryPort {
 
     Passenger save(Passenger passenger);
 
+    /**
+     * Insere um passageiro novo com {@code ON CONFLICT DO NOTHING}.
+     *
+     * @return passageiro persistido, ou vazio se o CPF ou o usuario ja estao cadastrados
+     */
+    Optional<Passenger> insertIfAbsent(Passenger passenger);
+
     Optional<Passenger> findById(UUID id);
 
     Optional<Passenger> findByUserId(UUID userId);
 
+    List<Passenger> findByUserIds(Collection<UUID> userIds);
+
     boolean existsByCpf(String cpf);
 
+    /**
+     * UPDATE apenas das colunas do merge patch; com {@code expectedVersion}, so se a versao conferir.
+     *
+     * @return false se o passageiro nao existe ou a versao nao confere
+     */
+    boolean patch(UUID id, MergePatch patch, Long expectedVersion);
+
     Page<Passenger> search(String cpf, LocalDateTime createdFrom, LocalDateTime createdTo, Pageable pageable);
+
+    /**
+     * Busca por offset com os totais calculados conforme {@code countMode}: retorna um {@link Page}
+     * (contagem exata ou estimada) ou, em {@link CountMode#NONE}, um {@link Slice} que so informa {@code hasNext}.
+     */
+    Slice<Passenger> search(String cpf, LocalDateTime createdFrom, LocalDateTime createdTo, Pageable pageable, CountMode countMode);
+
+    /**
+     * Busca em modo cursor (keyset), ordenada por {@code created_at DESC, id DESC}, sem COUNT.
+     *
+     * @param after posicao do ultimo item da pagina anterior; {@code null} para a primeira pagina
+     * @param size tamanho da pagina
+     */
+    Slice<Passenger> searchAfter(String cpf, LocalDateTime createdFrom, LocalDateTime createdTo, PageCursor after, int size);
+
+    /**
+     * Exportacao: todos os passageiros que atendem aos filtros da busca, com cursor forward-only.
+     *
+     * @return quantidade de passageiros entregues
+     */
+    long forEachMatching(String cpf, LocalDateTime createdFrom, LocalDateTime createdTo, Consumer<Passenger> action);
 }
@@ -0,0 +1,19 @@
+package com.viafluvial.srvusuario.application.port.out;
+
+import com.viafluvial.srvusuario.application.dto.BulkLoadReport;
+import com.viafluvial.srvusuario.application.dto.BulkLoadTarget;
+
+import java.io.Reader;
+
+/**
+ * Port OUT: carga em massa de perfis (passengers/boatmen) a partir de CSV com cabecalho.
+ * Linhas invalidas ou que violam as chaves unicas (user_id, cpf, cnpj) sao rejeitadas e reportadas
+ * sem abortar a carga; as demais sao gravadas numa unica transacao.
+ */
+public interface ProfileBulkLoadPort {
+
+    /**
+     * @throws IllegalArgumentException cabecalho invalido ou CSV malformado (nada e gravado)
+     */
+    BulkLoadReport load(BulkLoadTarget target, Reader csv);
+}
@@ -0,0 +1,16 @@
+package com.viafluvial.srvusuario.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Port OUT: registro de timestamps de atividade ({@code users.last_login}, {@code user_sessions.last_activity}).
+ * A gravacao pode ser adiada e agrupada; registros repetidos da mesma chave antes da gravacao
+ * se fundem e prevalece o instante mais recente.
+ */
+public interface UserActivityPort {
+
+    void recordLastLogin(UUID userId, LocalDateTime lastLogin);
+
+    void recordSessionActivity(UUID sessionId, LocalDateTime lastActivity);
+}
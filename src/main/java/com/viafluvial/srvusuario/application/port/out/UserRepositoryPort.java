@@ -1,15 +1,24 @@
 package com.viafluvial.srvusuario.application.port.out;
 
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.MergePatch;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
+import com.viafluvial.srvusuario.application.dto.Registration;
+import com.viafluvial.srvusuario.application.dto.UserDTO;
 import com.viafluvial.srvusuario.domain.model.User;
 import com.viafluvial.srvusuario.domain.model.UserStatus;
 import com.viafluvial.srvusuario.domain.model.UserType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Port OUT: Interface para persistência de usuários.
@@ -25,6 +34,29 @@ public interface UserRepositoryPort {
      * @return usuário persistido
      */
     User save(User user);
+
+    /**
+     * Insere um usuario novo com {@code INSERT ... ON CONFLICT (email) DO NOTHING}, em um unico comando.
+     *
+     * @return usuario persistido, ou vazio se o email ja esta cadastrado
+     */
+    Optional<User> insertIfAbsent(User user);
+
+    /**
+     * Cadastro em um unico comando: insere o usuario ({@code ON CONFLICT (email) DO NOTHING}) e a linha de
+     * {@code user_preferences} com os defaults da V12; ids, datas e preferencias voltam no proprio resultado.
+     *
+     * @return usuario e preferencias criados, ou vazio se o email ja esta cadastrado
+     */
+    Optional<Registration> insertWithDefaultPreferences(User user);
+
+    /**
+     * Insere varios usuarios novos na mesma transacao, agrupando os INSERTs em batches JDBC.
+     *
+     * @param users usuarios sem ID
+     * @return usuarios persistidos, na mesma ordem
+     */
+    List<User> saveAll(List<User> users);
     
     /**
      * Busca um usuário por ID.
@@ -33,6 +65,11 @@ public interface UserRepositoryPort {
      * @return Optional contendo o usuário se encontrado
      */
     Optional<User> findById(UUID id);
+
+    /**
+     * Busca varios usuarios numa unica consulta. Ids inexistentes ficam fora do resultado, sem ordem garantida.
+     */
+    List<User> findByIds(Collection<UUID> ids);
     
     /**
      * Busca um usuário por email.
@@ -46,6 +83,19 @@ public interface UserRepositoryPort {
 
     List<User> findByUserType(UserType userType);
 
+    /**
+     * Usuarios do tipo projetados direto em {@link UserDTO}, sem entidades gerenciadas e sem senha.
+     */
+    List<UserDTO> findViewsByUserType(UserType userType);
+
+    /**
+     * Usuarios mais recentemente ativos (ultimo login, depois ultima atualizacao).
+     *
+     * @param limit quantidade maxima de usuarios
+     * @return usuarios do mais recente para o mais antigo
+     */
+    List<User> findRecentlyActive(int limit);
+
     Page<User> search(
         String email,
         UserType userType,
@@ -55,7 +105,74 @@ public interface UserRepositoryPort {
         LocalDateTime createdTo,
         Pageable pageable
     );
-    
+
+    /**
+     * Busca por offset com os totais calculados conforme {@code countMode}: retorna um {@link Page}
+     * (contagem exata ou estimada) ou, em {@link CountMode#NONE}, um {@link Slice} que so informa {@code hasNext}.
+     */
+    Slice<User> search(
+        String email,
+        String name,
+        UserType userType,
+        UserStatus status,
+        Boolean emailVerified,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        Pageable pageable,
+        CountMode countMode
+    );
+
+    /**
+     * Variante de leitura de {@link #search(String, String, UserType, UserStatus, Boolean, LocalDateTime, LocalDateTime, Pageable, CountMode)}:
+     * projeta as linhas direto em {@link UserDTO}, sem entidades gerenciadas e sem senha.
+     */
+    Slice<UserDTO> searchViews(
+        String email,
+        String name,
+        UserType userType,
+        UserStatus status,
+        Boolean emailVerified,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        Pageable pageable,
+        CountMode countMode
+    );
+
+    /**
+     * Busca em modo cursor (keyset), ordenada por {@code created_at DESC, id DESC}, sem COUNT.
+     *
+     * @param after posicao do ultimo item da pagina anterior; {@code null} para a primeira pagina
+     * @param size tamanho da pagina
+     */
+    Slice<User> searchAfter(
+        String email,
+        String name,
+        UserType userType,
+        UserStatus status,
+        Boolean emailVerified,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        PageCursor after,
+        int size
+    );
+
+    /**
+     * Exportacao: entrega ao {@code action}, na ordem do modo cursor, todos os usuarios que atendem aos filtros
+     * da busca, lidos com cursor forward-only sem acumular o resultado em memoria.
+     *
+     * @return quantidade de usuarios entregues
+     */
+    long forEachMatching(
+        String email,
+        String name,
+        UserType userType,
+        UserStatus status,
+        Boolean emailVerified,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        Consumer<User> action
+    );
+
     /**
      * Verifica se um email já está em uso.
      * 
@@ -64,7 +181,32 @@ public interface UserRepositoryPort {
      */
     boolean existsByEmail(String email);
 
+    /**
+     * Checagem de duplicidade em lote com um unico {@code email IN (...)}.
+     *
+     * @param emails emails candidatos
+     * @return subconjunto dos emails que ja estao cadastrados
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+
     boolean existsById(UUID id);
+
+    /**
+     * Atualiza apenas {@code last_login} com um unico UPDATE, sem carregar nem regravar a linha inteira.
+     *
+     * @param id ID do usuario
+     * @param lastLogin instante do login
+     * @return false se o usuario nao existe
+     */
+    boolean touchLastLogin(UUID id, LocalDateTime lastLogin);
+
+    /**
+     * Aplica um merge patch com um UPDATE apenas das colunas enviadas, sem carregar a linha.
+     *
+     * @param expectedVersion versao do If-Match; {@code null} atualiza sem checar
+     * @return false se o usuario nao existe ou a versao nao confere
+     */
+    boolean patch(UUID id, MergePatch patch, Long expectedVersion);
     
     /**
      * Remove um usuário por ID.
@@ -6,6 +6,10 @@ import com.viafluvial.srvusuario.application.port.out.AdminRepositoryPort;
 import com.viafluvial.srvusuario.application.port.out.UserRepositoryPort;
 import com.viafluvial.srvusuario.domain.model.Admin;
 import com.viafluvial.srvusuario.domain.model.User;
+import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,6 +45,7 @@ public class AdminUseCaseImpl implements AdminUseCase {
         return mapToDTO(adminRepository.save(admin));
     }
 
+    @Cacheable(value = CacheConfig.ADMINS_CACHE, key = "#id", sync = true)
     @Transactional(readOnly = true)
     public AdminDTO getAdminById(UUID id) {
         Admin admin = adminRepository.findById(id)
@@ -48,6 +53,7 @@ public class AdminUseCaseImpl implements AdminUseCase {
         return mapToDTO(admin);
     }
 
+    @Cacheable(value = CacheConfig.ADMINS_CACHE, key = "'userId_' + #userId", sync = true)
     @Transactional(readOnly = true)
     public AdminDTO getAdminByUserId(UUID userId) {
         Admin admin = adminRepository.findByUserId(userId)
@@ -55,6 +61,10 @@ public class AdminUseCaseImpl implements AdminUseCase {
         return mapToDTO(admin);
     }
 
+    @Caching(evict = {
+        @CacheEvict(value = CacheConfig.ADMINS_CACHE, key = "#id"),
+        @CacheEvict(value = CacheConfig.ADMINS_CACHE, key = "'userId_' + #result.userId")
+    })
     public AdminDTO updateAdmin(UUID id, AdminDTO adminDTO) {
         Admin admin = adminRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("Admin nao encontrado"));
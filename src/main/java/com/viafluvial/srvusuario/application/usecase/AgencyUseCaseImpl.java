@@ -1,38 +1,78 @@
 package com.viafluvial.srvusuario.application.usecase;
 
 import com.viafluvial.srvusuario.application.dto.AgencyDTO;
+import com.viafluvial.srvusuario.application.dto.BatchGetResult;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.MergePatch;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.application.dto.PagedResponse;
 import com.viafluvial.srvusuario.application.port.in.AgencyUseCase;
 import com.viafluvial.srvusuario.application.port.out.AgencyRepositoryPort;
 import com.viafluvial.srvusuario.application.port.out.UserRepositoryPort;
+import com.viafluvial.srvusuario.common.error.UniqueConstraintViolationException;
 import com.viafluvial.srvusuario.domain.model.Agency;
 import com.viafluvial.srvusuario.domain.model.User;
-import org.springframework.data.domain.Page;
+import com.viafluvial.srvusuario.infrastructure.cache.MultiGetCache;
+import com.viafluvial.srvusuario.infrastructure.cache.NotFoundCache;
+import com.viafluvial.srvusuario.infrastructure.cache.ProfileCache;
+import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class AgencyUseCaseImpl implements AgencyUseCase {
 
+    static final MergePatch.Schema<Agency> PATCH_SCHEMA = MergePatch.<Agency>schema("agencia")
+        .required("companyName", String.class, Agency::getCompanyName)
+        .optional("tradeName", String.class, Agency::getTradeName)
+        .optional("companyEmail", String.class, Agency::getCompanyEmail)
+        .optional("companyPhone", String.class, Agency::getCompanyPhone)
+        .optional("whatsapp", String.class, Agency::getWhatsapp)
+        .optional("address", String.class, Agency::getAddress)
+        .optional("city", String.class, Agency::getCity)
+        .optional("state", String.class, Agency::getState)
+        .optional("zipCode", String.class, Agency::getZipCode)
+        .required("commissionPercent", BigDecimal.class, Agency::getCommissionPercent)
+        .optional("documentCnpjUrl", String.class, Agency::getDocumentCnpjUrl)
+        .optional("documentContractUrl", String.class, Agency::getDocumentContractUrl)
+        .optional("bankName", String.class, Agency::getBankName)
+        .optional("bankAccount", String.class, Agency::getBankAccount)
+        .optional("bankAgency", String.class, Agency::getBankAgency)
+        .optional("pixKey", String.class, Agency::getPixKey)
+        .optional("adminNotes", String.class, Agency::getAdminNotes)
+        .optional("approvedAt", LocalDateTime.class, Agency::getApprovedAt)
+        .build();
+
     private final AgencyRepositoryPort agencyRepository;
     private final UserRepositoryPort userRepository;
+    private final NotFoundCache notFoundCache;
+    private final MultiGetCache multiGetCache;
+    private final ConditionalPatch<Agency> conditionalPatch;
 
-    public AgencyUseCaseImpl(AgencyRepositoryPort agencyRepository, UserRepositoryPort userRepository) {
+    public AgencyUseCaseImpl(AgencyRepositoryPort agencyRepository, UserRepositoryPort userRepository, NotFoundCache notFoundCache,
+                             MultiGetCache multiGetCache) {
         this.agencyRepository = agencyRepository;
         this.userRepository = userRepository;
+        this.notFoundCache = notFoundCache;
+        this.multiGetCache = multiGetCache;
+        this.conditionalPatch = new ConditionalPatch<>(PATCH_SCHEMA, agencyId -> this.agencyRepository.findById(agencyId),
+            (agencyId, patch, version) -> this.agencyRepository.patch(agencyId, patch, version), Agency::getVersion);
     }
 
     public AgencyDTO createAgency(AgencyDTO agencyDTO) {
-        if (agencyRepository.existsByCnpj(agencyDTO.getCnpj())) {
-            throw new IllegalArgumentException("CNPJ ja esta registrado");
-        }
-
         User user = userRepository.findById(agencyDTO.getUserId())
             .orElseThrow(() -> new IllegalArgumentException("Usuario nao encontrado"));
 
@@ -61,9 +101,15 @@ public class AgencyUseCaseImpl implements AgencyUseCase {
             .updatedAt(LocalDateTime.now())
             .build();
 
-        return mapToDTO(agencyRepository.save(agency));
+        Agency saved = agencyRepository.insertIfAbsent(agency)
+            .orElseThrow(() -> agencyRepository.existsByCnpj(agencyDTO.getCnpj())
+                ? new UniqueConstraintViolationException("CNPJ", agencyDTO.getCnpj())
+                : new UniqueConstraintViolationException("Usuario ja possui perfil de agencia"));
+        notFoundCache.evictUser(user.getId());
+        return mapToDTO(saved);
     }
 
+    @Cacheable(value = CacheConfig.AGENCIES_CACHE, key = "#id", sync = true)
     @Transactional(readOnly = true)
     public AgencyDTO getAgencyById(UUID id) {
         Agency agency = agencyRepository.findById(id)
@@ -71,6 +117,7 @@ public class AgencyUseCaseImpl implements AgencyUseCase {
         return mapToDTO(agency);
     }
 
+    @Cacheable(value = CacheConfig.AGENCIES_CACHE, key = "'userId_' + #userId", sync = true)
     @Transactional(readOnly = true)
     public AgencyDTO getAgencyByUserId(UUID userId) {
         Agency agency = agencyRepository.findByUserId(userId)
@@ -78,6 +125,17 @@ public class AgencyUseCaseImpl implements AgencyUseCase {
         return mapToDTO(agency);
     }
 
+    @Transactional(readOnly = true)
+    public BatchGetResult<AgencyDTO> getAgenciesByUserIds(List<UUID> userIds) {
+        return multiGetCache.getAll(CacheConfig.AGENCIES_CACHE, userIds, ProfileCache::userIdKey, AgencyDTO.class,
+            misses -> agencyRepository.findByUserIds(misses).stream()
+                .collect(Collectors.toMap(Agency::getUserId, this::mapToDTO)));
+    }
+
+    @Caching(evict = {
+        @CacheEvict(value = CacheConfig.AGENCIES_CACHE, key = "#id"),
+        @CacheEvict(value = CacheConfig.AGENCIES_CACHE, key = "'userId_' + #result.userId")
+    })
     public AgencyDTO updateAgency(UUID id, AgencyDTO agencyDTO) {
         Agency agency = agencyRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("Agencia nao encontrada"));
@@ -114,6 +172,16 @@ public class AgencyUseCaseImpl implements AgencyUseCase {
         return mapToDTO(agencyRepository.save(updated));
     }
 
+    @Caching(evict = {
+        @CacheEvict(value = CacheConfig.AGENCIES_CACHE, key = "#id"),
+        @CacheEvict(value = CacheConfig.AGENCIES_CACHE, key = "'userId_' + #result.userId")
+    })
+    public AgencyDTO patchAgency(UUID id, Map<String, Object> patch, Long expectedVersion) {
+        Agency patched = conditionalPatch.apply(id, PATCH_SCHEMA.parse(patch), expectedVersion,
+            () -> new IllegalArgumentException("Agencia nao encontrada"));
+        return mapToDTO(patched);
+    }
+
     @Transactional(readOnly = true)
     public boolean existsByCnpj(String cnpj) {
         return agencyRepository.existsByCnpj(cnpj);
@@ -124,17 +192,34 @@ public class AgencyUseCaseImpl implements AgencyUseCase {
         String cnpj,
         LocalDateTime createdFrom,
         LocalDateTime createdTo,
-        Pageable pageable
+        Pageable pageable,
+        CountMode countMode
     ) {
-        Page<Agency> page = agencyRepository.search(cnpj, createdFrom, createdTo, pageable);
+        Slice<Agency> page = agencyRepository.search(cnpj, createdFrom, createdTo, pageable, countMode);
         List<AgencyDTO> items = page.getContent().stream().map(this::mapToDTO).toList();
 
         return PagedResponse.<AgencyDTO>builder()
             .items(items)
-            .page(page.getNumber() + 1)
-            .size(page.getSize())
-            .totalItems(page.getTotalElements())
-            .totalPages(page.getTotalPages())
+            .slice(page, countMode)
+            .build();
+    }
+
+    @Transactional(readOnly = true)
+    public PagedResponse<AgencyDTO> searchAgenciesAfter(
+        String cnpj,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        PageCursor after,
+        int size
+    ) {
+        Slice<Agency> slice = agencyRepository.searchAfter(cnpj, createdFrom, createdTo, after, size);
+        List<AgencyDTO> items = slice.getContent().stream().map(this::mapToDTO).toList();
+
+        return PagedResponse.<AgencyDTO>builder()
+            .items(items)
+            .size(size)
+            .keyset()
+            .nextCursor(PageCursor.next(slice, agency -> PageCursor.of(agency.getCreatedAt(), agency.getId())))
             .build();
     }
 
@@ -166,6 +251,7 @@ public class AgencyUseCaseImpl implements AgencyUseCase {
             .approvedAt(agency.getApprovedAt())
             .createdAt(agency.getCreatedAt())
             .updatedAt(agency.getUpdatedAt())
+            .version(agency.getVersion())
             .build();
     }
 }
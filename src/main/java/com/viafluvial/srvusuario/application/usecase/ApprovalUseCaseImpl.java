@@ -2,6 +2,8 @@ package com.viafluvial.srvusuario.application.usecase;
 
 import com.viafluvial.srvusuario.application.dto.ApprovalCreateDTO;
 import com.viafluvial.srvusuario.application.dto.ApprovalDTO;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.application.dto.PagedResponse;
 import com.viafluvial.srvusuario.application.port.in.ApprovalUseCase;
 import com.viafluvial.srvusuario.application.port.out.AgencyRepositoryPort;
@@ -13,8 +15,10 @@ import com.viafluvial.srvusuario.domain.model.Approval;
 import com.viafluvial.srvusuario.domain.model.Boatman;
 import com.viafluvial.srvusuario.domain.model.User;
 import com.viafluvial.srvusuario.domain.model.UserStatus;
-import org.springframework.data.domain.Page;
+import com.viafluvial.srvusuario.infrastructure.cache.ProfileCache;
+import com.viafluvial.srvusuario.infrastructure.cache.UserCache;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,17 +34,23 @@ public class ApprovalUseCaseImpl implements ApprovalUseCase {
     private final UserRepositoryPort userRepository;
     private final BoatmanRepositoryPort boatmanRepository;
     private final AgencyRepositoryPort agencyRepository;
+    private final UserCache userCache;
+    private final ProfileCache profileCache;
 
     public ApprovalUseCaseImpl(
         ApprovalRepositoryPort approvalRepository,
         UserRepositoryPort userRepository,
         BoatmanRepositoryPort boatmanRepository,
-        AgencyRepositoryPort agencyRepository
+        AgencyRepositoryPort agencyRepository,
+        UserCache userCache,
+        ProfileCache profileCache
     ) {
         this.approvalRepository = approvalRepository;
         this.userRepository = userRepository;
         this.boatmanRepository = boatmanRepository;
         this.agencyRepository = agencyRepository;
+        this.userCache = userCache;
+        this.profileCache = profileCache;
     }
 
     public ApprovalDTO createApproval(ApprovalCreateDTO createDTO) {
@@ -71,20 +81,33 @@ public class ApprovalUseCaseImpl implements ApprovalUseCase {
     @Transactional(readOnly = true)
     public PagedResponse<ApprovalDTO> searchApprovals(
         Approval.ApprovalStatus status,
-        Pageable pageable
+        Pageable pageable,
+        CountMode countMode
     ) {
-        Page<Approval> page = status == null
-            ? approvalRepository.findAll(pageable)
-            : approvalRepository.findByStatus(status, pageable);
+        Slice<Approval> page = approvalRepository.search(status, pageable, countMode);
 
         List<ApprovalDTO> items = page.getContent().stream().map(this::mapToDTO).toList();
 
         return PagedResponse.<ApprovalDTO>builder()
             .items(items)
-            .page(page.getNumber() + 1)
-            .size(page.getSize())
-            .totalItems(page.getTotalElements())
-            .totalPages(page.getTotalPages())
+            .slice(page, countMode)
+            .build();
+    }
+
+    @Transactional(readOnly = true)
+    public PagedResponse<ApprovalDTO> searchApprovalsAfter(
+        Approval.ApprovalStatus status,
+        PageCursor after,
+        int size
+    ) {
+        Slice<Approval> slice = approvalRepository.findAfter(status, after, size);
+        List<ApprovalDTO> items = slice.getContent().stream().map(this::mapToDTO).toList();
+
+        return PagedResponse.<ApprovalDTO>builder()
+            .items(items)
+            .size(size)
+            .keyset()
+            .nextCursor(PageCursor.next(slice, approval -> PageCursor.of(approval.getCreatedAt(), approval.getId())))
             .build();
     }
 
@@ -183,6 +206,7 @@ public class ApprovalUseCaseImpl implements ApprovalUseCase {
                 .updatedAt(LocalDateTime.now())
                 .build();
             boatmanRepository.save(updatedBoatman);
+            profileCache.evictBoatman(boatman.getId(), boatman.getUserId());
             applyUserStatusChangeByUserId(boatman.getUserId(), UserStatus.APPROVED);
             return;
         }
@@ -219,6 +243,7 @@ public class ApprovalUseCaseImpl implements ApprovalUseCase {
                 .updatedAt(LocalDateTime.now())
                 .build();
             agencyRepository.save(updatedAgency);
+            profileCache.evictAgency(agency.getId(), agency.getUserId());
             applyUserStatusChangeByUserId(agency.getUserId(), UserStatus.APPROVED);
         }
     }
@@ -249,6 +274,7 @@ public class ApprovalUseCaseImpl implements ApprovalUseCase {
 
         user.changeStatus(newStatus);
         userRepository.save(user);
+        userCache.evict(userId, user.getEmail());
     }
 
     private ApprovalDTO mapToDTO(Approval approval) {
@@ -1,10 +1,12 @@
 package com.viafluvial.srvusuario.application.usecase;
 
+import com.viafluvial.srvusuario.application.dto.Registration;
 import com.viafluvial.srvusuario.application.dto.UserDTO;
+import com.viafluvial.srvusuario.application.dto.UserPreferenceDTO;
 import com.viafluvial.srvusuario.application.dto.UserCreateDTO;
 import com.viafluvial.srvusuario.application.mapper.UserMapper;
 import com.viafluvial.srvusuario.application.port.in.AuthUseCase;
-import com.viafluvial.srvusuario.application.port.out.UserPreferenceRepositoryPort;
+import com.viafluvial.srvusuario.application.port.out.UserActivityPort;
 import com.viafluvial.srvusuario.application.port.out.UserRepositoryPort;
 import com.viafluvial.srvusuario.domain.exception.DuplicateEmailException;
 import com.viafluvial.srvusuario.domain.exception.InvalidUserStateException;
@@ -27,34 +29,36 @@ public class AuthUseCaseImpl implements AuthUseCase {
     private static final Logger log = LoggerFactory.getLogger(AuthUseCaseImpl.class);
 
     private final UserRepositoryPort userRepository;
-    private final UserPreferenceRepositoryPort userPreferenceRepository;
     private final UserMapper userMapper;
+    private final UserActivityPort userActivity;
 
-    public AuthUseCaseImpl(UserRepositoryPort userRepository, UserPreferenceRepositoryPort userPreferenceRepository, UserMapper userMapper) {
+    public AuthUseCaseImpl(
+        UserRepositoryPort userRepository,
+        UserMapper userMapper,
+        UserActivityPort userActivity
+    ) {
         this.userRepository = userRepository;
-        this.userPreferenceRepository = userPreferenceRepository;
         this.userMapper = userMapper;
+        this.userActivity = userActivity;
     }
 
     public UserDTO register(UserCreateDTO userCreateDTO) {
         log.info("Registrando novo usuario: email={}, type={}", userCreateDTO.getEmail(), userCreateDTO.getUserType());
 
-        if (userRepository.existsByEmail(userCreateDTO.getEmail())) {
-            log.warn("Tentativa de registro com email duplicado: {}", userCreateDTO.getEmail());
-            throw new DuplicateEmailException(userCreateDTO.getEmail());
-        }
-
         User user = userMapper.toDomain(userCreateDTO);
-        User savedUser = userRepository.save(user);
-
-        UserPreference preference = UserPreference.builder()
-            .userId(savedUser.getId())
-            .build();
-        userPreferenceRepository.save(preference);
+        // Usuario e preferencias padrao no mesmo comando; os defaults da V12 voltam sem releitura.
+        Registration registration = userRepository.insertWithDefaultPreferences(user)
+            .orElseThrow(() -> {
+                log.warn("Tentativa de registro com email duplicado: {}", userCreateDTO.getEmail());
+                return new DuplicateEmailException(userCreateDTO.getEmail());
+            });
+        User savedUser = registration.getUser();
 
         log.info("Usuario registrado com sucesso: id={}, email={}", savedUser.getId(), savedUser.getEmail());
 
-        return userMapper.toDTO(savedUser);
+        UserDTO dto = userMapper.toDTO(savedUser);
+        dto.setPreferences(toPreferenceDTO(registration.getPreferences()));
+        return dto;
     }
 
     public UserDTO authenticate(String email, String password) {
@@ -76,23 +80,27 @@ public class AuthUseCaseImpl implements AuthUseCase {
             throw new InvalidUserStateException(user.getId(), user.getStatus(), "autenticacao");
         }
 
-        User updated = User.builder()
-            .id(user.getId())
-            .email(user.getEmail())
-            .passwordHash(user.getPasswordHash())
-            .fullName(user.getFullName())
-            .phone(user.getPhone())
-            .userType(user.getUserType())
-            .status(user.getStatus())
-            .emailVerified(user.getEmailVerified())
-            .createdAt(user.getCreatedAt())
-            .updatedAt(LocalDateTime.now())
-            .lastLogin(LocalDateTime.now())
-            .build();
-        userRepository.save(updated);
+        // Gravado em lote fora desta transacao; o cache do usuario e invalidado quando o lote e gravado.
+        userActivity.recordLastLogin(user.getId(), LocalDateTime.now());
 
         log.info("Autenticacao bem-sucedida: userId={}, email={}", user.getId(), email);
 
         return userMapper.toDTO(user);
     }
+
+    private static UserPreferenceDTO toPreferenceDTO(UserPreference preference) {
+        UserPreferenceDTO dto = new UserPreferenceDTO();
+        dto.setId(preference.getId());
+        dto.setUserId(preference.getUserId());
+        dto.setEmailNotifications(preference.getEmailNotifications());
+        dto.setSmsNotifications(preference.getSmsNotifications());
+        dto.setPushNotifications(preference.getPushNotifications());
+        dto.setReceivePromotions(preference.getReceivePromotions());
+        dto.setReceiveTripUpdates(preference.getReceiveTripUpdates());
+        dto.setLanguage(preference.getLanguage());
+        dto.setTheme(preference.getTheme());
+        dto.setCreatedAt(preference.getCreatedAt());
+        dto.setUpdatedAt(preference.getUpdatedAt());
+        return dto;
+    }
 }
@@ -1,30 +1,42 @@
 package com.viafluvial.srvusuario.application.usecase;
 
-import com.viafluvial.srvusuario.application.dto.BoatmanDocumentsDTO;
+import com.viafluvial.srvusuario.application.dto.BatchGetResult;
 import com.viafluvial.srvusuario.application.dto.BoatmanDTO;
+import com.viafluvial.srvusuario.application.dto.BoatmanDocumentsDTO;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.MergePatch;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.application.dto.PagedResponse;
 import com.viafluvial.srvusuario.application.mapper.BoatmanMapper;
 import com.viafluvial.srvusuario.application.port.in.BoatmanUseCase;
 import com.viafluvial.srvusuario.application.port.out.BoatmanRepositoryPort;
 import com.viafluvial.srvusuario.application.port.out.UserRepositoryPort;
-import com.viafluvial.srvusuario.domain.model.Boatman;
-import com.viafluvial.srvusuario.domain.model.User;
+import com.viafluvial.srvusuario.common.error.UniqueConstraintViolationException;
 import com.viafluvial.srvusuario.domain.exception.BoatmanNotFoundException;
 import com.viafluvial.srvusuario.domain.exception.UserNotFoundException;
+import com.viafluvial.srvusuario.domain.model.Boatman;
+import com.viafluvial.srvusuario.domain.model.User;
+import com.viafluvial.srvusuario.infrastructure.cache.MultiGetCache;
+import com.viafluvial.srvusuario.infrastructure.cache.NotFoundCache;
+import com.viafluvial.srvusuario.infrastructure.cache.ProfileCache;
 import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -32,30 +44,41 @@ public class BoatmanUseCaseImpl implements BoatmanUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(BoatmanUseCaseImpl.class);
 
+    static final MergePatch.Schema<Boatman> DOCUMENTS_SCHEMA = MergePatch.<Boatman>schema("documentos do barqueiro")
+        .optional("documentCpfUrl", String.class, Boatman::getDocumentCpfUrl)
+        .optional("documentCnpjUrl", String.class, Boatman::getDocumentCnpjUrl)
+        .optional("documentAddressProofUrl", String.class, Boatman::getDocumentAddressProofUrl)
+        .build();
+
     private final BoatmanRepositoryPort boatmanRepository;
     private final UserRepositoryPort userRepository;
     private final BoatmanMapper boatmanMapper;
-
-    public BoatmanUseCaseImpl(BoatmanRepositoryPort boatmanRepository, UserRepositoryPort userRepository, BoatmanMapper boatmanMapper) {
+    private final ProfileCache profileCache;
+    private final NotFoundCache notFoundCache;
+    private final MultiGetCache multiGetCache;
+    private final ConditionalPatch<Boatman> documentsPatch;
+
+    public BoatmanUseCaseImpl(
+        BoatmanRepositoryPort boatmanRepository,
+        UserRepositoryPort userRepository,
+        BoatmanMapper boatmanMapper,
+        ProfileCache profileCache,
+        NotFoundCache notFoundCache,
+        MultiGetCache multiGetCache
+    ) {
         this.boatmanRepository = boatmanRepository;
         this.userRepository = userRepository;
         this.boatmanMapper = boatmanMapper;
+        this.profileCache = profileCache;
+        this.notFoundCache = notFoundCache;
+        this.multiGetCache = multiGetCache;
+        this.documentsPatch = new ConditionalPatch<>(DOCUMENTS_SCHEMA, boatmanId -> this.boatmanRepository.findById(boatmanId),
+            (boatmanId, patch, version) -> this.boatmanRepository.patch(boatmanId, patch, version), Boatman::getVersion);
     }
 
-    @CacheEvict(value = CacheConfig.BOATMEN_CACHE, allEntries = true)
     public BoatmanDTO createBoatman(BoatmanDTO boatmanDTO) {
         log.info("Criando barqueiro: cpf={}, cnpj={}", boatmanDTO.getCpf(), boatmanDTO.getCnpj());
 
-        if (boatmanRepository.existsByCpf(boatmanDTO.getCpf())) {
-            log.warn("Tentativa de criar barqueiro com CPF duplicado: {}", boatmanDTO.getCpf());
-            throw new IllegalArgumentException("CPF ja esta registrado");
-        }
-
-        if (boatmanRepository.existsByCnpj(boatmanDTO.getCnpj())) {
-            log.warn("Tentativa de criar barqueiro com CNPJ duplicado: {}", boatmanDTO.getCnpj());
-            throw new IllegalArgumentException("CNPJ ja esta registrado");
-        }
-
         User user = userRepository.findById(boatmanDTO.getUserId())
             .orElseThrow(() -> {
                 log.warn("Usuario nao encontrado ao criar barqueiro: userId={}", boatmanDTO.getUserId());
@@ -89,27 +112,61 @@ public class BoatmanUseCaseImpl implements BoatmanUseCase {
             .updatedAt(LocalDateTime.now())
             .build();
 
-        Boatman savedBoatman = boatmanRepository.save(boatman);
+        Boatman savedBoatman = boatmanRepository.insertIfAbsent(boatman)
+            .orElseThrow(() -> duplicateBoatman(boatmanDTO));
+        notFoundCache.evictUser(user.getId());
+        // Perfil novo nunca esta no cache positivo: so a marcacao negativa do userId precisa sair.
         log.info("Barqueiro criado com sucesso: id={}, userId={}", savedBoatman.getId(), user.getId());
 
         return boatmanMapper.toDTO(savedBoatman);
     }
 
-    @Cacheable(value = CacheConfig.BOATMEN_CACHE, key = "'userId_' + #userId")
+    /**
+     * Conflito no INSERT: identifica a restricao (CPF, CNPJ ou usuario) com leituras apenas neste caminho.
+     */
+    private UniqueConstraintViolationException duplicateBoatman(BoatmanDTO boatmanDTO) {
+        if (boatmanRepository.existsByCpf(boatmanDTO.getCpf())) {
+            log.warn("Tentativa de criar barqueiro com CPF duplicado: {}", boatmanDTO.getCpf());
+            return new UniqueConstraintViolationException("CPF", boatmanDTO.getCpf());
+        }
+        if (boatmanRepository.existsByCnpj(boatmanDTO.getCnpj())) {
+            log.warn("Tentativa de criar barqueiro com CNPJ duplicado: {}", boatmanDTO.getCnpj());
+            return new UniqueConstraintViolationException("CNPJ", boatmanDTO.getCnpj());
+        }
+        log.warn("Usuario ja possui perfil de barqueiro: userId={}", boatmanDTO.getUserId());
+        return new UniqueConstraintViolationException("Usuario ja possui perfil de barqueiro");
+    }
+
+    @Cacheable(value = CacheConfig.BOATMEN_CACHE, key = "'userId_' + #userId", sync = true)
     @Transactional(readOnly = true)
     public BoatmanDTO getBoatmanByUserId(UUID userId) {
         log.debug("Buscando barqueiro por userId: {}", userId);
 
+        String key = ProfileCache.userIdKey(userId);
+        if (notFoundCache.isMissing(CacheConfig.BOATMEN_CACHE, key)) {
+            throw new BoatmanNotFoundException(userId, true);
+        }
+
         Boatman boatman = boatmanRepository.findByUserId(userId)
             .orElseThrow(() -> {
                 log.warn("Barqueiro nao encontrado: userId={}", userId);
+                notFoundCache.markMissing(CacheConfig.BOATMEN_CACHE, key);
                 return new BoatmanNotFoundException(userId, true);
             });
 
         return boatmanMapper.toDTO(boatman);
     }
 
-    @Cacheable(value = CacheConfig.BOATMEN_CACHE, key = "#id")
+    @Transactional(readOnly = true)
+    public BatchGetResult<BoatmanDTO> getBoatmenByUserIds(List<UUID> userIds) {
+        log.debug("Buscando barqueiros em lote: userIds={}", userIds.size());
+
+        return multiGetCache.getAll(CacheConfig.BOATMEN_CACHE, userIds, ProfileCache::userIdKey, BoatmanDTO.class,
+            misses -> boatmanRepository.findByUserIds(misses).stream()
+                .collect(Collectors.toMap(Boatman::getUserId, boatmanMapper::toDTO)));
+    }
+
+    @Cacheable(value = CacheConfig.BOATMEN_CACHE, key = "#id", sync = true)
     @Transactional(readOnly = true)
     public BoatmanDTO getBoatmanById(UUID id) {
         log.debug("Buscando barqueiro por ID: {}", id);
@@ -123,6 +180,7 @@ public class BoatmanUseCaseImpl implements BoatmanUseCase {
         return boatmanMapper.toDTO(boatman);
     }
 
+    @Cacheable(value = CacheConfig.BOATMAN_DOCUMENTS_CACHE, key = "#boatmanId", sync = true)
     @Transactional(readOnly = true)
     public BoatmanDocumentsDTO getBoatmanDocuments(UUID boatmanId) {
         log.debug("Buscando documentos do barqueiro: id={}", boatmanId);
@@ -130,53 +188,39 @@ public class BoatmanUseCaseImpl implements BoatmanUseCase {
         Boatman boatman = boatmanRepository.findById(boatmanId)
             .orElseThrow(() -> new BoatmanNotFoundException(boatmanId, false));
 
-        return BoatmanDocumentsDTO.builder()
-            .documentCpfUrl(boatman.getDocumentCpfUrl())
-            .documentCnpjUrl(boatman.getDocumentCnpjUrl())
-            .documentAddressProofUrl(boatman.getDocumentAddressProofUrl())
-            .build();
+        return toDocumentsDTO(boatman);
     }
 
-    @CacheEvict(value = CacheConfig.BOATMEN_CACHE, key = "#boatmanId")
-    public BoatmanDocumentsDTO updateBoatmanDocuments(UUID boatmanId, BoatmanDocumentsDTO documentsDTO) {
+    public BoatmanDocumentsDTO updateBoatmanDocuments(UUID boatmanId, BoatmanDocumentsDTO documentsDTO, Long expectedVersion) {
         log.info("Atualizando documentos do barqueiro: id={}", boatmanId);
 
-        Boatman boatman = boatmanRepository.findById(boatmanId)
-            .orElseThrow(() -> new BoatmanNotFoundException(boatmanId, false));
+        // Corpo tipado: ausente e null se confundem, entao null mantem o documento atual.
+        Map<String, Object> documents = new LinkedHashMap<>();
+        putIfPresent(documents, "documentCpfUrl", documentsDTO.getDocumentCpfUrl());
+        putIfPresent(documents, "documentCnpjUrl", documentsDTO.getDocumentCnpjUrl());
+        putIfPresent(documents, "documentAddressProofUrl", documentsDTO.getDocumentAddressProofUrl());
 
-        Boatman updated = Boatman.builder()
-            .id(boatman.getId())
-            .userId(boatman.getUserId())
-            .cpf(boatman.getCpf())
-            .rg(boatman.getRg())
-            .birthDate(boatman.getBirthDate())
-            .companyName(boatman.getCompanyName())
-            .cnpj(boatman.getCnpj())
-            .companyAddress(boatman.getCompanyAddress())
-            .companyCity(boatman.getCompanyCity())
-            .companyState(boatman.getCompanyState())
-            .companyZipCode(boatman.getCompanyZipCode())
-            .documentCpfUrl(documentsDTO.getDocumentCpfUrl() != null ? documentsDTO.getDocumentCpfUrl() : boatman.getDocumentCpfUrl())
-            .documentCnpjUrl(documentsDTO.getDocumentCnpjUrl() != null ? documentsDTO.getDocumentCnpjUrl() : boatman.getDocumentCnpjUrl())
-            .documentAddressProofUrl(documentsDTO.getDocumentAddressProofUrl() != null ? documentsDTO.getDocumentAddressProofUrl() : boatman.getDocumentAddressProofUrl())
-            .rating(boatman.getRating())
-            .totalReviews(boatman.getTotalReviews())
-            .totalVessels(boatman.getTotalVessels())
-            .totalTrips(boatman.getTotalTrips())
-            .totalRevenue(boatman.getTotalRevenue())
-            .adminNotes(boatman.getAdminNotes())
-            .approvedAt(boatman.getApprovedAt())
-            .createdAt(boatman.getCreatedAt())
-            .updatedAt(LocalDateTime.now())
-            .build();
-        Boatman saved = boatmanRepository.save(updated);
+        Boatman saved = documentsPatch.apply(boatmanId, DOCUMENTS_SCHEMA.parse(documents), expectedVersion,
+            () -> new BoatmanNotFoundException(boatmanId, false));
+        profileCache.evictBoatman(boatmanId, saved.getUserId());
+
+        log.info("Documentos do barqueiro atualizados: id={}, versao={}", boatmanId, saved.getVersion());
 
-        log.info("Documentos do barqueiro atualizados: id={}", boatmanId);
+        return toDocumentsDTO(saved);
+    }
 
+    private static void putIfPresent(Map<String, Object> target, String field, String value) {
+        if (value != null) {
+            target.put(field, value);
+        }
+    }
+
+    private static BoatmanDocumentsDTO toDocumentsDTO(Boatman boatman) {
         return BoatmanDocumentsDTO.builder()
-            .documentCpfUrl(saved.getDocumentCpfUrl())
-            .documentCnpjUrl(saved.getDocumentCnpjUrl())
-            .documentAddressProofUrl(saved.getDocumentAddressProofUrl())
+            .documentCpfUrl(boatman.getDocumentCpfUrl())
+            .documentCnpjUrl(boatman.getDocumentCnpjUrl())
+            .documentAddressProofUrl(boatman.getDocumentAddressProofUrl())
+            .version(boatman.getVersion())
             .build();
     }
 
@@ -189,11 +233,13 @@ public class BoatmanUseCaseImpl implements BoatmanUseCase {
         LocalDateTime approvedTo,
         LocalDateTime createdFrom,
         LocalDateTime createdTo,
-        Pageable pageable
+        Pageable pageable,
+        CountMode countMode
     ) {
-        log.debug("Buscando barqueiros com filtros: cpf={}, cnpj={}, page={}", cpf, cnpj, pageable.getPageNumber());
+        log.debug("Buscando barqueiros com filtros: cpf={}, cnpj={}, page={}, count={}",
+            cpf, cnpj, pageable.getPageNumber(), countMode);
 
-        Page<Boatman> page = boatmanRepository.search(
+        Slice<Boatman> page = boatmanRepository.search(
             cpf,
             cnpj,
             ratingMin,
@@ -201,23 +247,87 @@ public class BoatmanUseCaseImpl implements BoatmanUseCase {
             approvedTo,
             createdFrom,
             createdTo,
-            pageable
+            pageable,
+            countMode
         );
         List<BoatmanDTO> items = page.getContent().stream()
             .map(boatmanMapper::toDTO)
             .toList();
 
-        log.info("Busca de barqueiros concluida: {} resultados de {}", items.size(), page.getTotalElements());
+        log.info("Busca de barqueiros concluida: {} resultados, hasNext={}", items.size(), page.hasNext());
 
         return PagedResponse.<BoatmanDTO>builder()
             .items(items)
-            .page(page.getNumber() + 1)
-            .size(page.getSize())
-            .totalItems(page.getTotalElements())
-            .totalPages(page.getTotalPages())
+            .slice(page, countMode)
             .build();
     }
 
+    @Transactional(readOnly = true)
+    public PagedResponse<BoatmanDTO> searchBoatmenAfter(
+        String cpf,
+        String cnpj,
+        BigDecimal ratingMin,
+        LocalDateTime approvedFrom,
+        LocalDateTime approvedTo,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        PageCursor after,
+        int size
+    ) {
+        log.debug("Buscando barqueiros por cursor: cpf={}, cnpj={}, after={}", cpf, cnpj, after);
+
+        Slice<Boatman> slice = boatmanRepository.searchAfter(
+            cpf,
+            cnpj,
+            ratingMin,
+            approvedFrom,
+            approvedTo,
+            createdFrom,
+            createdTo,
+            after,
+            size
+        );
+        List<BoatmanDTO> items = slice.getContent().stream()
+            .map(boatmanMapper::toDTO)
+            .toList();
+
+        return PagedResponse.<BoatmanDTO>builder()
+            .items(items)
+            .size(size)
+            .keyset()
+            .nextCursor(PageCursor.next(slice, boatman -> PageCursor.of(boatman.getCreatedAt(), boatman.getId())))
+            .build();
+    }
+
+    // Sem transacao do Spring: o adapter le numa sessao propria (stateless, cursor forward-only).
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long exportBoatmen(
+        String cpf,
+        String cnpj,
+        BigDecimal ratingMin,
+        LocalDateTime approvedFrom,
+        LocalDateTime approvedTo,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        Consumer<BoatmanDTO> sink
+    ) {
+        log.info("Exportando barqueiros: cpf={}, cnpj={}, ratingMin={}", cpf, cnpj, ratingMin);
+
+        long exported = boatmanRepository.forEachMatching(
+            cpf,
+            cnpj,
+            ratingMin,
+            approvedFrom,
+            approvedTo,
+            createdFrom,
+            createdTo,
+            boatman -> sink.accept(boatmanMapper.toDTO(boatman))
+        );
+
+        log.info("Exportacao de barqueiros concluida: {} linhas", exported);
+        return exported;
+    }
+
     @Transactional(readOnly = true)
     public boolean existsByCpf(String cpf) {
         if (cpf == null || cpf.isBlank()) {
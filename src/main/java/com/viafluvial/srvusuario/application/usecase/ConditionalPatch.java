@@ -0,0 +1,64 @@
+package com.viafluvial.srvusuario.application.usecase;
+
+import com.viafluvial.srvusuario.application.dto.MergePatch;
+import com.viafluvial.srvusuario.domain.exception.StaleVersionException;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Fluxo comum dos merge patches. Com If-Match o UPDATE condicional ({@code AND version = ?}) vai direto, sem
+ * leitura previa; so quando nenhuma linha muda e feita uma leitura para distinguir 404 de 412. Sem If-Match a
+ * linha e lida, o patch e reduzido aos campos que realmente mudam e, se sobrar algo, o UPDATE inclui so esses.
+ */
+final class ConditionalPatch<T> {
+
+    @FunctionalInterface
+    interface Writer {
+        boolean patch(UUID id, MergePatch patch, Long expectedVersion);
+    }
+
+    private final MergePatch.Schema<T> schema;
+    private final Function<UUID, Optional<T>> loader;
+    private final Writer writer;
+    private final Function<T, Long> versionOf;
+
+    ConditionalPatch(MergePatch.Schema<T> schema, Function<UUID, Optional<T>> loader, Writer writer,
+                     Function<T, Long> versionOf) {
+        this.schema = schema;
+        this.loader = loader;
+        this.writer = writer;
+        this.versionOf = versionOf;
+    }
+
+    /**
+     * @return estado apos o patch, relido do banco (versao e {@code updated_at} vindos dos triggers)
+     */
+    T apply(UUID id, MergePatch patch, Long expectedVersion, Supplier<? extends RuntimeException> notFound) {
+        if (expectedVersion != null && patch.isEmpty()) {
+            T current = loader.apply(id).orElseThrow(notFound);
+            if (!Objects.equals(versionOf.apply(current), expectedVersion)) {
+                throw new StaleVersionException(id, expectedVersion);
+            }
+            return current;
+        }
+        if (expectedVersion != null) {
+            if (!writer.patch(id, patch, expectedVersion)) {
+                // Nenhuma linha com esse id e versao: a leitura so decide entre 404 e 412.
+                loader.apply(id).orElseThrow(notFound);
+                throw new StaleVersionException(id, expectedVersion);
+            }
+        } else {
+            T current = loader.apply(id).orElseThrow(notFound);
+            MergePatch changed = schema.changedFrom(patch, current);
+            if (changed.isEmpty()) {
+                return current;
+            }
+            writer.patch(id, changed, null);
+        }
+        return loader.apply(id).orElseThrow(notFound);
+    }
+}
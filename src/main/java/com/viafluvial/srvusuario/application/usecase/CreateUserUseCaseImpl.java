@@ -36,16 +36,12 @@ public class CreateUserUseCaseImpl implements CreateUserUseCase {
     public UserResponse create(UserCommand command) {
         log.info("Criando usuário: email={}", command.getEmail());
         
-        // Validação de unicidade
-        if (userRepository.existsByEmail(command.getEmail())) {
-            throw new UniqueConstraintViolationException("Email", command.getEmail());
-        }
-        
         // Converter command para domínio
         User user = mapper.commandToDomain(command);
         
-        // Persistir
-        User savedUser = userRepository.save(user);
+        // Persistir; a unicidade do email fica com a constraint (ON CONFLICT DO NOTHING)
+        User savedUser = userRepository.insertIfAbsent(user)
+            .orElseThrow(() -> new UniqueConstraintViolationException("Email", command.getEmail()));
         
         log.info("Usuário criado com sucesso: id={}, email={}", 
                 savedUser.getId(), savedUser.getEmail());
@@ -1,28 +1,42 @@
 package com.viafluvial.srvusuario.application.usecase;
 
-import com.viafluvial.srvusuario.application.dto.PassengerDTO;
+import com.viafluvial.srvusuario.application.dto.BatchGetResult;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.MergePatch;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.application.dto.PagedResponse;
+import com.viafluvial.srvusuario.application.dto.PassengerDTO;
 import com.viafluvial.srvusuario.application.mapper.PassengerMapper;
 import com.viafluvial.srvusuario.application.port.in.PassengerUseCase;
 import com.viafluvial.srvusuario.application.port.out.PassengerRepositoryPort;
 import com.viafluvial.srvusuario.application.port.out.UserRepositoryPort;
-import com.viafluvial.srvusuario.domain.model.Passenger;
-import com.viafluvial.srvusuario.domain.model.User;
+import com.viafluvial.srvusuario.common.error.UniqueConstraintViolationException;
 import com.viafluvial.srvusuario.domain.exception.PassengerNotFoundException;
 import com.viafluvial.srvusuario.domain.exception.UserNotFoundException;
+import com.viafluvial.srvusuario.domain.model.Passenger;
+import com.viafluvial.srvusuario.domain.model.User;
+import com.viafluvial.srvusuario.infrastructure.cache.MultiGetCache;
+import com.viafluvial.srvusuario.infrastructure.cache.NotFoundCache;
+import com.viafluvial.srvusuario.infrastructure.cache.ProfileCache;
 import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -30,25 +44,42 @@ public class PassengerUseCaseImpl implements PassengerUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(PassengerUseCaseImpl.class);
 
+    static final MergePatch.Schema<Passenger> PATCH_SCHEMA = MergePatch.<Passenger>schema("passageiro")
+        .optional("rg", String.class, Passenger::getRg)
+        .optional("birthDate", LocalDate.class, Passenger::getBirthDate)
+        .optional("address", String.class, Passenger::getAddress)
+        .optional("city", String.class, Passenger::getCity)
+        .optional("state", String.class, Passenger::getState)
+        .optional("zipCode", String.class, Passenger::getZipCode)
+        .optional("preferredCabinType", Passenger.CabinType.class, Passenger::getPreferredCabinType)
+        .build();
+
     private final PassengerRepositoryPort passengerRepository;
     private final UserRepositoryPort userRepository;
     private final PassengerMapper passengerMapper;
+    private final NotFoundCache notFoundCache;
+    private final MultiGetCache multiGetCache;
+    private final ConditionalPatch<Passenger> conditionalPatch;
 
-    public PassengerUseCaseImpl(PassengerRepositoryPort passengerRepository, UserRepositoryPort userRepository, PassengerMapper passengerMapper) {
+    public PassengerUseCaseImpl(
+        PassengerRepositoryPort passengerRepository,
+        UserRepositoryPort userRepository,
+        PassengerMapper passengerMapper,
+        NotFoundCache notFoundCache,
+        MultiGetCache multiGetCache
+    ) {
         this.passengerRepository = passengerRepository;
         this.userRepository = userRepository;
         this.passengerMapper = passengerMapper;
+        this.notFoundCache = notFoundCache;
+        this.multiGetCache = multiGetCache;
+        this.conditionalPatch = new ConditionalPatch<>(PATCH_SCHEMA, passengerId -> this.passengerRepository.findById(passengerId),
+            (passengerId, patch, version) -> this.passengerRepository.patch(passengerId, patch, version), Passenger::getVersion);
     }
 
-    @CacheEvict(value = CacheConfig.PASSENGERS_CACHE, allEntries = true)
     public PassengerDTO createPassenger(PassengerDTO passengerDTO) {
         log.info("Criando passageiro: cpf={}", passengerDTO.getCpf());
 
-        if (passengerRepository.existsByCpf(passengerDTO.getCpf())) {
-            log.warn("Tentativa de criar passageiro com CPF duplicado: {}", passengerDTO.getCpf());
-            throw new IllegalArgumentException("CPF ja esta registrado");
-        }
-
         User user = userRepository.findById(passengerDTO.getUserId())
             .orElseThrow(() -> {
                 log.warn("Usuario nao encontrado ao criar passageiro: userId={}", passengerDTO.getUserId());
@@ -73,27 +104,57 @@ public class PassengerUseCaseImpl implements PassengerUseCase {
             .updatedAt(LocalDateTime.now())
             .build();
 
-        Passenger savedPassenger = passengerRepository.save(passenger);
+        Passenger savedPassenger = passengerRepository.insertIfAbsent(passenger)
+            .orElseThrow(() -> duplicatePassenger(passengerDTO));
+        // O cache positivo ainda nao tem este perfil; sai so a marcacao de ausencia do userId.
+        notFoundCache.evictUser(user.getId());
         log.info("Passageiro criado com sucesso: id={}, userId={}", savedPassenger.getId(), user.getId());
 
         return passengerMapper.toDTO(savedPassenger);
     }
 
-    @Cacheable(value = CacheConfig.PASSENGERS_CACHE, key = "'userId_' + #userId")
+    /**
+     * O INSERT conflitou; so neste caminho uma leitura identifica qual restricao unica foi violada.
+     */
+    private UniqueConstraintViolationException duplicatePassenger(PassengerDTO passengerDTO) {
+        if (passengerRepository.existsByCpf(passengerDTO.getCpf())) {
+            log.warn("Tentativa de criar passageiro com CPF duplicado: {}", passengerDTO.getCpf());
+            return new UniqueConstraintViolationException("CPF", passengerDTO.getCpf());
+        }
+        log.warn("Usuario ja possui perfil de passageiro: userId={}", passengerDTO.getUserId());
+        return new UniqueConstraintViolationException("Usuario ja possui perfil de passageiro");
+    }
+
+    @Cacheable(value = CacheConfig.PASSENGERS_CACHE, key = "'userId_' + #userId", sync = true)
     @Transactional(readOnly = true)
     public PassengerDTO getPassengerByUserId(UUID userId) {
         log.debug("Buscando passageiro por userId: {}", userId);
 
+        String key = ProfileCache.userIdKey(userId);
+        if (notFoundCache.isMissing(CacheConfig.PASSENGERS_CACHE, key)) {
+            throw new PassengerNotFoundException(userId, true);
+        }
+
         Passenger passenger = passengerRepository.findByUserId(userId)
             .orElseThrow(() -> {
                 log.warn("Passageiro nao encontrado: userId={}", userId);
+                notFoundCache.markMissing(CacheConfig.PASSENGERS_CACHE, key);
                 return new PassengerNotFoundException(userId, true);
             });
 
         return passengerMapper.toDTO(passenger);
     }
 
-    @Cacheable(value = CacheConfig.PASSENGERS_CACHE, key = "#id")
+    @Transactional(readOnly = true)
+    public BatchGetResult<PassengerDTO> getPassengersByUserIds(List<UUID> userIds) {
+        log.debug("Buscando passageiros em lote: userIds={}", userIds.size());
+
+        return multiGetCache.getAll(CacheConfig.PASSENGERS_CACHE, userIds, ProfileCache::userIdKey, PassengerDTO.class,
+            misses -> passengerRepository.findByUserIds(misses).stream()
+                .collect(Collectors.toMap(Passenger::getUserId, passengerMapper::toDTO)));
+    }
+
+    @Cacheable(value = CacheConfig.PASSENGERS_CACHE, key = "#id", sync = true)
     @Transactional(readOnly = true)
     public PassengerDTO getPassengerById(UUID id) {
         log.debug("Buscando passageiro por ID: {}", id);
@@ -140,31 +201,77 @@ public class PassengerUseCaseImpl implements PassengerUseCase {
         return passengerMapper.toDTO(updated);
     }
 
+    @Caching(evict = {
+        @CacheEvict(value = CacheConfig.PASSENGERS_CACHE, key = "#id"),
+        @CacheEvict(value = CacheConfig.PASSENGERS_CACHE, key = "'userId_' + #result.userId")
+    })
+    public PassengerDTO patchPassenger(UUID id, Map<String, Object> patch, Long expectedVersion) {
+        MergePatch changes = PATCH_SCHEMA.parse(patch);
+        log.info("Aplicando merge patch no passageiro: id={}, campos={}", id, changes.changes().keySet());
+
+        Passenger patched = conditionalPatch.apply(id, changes, expectedVersion,
+            () -> new PassengerNotFoundException(id, false));
+        return passengerMapper.toDTO(patched);
+    }
+
     @Transactional(readOnly = true)
     public PagedResponse<PassengerDTO> searchPassengers(
         String cpf,
         LocalDateTime createdFrom,
         LocalDateTime createdTo,
-        Pageable pageable
+        Pageable pageable,
+        CountMode countMode
     ) {
-        log.debug("Buscando passageiros com filtros: cpf={}, page={}", cpf, pageable.getPageNumber());
+        log.debug("Buscando passageiros com filtros: cpf={}, page={}, count={}", cpf, pageable.getPageNumber(), countMode);
 
-        Page<Passenger> page = passengerRepository.search(cpf, createdFrom, createdTo, pageable);
+        Slice<Passenger> page = passengerRepository.search(cpf, createdFrom, createdTo, pageable, countMode);
         List<PassengerDTO> items = page.getContent().stream()
             .map(passengerMapper::toDTO)
             .toList();
 
-        log.info("Busca de passageiros concluida: {} resultados de {}", items.size(), page.getTotalElements());
+        log.info("Busca de passageiros concluida: {} resultados, hasNext={}", items.size(), page.hasNext());
+
+        return PagedResponse.<PassengerDTO>builder()
+            .items(items)
+            .slice(page, countMode)
+            .build();
+    }
+
+    @Transactional(readOnly = true)
+    public PagedResponse<PassengerDTO> searchPassengersAfter(
+        String cpf,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        PageCursor after,
+        int size
+    ) {
+        log.debug("Buscando passageiros por cursor: cpf={}, after={}", cpf, after);
+
+        Slice<Passenger> slice = passengerRepository.searchAfter(cpf, createdFrom, createdTo, after, size);
+        List<PassengerDTO> items = slice.getContent().stream()
+            .map(passengerMapper::toDTO)
+            .toList();
 
         return PagedResponse.<PassengerDTO>builder()
             .items(items)
-            .page(page.getNumber() + 1)
-            .size(page.getSize())
-            .totalItems(page.getTotalElements())
-            .totalPages(page.getTotalPages())
+            .size(size)
+            .keyset()
+            .nextCursor(PageCursor.next(slice, passenger -> PageCursor.of(passenger.getCreatedAt(), passenger.getId())))
             .build();
     }
 
+    // Sem transacao do Spring: o adapter le numa sessao propria (stateless, cursor forward-only).
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long exportPassengers(String cpf, LocalDateTime createdFrom, LocalDateTime createdTo, Consumer<PassengerDTO> sink) {
+        log.info("Exportando passageiros: cpf={}, createdFrom={}, createdTo={}", cpf, createdFrom, createdTo);
+
+        long exported = passengerRepository.forEachMatching(cpf, createdFrom, createdTo,
+            passenger -> sink.accept(passengerMapper.toDTO(passenger)));
+
+        log.info("Exportacao de passageiros concluida: {} linhas", exported);
+        return exported;
+    }
+
     @Transactional(readOnly = true)
     public boolean existsByCpf(String cpf) {
         if (cpf == null || cpf.isBlank()) {
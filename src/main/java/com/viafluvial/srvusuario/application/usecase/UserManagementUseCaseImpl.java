@@ -1,30 +1,47 @@
 package com.viafluvial.srvusuario.application.usecase;
 
-import com.viafluvial.srvusuario.application.dto.UserDTO;
-import com.viafluvial.srvusuario.application.dto.UserCreateDTO;
+import com.viafluvial.srvusuario.application.dto.BatchGetResult;
+import com.viafluvial.srvusuario.application.dto.BatchItemResult;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.MergePatch;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
 import com.viafluvial.srvusuario.application.dto.PagedResponse;
+import com.viafluvial.srvusuario.application.dto.UserCreateDTO;
+import com.viafluvial.srvusuario.application.dto.UserDTO;
 import com.viafluvial.srvusuario.application.mapper.UserMapper;
 import com.viafluvial.srvusuario.application.port.in.UserManagementUseCase;
 import com.viafluvial.srvusuario.application.port.out.UserRepositoryPort;
+import com.viafluvial.srvusuario.common.error.DomainException;
+import com.viafluvial.srvusuario.domain.exception.DuplicateEmailException;
+import com.viafluvial.srvusuario.domain.exception.UserNotFoundException;
 import com.viafluvial.srvusuario.domain.model.User;
 import com.viafluvial.srvusuario.domain.model.UserStatus;
 import com.viafluvial.srvusuario.domain.model.UserType;
-import com.viafluvial.srvusuario.domain.exception.DuplicateEmailException;
-import com.viafluvial.srvusuario.domain.exception.UserNotFoundException;
+import com.viafluvial.srvusuario.infrastructure.cache.MultiGetCache;
+import com.viafluvial.srvusuario.infrastructure.cache.NotFoundCache;
+import com.viafluvial.srvusuario.infrastructure.cache.UserCache;
 import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,48 +50,133 @@ public class UserManagementUseCaseImpl implements UserManagementUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(UserManagementUseCaseImpl.class);
 
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    // Senha, datas e last_login ficam fora: tem fluxos proprios.
+    static final MergePatch.Schema<User> PATCH_SCHEMA = MergePatch.<User>schema("usuario")
+        .required("email", String.class, User::getEmail)
+        .validatedBy(value -> EMAIL.matcher((String) value).matches(), "Email deve ser valido")
+        .required("fullName", String.class, User::getFullName)
+        .required("phone", String.class, User::getPhone)
+        .required("userType", UserType.class, User::getUserType)
+        .required("status", UserStatus.class, User::getStatus)
+        .required("emailVerified", Boolean.class, User::getEmailVerified)
+        .build();
+
     private final UserRepositoryPort userRepository;
     private final UserMapper userMapper;
-
-    public UserManagementUseCaseImpl(UserRepositoryPort userRepository, UserMapper userMapper) {
+    private final UserCache userCache;
+    private final NotFoundCache notFoundCache;
+    private final MultiGetCache multiGetCache;
+    private final ConditionalPatch<User> conditionalPatch;
+
+    public UserManagementUseCaseImpl(
+        UserRepositoryPort userRepository,
+        UserMapper userMapper,
+        UserCache userCache,
+        NotFoundCache notFoundCache,
+        MultiGetCache multiGetCache
+    ) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
+        this.userCache = userCache;
+        this.notFoundCache = notFoundCache;
+        this.multiGetCache = multiGetCache;
+        this.conditionalPatch = new ConditionalPatch<>(PATCH_SCHEMA, userId -> this.userRepository.findById(userId),
+            (userId, patch, version) -> this.userRepository.patch(userId, patch, version), User::getVersion);
     }
 
-    @Caching(evict = {
-        @CacheEvict(value = CacheConfig.USERS_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.USER_BY_EMAIL_CACHE, key = "#userCreateDTO.email")
-    })
+    @CacheEvict(value = CacheConfig.USER_BY_EMAIL_CACHE, key = "#userCreateDTO.email")
     public UserDTO createUser(UserCreateDTO userCreateDTO) {
         log.info("Criando usuario com email: {}", userCreateDTO.getEmail());
 
-        if (userRepository.existsByEmail(userCreateDTO.getEmail())) {
-            log.warn("Tentativa de criar usuario com email duplicado: {}", userCreateDTO.getEmail());
-            throw new DuplicateEmailException(userCreateDTO.getEmail());
-        }
-
         User user = userMapper.toDomain(userCreateDTO);
-        User savedUser = userRepository.save(user);
+        User savedUser = userRepository.insertIfAbsent(user)
+            .orElseThrow(() -> {
+                log.warn("Tentativa de criar usuario com email duplicado: {}", userCreateDTO.getEmail());
+                return new DuplicateEmailException(userCreateDTO.getEmail());
+            });
+        notFoundCache.evictUser(savedUser.getId());
 
         log.info("Usuario criado com sucesso: id={}, email={}", savedUser.getId(), savedUser.getEmail());
         return userMapper.toDTO(savedUser);
     }
 
-    @Cacheable(value = CacheConfig.USERS_CACHE, key = "#id")
+    public List<BatchItemResult<UserDTO>> createUsers(List<UserCreateDTO> users) {
+        log.info("Criando usuarios em lote: itens={}", users.size());
+
+        List<BatchItemResult<UserDTO>> results = new ArrayList<>(Collections.nCopies(users.size(), null));
+        Map<String, Integer> indexByEmail = new LinkedHashMap<>();
+        List<User> candidates = new ArrayList<>();
+
+        for (int i = 0; i < users.size(); i++) {
+            UserCreateDTO dto = users.get(i);
+            User user;
+            try {
+                user = userMapper.toDomain(dto);
+            } catch (DomainException e) {
+                results.set(i, BatchItemResult.invalid(i, e.getMessage()));
+                continue;
+            }
+            if (user == null) {
+                results.set(i, BatchItemResult.invalid(i, "Item vazio"));
+                continue;
+            }
+            Integer first = indexByEmail.putIfAbsent(user.getEmail(), i);
+            if (first != null) {
+                results.set(i, BatchItemResult.duplicate(i,
+                    String.format("Email '%s' repetido no lote (item %d)", user.getEmail(), first)));
+                continue;
+            }
+            candidates.add(user);
+        }
+
+        Set<String> existing = userRepository.findExistingEmails(indexByEmail.keySet());
+        List<User> toSave = new ArrayList<>(candidates.size());
+        for (User user : candidates) {
+            if (existing.contains(user.getEmail())) {
+                int index = indexByEmail.get(user.getEmail());
+                results.set(index, BatchItemResult.duplicate(index, new DuplicateEmailException(user.getEmail()).getMessage()));
+            } else {
+                toSave.add(user);
+            }
+        }
+
+        List<User> saved = userRepository.saveAll(toSave);
+        List<String> emails = new ArrayList<>(saved.size());
+        for (User user : saved) {
+            int index = indexByEmail.get(user.getEmail());
+            results.set(index, BatchItemResult.created(index, userMapper.toDTO(user)));
+            notFoundCache.evictUser(user.getId());
+            emails.add(user.getEmail());
+        }
+        userCache.evict(null, emails.toArray(String[]::new));
+
+        log.info("Lote de usuarios concluido: criados={}, rejeitados={}", saved.size(), users.size() - saved.size());
+        return results;
+    }
+
+    @Cacheable(value = CacheConfig.USERS_CACHE, key = "#id", sync = true)
     @Transactional(readOnly = true)
     public UserDTO getUserById(UUID id) {
         log.debug("Buscando usuario por ID: {}", id);
 
+        if (notFoundCache.isMissing(CacheConfig.USERS_CACHE, id)) {
+            throw new UserNotFoundException(id);
+        }
+
         User user = userRepository.findById(id)
             .orElseThrow(() -> {
                 log.warn("Usuario nao encontrado: id={}", id);
+                notFoundCache.markMissing(CacheConfig.USERS_CACHE, id);
                 return new UserNotFoundException(id);
             });
 
+        userCache.remember(user.getId(), user.getEmail());
         return userMapper.toDTO(user);
     }
 
-    @Cacheable(value = CacheConfig.USER_BY_EMAIL_CACHE, key = "#email")
+    @Cacheable(value = CacheConfig.USER_BY_EMAIL_CACHE, key = "#email", sync = true)
     @Transactional(readOnly = true)
     public UserDTO getUserByEmail(String email) {
         log.debug("Buscando usuario por email: {}", email);
@@ -85,9 +187,24 @@ public class UserManagementUseCaseImpl implements UserManagementUseCase {
                 return new UserNotFoundException(email);
             });
 
+        userCache.remember(user.getId(), user.getEmail());
         return userMapper.toDTO(user);
     }
 
+    @Transactional(readOnly = true)
+    public BatchGetResult<UserDTO> getUsersByIds(List<UUID> ids) {
+        log.debug("Buscando usuarios em lote: ids={}", ids.size());
+
+        return multiGetCache.getAll(CacheConfig.USERS_CACHE, ids, id -> id, UserDTO.class, misses -> {
+            Map<UUID, UserDTO> loaded = new HashMap<>();
+            for (User user : userRepository.findByIds(misses)) {
+                userCache.remember(user.getId(), user.getEmail());
+                loaded.put(user.getId(), userMapper.toDTO(user));
+            }
+            return loaded;
+        });
+    }
+
     @Transactional(readOnly = true)
     public List<UserDTO> getAllUsers() {
         log.debug("Listando todos os usuarios");
@@ -103,56 +220,115 @@ public class UserManagementUseCaseImpl implements UserManagementUseCase {
     @Transactional(readOnly = true)
     public PagedResponse<UserDTO> searchUsers(
         String email,
+        String name,
+        UserType userType,
+        UserStatus status,
+        Boolean emailVerified,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        Pageable pageable,
+        CountMode countMode
+    ) {
+        log.debug("Buscando usuarios com filtros: email={}, name={}, type={}, status={}, page={}, count={}",
+            email, name, userType, status, pageable.getPageNumber(), countMode);
+
+        Slice<UserDTO> page = userRepository.searchViews(
+            email,
+            name,
+            userType,
+            status,
+            emailVerified,
+            createdFrom,
+            createdTo,
+            pageable,
+            countMode
+        );
+        List<UserDTO> items = page.getContent();
+
+        log.info("Busca de usuarios concluida: {} resultados, hasNext={}", items.size(), page.hasNext());
+
+        return PagedResponse.<UserDTO>builder()
+            .items(items)
+            .slice(page, countMode)
+            .build();
+    }
+
+    @Transactional(readOnly = true)
+    public PagedResponse<UserDTO> searchUsersAfter(
+        String email,
+        String name,
         UserType userType,
         UserStatus status,
         Boolean emailVerified,
         LocalDateTime createdFrom,
         LocalDateTime createdTo,
-        Pageable pageable
+        PageCursor after,
+        int size
     ) {
-        log.debug("Buscando usuarios com filtros: email={}, type={}, status={}, page={}",
-            email, userType, status, pageable.getPageNumber());
+        log.debug("Buscando usuarios por cursor: email={}, name={}, type={}, status={}, after={}", email, name, userType, status, after);
 
-        Page<User> page = userRepository.search(
+        Slice<User> slice = userRepository.searchAfter(
             email,
+            name,
             userType,
             status,
             emailVerified,
             createdFrom,
             createdTo,
-            pageable
+            after,
+            size
         );
-        List<UserDTO> items = page.getContent().stream()
+        List<UserDTO> items = slice.getContent().stream()
             .map(userMapper::toDTO)
             .toList();
 
-        log.info("Busca de usuarios concluida: {} resultados de {}", items.size(), page.getTotalElements());
-
         return PagedResponse.<UserDTO>builder()
             .items(items)
-            .page(page.getNumber() + 1)
-            .size(page.getSize())
-            .totalItems(page.getTotalElements())
-            .totalPages(page.getTotalPages())
+            .size(size)
+            .keyset()
+            .nextCursor(PageCursor.next(slice, user -> PageCursor.of(user.getCreatedAt(), user.getId())))
             .build();
     }
 
+    // Sem transacao do Spring: o adapter le numa sessao propria (stateless, cursor forward-only).
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long exportUsers(
+        String email,
+        String name,
+        UserType userType,
+        UserStatus status,
+        Boolean emailVerified,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        Consumer<UserDTO> sink
+    ) {
+        log.info("Exportando usuarios: email={}, name={}, type={}, status={}", email, name, userType, status);
+
+        long exported = userRepository.forEachMatching(
+            email,
+            name,
+            userType,
+            status,
+            emailVerified,
+            createdFrom,
+            createdTo,
+            user -> sink.accept(userMapper.toDTO(user))
+        );
+
+        log.info("Exportacao de usuarios concluida: {} linhas", exported);
+        return exported;
+    }
+
     @Transactional(readOnly = true)
     public List<UserDTO> getUsersByType(UserType userType) {
         log.debug("Buscando usuarios por tipo: {}", userType);
 
-        List<User> users = userRepository.findByUserType(userType);
+        List<UserDTO> users = userRepository.findViewsByUserType(userType);
         log.info("Encontrados {} usuarios do tipo {}", users.size(), userType);
 
-        return users.stream()
-            .map(userMapper::toDTO)
-            .collect(Collectors.toList());
+        return users;
     }
 
-    @Caching(evict = {
-        @CacheEvict(value = CacheConfig.USERS_CACHE, key = "#id"),
-        @CacheEvict(value = CacheConfig.USER_BY_EMAIL_CACHE, allEntries = true)
-    })
     public UserDTO updateUser(UUID id, UserDTO userDTO) {
         log.info("Atualizando usuario: id={}", id);
 
@@ -177,56 +353,57 @@ public class UserManagementUseCaseImpl implements UserManagementUseCase {
             .build();
 
         User saved = userRepository.save(updatedUser);
+        userCache.evict(id, user.getEmail(), saved.getEmail());
         log.info("Usuario atualizado com sucesso: id={}", id);
 
         return userMapper.toDTO(saved);
     }
 
-    @Caching(evict = {
-        @CacheEvict(value = CacheConfig.USERS_CACHE, key = "#id"),
-        @CacheEvict(value = CacheConfig.USER_BY_EMAIL_CACHE, allEntries = true)
-    })
+    public UserDTO patchUser(UUID id, Map<String, Object> patch, Long expectedVersion) {
+        MergePatch changes = PATCH_SCHEMA.parse(patch);
+        log.info("Aplicando merge patch no usuario: id={}, campos={}", id, changes.changes().keySet());
+
+        if (changes.contains("email")) {
+            String email = (String) changes.get("email");
+            userRepository.findByEmail(email)
+                .filter(other -> !other.getId().equals(id))
+                .ifPresent(other -> {
+                    throw new DuplicateEmailException(email);
+                });
+        }
+
+        User patched = conditionalPatch.apply(id, changes, expectedVersion, () -> new UserNotFoundException(id));
+        userCache.evict(id, patched.getEmail());
+        log.info("Merge patch aplicado: id={}, versao={}", id, patched.getVersion());
+
+        return userMapper.toDTO(patched);
+    }
+
     public void deleteUser(UUID id) {
         log.info("Deletando usuario: id={}", id);
 
-        if (!userRepository.existsById(id)) {
-            log.warn("Usuario nao encontrado para delecao: id={}", id);
-            throw new UserNotFoundException(id);
-        }
+        User user = userRepository.findById(id)
+            .orElseThrow(() -> {
+                log.warn("Usuario nao encontrado para delecao: id={}", id);
+                return new UserNotFoundException(id);
+            });
 
         userRepository.deleteById(id);
+        userCache.evict(id, user.getEmail());
         log.info("Usuario deletado com sucesso: id={}", id);
     }
 
-    @CacheEvict(value = CacheConfig.USERS_CACHE, key = "#userId")
     public void updateLastLogin(UUID userId) {
         log.debug("Atualizando ultimo login: userId={}", userId);
 
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new UserNotFoundException(userId));
-
-        User updated = User.builder()
-            .id(user.getId())
-            .email(user.getEmail())
-            .passwordHash(user.getPasswordHash())
-            .fullName(user.getFullName())
-            .phone(user.getPhone())
-            .userType(user.getUserType())
-            .status(user.getStatus())
-            .emailVerified(user.getEmailVerified())
-            .createdAt(user.getCreatedAt())
-            .updatedAt(LocalDateTime.now())
-            .lastLogin(LocalDateTime.now())
-            .build();
-        userRepository.save(updated);
+        if (!userRepository.touchLastLogin(userId, LocalDateTime.now())) {
+            throw new UserNotFoundException(userId);
+        }
+        userCache.evict(userId);
 
         log.debug("Ultimo login atualizado: userId={}", userId);
     }
 
-    @Caching(evict = {
-        @CacheEvict(value = CacheConfig.USERS_CACHE, key = "#id"),
-        @CacheEvict(value = CacheConfig.USER_BY_EMAIL_CACHE, allEntries = true)
-    })
     public UserDTO activateUser(UUID id) {
         log.info("Ativando usuario: id={}", id);
 
@@ -250,6 +427,7 @@ public class UserManagementUseCaseImpl implements UserManagementUseCase {
             .lastLogin(user.getLastLogin())
             .build();
         User saved = userRepository.save(updatedUser);
+        userCache.evict(id, user.getEmail());
         log.info("Usuario ativado com sucesso: id={}", id);
 
         return userMapper.toDTO(saved);
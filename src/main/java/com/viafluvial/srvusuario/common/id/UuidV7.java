@@ -0,0 +1,50 @@
+package com.viafluvial.srvusuario.common.id;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de UUIDv7 (RFC 9562): 48 bits de epoch em ms, versao, 12 bits de contador e 62 bits aleatorios.
+ * Ids gerados depois ficam maiores (ordem de {@code uuid} no PostgreSQL), entao inserts caem no fim do indice.
+ * <p>
+ * O contador (metodo 1 da RFC) garante ordem estrita dentro do mesmo milissegundo neste processo; se estourar,
+ * ou se o relogio voltar, o timestamp avanca junto com o ultimo id emitido em vez de repetir ou regredir.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int COUNTER_BITS = 12;
+    private static final AtomicLong LAST_STAMP = new AtomicLong();
+
+    private UuidV7() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Gera um UUIDv7 com o relogio atual.
+     */
+    public static UUID generate() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        long stamp = LAST_STAMP.updateAndGet(last -> Math.max(now, last + 1));
+        return build(stamp >>> COUNTER_BITS, stamp & 0xFFF, RANDOM.nextLong());
+    }
+
+    static UUID build(long epochMillis, long counter, long random) {
+        long msb = (epochMillis & 0xFFFF_FFFF_FFFFL) << 16 | 0x7000L | (counter & 0xFFF);
+        long lsb = random & 0x3FFF_FFFF_FFFF_FFFFL | 0x8000_0000_0000_0000L;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Instante embutido no id, quando ele e um UUIDv7; ids v4 (anteriores a V36) nao carregam tempo.
+     */
+    public static Optional<Instant> timestampOf(UUID id) {
+        if (id == null || id.version() != 7) {
+            return Optional.empty();
+        }
+        return Optional.of(Instant.ofEpochMilli(id.getMostSignificantBits() >>> 16));
+    }
+}
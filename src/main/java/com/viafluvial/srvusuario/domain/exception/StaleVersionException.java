@@ -0,0 +1,26 @@
+package com.viafluvial.srvusuario.domain.exception;
+
+import java.util.UUID;
+
+/**
+ * Exceção lançada quando o If-Match não corresponde à versão atual do recurso.
+ */
+public class StaleVersionException extends RuntimeException {
+
+    private final UUID resourceId;
+    private final Long expectedVersion;
+
+    public StaleVersionException(UUID resourceId, Long expectedVersion) {
+        super(String.format("Recurso %s foi alterado; versão esperada %d não é a atual", resourceId, expectedVersion));
+        this.resourceId = resourceId;
+        this.expectedVersion = expectedVersion;
+    }
+
+    public UUID getResourceId() {
+        return resourceId;
+    }
+
+    public Long getExpectedVersion() {
+        return expectedVersion;
+    }
+}
@@ -35,6 +35,7 @@ public class Agency {
     private LocalDateTime approvedAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     private Agency() {
     }
@@ -190,6 +191,10 @@ public class Agency {
         return updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -221,6 +226,7 @@ public class Agency {
         private LocalDateTime approvedAt;
         private LocalDateTime createdAt = LocalDateTime.now();
         private LocalDateTime updatedAt = LocalDateTime.now();
+        private Long version;
 
         public Builder id(UUID id) {
             this.id = id;
@@ -352,12 +358,18 @@ public class Agency {
             return this;
         }
 
+        public Builder version(Long version) {
+            this.version = version;
+            return this;
+        }
+
         public Agency build() {
             Agency agency = new Agency(id, userId, companyName, cnpj, tradeName, companyEmail,
                 companyPhone, whatsapp, address, city, state, zipCode, commissionPercent,
                 documentCnpjUrl, documentContractUrl, totalSales, totalRevenue, totalCommissionPaid,
                 bankName, bankAccount, bankAgency, pixKey, adminNotes, approvedAt, createdAt, updatedAt);
             agency.validate();
+            agency.version = version;
             return agency;
         }
     }
@@ -33,6 +33,7 @@ public class Boatman {
     private LocalDateTime approvedAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     private Boatman() {
     }
@@ -175,6 +176,10 @@ public class Boatman {
         return updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -203,6 +208,7 @@ public class Boatman {
         private LocalDateTime approvedAt;
         private LocalDateTime createdAt = LocalDateTime.now();
         private LocalDateTime updatedAt = LocalDateTime.now();
+        private Long version;
 
         public Builder id(UUID id) {
             this.id = id;
@@ -319,12 +325,18 @@ public class Boatman {
             return this;
         }
 
+        public Builder version(Long version) {
+            this.version = version;
+            return this;
+        }
+
         public Boatman build() {
             Boatman boatman = new Boatman(id, userId, cpf, rg, birthDate, companyName, cnpj,
                 companyAddress, companyCity, companyState, companyZipCode, documentCpfUrl,
                 documentCnpjUrl, documentAddressProofUrl, rating, totalReviews, totalVessels,
                 totalTrips, totalRevenue, adminNotes, approvedAt, createdAt, updatedAt);
             boatman.validate();
+            boatman.version = version;
             return boatman;
         }
     }
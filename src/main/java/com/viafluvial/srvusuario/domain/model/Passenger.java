@@ -24,6 +24,7 @@ public class Passenger {
     private BigDecimal totalSpent;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     private Passenger() {
     }
@@ -112,6 +113,10 @@ public class Passenger {
         return updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -131,6 +136,7 @@ public class Passenger {
         private BigDecimal totalSpent = BigDecimal.ZERO;
         private LocalDateTime createdAt = LocalDateTime.now();
         private LocalDateTime updatedAt = LocalDateTime.now();
+        private Long version;
 
         public Builder id(UUID id) {
             this.id = id;
@@ -202,10 +208,16 @@ public class Passenger {
             return this;
         }
 
+        public Builder version(Long version) {
+            this.version = version;
+            return this;
+        }
+
         public Passenger build() {
             Passenger passenger = new Passenger(id, userId, cpf, rg, birthDate, address, city,
                 state, zipCode, preferredCabinType, totalTrips, totalSpent, createdAt, updatedAt);
             passenger.validate();
+            passenger.version = version;
             return passenger;
         }
     }
@@ -23,6 +23,7 @@ public class User {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime lastLogin;
+    private Long version;
     
     // Construtor privado - uso obrigatório do builder para garantir validações
     private User() {
@@ -160,6 +161,13 @@ public class User {
         return lastLogin;
     }
     
+    /**
+     * Versao da linha no banco (ETag); nula em objetos ainda nao persistidos.
+     */
+    public Long getVersion() {
+        return version;
+    }
+    
     // Builder
     public static Builder builder() {
         return new Builder();
@@ -177,6 +185,7 @@ public class User {
         private LocalDateTime createdAt = LocalDateTime.now();
         private LocalDateTime updatedAt = LocalDateTime.now();
         private LocalDateTime lastLogin;
+        private Long version;
         
         public Builder id(UUID id) {
             this.id = id;
@@ -233,10 +242,16 @@ public class User {
             return this;
         }
         
+        public Builder version(Long version) {
+            this.version = version;
+            return this;
+        }
+        
         public User build() {
             User user = new User(id, email, passwordHash, fullName, phone, 
                                userType, status, emailVerified, 
                                createdAt, updatedAt, lastLogin);
+            user.version = version;
             user.validate();
             return user;
         }
@@ -0,0 +1,87 @@
+package com.viafluvial.srvusuario.infrastructure.bulkload;
+
+import com.viafluvial.srvusuario.application.dto.BulkLoadReport;
+import com.viafluvial.srvusuario.application.dto.BulkLoadTarget;
+import com.viafluvial.srvusuario.application.port.out.ProfileBulkLoadPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Endpoint {@code /actuator/bulkload/{target}} (somente ADMIN): carrega um CSV de {@code passengers} ou
+ * {@code boatmen} via {@link ProfileBulkLoadPort}. O arquivo e lido em streaming de {@code app.bulk-load.directory}
+ * no servidor (volumes de migracao com milhoes de linhas nao passam pelo corpo da requisicao);
+ * caminhos fora do diretorio sao recusados. Sem diretorio configurado, a carga fica desabilitada.
+ */
+@Component
+@Endpoint(id = "bulkload")
+public class BulkLoadEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkLoadEndpoint.class);
+
+    private final ProfileBulkLoadPort bulkLoad;
+    private final String directory;
+
+    public BulkLoadEndpoint(
+        ProfileBulkLoadPort bulkLoad,
+        @Value("${app.bulk-load.directory:}") String directory
+    ) {
+        this.bulkLoad = bulkLoad;
+        this.directory = directory;
+    }
+
+    /**
+     * @param target {@code passengers} ou {@code boatmen}
+     * @param file   nome do CSV (UTF-8, com cabecalho) relativo a {@code app.bulk-load.directory}
+     */
+    @WriteOperation
+    public BulkLoadReport load(@Selector String target, String file) {
+        BulkLoadTarget loadTarget;
+        try {
+            loadTarget = BulkLoadTarget.fromValue(target);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), "Destino invalido");
+        }
+        Path source = resolve(file);
+
+        log.info("Carga em massa solicitada via actuator: target={}, arquivo={}", loadTarget.getValue(), source);
+        try (Reader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            return bulkLoad.load(loadTarget, reader);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), "Arquivo invalido");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    Path resolve(String file) {
+        if (directory == null || directory.isBlank()) {
+            throw new InvalidEndpointRequestException(
+                "Carga em massa desabilitada: app.bulk-load.directory nao configurado", "Carga desabilitada");
+        }
+        if (file == null || file.isBlank()) {
+            throw new InvalidEndpointRequestException("Parametro file obrigatorio", "Arquivo ausente");
+        }
+        Path base = Path.of(directory).toAbsolutePath().normalize();
+        Path source = base.resolve(file).normalize();
+        if (!source.startsWith(base)) {
+            throw new InvalidEndpointRequestException("Arquivo fora do diretorio de carga: " + file, "Arquivo invalido");
+        }
+        if (!Files.isRegularFile(source)) {
+            throw new InvalidEndpointRequestException("Arquivo nao encontrado: " + file, "Arquivo nao encontrado");
+        }
+        return source;
+    }
+}
@@ -0,0 +1,41 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import java.io.Serializable;
+
+/**
+ * Mensagem de invalidacao trocada entre instancias.
+ * {@code key} nulo significa limpar o cache inteiro.
+ */
+public final class CacheInvalidationMessage implements Serializable {
+
+    private final String origin;
+    private final String cacheName;
+    private final Object key;
+
+    public CacheInvalidationMessage(String origin, String cacheName, Object key) {
+        this.origin = origin;
+        this.cacheName = cacheName;
+        this.key = key;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public Object getKey() {
+        return key;
+    }
+
+    public boolean isClear() {
+        return key == null;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheInvalidationMessage{origin=" + origin + ", cacheName=" + cacheName + ", key=" + key + "}";
+    }
+}
@@ -0,0 +1,15 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Canal de difusao de invalidacoes de cache entre instancias do servico.
+ * Implementacoes entregam cada mensagem publicada a todos os assinantes, inclusive
+ * os da propria instancia; quem recebe descarta as mensagens de origem local.
+ */
+public interface CacheInvalidationTransport {
+
+    void publish(CacheInvalidationMessage message);
+
+    void subscribe(Consumer<CacheInvalidationMessage> listener);
+}
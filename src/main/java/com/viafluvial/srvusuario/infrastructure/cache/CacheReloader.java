@@ -0,0 +1,109 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import com.viafluvial.srvusuario.application.mapper.BoatmanMapper;
+import com.viafluvial.srvusuario.application.mapper.PassengerMapper;
+import com.viafluvial.srvusuario.application.mapper.UserMapper;
+import com.viafluvial.srvusuario.application.port.out.BoatmanRepositoryPort;
+import com.viafluvial.srvusuario.application.port.out.PassengerRepositoryPort;
+import com.viafluvial.srvusuario.application.port.out.UserRepositoryPort;
+import com.viafluvial.srvusuario.domain.model.User;
+import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
+import com.viafluvial.srvusuario.infrastructure.datasource.ReadYourWrites;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Recarrega entradas de cache em background (refresh-ahead).
+ * Reproduz as mesmas consultas dos use cases, mas direto nos ports, sem passar
+ * pelo proxy de {@code @Cacheable} (que devolveria o valor antigo ainda em cache).
+ * Retornar {@code null} remove a entrada (registro apagado no banco). Le do primario ({@link ReadYourWrites}).
+ */
+@Component
+public class CacheReloader {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheReloader.class);
+
+    private final UserRepositoryPort userRepository;
+    private final BoatmanRepositoryPort boatmanRepository;
+    private final PassengerRepositoryPort passengerRepository;
+    private final UserMapper userMapper;
+    private final BoatmanMapper boatmanMapper;
+    private final PassengerMapper passengerMapper;
+    private final UserCache userCache;
+
+    public CacheReloader(
+        UserRepositoryPort userRepository,
+        BoatmanRepositoryPort boatmanRepository,
+        PassengerRepositoryPort passengerRepository,
+        UserMapper userMapper,
+        BoatmanMapper boatmanMapper,
+        PassengerMapper passengerMapper,
+        UserCache userCache
+    ) {
+        this.userRepository = userRepository;
+        this.boatmanRepository = boatmanRepository;
+        this.passengerRepository = passengerRepository;
+        this.userMapper = userMapper;
+        this.boatmanMapper = boatmanMapper;
+        this.passengerMapper = passengerMapper;
+        this.userCache = userCache;
+    }
+
+    public Object reload(String cacheName, Object key) {
+        log.debug("Recarregando entrada de cache: cache={}, key={}", cacheName, key);
+        try (ReadYourWrites.Pin ignored = ReadYourWrites.pin()) {
+            return load(cacheName, key);
+        }
+    }
+
+    private Object load(String cacheName, Object key) {
+        return switch (cacheName) {
+            case CacheConfig.USERS_CACHE -> userRepository.findById((UUID) key)
+                .map(this::rememberedUser)
+                .orElse(null);
+            case CacheConfig.USER_BY_EMAIL_CACHE -> userRepository.findByEmail((String) key)
+                .map(this::rememberedUser)
+                .orElse(null);
+            case CacheConfig.BOATMEN_CACHE -> reloadBoatman(key);
+            case CacheConfig.PASSENGERS_CACHE -> reloadPassenger(key);
+            default -> throw new IllegalArgumentException("Cache sem recarga configurada: " + cacheName);
+        };
+    }
+
+    /**
+     * O refresh reinicia o TTL da entrada; o indice id -> email do {@link UserCache} acompanha.
+     */
+    private Object rememberedUser(User user) {
+        userCache.remember(user.getId(), user.getEmail());
+        return userMapper.toDTO(user);
+    }
+
+    private Object reloadBoatman(Object key) {
+        UUID userId = userIdFromKey(key);
+        if (userId != null) {
+            return boatmanRepository.findByUserId(userId).map(boatmanMapper::toDTO).orElse(null);
+        }
+        return boatmanRepository.findById((UUID) key).map(boatmanMapper::toDTO).orElse(null);
+    }
+
+    private Object reloadPassenger(Object key) {
+        UUID userId = userIdFromKey(key);
+        if (userId != null) {
+            return passengerRepository.findByUserId(userId).map(passengerMapper::toDTO).orElse(null);
+        }
+        return passengerRepository.findById((UUID) key).map(passengerMapper::toDTO).orElse(null);
+    }
+
+    /**
+     * Chaves {@code 'userId_' + #userId} usadas nos {@code @Cacheable} de perfis.
+     */
+    private UUID userIdFromKey(Object key) {
+        if (key instanceof String value && value.startsWith(ProfileCache.USER_ID_KEY_PREFIX)) {
+            return UUID.fromString(value.substring(ProfileCache.USER_ID_KEY_PREFIX.length()));
+        }
+        return null;
+    }
+}
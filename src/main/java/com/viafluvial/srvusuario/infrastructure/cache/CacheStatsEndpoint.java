@@ -0,0 +1,232 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Endpoint {@code /actuator/cachestats}: estatisticas do L1 (Caffeine) de cada cache,
+ * chaves mais quentes e eviction de uma chave ou do cache inteiro.
+ * As evictions passam pelo {@link TwoTierCache}, entao tambem limpam o L2 e sao difundidas as demais instancias.
+ */
+@Component
+@Endpoint(id = "cachestats")
+public class CacheStatsEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheStatsEndpoint.class);
+
+    static final int DEFAULT_TOP_KEYS = 20;
+    static final int MAX_TOP_KEYS = 500;
+
+    private final CacheManager cacheManager;
+
+    public CacheStatsEndpoint(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @ReadOperation
+    public Map<String, CacheDescriptor> caches() {
+        Map<String, CacheDescriptor> caches = new TreeMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                caches.put(name, describe(cache));
+            }
+        }
+        return caches;
+    }
+
+    /**
+     * Estatisticas de um cache e suas chaves mais quentes. Em caches limitados por tamanho a ordem vem
+     * da politica de eviction do Caffeine (frequencia/recencia); nos demais, das chaves acessadas mais recentemente.
+     */
+    @ReadOperation
+    @Nullable
+    public CacheDetails cache(@Selector String name, @Nullable Integer limit) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            return null;
+        }
+        int topKeys = limit == null ? DEFAULT_TOP_KEYS : Math.max(0, Math.min(limit, MAX_TOP_KEYS));
+        return new CacheDetails(describe(cache), hottestKeys(cache, topKeys));
+    }
+
+    /**
+     * Sem {@code key}, limpa o cache inteiro. Chaves em formato UUID sao convertidas, pois e o tipo usado
+     * nos {@code @Cacheable} por ID; as demais (email, {@code userId_<uuid>}) sao usadas como texto.
+     */
+    @DeleteOperation
+    public void evict(@Selector String name, @Nullable String key) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            return;
+        }
+        if (key == null || key.isBlank()) {
+            cache.clear();
+            log.info("Cache limpo via actuator: cache={}", name);
+            return;
+        }
+        cache.evict(parseKey(key));
+        log.info("Chave removida via actuator: cache={}, key={}", name, key);
+    }
+
+    static Object parseKey(String key) {
+        try {
+            UUID uuid = UUID.fromString(key);
+            // UUID.fromString aceita formas abreviadas; so converte a forma canonica.
+            return uuid.toString().equalsIgnoreCase(key) ? uuid : key;
+        } catch (IllegalArgumentException e) {
+            return key;
+        }
+    }
+
+    private CacheDescriptor describe(Cache cache) {
+        long coalesced = cache instanceof TwoTierCache twoTier ? twoTier.getCoalescedRequests() : 0L;
+        boolean shared = cache instanceof TwoTierCache twoTier && twoTier.getShared() != null;
+
+        if (!(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            return new CacheDescriptor(cache.getName(), null, null, coalesced, shared);
+        }
+        return new CacheDescriptor(cache.getName(), nativeCache.stats(), nativeCache.estimatedSize(), coalesced, shared);
+    }
+
+    private List<String> hottestKeys(Cache cache, int limit) {
+        if (limit == 0 || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            return List.of();
+        }
+        Policy<?, ?> policy = nativeCache.policy();
+
+        Optional<? extends Policy.Eviction<?, ?>> eviction = policy.eviction();
+        if (eviction.isPresent()) {
+            return toStrings(eviction.get().hottest(limit).keySet());
+        }
+        Optional<? extends Policy.FixedExpiration<?, ?>> expireAfterAccess = policy.expireAfterAccess();
+        if (expireAfterAccess.isPresent()) {
+            return toStrings(expireAfterAccess.get().youngest(limit).keySet());
+        }
+        return toStrings(nativeCache.asMap().keySet().stream().limit(limit).toList());
+    }
+
+    private static List<String> toStrings(Iterable<?> keys) {
+        List<String> values = new ArrayList<>();
+        for (Object key : keys) {
+            values.add(String.valueOf(key));
+        }
+        return values;
+    }
+
+    /**
+     * Estatisticas acumuladas do L1 desde o startup (o Caffeine so registra com {@code recordStats()}).
+     */
+    public static class CacheDescriptor {
+
+        private final String name;
+        private final Long hitCount;
+        private final Long missCount;
+        private final Double hitRate;
+        private final Long loadCount;
+        private final Long loadFailureCount;
+        private final Double averageLoadPenaltyMillis;
+        private final Long evictionCount;
+        private final Long estimatedSize;
+        private final long coalescedRequests;
+        private final boolean shared;
+
+        CacheDescriptor(String name, @Nullable CacheStats stats, @Nullable Long estimatedSize,
+                        long coalescedRequests, boolean shared) {
+            this.name = name;
+            this.hitCount = stats != null ? stats.hitCount() : null;
+            this.missCount = stats != null ? stats.missCount() : null;
+            this.hitRate = stats != null ? stats.hitRate() : null;
+            this.loadCount = stats != null ? stats.loadCount() : null;
+            this.loadFailureCount = stats != null ? stats.loadFailureCount() : null;
+            this.averageLoadPenaltyMillis = stats != null
+                ? stats.averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1)
+                : null;
+            this.evictionCount = stats != null ? stats.evictionCount() : null;
+            this.estimatedSize = estimatedSize;
+            this.coalescedRequests = coalescedRequests;
+            this.shared = shared;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Long getHitCount() {
+            return hitCount;
+        }
+
+        public Long getMissCount() {
+            return missCount;
+        }
+
+        public Double getHitRate() {
+            return hitRate;
+        }
+
+        public Long getLoadCount() {
+            return loadCount;
+        }
+
+        public Long getLoadFailureCount() {
+            return loadFailureCount;
+        }
+
+        public Double getAverageLoadPenaltyMillis() {
+            return averageLoadPenaltyMillis;
+        }
+
+        public Long getEvictionCount() {
+            return evictionCount;
+        }
+
+        public Long getEstimatedSize() {
+            return estimatedSize;
+        }
+
+        public long getCoalescedRequests() {
+            return coalescedRequests;
+        }
+
+        public boolean isShared() {
+            return shared;
+        }
+    }
+
+    public static class CacheDetails {
+
+        private final CacheDescriptor stats;
+        private final List<String> topKeys;
+
+        CacheDetails(CacheDescriptor stats, List<String> topKeys) {
+            this.stats = stats;
+            this.topKeys = topKeys;
+        }
+
+        public CacheDescriptor getStats() {
+            return stats;
+        }
+
+        public List<String> getTopKeys() {
+            return topKeys;
+        }
+    }
+}
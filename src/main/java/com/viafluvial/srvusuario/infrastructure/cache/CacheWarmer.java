@@ -0,0 +1,170 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import com.viafluvial.srvusuario.application.mapper.BoatmanMapper;
+import com.viafluvial.srvusuario.application.mapper.PassengerMapper;
+import com.viafluvial.srvusuario.application.mapper.UserMapper;
+import com.viafluvial.srvusuario.application.port.out.BoatmanRepositoryPort;
+import com.viafluvial.srvusuario.application.port.out.PassengerRepositoryPort;
+import com.viafluvial.srvusuario.application.port.out.UserRepositoryPort;
+import com.viafluvial.srvusuario.domain.model.Boatman;
+import com.viafluvial.srvusuario.domain.model.Passenger;
+import com.viafluvial.srvusuario.domain.model.User;
+import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
+import com.viafluvial.srvusuario.infrastructure.datasource.ReadYourWrites;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Pre-carrega no startup os usuarios mais recentemente ativos em {@code users}/{@code usersByEmail}
+ * e seus perfis de barqueiro/passageiro, para que o primeiro trafego apos um deploy nao caia todo no banco.
+ * Roda dentro do {@link ApplicationReadyEvent}: o Spring Boot so publica {@code ReadinessState.ACCEPTING_TRAFFIC}
+ * depois que os listeners desse evento terminam, entao o probe de readiness fica DOWN ate o warm-up
+ * concluir ou estourar {@code app.cache.warmup.timeout}.
+ */
+@Component
+public class CacheWarmer {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheWarmer.class);
+
+    private final UserRepositoryPort userRepository;
+    private final BoatmanRepositoryPort boatmanRepository;
+    private final PassengerRepositoryPort passengerRepository;
+    private final UserMapper userMapper;
+    private final BoatmanMapper boatmanMapper;
+    private final PassengerMapper passengerMapper;
+    private final CacheManager cacheManager;
+    private final UserCache userCache;
+    private final boolean enabled;
+    private final int maxUsers;
+    private final int batchSize;
+    private final Duration timeout;
+
+    private volatile boolean cancelled;
+
+    public CacheWarmer(
+        UserRepositoryPort userRepository,
+        BoatmanRepositoryPort boatmanRepository,
+        PassengerRepositoryPort passengerRepository,
+        UserMapper userMapper,
+        BoatmanMapper boatmanMapper,
+        PassengerMapper passengerMapper,
+        CacheManager cacheManager,
+        UserCache userCache,
+        @Value("${app.cache.warmup.enabled:true}") boolean enabled,
+        @Value("${app.cache.warmup.max-users:5000}") int maxUsers,
+        @Value("${app.cache.warmup.batch-size:500}") int batchSize,
+        @Value("${app.cache.warmup.timeout:30s}") Duration timeout
+    ) {
+        this.userRepository = userRepository;
+        this.boatmanRepository = boatmanRepository;
+        this.passengerRepository = passengerRepository;
+        this.userMapper = userMapper;
+        this.boatmanMapper = boatmanMapper;
+        this.passengerMapper = passengerMapper;
+        this.cacheManager = cacheManager;
+        this.userCache = userCache;
+        this.enabled = enabled;
+        this.maxUsers = maxUsers;
+        this.batchSize = Math.max(1, batchSize);
+        this.timeout = timeout;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled || maxUsers <= 0) {
+            return;
+        }
+
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        // Le do primario, como todo preenchimento de cache.
+        Future<Integer> warmup = executor.submit(() -> {
+            try (ReadYourWrites.Pin ignored = ReadYourWrites.pin()) {
+                return warmUp();
+            }
+        });
+        try {
+            int users = warmup.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            log.info("Warm-up de cache concluido: usuarios={}, duracaoMs={}",
+                users, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (TimeoutException e) {
+            cancelled = true;
+            warmup.cancel(true);
+            log.warn("Warm-up de cache interrompido apos {}; liberando readiness com cache parcial", timeout);
+        } catch (ExecutionException e) {
+            log.warn("Falha no warm-up de cache; seguindo com cache frio", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Carrega os usuarios em lotes de {@code batch-size}; cada lote busca os perfis com um unico IN.
+     * Usa {@code putIfAbsent} para nao sobrescrever entradas ja preenchidas por requisicoes reais.
+     *
+     * @return quantidade de usuarios colocados em cache
+     */
+    int warmUp() {
+        List<User> users = userRepository.findRecentlyActive(maxUsers);
+        Cache usersCache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        Cache byEmailCache = cacheManager.getCache(CacheConfig.USER_BY_EMAIL_CACHE);
+        Cache boatmenCache = cacheManager.getCache(CacheConfig.BOATMEN_CACHE);
+        Cache passengersCache = cacheManager.getCache(CacheConfig.PASSENGERS_CACHE);
+
+        int warmed = 0;
+        for (int from = 0; from < users.size(); from += batchSize) {
+            if (cancelled || Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            List<User> batch = users.subList(from, Math.min(from + batchSize, users.size()));
+            List<UUID> userIds = batch.stream().map(User::getId).toList();
+
+            for (User user : batch) {
+                Object dto = userMapper.toDTO(user);
+                putIfAbsent(usersCache, user.getId(), dto);
+                putIfAbsent(byEmailCache, user.getEmail(), dto);
+                userCache.remember(user.getId(), user.getEmail());
+            }
+            for (Boatman boatman : boatmanRepository.findByUserIds(userIds)) {
+                Object dto = boatmanMapper.toDTO(boatman);
+                putIfAbsent(boatmenCache, boatman.getId(), dto);
+                putIfAbsent(boatmenCache, ProfileCache.userIdKey(boatman.getUserId()), dto);
+            }
+            for (Passenger passenger : passengerRepository.findByUserIds(userIds)) {
+                Object dto = passengerMapper.toDTO(passenger);
+                putIfAbsent(passengersCache, passenger.getId(), dto);
+                putIfAbsent(passengersCache, ProfileCache.userIdKey(passenger.getUserId()), dto);
+            }
+            warmed += batch.size();
+        }
+        return warmed;
+    }
+
+    private void putIfAbsent(Cache cache, Object key, Object value) {
+        if (cache != null && key != null) {
+            cache.putIfAbsent(key, value);
+        }
+    }
+}
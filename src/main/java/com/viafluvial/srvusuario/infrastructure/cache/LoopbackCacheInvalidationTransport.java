@@ -0,0 +1,35 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Transporte em processo: entrega as mensagens de forma sincrona aos assinantes da mesma JVM.
+ * Padrao para instancia unica e para testes que simulam varios nos compartilhando o transporte.
+ */
+public class LoopbackCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(LoopbackCacheInvalidationTransport.class);
+
+    private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        for (Consumer<CacheInvalidationMessage> listener : listeners) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException e) {
+                log.warn("Falha ao entregar invalidacao de cache: {}", message, e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+}
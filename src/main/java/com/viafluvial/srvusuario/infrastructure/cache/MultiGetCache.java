@@ -0,0 +1,101 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import com.viafluvial.srvusuario.application.dto.BatchGetResult;
+import com.viafluvial.srvusuario.infrastructure.datasource.ReadYourWrites;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Multi-get sobre os mesmos caches (e chaves) das buscas unitarias: os acertos saem do cache, ids ja marcados
+ * no {@link NotFoundCache} nao vao ao banco e todos os demais sao carregados por uma unica chamada ao loader.
+ * O que foi carregado volta para o cache, e o que nao existe e marcado como ausente; por isso o loader le do
+ * primario ({@link ReadYourWrites}), como os carregamentos do {@link TwoTierCache}.
+ */
+@Component
+public class MultiGetCache {
+
+    private static final Logger log = LoggerFactory.getLogger(MultiGetCache.class);
+
+    private final CacheManager cacheManager;
+    private final NotFoundCache notFoundCache;
+
+    public MultiGetCache(CacheManager cacheManager, NotFoundCache notFoundCache) {
+        this.cacheManager = cacheManager;
+        this.notFoundCache = notFoundCache;
+    }
+
+    /**
+     * @param keyOf  chave de cada id no cache (ex.: {@link ProfileCache#userIdKey} para perfis buscados por usuario)
+     * @param loader recebe so os ids que faltaram e devolve os encontrados, indexados pelo id pedido
+     */
+    public <V> BatchGetResult<V> getAll(
+        String cacheName,
+        Collection<UUID> ids,
+        Function<UUID, Object> keyOf,
+        Class<V> type,
+        Function<Collection<UUID>, Map<UUID, V>> loader
+    ) {
+        Set<UUID> requested = new LinkedHashSet<>(ids);
+        requested.remove(null);
+        Cache cache = cacheManager.getCache(cacheName);
+
+        Map<UUID, V> found = new HashMap<>();
+        List<UUID> misses = new ArrayList<>();
+        for (UUID id : requested) {
+            Object key = keyOf.apply(id);
+            Cache.ValueWrapper cached = cache != null ? cache.get(key) : null;
+            if (cached != null && type.isInstance(cached.get())) {
+                found.put(id, type.cast(cached.get()));
+            } else if (!notFoundCache.isMissing(cacheName, key)) {
+                misses.add(id);
+            }
+        }
+
+        int hits = found.size();
+        if (!misses.isEmpty()) {
+            Map<UUID, V> loaded;
+            try (ReadYourWrites.Pin ignored = ReadYourWrites.pin()) {
+                loaded = loader.apply(misses);
+            }
+            for (UUID id : misses) {
+                Object key = keyOf.apply(id);
+                V value = loaded.get(id);
+                if (value == null) {
+                    notFoundCache.markMissing(cacheName, key);
+                    continue;
+                }
+                found.put(id, value);
+                if (cache != null) {
+                    cache.put(key, value);
+                }
+            }
+        }
+
+        List<V> items = new ArrayList<>(found.size());
+        List<UUID> notFound = new ArrayList<>();
+        for (UUID id : requested) {
+            V value = found.get(id);
+            if (value != null) {
+                items.add(value);
+            } else {
+                notFound.add(id);
+            }
+        }
+        log.debug("Multi-get em {}: pedidos={}, cache={}, banco={}, ausentes={}",
+            cacheName, requested.size(), hits, misses.size(), notFound.size());
+        return new BatchGetResult<>(items, notFound);
+    }
+}
@@ -0,0 +1,71 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Cache negativo (limitado e com TTL curto) das buscas que terminaram em "nao encontrado".
+ * Evita ida ao banco quando outros servicos sondam repetidamente perfis inexistentes.
+ * A criacao de usuario/perfil remove as marcacoes do usuario via {@link #evictUser(UUID)}.
+ */
+@Component
+public class NotFoundCache {
+
+    private final CacheManager cacheManager;
+
+    public NotFoundCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public boolean isMissing(String cacheName, Object key) {
+        Cache cache = cache();
+        return cache != null && cache.get(key(cacheName, key)) != null;
+    }
+
+    /**
+     * So deve seguir uma leitura no primario: os chamadores marcam dentro do carregamento do
+     * {@link TwoTierCache} ou do {@link MultiGetCache}, que ja estao presos a ele.
+     */
+    public void markMissing(String cacheName, Object key) {
+        Cache cache = cache();
+        if (cache != null) {
+            cache.put(key(cacheName, key), Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Remove as marcacoes ligadas a um usuario: o proprio usuario e os perfis buscados por {@code userId}.
+     */
+    public void evictUser(UUID userId) {
+        Cache cache = cache();
+        if (cache == null || userId == null) {
+            return;
+        }
+        cache.evict(key(CacheConfig.USERS_CACHE, userId));
+        cache.evict(key(CacheConfig.BOATMEN_CACHE, ProfileCache.userIdKey(userId)));
+        cache.evict(key(CacheConfig.PASSENGERS_CACHE, ProfileCache.userIdKey(userId)));
+        cache.evict(key(CacheConfig.AGENCIES_CACHE, ProfileCache.userIdKey(userId)));
+    }
+
+    /**
+     * Remove todas as marcacoes; usado depois de cargas em massa, que criam perfis sem passar pelos use cases.
+     */
+    public void clear() {
+        Cache cache = cache();
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CacheConfig.NOT_FOUND_CACHE);
+    }
+
+    private static String key(String cacheName, Object key) {
+        return cacheName + ":" + key;
+    }
+}
@@ -0,0 +1,65 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Eviction direcionada dos caches de perfis (barqueiro, passageiro, agencia, admin).
+ * Cada perfil fica em cache sob duas chaves: o ID do perfil e {@code 'userId_' + userId};
+ * uma mutacao precisa remover as duas.
+ */
+@Component
+public class ProfileCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ProfileCache.class);
+
+    public static final String USER_ID_KEY_PREFIX = "userId_";
+
+    private final CacheManager cacheManager;
+
+    public ProfileCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public static String userIdKey(UUID userId) {
+        return USER_ID_KEY_PREFIX + userId;
+    }
+
+    public void evictBoatman(UUID boatmanId, UUID userId) {
+        evictProfile(CacheConfig.BOATMEN_CACHE, boatmanId, userId);
+        evictKey(CacheConfig.BOATMAN_DOCUMENTS_CACHE, boatmanId);
+    }
+
+    public void evictPassenger(UUID passengerId, UUID userId) {
+        evictProfile(CacheConfig.PASSENGERS_CACHE, passengerId, userId);
+    }
+
+    public void evictAgency(UUID agencyId, UUID userId) {
+        evictProfile(CacheConfig.AGENCIES_CACHE, agencyId, userId);
+    }
+
+    public void evictAdmin(UUID adminId, UUID userId) {
+        evictProfile(CacheConfig.ADMINS_CACHE, adminId, userId);
+    }
+
+    private void evictProfile(String cacheName, UUID profileId, UUID userId) {
+        evictKey(cacheName, profileId);
+        if (userId != null) {
+            evictKey(cacheName, userIdKey(userId));
+        }
+        log.debug("Cache de perfil invalidado: cache={}, id={}, userId={}", cacheName, profileId, userId);
+    }
+
+    private void evictKey(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+}
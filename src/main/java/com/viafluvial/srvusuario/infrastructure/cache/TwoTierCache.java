@@ -0,0 +1,171 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import com.viafluvial.srvusuario.infrastructure.datasource.ReadYourWrites;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache em dois niveis. Leitura: L1, depois L2 (promovendo o valor ao L1).
+ * Escrita: L1 e L2. Eviction/clear: L2, L1 e difusao para as demais instancias.
+ * O {@code put} nao e difundido: e o preenchimento de um miss com o valor do banco,
+ * e as mutacoes ja invalidam explicitamente via eviction.
+ * O {@code get} com loader ({@code @Cacheable(sync = true)}) e single-flight: o L1 executa um unico
+ * carregamento por chave e os chamadores concorrentes aguardam o resultado (contados em {@link #getCoalescedRequests()}).
+ * O carregamento roda preso ao primario ({@link ReadYourWrites}): o valor fica em cache por todo o TTL, e uma
+ * replica atrasada gravaria ali um estado anterior a escritas ja confirmadas.
+ */
+public class TwoTierCache implements Cache {
+
+    private final Cache local;
+    private final Cache shared;
+    private final TwoTierCacheManager cacheManager;
+    private final LongAdder coalescedRequests = new LongAdder();
+
+    TwoTierCache(Cache local, Cache shared, TwoTierCacheManager cacheManager) {
+        this.local = local;
+        this.shared = shared;
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    /**
+     * Cache nativo do L1 (usado por metricas e inspecao).
+     */
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    public Cache getLocal() {
+        return local;
+    }
+
+    public Cache getShared() {
+        return shared;
+    }
+
+    /**
+     * Misses que aguardaram um carregamento ja em andamento em vez de consultar a origem.
+     */
+    public long getCoalescedRequests() {
+        return coalescedRequests.sum();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.get(key);
+        if (value != null || shared == null) {
+            return value;
+        }
+        value = shared.get(key);
+        if (value != null) {
+            local.put(key, value.get());
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object stored = value.get();
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("Valor em cache nao e do tipo " + type.getName() + ": " + stored);
+        }
+        return (T) stored;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper present = local.get(key);
+        if (present != null) {
+            @SuppressWarnings("unchecked")
+            T cached = (T) present.get();
+            return cached;
+        }
+
+        boolean[] loadedHere = {false};
+        T value = local.get(key, () -> {
+            loadedHere[0] = true;
+            if (shared != null) {
+                ValueWrapper sharedValue = shared.get(key);
+                if (sharedValue != null) {
+                    @SuppressWarnings("unchecked")
+                    T stored = (T) sharedValue.get();
+                    return stored;
+                }
+            }
+            T loaded;
+            try (ReadYourWrites.Pin ignored = ReadYourWrites.pin()) {
+                loaded = valueLoader.call();
+            }
+            if (shared != null) {
+                shared.put(key, loaded);
+            }
+            return loaded;
+        });
+        if (!loadedHere[0]) {
+            coalescedRequests.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (shared != null) {
+            shared.put(key, value);
+        }
+        local.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (shared != null) {
+            shared.putIfAbsent(key, value);
+        }
+        return local.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        if (shared != null) {
+            shared.evict(key);
+        }
+        local.evict(key);
+        cacheManager.publish(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean sharedPresent = shared != null && shared.evictIfPresent(key);
+        boolean localPresent = local.evictIfPresent(key);
+        cacheManager.publish(getName(), key);
+        return sharedPresent || localPresent;
+    }
+
+    @Override
+    public void clear() {
+        if (shared != null) {
+            shared.clear();
+        }
+        local.clear();
+        cacheManager.publish(getName(), null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean sharedPresent = shared != null && shared.invalidate();
+        boolean localPresent = local.invalidate();
+        cacheManager.publish(getName(), null);
+        return sharedPresent || localPresent;
+    }
+}
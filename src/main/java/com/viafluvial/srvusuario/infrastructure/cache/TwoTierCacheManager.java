@@ -0,0 +1,85 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * CacheManager em dois niveis: L1 local (Caffeine) na frente de um L2 compartilhado opcional.
+ * Toda eviction/clear e difundida pelo {@link CacheInvalidationTransport} para que as outras
+ * instancias descartem o L1; as mensagens da propria instancia sao ignoradas.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoTierCacheManager.class);
+
+    private final CacheManager localCacheManager;
+    private final CacheManager sharedCacheManager;
+    private final CacheInvalidationTransport transport;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param sharedCacheManager L2 compartilhado; {@code null} mantem apenas o L1 com invalidacao entre nos
+     */
+    public TwoTierCacheManager(CacheManager localCacheManager, CacheManager sharedCacheManager,
+                               CacheInvalidationTransport transport) {
+        this.localCacheManager = localCacheManager;
+        this.sharedCacheManager = sharedCacheManager;
+        this.transport = transport;
+        transport.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache local = localCacheManager.getCache(name);
+        if (local == null) {
+            return null;
+        }
+        Cache shared = sharedCacheManager != null ? sharedCacheManager.getCache(name) : null;
+        return caches.computeIfAbsent(name, n -> new TwoTierCache(local, shared, this));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return localCacheManager.getCacheNames();
+    }
+
+    public CacheManager getLocalCacheManager() {
+        return localCacheManager;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    void publish(String cacheName, Object key) {
+        transport.publish(new CacheInvalidationMessage(nodeId, cacheName, key));
+    }
+
+    private void onInvalidation(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.getOrigin())) {
+            return;
+        }
+        Cache local = localCacheManager.getCache(message.getCacheName());
+        if (local == null) {
+            return;
+        }
+        if (message.isClear()) {
+            local.clear();
+        } else {
+            local.evict(message.getKey());
+        }
+        log.debug("Invalidacao remota aplicada no L1: {}", message);
+    }
+}
@@ -0,0 +1,122 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.viafluvial.srvusuario.application.dto.UserDTO;
+import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
+import com.viafluvial.srvusuario.infrastructure.config.CacheProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Eviction direcionada dos caches de usuario.
+ * Mantem um indice reverso id -> email para que uma mutacao remova exatamente a entrada
+ * de {@code users} e a(s) de {@code usersByEmail} do usuario afetado, sem limpar o cache inteiro.
+ * Todo carregamento ou refresh de usuario passa por {@link #remember(UUID, String)}, e o indice vive pelo menos
+ * tanto quanto as entradas que cobre; o {@code UserDTO} ainda em {@code users} serve de segunda fonte do email.
+ */
+@Component
+public class UserCache {
+
+    private static final Logger log = LoggerFactory.getLogger(UserCache.class);
+
+    private final CacheManager cacheManager;
+    private final Cache<UUID, String> emailsById;
+
+    public UserCache(CacheManager cacheManager, CacheProperties cacheProperties) {
+        this.cacheManager = cacheManager;
+
+        // Esquecer um email ainda em cache deixaria a entrada velha viva apos uma mutacao; lembrar demais so
+        // custa uma eviction a mais. Por isso capacidade e TTL cobrem os dois caches que alimentam o indice.
+        CacheProperties.Spec users = cacheProperties.resolve(CacheConfig.USERS_CACHE);
+        CacheProperties.Spec byEmail = cacheProperties.resolve(CacheConfig.USER_BY_EMAIL_CACHE);
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        Long usersCapacity = capacity(users);
+        Long byEmailCapacity = capacity(byEmail);
+        if (usersCapacity != null && byEmailCapacity != null) {
+            builder.maximumSize(usersCapacity + byEmailCapacity);
+        }
+        if (users.getExpireAfterWrite() != null && byEmail.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(max(users.getExpireAfterWrite(), byEmail.getExpireAfterWrite()));
+        }
+        this.emailsById = builder.build();
+    }
+
+    /**
+     * Registra o email atual de um usuario carregado ou recarregado nos caches (reinicia o TTL do indice).
+     */
+    public void remember(UUID id, String email) {
+        if (id != null && email != null) {
+            emailsById.put(id, email);
+        }
+    }
+
+    /**
+     * Remove o usuario de {@code users} e de {@code usersByEmail}, incluindo o email indexado
+     * e quaisquer emails conhecidos pelo chamador (ex.: email antigo e novo numa troca).
+     * Quem so tem o id (flush de last_login) depende do indice e do {@code UserDTO} em {@code users}.
+     */
+    public void evict(UUID id, String... knownEmails) {
+        Set<String> emails = new LinkedHashSet<>();
+        if (knownEmails != null) {
+            for (String email : knownEmails) {
+                if (email != null) {
+                    emails.add(email);
+                }
+            }
+        }
+
+        if (id != null) {
+            String indexed = emailsById.asMap().remove(id);
+            if (indexed != null) {
+                emails.add(indexed);
+            }
+            String cached = cachedEmail(id);
+            if (cached != null) {
+                emails.add(cached);
+            }
+            evictKey(CacheConfig.USERS_CACHE, id);
+        }
+
+        for (String email : emails) {
+            evictKey(CacheConfig.USER_BY_EMAIL_CACHE, email);
+        }
+
+        log.debug("Cache de usuario invalidado: id={}, emails={}", id, emails);
+    }
+
+    String indexedEmail(UUID id) {
+        return emailsById.getIfPresent(id);
+    }
+
+    private String cachedEmail(UUID id) {
+        org.springframework.cache.Cache cache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        org.springframework.cache.Cache.ValueWrapper cached = cache != null ? cache.get(id) : null;
+        return cached != null && cached.get() instanceof UserDTO user ? user.getEmail() : null;
+    }
+
+    private static Long capacity(CacheProperties.Spec spec) {
+        if (spec.getMaximumWeight() != null) {
+            return spec.getMaximumWeight();
+        }
+        return spec.getMaximumSize();
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    private void evictKey(String cacheName, Object key) {
+        org.springframework.cache.Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+}
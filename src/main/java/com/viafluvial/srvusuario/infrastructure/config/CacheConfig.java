@@ -1,19 +1,42 @@
 package com.viafluvial.srvusuario.infrastructure.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.viafluvial.srvusuario.infrastructure.cache.CacheInvalidationTransport;
+import com.viafluvial.srvusuario.infrastructure.cache.CacheReloader;
+import com.viafluvial.srvusuario.infrastructure.cache.LoopbackCacheInvalidationTransport;
+import com.viafluvial.srvusuario.infrastructure.cache.TwoTierCache;
+import com.viafluvial.srvusuario.infrastructure.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
-import java.util.concurrent.TimeUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Configuração de cache usando Caffeine.
+ * Cada cache nomeado tem sua propria politica (tamanho/peso, TTLs e refresh-ahead),
+ * definida em {@code app.cache.specs.<nome>} sobre {@code app.cache.defaults}.
+ * O Caffeine e o L1 de um {@link TwoTierCacheManager}: um bean {@code sharedCacheManager}, se existir,
+ * vira o L2 compartilhado (nenhum e registrado por padrao), e as invalidacoes sao difundidas pelo
+ * {@link CacheInvalidationTransport} - via pg_notify, com {@code app.cache.pg-notify.enabled}.
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
 public class CacheConfig {
 
     /**
@@ -23,26 +46,130 @@ public class CacheConfig {
     public static final String USER_BY_EMAIL_CACHE = "usersByEmail";
     public static final String BOATMEN_CACHE = "boatmen";
     public static final String PASSENGERS_CACHE = "passengers";
+    public static final String BOATMAN_DOCUMENTS_CACHE = "boatmanDocuments";
+    public static final String AGENCIES_CACHE = "agencies";
+    public static final String ADMINS_CACHE = "admins";
+    public static final String NOT_FOUND_CACHE = "notFound";
+
+    public static final List<String> CACHE_NAMES = List.of(
+        USERS_CACHE,
+        USER_BY_EMAIL_CACHE,
+        BOATMEN_CACHE,
+        PASSENGERS_CACHE,
+        BOATMAN_DOCUMENTS_CACHE,
+        AGENCIES_CACHE,
+        ADMINS_CACHE,
+        NOT_FOUND_CACHE
+    );
+
+    /**
+     * Nome do bean opcional usado como L2 compartilhado.
+     */
+    public static final String SHARED_CACHE_MANAGER = "sharedCacheManager";
 
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-            USERS_CACHE,
-            USER_BY_EMAIL_CACHE,
-            BOATMEN_CACHE,
-            PASSENGERS_CACHE
+    @Primary
+    public CacheManager cacheManager(
+        CacheProperties properties,
+        ObjectProvider<CacheReloader> cacheReloader,
+        @Qualifier(SHARED_CACHE_MANAGER) ObjectProvider<CacheManager> sharedCacheManager,
+        CacheInvalidationTransport cacheInvalidationTransport
+    ) {
+        return new TwoTierCacheManager(
+            localCacheManager(properties, cacheReloader),
+            sharedCacheManager.getIfAvailable(),
+            cacheInvalidationTransport
         );
-        
-        cacheManager.setCaffeine(caffeineCacheBuilder());
+    }
+
+    /**
+     * Transporte em processo quando o pg_notify esta desabilitado (instancia unica).
+     */
+    @Bean
+    @ConditionalOnMissingBean(CacheInvalidationTransport.class)
+    public CacheInvalidationTransport cacheInvalidationTransport() {
+        return new LoopbackCacheInvalidationTransport();
+    }
+
+    /**
+     * Mantem as metricas do Caffeine (cache.gets, cache.evictions...) expostas para o L1 dos caches em dois niveis
+     * e adiciona {@code cache.coalesced.requests} (misses atendidos por um carregamento ja em andamento).
+     */
+    @Bean
+    public CacheMeterBinderProvider<TwoTierCache> twoTierCacheMeterBinderProvider() {
+        return (cache, tags) -> registry -> {
+            if (cache.getNativeCache() instanceof Cache<?, ?> nativeCache) {
+                new CaffeineCacheMetrics<>(nativeCache, cache.getName(), tags).bindTo(registry);
+            }
+            FunctionCounter.builder("cache.coalesced.requests", cache, TwoTierCache::getCoalescedRequests)
+                .tags(tags)
+                .tag("cache", cache.getName())
+                .description("Misses que aguardaram um carregamento ja em andamento")
+                .register(registry);
+        };
+    }
+
+    private CacheManager localCacheManager(CacheProperties properties, ObjectProvider<CacheReloader> cacheReloader) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Somente os caches declarados abaixo; nomes desconhecidos nao criam caches dinamicos.
+        cacheManager.setCacheNames(List.of());
+
+        for (String cacheName : CACHE_NAMES) {
+            cacheManager.registerCustomCache(cacheName, buildCache(cacheName, properties.resolve(cacheName), cacheReloader));
+        }
         return cacheManager;
     }
 
-    private Caffeine<Object, Object> caffeineCacheBuilder() {
-        return Caffeine.newBuilder()
-            .initialCapacity(100)
-            .maximumSize(500)
-            .expireAfterWrite(10, TimeUnit.MINUTES)
-            .expireAfterAccess(5, TimeUnit.MINUTES)
-            .recordStats();
+    private Cache<Object, Object> buildCache(String cacheName, CacheProperties.Spec spec, ObjectProvider<CacheReloader> cacheReloader) {
+        Caffeine<Object, Object> builder = caffeineCacheBuilder(spec);
+        if (spec.getRefreshAfterWrite() == null) {
+            return builder.build();
+        }
+
+        return builder
+            .refreshAfterWrite(spec.getRefreshAfterWrite())
+            .build(new CacheLoader<Object, Object>() {
+                @Override
+                public Object load(Object key) {
+                    // Miss continua pelo metodo @Cacheable; o loader so atua no refresh.
+                    return null;
+                }
+
+                @Override
+                public Object reload(Object key, Object oldValue) {
+                    CacheReloader reloader = cacheReloader.getIfAvailable();
+                    return reloader != null ? reloader.reload(cacheName, key) : oldValue;
+                }
+            });
+    }
+
+    private Caffeine<Object, Object> caffeineCacheBuilder(CacheProperties.Spec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+
+        if (spec.getInitialCapacity() != null) {
+            builder.initialCapacity(spec.getInitialCapacity());
+        }
+        if (spec.getMaximumWeight() != null) {
+            builder.maximumWeight(spec.getMaximumWeight()).weigher(CacheConfig::weigh);
+        } else if (spec.getMaximumSize() != null) {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(spec.getExpireAfterAccess());
+        }
+        return builder;
+    }
+
+    private static int weigh(Object key, Object value) {
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        if (value instanceof Map<?, ?> map) {
+            return Math.max(1, map.size());
+        }
+        return 1;
     }
 }
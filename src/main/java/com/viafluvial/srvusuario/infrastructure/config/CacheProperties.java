@@ -0,0 +1,130 @@
+package com.viafluvial.srvusuario.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Politicas de cache configuraveis via {@code app.cache.*}.
+ * Cada cache nomeado herda {@code defaults} e sobrescreve apenas o que declarar em {@code specs}.
+ */
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheProperties {
+
+    private Spec defaults = Spec.builtIn();
+
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    public Spec getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Spec defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Spec> getSpecs() {
+        return specs;
+    }
+
+    public void setSpecs(Map<String, Spec> specs) {
+        this.specs = specs;
+    }
+
+    /**
+     * Resolve a politica efetiva de um cache (defaults + override especifico).
+     */
+    public Spec resolve(String cacheName) {
+        Spec base = defaults != null ? defaults : Spec.builtIn();
+        Spec override = specs.get(cacheName);
+        return override == null ? base : base.mergedWith(override);
+    }
+
+    public static class Spec {
+
+        private Integer initialCapacity;
+
+        /** Limite por quantidade de entradas. Ignorado quando {@code maximumWeight} esta definido. */
+        private Long maximumSize;
+
+        /** Limite por peso (colecoes pesam pelo numero de itens, demais valores pesam 1). */
+        private Long maximumWeight;
+
+        private Duration expireAfterWrite;
+
+        private Duration expireAfterAccess;
+
+        /** Quando definido, entradas quentes sao recarregadas em background apos esse intervalo. */
+        private Duration refreshAfterWrite;
+
+        public static Spec builtIn() {
+            Spec spec = new Spec();
+            spec.setInitialCapacity(100);
+            spec.setMaximumSize(500L);
+            spec.setExpireAfterWrite(Duration.ofMinutes(10));
+            spec.setExpireAfterAccess(Duration.ofMinutes(5));
+            return spec;
+        }
+
+        Spec mergedWith(Spec override) {
+            Spec merged = new Spec();
+            merged.setInitialCapacity(override.initialCapacity != null ? override.initialCapacity : initialCapacity);
+            merged.setMaximumWeight(override.maximumWeight != null ? override.maximumWeight : maximumWeight);
+            merged.setMaximumSize(override.maximumSize != null ? override.maximumSize : maximumSize);
+            merged.setExpireAfterWrite(override.expireAfterWrite != null ? override.expireAfterWrite : expireAfterWrite);
+            merged.setExpireAfterAccess(override.expireAfterAccess != null ? override.expireAfterAccess : expireAfterAccess);
+            merged.setRefreshAfterWrite(override.refreshAfterWrite != null ? override.refreshAfterWrite : refreshAfterWrite);
+            return merged;
+        }
+
+        public Integer getInitialCapacity() {
+            return initialCapacity;
+        }
+
+        public void setInitialCapacity(Integer initialCapacity) {
+            this.initialCapacity = initialCapacity;
+        }
+
+        public Long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(Long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Long getMaximumWeight() {
+            return maximumWeight;
+        }
+
+        public void setMaximumWeight(Long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+        }
+
+        public Duration getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        public void setExpireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+
+        public Duration getExpireAfterAccess() {
+            return expireAfterAccess;
+        }
+
+        public void setExpireAfterAccess(Duration expireAfterAccess) {
+            this.expireAfterAccess = expireAfterAccess;
+        }
+
+        public Duration getRefreshAfterWrite() {
+            return refreshAfterWrite;
+        }
+
+        public void setRefreshAfterWrite(Duration refreshAfterWrite) {
+            this.refreshAfterWrite = refreshAfterWrite;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.viafluvial.srvusuario.infrastructure.config;
+
+import com.viafluvial.srvusuario.infrastructure.datasource.ReadYourWritesFilter;
+import com.viafluvial.srvusuario.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Roteamento leitura/escrita ({@code app.datasource.read-replica.enabled=true}).
+ * O {@code DataSource} primario da aplicacao vira um {@link LazyConnectionDataSourceProxy}: a conexao fisica so
+ * e obtida no primeiro comando, depois que o gerenciador de transacao marcou {@code readOnly}. Transacoes
+ * {@code @Transactional(readOnly = true)} vao para as replicas ({@link ReplicaRoutingDataSource}); as demais,
+ * Flyway e o LISTEN de invalidacao continuam no pool primario ({@code spring.datasource.*}). Carregamentos que
+ * preenchem cache (miss de {@code @Cacheable}, multi-get, refresh e warm-up) sao presos ao primario.
+ * Cada replica tem pool proprio, com credenciais e timeouts do primario ({@code spring.datasource.hikari.*}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.read-replica.enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaDataSource(
+        HikariDataSource primaryDataSource,
+        MeterRegistry meterRegistry,
+        @Value("${app.datasource.read-replica.urls:}") List<String> urls,
+        @Value("${app.datasource.read-replica.maximum-pool-size:0}") int maximumPoolSize
+    ) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            // Construtor vazio: o pool inicia no primeiro getConnection, como o primario do Spring Boot.
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            replica.setDriverClassName(primaryDataSource.getDriverClassName());
+            replica.setUsername(primaryDataSource.getUsername());
+            replica.setPassword(primaryDataSource.getPassword());
+            replica.setDataSourceProperties((Properties) primaryDataSource.getDataSourceProperties().clone());
+            replica.setAutoCommit(primaryDataSource.isAutoCommit());
+            int poolSize = maximumPoolSize > 0 ? maximumPoolSize : primaryDataSource.getMaximumPoolSize();
+            if (poolSize > 0) {
+                replica.setMaximumPoolSize(poolSize);
+                if (primaryDataSource.getMinimumIdle() >= 0) {
+                    replica.setMinimumIdle(Math.min(primaryDataSource.getMinimumIdle(), poolSize));
+                }
+            }
+            replica.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            replica.setIdleTimeout(primaryDataSource.getIdleTimeout());
+            replica.setMaxLifetime(primaryDataSource.getMaxLifetime());
+            replica.setReadOnly(true);
+            replica.setMetricRegistry(meterRegistry);
+            replicas.add(replica);
+        }
+        if (replicas.isEmpty()) {
+            throw new IllegalStateException(
+                "app.datasource.read-replica.urls must be configured when read replica routing is enabled");
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+        @Value("${app.datasource.read-replica.read-your-writes-window:5s}") Duration window,
+        @Value("${app.datasource.read-replica.max-tracked-writers:100000}") long maximumWriters
+    ) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+            new FilterRegistrationBean<>(new ReadYourWritesFilter(window, maximumWriters));
+        // Depois do Spring Security (ordem -100), que popula o usuario autenticado.
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 10);
+        return registration;
+    }
+}
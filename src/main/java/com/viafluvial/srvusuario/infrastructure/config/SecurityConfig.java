@@ -39,9 +39,11 @@ public class SecurityConfig {
                 "/api/v1/swagger-ui/**",
                 "/api/v1/v3/api-docs/**",
                 "/actuator/health",
+                "/actuator/health/**",
                 "/actuator/prometheus"
             ).permitAll()
             .requestMatchers(HttpMethod.GET, "/api/v1/health").permitAll()
+            .requestMatchers("/actuator/cachestats", "/actuator/cachestats/**", "/actuator/bulkload/**").hasRole("ADMIN")
             .anyRequest().authenticated()
         );
 
@@ -0,0 +1,45 @@
+package com.viafluvial.srvusuario.infrastructure.datasource;
+
+/**
+ * Escape hatch de read-your-writes: enquanto a thread estiver "presa" ao primario, transacoes readOnly
+ * tambem vao para o primario em vez das replicas (que podem estar atrasadas em relacao a uma escrita recente).
+ * <pre>
+ * try (ReadYourWrites.Pin ignored = ReadYourWrites.pin()) {
+ *     ...
+ * }
+ * </pre>
+ * Requisicoes HTTP sao presas automaticamente pelo {@link ReadYourWritesFilter}.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    /**
+     * Prende a thread ao primario ate o {@link Pin#close()}, que restaura o estado anterior (aninhavel).
+     */
+    public static Pin pin() {
+        Boolean previous = PINNED.get();
+        PINNED.set(Boolean.TRUE);
+        return () -> {
+            if (previous == null) {
+                PINNED.remove();
+            } else {
+                PINNED.set(previous);
+            }
+        };
+    }
+
+    public static boolean isPinned() {
+        return Boolean.TRUE.equals(PINNED.get());
+    }
+
+    @FunctionalInterface
+    public interface Pin extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,88 @@
+package com.viafluvial.srvusuario.infrastructure.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Prende ao primario ({@link ReadYourWrites}) as requisicoes que acabaram de escrever:
+ * <ul>
+ *   <li>metodos de escrita (POST, PUT, PATCH, DELETE): leituras apos a escrita na mesma requisicao. Os POST de
+ *   consulta ({@code /users:batchGet}, {@code /<perfis>:batchGetByUser}) sao leituras e nao contam como escrita;</li>
+ *   <li>requisicoes seguintes do mesmo usuario autenticado durante {@code read-your-writes-window};</li>
+ *   <li>requisicoes com o cabecalho {@value #HEADER} (clientes sem autenticacao ou fluxos entre servicos).</li>
+ * </ul>
+ * Deve rodar depois do filtro do Spring Security para enxergar o usuario autenticado.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Read-Your-Writes";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    // Metodos customizados ":batchGet*" usam POST so para levar a lista de ids no corpo.
+    private static final Pattern READ_ONLY_POST = Pattern.compile("(?i).*(:|%3A)batchGet[a-z]*/?$");
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(Duration window, long maximumWriters) {
+        this.recentWriters = Caffeine.newBuilder()
+            .expireAfterWrite(window)
+            .maximumSize(maximumWriters)
+            .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        String principal = principal();
+        boolean write = isWrite(request);
+
+        if (!write && !requested(request) && (principal == null || recentWriters.getIfPresent(principal) == null)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        try (ReadYourWrites.Pin ignored = ReadYourWrites.pin()) {
+            chain.doFilter(request, response);
+        } finally {
+            // A janela conta a partir do fim da escrita, quando o commit ja aconteceu.
+            if (write && principal != null) {
+                recentWriters.put(principal, Boolean.TRUE);
+            }
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (READ_METHODS.contains(method)) {
+            return false;
+        }
+        return !("POST".equals(method) && READ_ONLY_POST.matcher(request.getRequestURI()).matches());
+    }
+
+    private static boolean requested(HttpServletRequest request) {
+        String value = request.getHeader(HEADER);
+        return value != null && !value.isBlank() && !"false".equalsIgnoreCase(value.trim());
+    }
+
+    private static String principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+            || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
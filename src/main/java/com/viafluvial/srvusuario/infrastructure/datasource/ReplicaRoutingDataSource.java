@@ -0,0 +1,99 @@
+package com.viafluvial.srvusuario.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource de leitura usado como {@code readOnlyDataSource} do
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: so recebe pedidos de conexao
+ * de transacoes {@code readOnly}. Distribui entre as replicas em round-robin; se a replica escolhida nao entrega
+ * conexao, tenta as demais e por fim o primario. Com {@link ReadYourWrites#isPinned()}, vai direto ao primario.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter replicaRoutes;
+    private final Counter pinnedRoutes;
+    private final Counter fallbackRoutes;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, MeterRegistry meterRegistry) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("Ao menos uma replica e necessaria");
+        }
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.replicaRoutes = routeCounter(meterRegistry, "replica");
+        this.pinnedRoutes = routeCounter(meterRegistry, "pinned");
+        this.fallbackRoutes = routeCounter(meterRegistry, "fallback");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    public List<DataSource> getReplicas() {
+        return replicas;
+    }
+
+    private Connection route(ConnectionSource source) throws SQLException {
+        if (ReadYourWrites.isPinned()) {
+            pinnedRoutes.increment();
+            return source.get(primary);
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        SQLException lastFailure = null;
+        for (int i = 0; i < replicas.size(); i++) {
+            try {
+                Connection connection = source.get(replicas.get((start + i) % replicas.size()));
+                replicaRoutes.increment();
+                return connection;
+            } catch (SQLException e) {
+                lastFailure = e;
+            }
+        }
+        log.warn("Nenhuma replica entregou conexao, leitura segue no primario: {}", lastFailure.getMessage());
+        fallbackRoutes.increment();
+        return source.get(primary);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String route) {
+        return Counter.builder("datasource.read.routes")
+            .description("Conexoes de transacoes readOnly por destino")
+            .tag("route", route)
+            .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection get(DataSource dataSource) throws SQLException;
+    }
+}
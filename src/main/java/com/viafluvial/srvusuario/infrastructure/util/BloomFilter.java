@@ -0,0 +1,123 @@
+package com.viafluvial.srvusuario.infrastructure.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter de strings, thread-safe para leitura e insercao concorrentes.
+ * Usa hashing duplo (h1 + i * h2) sobre um hash de 64 bits do UTF-8 do valor.
+ * {@link #mightContain(String)} falso e definitivo; verdadeiro significa "talvez".
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long numBits;
+    private final int numHashes;
+
+    private BloomFilter(long numBits, int numHashes) {
+        this.numBits = numBits;
+        this.numHashes = numHashes;
+        this.words = new AtomicLongArray((int) ((numBits + 63) / 64));
+    }
+
+    /**
+     * Dimensiona o filtro para a quantidade esperada de insercoes e a taxa de falso positivo alvo.
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions deve ser positivo");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate deve estar entre 0 e 1");
+        }
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        bits = Math.max(64, Math.min(bits, (long) Integer.MAX_VALUE * 64));
+        int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+        return new BloomFilter(bits, hashes);
+    }
+
+    public void put(String value) {
+        if (value == null) {
+            return;
+        }
+        long hash = hash(value);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            setBit(bit);
+        }
+    }
+
+    public boolean mightContain(String value) {
+        if (value == null) {
+            return false;
+        }
+        long hash = hash(value);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Taxa de falso positivo esperada no estado atual: (bits ligados / total) ^ k.
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) bitCount() / numBits, numHashes);
+    }
+
+    public long bitCount() {
+        long count = 0;
+        for (int i = 0; i < words.length(); i++) {
+            count += Long.bitCount(words.get(i));
+        }
+        return count;
+    }
+
+    public long bitSize() {
+        return numBits;
+    }
+
+    public int hashFunctions() {
+        return numHashes;
+    }
+
+    private void setBit(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long current;
+        do {
+            current = words.get(index);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(index, current, current | mask));
+    }
+
+    /**
+     * FNV-1a de 64 bits seguido do finalizador do MurmurHash3 para espalhar os bits.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -5,10 +5,13 @@
  */
 package com.viafluvial.srvusuario.adapters.in.web.api;
 
+import com.viafluvial.srvusuario.adapters.in.web.dto.AgencyBatchGetResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.AgencyDTOApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.BatchGetRequestApi;
 import org.springframework.format.annotation.DateTimeFormat;
 import com.viafluvial.srvusuario.adapters.in.web.dto.ExistsResponseApi;
 import java.time.LocalDateTime;
+import java.util.Map;
 import com.viafluvial.srvusuario.adapters.in.web.dto.PagedAgencyResponseApi;
 import java.util.UUID;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
@@ -37,7 +40,7 @@ import java.util.Map;
 import java.util.Optional;
 import jakarta.annotation.Generated;
 
-@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-02-08T03:10:33.091278071Z[Etc/UTC]", comments = "Generator version: 7.6.0")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T04:02:54.811153622Z[Etc/UTC]", comments = "Generator version: 7.6.0")
 @Validated
 @Tag(name = "Agencies", description = "the Agencies API")
 public interface AgenciesApi {
@@ -85,6 +88,50 @@ public interface AgenciesApi {
     }
 
 
+    /**
+     * POST /agencies:batchGetByUser : Get agencies by user id list
+     * Agencias de ate 500 usuarios, pelo id do usuario. Mesmo cache de GET /agencies/user/{userId}; usuarios sem agencia vao para notFound.
+     *
+     * @param batchGetRequestApi  (required)
+     * @return Found items and missing ids (status code 200)
+     *         or Invalid request (status code 400)
+     */
+    @Operation(
+        operationId = "batchGetAgenciesByUser",
+        summary = "Get agencies by user id list",
+        description = "Agencias de ate 500 usuarios, pelo id do usuario. Mesmo cache de GET /agencies/user/{userId}; usuarios sem agencia vao para notFound.",
+        tags = { "Agencies" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Found items and missing ids", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = AgencyBatchGetResponseApi.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid request")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.POST,
+        value = "/agencies:batchGetByUser",
+        produces = { "application/json" },
+        consumes = { "application/json" }
+    )
+    
+    default ResponseEntity<AgencyBatchGetResponseApi> batchGetAgenciesByUser(
+        @Parameter(name = "BatchGetRequestApi", description = "", required = true) @Valid @RequestBody BatchGetRequestApi batchGetRequestApi
+    ) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"notFound\" : [ \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\" ], \"items\" : [ { \"whatsapp\" : \"whatsapp\", \"zipCode\" : \"zipCode\", \"city\" : \"city\", \"companyName\" : \"companyName\", \"totalCommissionPaid\" : 5.962133916683182, \"bankName\" : \"bankName\", \"cnpj\" : \"cnpj\", \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"tradeName\" : \"tradeName\", \"companyEmail\" : \"companyEmail\", \"companyPhone\" : \"companyPhone\", \"documentContractUrl\" : \"documentContractUrl\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"state\" : \"state\", \"totalRevenue\" : 1.4658129805029452, \"pixKey\" : \"pixKey\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\", \"bankAccount\" : \"bankAccount\", \"adminNotes\" : \"adminNotes\", \"address\" : \"address\", \"totalSales\" : 6, \"bankAgency\" : \"bankAgency\", \"approvedAt\" : \"2000-01-23T04:56:07.000+00:00\", \"userId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"documentCnpjUrl\" : \"documentCnpjUrl\", \"commissionPercent\" : 0.8008281904610115 }, { \"whatsapp\" : \"whatsapp\", \"zipCode\" : \"zipCode\", \"city\" : \"city\", \"companyName\" : \"companyName\", \"totalCommissionPaid\" : 5.962133916683182, \"bankName\" : \"bankName\", \"cnpj\" : \"cnpj\", \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"tradeName\" : \"tradeName\", \"companyEmail\" : \"companyEmail\", \"companyPhone\" : \"companyPhone\", \"documentContractUrl\" : \"documentContractUrl\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"state\" : \"state\", \"totalRevenue\" : 1.4658129805029452, \"pixKey\" : \"pixKey\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\", \"bankAccount\" : \"bankAccount\", \"adminNotes\" : \"adminNotes\", \"address\" : \"address\", \"totalSales\" : 6, \"bankAgency\" : \"bankAgency\", \"approvedAt\" : \"2000-01-23T04:56:07.000+00:00\", \"userId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"documentCnpjUrl\" : \"documentCnpjUrl\", \"commissionPercent\" : 0.8008281904610115 } ] }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+
     /**
      * POST /agencies : Create agency
      *
@@ -211,6 +258,58 @@ public interface AgenciesApi {
     }
 
 
+    /**
+     * PATCH /agencies/{id} : Partially update agency
+     * JSON Merge Patch (RFC 7386): apenas os campos enviados sao alterados e null limpa o campo. Com If-Match, a alteracao so e aplicada se a versao (ETag) ainda for a atual. 
+     *
+     * @param id  (required)
+     * @param requestBody  (required)
+     * @param ifMatch ETag (versao) obtido no GET; se nao for mais o atual, a resposta e 412 (optional)
+     * @return Agency patched (status code 200)
+     *         or Invalid field or value (status code 400)
+     *         or Agency not found (status code 404)
+     *         or Version in If-Match is stale (status code 412)
+     */
+    @Operation(
+        operationId = "patchAgency",
+        summary = "Partially update agency",
+        description = "JSON Merge Patch (RFC 7386): apenas os campos enviados sao alterados e null limpa o campo. Com If-Match, a alteracao so e aplicada se a versao (ETag) ainda for a atual. ",
+        tags = { "Agencies" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Agency patched", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = AgencyDTOApi.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid field or value"),
+            @ApiResponse(responseCode = "404", description = "Agency not found"),
+            @ApiResponse(responseCode = "412", description = "Version in If-Match is stale")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.PATCH,
+        value = "/agencies/{id}",
+        produces = { "application/json" },
+        consumes = { "application/merge-patch+json" }
+    )
+    
+    default ResponseEntity<AgencyDTOApi> patchAgency(
+        @Parameter(name = "id", description = "", required = true, in = ParameterIn.PATH) @PathVariable("id") UUID id,
+        @Parameter(name = "request_body", description = "", required = true) @Valid @RequestBody Map<String, Object> requestBody,
+        @Parameter(name = "If-Match", description = "ETag (versao) obtido no GET; se nao for mais o atual, a resposta e 412", in = ParameterIn.HEADER) @RequestHeader(value = "If-Match", required = false) String ifMatch
+    ) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"whatsapp\" : \"whatsapp\", \"zipCode\" : \"zipCode\", \"city\" : \"city\", \"companyName\" : \"companyName\", \"totalCommissionPaid\" : 5.962133916683182, \"bankName\" : \"bankName\", \"cnpj\" : \"cnpj\", \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"tradeName\" : \"tradeName\", \"companyEmail\" : \"companyEmail\", \"companyPhone\" : \"companyPhone\", \"documentContractUrl\" : \"documentContractUrl\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"state\" : \"state\", \"totalRevenue\" : 1.4658129805029452, \"pixKey\" : \"pixKey\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\", \"bankAccount\" : \"bankAccount\", \"adminNotes\" : \"adminNotes\", \"address\" : \"address\", \"totalSales\" : 6, \"bankAgency\" : \"bankAgency\", \"approvedAt\" : \"2000-01-23T04:56:07.000+00:00\", \"userId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"documentCnpjUrl\" : \"documentCnpjUrl\", \"commissionPercent\" : 0.8008281904610115 }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+
     /**
      * GET /agencies : Search agencies
      *
@@ -219,6 +318,8 @@ public interface AgenciesApi {
      * @param createdTo  (optional)
      * @param page  (optional, default to 1)
      * @param size  (optional, default to 20)
+     * @param after Cursor opaco (nextCursor da resposta anterior). Quando presente, a busca usa paginacao por keyset (created_at DESC, id DESC), ignora page e nao calcula totalItems/totalPages. Envie vazio para obter a primeira pagina em modo cursor. (optional)
+     * @param count Como calcular totalItems/totalPages no modo offset. exact executa COUNT(*) com os mesmos filtros; estimate usa a estimativa do planner (pg_class.reltuples) em buscas sem filtros e o COUNT exato nas demais; none nao conta e informa apenas hasNext. Ignorado no modo cursor. (optional, default to exact)
      * @return Paged agencies (status code 200)
      */
     @Operation(
@@ -242,12 +343,14 @@ public interface AgenciesApi {
         @Parameter(name = "createdFrom", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
         @Parameter(name = "createdTo", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
         @Min(1) @Parameter(name = "page", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "page", required = false, defaultValue = "1") Integer page,
-        @Min(1) @Max(200) @Parameter(name = "size", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "size", required = false, defaultValue = "20") Integer size
+        @Min(1) @Max(200) @Parameter(name = "size", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "size", required = false, defaultValue = "20") Integer size,
+        @Parameter(name = "after", description = "Cursor opaco (nextCursor da resposta anterior). Quando presente, a busca usa paginacao por keyset (created_at DESC, id DESC), ignora page e nao calcula totalItems/totalPages. Envie vazio para obter a primeira pagina em modo cursor.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "after", required = false) String after,
+        @Parameter(name = "count", description = "Como calcular totalItems/totalPages no modo offset. exact executa COUNT(*) com os mesmos filtros; estimate usa a estimativa do planner (pg_class.reltuples) em buscas sem filtros e o COUNT exato nas demais; none nao conta e informa apenas hasNext. Ignorado no modo cursor.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "count", required = false, defaultValue = "exact") String count
     ) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
                 if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
-                    String exampleString = "{ \"totalItems\" : 7, \"size\" : 2, \"totalPages\" : 9, \"page\" : 5, \"items\" : [ { \"whatsapp\" : \"whatsapp\", \"zipCode\" : \"zipCode\", \"city\" : \"city\", \"companyName\" : \"companyName\", \"totalCommissionPaid\" : 5.962133916683182, \"bankName\" : \"bankName\", \"cnpj\" : \"cnpj\", \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"tradeName\" : \"tradeName\", \"companyEmail\" : \"companyEmail\", \"companyPhone\" : \"companyPhone\", \"documentContractUrl\" : \"documentContractUrl\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"state\" : \"state\", \"totalRevenue\" : 1.4658129805029452, \"pixKey\" : \"pixKey\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\", \"bankAccount\" : \"bankAccount\", \"adminNotes\" : \"adminNotes\", \"address\" : \"address\", \"totalSales\" : 6, \"bankAgency\" : \"bankAgency\", \"approvedAt\" : \"2000-01-23T04:56:07.000+00:00\", \"userId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"documentCnpjUrl\" : \"documentCnpjUrl\", \"commissionPercent\" : 0.8008281904610115 }, { \"whatsapp\" : \"whatsapp\", \"zipCode\" : \"zipCode\", \"city\" : \"city\", \"companyName\" : \"companyName\", \"totalCommissionPaid\" : 5.962133916683182, \"bankName\" : \"bankName\", \"cnpj\" : \"cnpj\", \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"tradeName\" : \"tradeName\", \"companyEmail\" : \"companyEmail\", \"companyPhone\" : \"companyPhone\", \"documentContractUrl\" : \"documentContractUrl\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"state\" : \"state\", \"totalRevenue\" : 1.4658129805029452, \"pixKey\" : \"pixKey\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\", \"bankAccount\" : \"bankAccount\", \"adminNotes\" : \"adminNotes\", \"address\" : \"address\", \"totalSales\" : 6, \"bankAgency\" : \"bankAgency\", \"approvedAt\" : \"2000-01-23T04:56:07.000+00:00\", \"userId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"documentCnpjUrl\" : \"documentCnpjUrl\", \"commissionPercent\" : 0.8008281904610115 } ] }";
+                    String exampleString = "{ \"nextCursor\" : \"nextCursor\", \"totalItems\" : 7, \"size\" : 2, \"totalPages\" : 9, \"hasNext\" : true, \"page\" : 5, \"countMode\" : \"exact\", \"items\" : [ { \"whatsapp\" : \"whatsapp\", \"zipCode\" : \"zipCode\", \"city\" : \"city\", \"companyName\" : \"companyName\", \"totalCommissionPaid\" : 5.962133916683182, \"bankName\" : \"bankName\", \"cnpj\" : \"cnpj\", \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"tradeName\" : \"tradeName\", \"companyEmail\" : \"companyEmail\", \"companyPhone\" : \"companyPhone\", \"documentContractUrl\" : \"documentContractUrl\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"state\" : \"state\", \"totalRevenue\" : 1.4658129805029452, \"pixKey\" : \"pixKey\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\", \"bankAccount\" : \"bankAccount\", \"adminNotes\" : \"adminNotes\", \"address\" : \"address\", \"totalSales\" : 6, \"bankAgency\" : \"bankAgency\", \"approvedAt\" : \"2000-01-23T04:56:07.000+00:00\", \"userId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"documentCnpjUrl\" : \"documentCnpjUrl\", \"commissionPercent\" : 0.8008281904610115 }, { \"whatsapp\" : \"whatsapp\", \"zipCode\" : \"zipCode\", \"city\" : \"city\", \"companyName\" : \"companyName\", \"totalCommissionPaid\" : 5.962133916683182, \"bankName\" : \"bankName\", \"cnpj\" : \"cnpj\", \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"tradeName\" : \"tradeName\", \"companyEmail\" : \"companyEmail\", \"companyPhone\" : \"companyPhone\", \"documentContractUrl\" : \"documentContractUrl\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"state\" : \"state\", \"totalRevenue\" : 1.4658129805029452, \"pixKey\" : \"pixKey\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\", \"bankAccount\" : \"bankAccount\", \"adminNotes\" : \"adminNotes\", \"address\" : \"address\", \"totalSales\" : 6, \"bankAgency\" : \"bankAgency\", \"approvedAt\" : \"2000-01-23T04:56:07.000+00:00\", \"userId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"documentCnpjUrl\" : \"documentCnpjUrl\", \"commissionPercent\" : 0.8008281904610115 } ] }";
                     ApiUtil.setExampleResponse(request, "application/json", exampleString);
                     break;
                 }
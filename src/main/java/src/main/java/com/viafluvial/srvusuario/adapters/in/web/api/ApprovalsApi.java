@@ -36,7 +36,7 @@ import java.util.Map;
 import java.util.Optional;
 import jakarta.annotation.Generated;
 
-@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-02-08T03:10:33.091278071Z[Etc/UTC]", comments = "Generator version: 7.6.0")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T02:03:13.753403232Z[Etc/UTC]", comments = "Generator version: 7.6.0")
 @Validated
 @Tag(name = "Approvals", description = "the Approvals API")
 public interface ApprovalsApi {
@@ -210,6 +210,8 @@ public interface ApprovalsApi {
      * @param status  (optional)
      * @param page  (optional, default to 1)
      * @param size  (optional, default to 20)
+     * @param after Cursor opaco (nextCursor da resposta anterior). Quando presente, a busca usa paginacao por keyset (created_at DESC, id DESC), ignora page e nao calcula totalItems/totalPages. Envie vazio para obter a primeira pagina em modo cursor. (optional)
+     * @param count Como calcular totalItems/totalPages no modo offset. exact executa COUNT(*) com os mesmos filtros; estimate usa a estimativa do planner (pg_class.reltuples) em buscas sem filtros e o COUNT exato nas demais; none nao conta e informa apenas hasNext. Ignorado no modo cursor. (optional, default to exact)
      * @return Paged approvals (status code 200)
      */
     @Operation(
@@ -231,12 +233,14 @@ public interface ApprovalsApi {
     default ResponseEntity<PagedApprovalResponseApi> listApprovals(
         @Parameter(name = "status", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "status", required = false) ApprovalStatusApi status,
         @Min(1) @Parameter(name = "page", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "page", required = false, defaultValue = "1") Integer page,
-        @Min(1) @Max(200) @Parameter(name = "size", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "size", required = false, defaultValue = "20") Integer size
+        @Min(1) @Max(200) @Parameter(name = "size", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "size", required = false, defaultValue = "20") Integer size,
+        @Parameter(name = "after", description = "Cursor opaco (nextCursor da resposta anterior). Quando presente, a busca usa paginacao por keyset (created_at DESC, id DESC), ignora page e nao calcula totalItems/totalPages. Envie vazio para obter a primeira pagina em modo cursor.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "after", required = false) String after,
+        @Parameter(name = "count", description = "Como calcular totalItems/totalPages no modo offset. exact executa COUNT(*) com os mesmos filtros; estimate usa a estimativa do planner (pg_class.reltuples) em buscas sem filtros e o COUNT exato nas demais; none nao conta e informa apenas hasNext. Ignorado no modo cursor.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "count", required = false, defaultValue = "exact") String count
     ) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
                 if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
-                    String exampleString = "{ \"totalItems\" : 1, \"size\" : 6, \"totalPages\" : 5, \"page\" : 0, \"items\" : [ { \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"documents\" : \"documents\", \"entityType\" : \"USER\", \"entityId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"type\" : \"type\", \"status\" : \"PENDING\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" }, { \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"documents\" : \"documents\", \"entityType\" : \"USER\", \"entityId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"type\" : \"type\", \"status\" : \"PENDING\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" } ] }";
+                    String exampleString = "{ \"nextCursor\" : \"nextCursor\", \"totalItems\" : 1, \"size\" : 6, \"totalPages\" : 5, \"hasNext\" : true, \"page\" : 0, \"countMode\" : \"exact\", \"items\" : [ { \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"documents\" : \"documents\", \"entityType\" : \"USER\", \"entityId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"type\" : \"type\", \"status\" : \"PENDING\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" }, { \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"documents\" : \"documents\", \"entityType\" : \"USER\", \"entityId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"type\" : \"type\", \"status\" : \"PENDING\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" } ] }";
                     ApiUtil.setExampleResponse(request, "application/json", exampleString);
                     break;
                 }
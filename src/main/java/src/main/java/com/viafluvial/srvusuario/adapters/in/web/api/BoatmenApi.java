@@ -5,6 +5,8 @@
  */
 package com.viafluvial.srvusuario.adapters.in.web.api;
 
+import com.viafluvial.srvusuario.adapters.in.web.dto.BatchGetRequestApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.BoatmanBatchGetResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.BoatmanDTOApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.BoatmanDocumentsDTOApi;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -38,7 +40,7 @@ import java.util.Map;
 import java.util.Optional;
 import jakarta.annotation.Generated;
 
-@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-02-08T03:10:33.091278071Z[Etc/UTC]", comments = "Generator version: 7.6.0")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T04:02:54.811153622Z[Etc/UTC]", comments = "Generator version: 7.6.0")
 @Validated
 @Tag(name = "Boatmen", description = "the Boatmen API")
 public interface BoatmenApi {
@@ -47,6 +49,50 @@ public interface BoatmenApi {
         return Optional.empty();
     }
 
+    /**
+     * POST /boatmen:batchGetByUser : Get boatmen by user id list
+     * Perfis de barqueiro de ate 500 usuarios, pelo id do usuario. Mesmo cache de GET /boatmen/user/{userId}; usuarios sem perfil vao para notFound.
+     *
+     * @param batchGetRequestApi  (required)
+     * @return Found items and missing ids (status code 200)
+     *         or Invalid request (status code 400)
+     */
+    @Operation(
+        operationId = "batchGetBoatmenByUser",
+        summary = "Get boatmen by user id list",
+        description = "Perfis de barqueiro de ate 500 usuarios, pelo id do usuario. Mesmo cache de GET /boatmen/user/{userId}; usuarios sem perfil vao para notFound.",
+        tags = { "Boatmen" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Found items and missing ids", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = BoatmanBatchGetResponseApi.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid request")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.POST,
+        value = "/boatmen:batchGetByUser",
+        produces = { "application/json" },
+        consumes = { "application/json" }
+    )
+    
+    default ResponseEntity<BoatmanBatchGetResponseApi> batchGetBoatmenByUser(
+        @Parameter(name = "BatchGetRequestApi", description = "", required = true) @Valid @RequestBody BatchGetRequestApi batchGetRequestApi
+    ) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"notFound\" : [ \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\" ], \"items\" : [ { \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"totalTrips\" : 6, \"companyName\" : \"companyName\", \"cpf\" : \"cpf\", \"rating\" : 0.8008281904610115, \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"cnpj\" : \"cnpj\", \"totalRevenue\" : 1.4658129805029452, \"approvedAt\" : \"2000-01-23T04:56:07.000+00:00\", \"userId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" }, { \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"totalTrips\" : 6, \"companyName\" : \"companyName\", \"cpf\" : \"cpf\", \"rating\" : 0.8008281904610115, \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"cnpj\" : \"cnpj\", \"totalRevenue\" : 1.4658129805029452, \"approvedAt\" : \"2000-01-23T04:56:07.000+00:00\", \"userId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" } ] }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+
     /**
      * GET /boatmen/exists : Check boatman existence by cpf or cnpj
      *
@@ -132,6 +178,69 @@ public interface BoatmenApi {
     }
 
 
+    /**
+     * GET /boatmen:export : Export boatmen
+     * Exporta todos os registros que atendem aos mesmos filtros da busca, na ordem do modo cursor (created_at DESC, id DESC), sem paginacao. As linhas sao enviadas conforme lidas do banco (cursor forward-only); uma falha no meio da exportacao interrompe a resposta.
+     *
+     * @param cpf  (optional)
+     * @param cnpj  (optional)
+     * @param ratingMin  (optional)
+     * @param approvedFrom  (optional)
+     * @param approvedTo  (optional)
+     * @param createdFrom  (optional)
+     * @param createdTo  (optional)
+     * @param format ndjson (um objeto JSON por linha) ou csv (com cabecalho). (optional, default to ndjson)
+     * @return Exported rows (status code 200)
+     *         or Invalid request (status code 400)
+     */
+    @Operation(
+        operationId = "exportBoatmen",
+        summary = "Export boatmen",
+        description = "Exporta todos os registros que atendem aos mesmos filtros da busca, na ordem do modo cursor (created_at DESC, id DESC), sem paginacao. As linhas sao enviadas conforme lidas do banco (cursor forward-only); uma falha no meio da exportacao interrompe a resposta.",
+        tags = { "Boatmen" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Exported rows", content = {
+                @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody.class)),
+                @Content(mediaType = "text/csv", schema = @Schema(implementation = org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid request")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = "/boatmen:export",
+        produces = { "application/x-ndjson", "text/csv" }
+    )
+    
+    default ResponseEntity<org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody> exportBoatmen(
+        @Parameter(name = "cpf", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "cpf", required = false) String cpf,
+        @Parameter(name = "cnpj", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "cnpj", required = false) String cnpj,
+        @Parameter(name = "ratingMin", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "ratingMin", required = false) Double ratingMin,
+        @Parameter(name = "approvedFrom", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "approvedFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime approvedFrom,
+        @Parameter(name = "approvedTo", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "approvedTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime approvedTo,
+        @Parameter(name = "createdFrom", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+        @Parameter(name = "createdTo", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+        @Parameter(name = "format", description = "ndjson (um objeto JSON por linha) ou csv (com cabecalho).", in = ParameterIn.QUERY) @Valid @RequestParam(value = "format", required = false, defaultValue = "ndjson") String format
+    ) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/x-ndjson"))) {
+                    String exampleString = "Custom MIME type example not yet supported: application/x-ndjson";
+                    ApiUtil.setExampleResponse(request, "application/x-ndjson", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("text/csv"))) {
+                    String exampleString = "Custom MIME type example not yet supported: text/csv";
+                    ApiUtil.setExampleResponse(request, "text/csv", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+
     /**
      * GET /boatmen/{id} : Get boatman by id
      *
@@ -267,6 +376,8 @@ public interface BoatmenApi {
      * @param createdTo  (optional)
      * @param page  (optional, default to 1)
      * @param size  (optional, default to 20)
+     * @param after Cursor opaco (nextCursor da resposta anterior). Quando presente, a busca usa paginacao por keyset (created_at DESC, id DESC), ignora page e nao calcula totalItems/totalPages. Envie vazio para obter a primeira pagina em modo cursor. (optional)
+     * @param count Como calcular totalItems/totalPages no modo offset. exact executa COUNT(*) com os mesmos filtros; estimate usa a estimativa do planner (pg_class.reltuples) em buscas sem filtros e o COUNT exato nas demais; none nao conta e informa apenas hasNext. Ignorado no modo cursor. (optional, default to exact)
      * @return Paged boatmen (status code 200)
      */
     @Operation(
@@ -294,12 +405,14 @@ public interface BoatmenApi {
         @Parameter(name = "createdFrom", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
         @Parameter(name = "createdTo", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
         @Min(1) @Parameter(name = "page", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "page", required = false, defaultValue = "1") Integer page,
-        @Min(1) @Max(200) @Parameter(name = "size", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "size", required = false, defaultValue = "20") Integer size
+        @Min(1) @Max(200) @Parameter(name = "size", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "size", required = false, defaultValue = "20") Integer size,
+        @Parameter(name = "after", description = "Cursor opaco (nextCursor da resposta anterior). Quando presente, a busca usa paginacao por keyset (created_at DESC, id DESC), ignora page e nao calcula totalItems/totalPages. Envie vazio para obter a primeira pagina em modo cursor.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "after", required = false) String after,
+        @Parameter(name = "count", description = "Como calcular totalItems/totalPages no modo offset. exact executa COUNT(*) com os mesmos filtros; estimate usa a estimativa do planner (pg_class.reltuples) em buscas sem filtros e o COUNT exato nas demais; none nao conta e informa apenas hasNext. Ignorado no modo cursor.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "count", required = false, defaultValue = "exact") String count
     ) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
                 if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
-                    String exampleString = "{ \"totalItems\" : 2, \"size\" : 5, \"totalPages\" : 7, \"page\" : 5, \"items\" : [ { \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"totalTrips\" : 6, \"companyName\" : \"companyName\", \"cpf\" : \"cpf\", \"rating\" : 0.8008281904610115, \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"cnpj\" : \"cnpj\", \"totalRevenue\" : 1.4658129805029452, \"approvedAt\" : \"2000-01-23T04:56:07.000+00:00\", \"userId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" }, { \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"totalTrips\" : 6, \"companyName\" : \"companyName\", \"cpf\" : \"cpf\", \"rating\" : 0.8008281904610115, \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"cnpj\" : \"cnpj\", \"totalRevenue\" : 1.4658129805029452, \"approvedAt\" : \"2000-01-23T04:56:07.000+00:00\", \"userId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" } ] }";
+                    String exampleString = "{ \"nextCursor\" : \"nextCursor\", \"totalItems\" : 2, \"size\" : 5, \"totalPages\" : 7, \"hasNext\" : true, \"page\" : 5, \"countMode\" : \"exact\", \"items\" : [ { \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"totalTrips\" : 6, \"companyName\" : \"companyName\", \"cpf\" : \"cpf\", \"rating\" : 0.8008281904610115, \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"cnpj\" : \"cnpj\", \"totalRevenue\" : 1.4658129805029452, \"approvedAt\" : \"2000-01-23T04:56:07.000+00:00\", \"userId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" }, { \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"totalTrips\" : 6, \"companyName\" : \"companyName\", \"cpf\" : \"cpf\", \"rating\" : 0.8008281904610115, \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"cnpj\" : \"cnpj\", \"totalRevenue\" : 1.4658129805029452, \"approvedAt\" : \"2000-01-23T04:56:07.000+00:00\", \"userId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" } ] }";
                     ApiUtil.setExampleResponse(request, "application/json", exampleString);
                     break;
                 }
@@ -315,8 +428,10 @@ public interface BoatmenApi {
      *
      * @param id  (required)
      * @param boatmanDocumentsDTOApi  (required)
+     * @param ifMatch ETag (versao) obtido no GET; se nao for mais o atual, a resposta e 412 (optional)
      * @return Documents updated (status code 200)
      *         or Boatman not found (status code 404)
+     *         or Version in If-Match is stale (status code 412)
      */
     @Operation(
         operationId = "updateBoatmanDocuments",
@@ -326,7 +441,8 @@ public interface BoatmenApi {
             @ApiResponse(responseCode = "200", description = "Documents updated", content = {
                 @Content(mediaType = "application/json", schema = @Schema(implementation = BoatmanDocumentsDTOApi.class))
             }),
-            @ApiResponse(responseCode = "404", description = "Boatman not found")
+            @ApiResponse(responseCode = "404", description = "Boatman not found"),
+            @ApiResponse(responseCode = "412", description = "Version in If-Match is stale")
         }
     )
     @RequestMapping(
@@ -338,7 +454,8 @@ public interface BoatmenApi {
     
     default ResponseEntity<BoatmanDocumentsDTOApi> updateBoatmanDocuments(
         @Parameter(name = "id", description = "", required = true, in = ParameterIn.PATH) @PathVariable("id") UUID id,
-        @Parameter(name = "BoatmanDocumentsDTOApi", description = "", required = true) @Valid @RequestBody BoatmanDocumentsDTOApi boatmanDocumentsDTOApi
+        @Parameter(name = "BoatmanDocumentsDTOApi", description = "", required = true) @Valid @RequestBody BoatmanDocumentsDTOApi boatmanDocumentsDTOApi,
+        @Parameter(name = "If-Match", description = "ETag (versao) obtido no GET; se nao for mais o atual, a resposta e 412", in = ParameterIn.HEADER) @RequestHeader(value = "If-Match", required = false) String ifMatch
     ) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
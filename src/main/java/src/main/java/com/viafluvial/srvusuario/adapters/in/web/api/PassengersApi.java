@@ -5,10 +5,13 @@
  */
 package com.viafluvial.srvusuario.adapters.in.web.api;
 
+import com.viafluvial.srvusuario.adapters.in.web.dto.BatchGetRequestApi;
 import org.springframework.format.annotation.DateTimeFormat;
 import com.viafluvial.srvusuario.adapters.in.web.dto.ExistsResponseApi;
 import java.time.LocalDateTime;
+import java.util.Map;
 import com.viafluvial.srvusuario.adapters.in.web.dto.PagedPassengerResponseApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.PassengerBatchGetResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.PassengerDTOApi;
 import java.util.UUID;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
@@ -37,7 +40,7 @@ import java.util.Map;
 import java.util.Optional;
 import jakarta.annotation.Generated;
 
-@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-02-08T03:10:33.091278071Z[Etc/UTC]", comments = "Generator version: 7.6.0")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T04:02:54.811153622Z[Etc/UTC]", comments = "Generator version: 7.6.0")
 @Validated
 @Tag(name = "Passengers", description = "the Passengers API")
 public interface PassengersApi {
@@ -46,6 +49,50 @@ public interface PassengersApi {
         return Optional.empty();
     }
 
+    /**
+     * POST /passengers:batchGetByUser : Get passengers by user id list
+     * Perfis de passageiro de ate 500 usuarios (os valores de ids sao ids de usuario). Mesmo cache de GET /passengers/user/{userId}; usuarios sem perfil vao para notFound.
+     *
+     * @param batchGetRequestApi  (required)
+     * @return Found items and missing ids (status code 200)
+     *         or Invalid request (status code 400)
+     */
+    @Operation(
+        operationId = "batchGetPassengersByUser",
+        summary = "Get passengers by user id list",
+        description = "Perfis de passageiro de ate 500 usuarios (os valores de ids sao ids de usuario). Mesmo cache de GET /passengers/user/{userId}; usuarios sem perfil vao para notFound.",
+        tags = { "Passengers" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Found items and missing ids", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = PassengerBatchGetResponseApi.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid request")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.POST,
+        value = "/passengers:batchGetByUser",
+        produces = { "application/json" },
+        consumes = { "application/json" }
+    )
+    
+    default ResponseEntity<PassengerBatchGetResponseApi> batchGetPassengersByUser(
+        @Parameter(name = "BatchGetRequestApi", description = "", required = true) @Valid @RequestBody BatchGetRequestApi batchGetRequestApi
+    ) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"notFound\" : [ \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\" ], \"items\" : [ { \"zipCode\" : \"zipCode\", \"address\" : \"address\", \"totalSpent\" : 6.027456183070403, \"city\" : \"city\", \"userId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"birthDate\" : \"2000-01-23\", \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"totalTrips\" : 0, \"preferredCabinType\" : \"STANDARD\", \"rg\" : \"rg\", \"cpf\" : \"cpf\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"state\" : \"state\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" }, { \"zipCode\" : \"zipCode\", \"address\" : \"address\", \"totalSpent\" : 6.027456183070403, \"city\" : \"city\", \"userId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"birthDate\" : \"2000-01-23\", \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"totalTrips\" : 0, \"preferredCabinType\" : \"STANDARD\", \"rg\" : \"rg\", \"cpf\" : \"cpf\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"state\" : \"state\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" } ] }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+
     /**
      * POST /passengers : Create passenger
      *
@@ -90,6 +137,61 @@ public interface PassengersApi {
     }
 
 
+    /**
+     * GET /passengers:export : Export passengers
+     * Exporta todos os registros que atendem aos mesmos filtros da busca, na ordem do modo cursor (created_at DESC, id DESC), sem paginacao. As linhas sao enviadas conforme lidas do banco (cursor forward-only); uma falha no meio da exportacao interrompe a resposta.
+     *
+     * @param cpf  (optional)
+     * @param createdFrom  (optional)
+     * @param createdTo  (optional)
+     * @param format ndjson (um objeto JSON por linha) ou csv (com cabecalho). (optional, default to ndjson)
+     * @return Exported rows (status code 200)
+     *         or Invalid request (status code 400)
+     */
+    @Operation(
+        operationId = "exportPassengers",
+        summary = "Export passengers",
+        description = "Exporta todos os registros que atendem aos mesmos filtros da busca, na ordem do modo cursor (created_at DESC, id DESC), sem paginacao. As linhas sao enviadas conforme lidas do banco (cursor forward-only); uma falha no meio da exportacao interrompe a resposta.",
+        tags = { "Passengers" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Exported rows", content = {
+                @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody.class)),
+                @Content(mediaType = "text/csv", schema = @Schema(implementation = org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid request")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = "/passengers:export",
+        produces = { "application/x-ndjson", "text/csv" }
+    )
+    
+    default ResponseEntity<org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody> exportPassengers(
+        @Parameter(name = "cpf", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "cpf", required = false) String cpf,
+        @Parameter(name = "createdFrom", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+        @Parameter(name = "createdTo", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+        @Parameter(name = "format", description = "ndjson (um objeto JSON por linha) ou csv (com cabecalho).", in = ParameterIn.QUERY) @Valid @RequestParam(value = "format", required = false, defaultValue = "ndjson") String format
+    ) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/x-ndjson"))) {
+                    String exampleString = "Custom MIME type example not yet supported: application/x-ndjson";
+                    ApiUtil.setExampleResponse(request, "application/x-ndjson", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("text/csv"))) {
+                    String exampleString = "Custom MIME type example not yet supported: text/csv";
+                    ApiUtil.setExampleResponse(request, "text/csv", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+
     /**
      * GET /passengers/{id} : Get passenger by id
      *
@@ -211,6 +313,58 @@ public interface PassengersApi {
     }
 
 
+    /**
+     * PATCH /passengers/{id} : Partially update passenger
+     * JSON Merge Patch (RFC 7386): apenas os campos enviados sao alterados e null limpa o campo. Com If-Match, a alteracao so e aplicada se a versao (ETag) ainda for a atual. 
+     *
+     * @param id  (required)
+     * @param requestBody  (required)
+     * @param ifMatch ETag (versao) obtido no GET; se nao for mais o atual, a resposta e 412 (optional)
+     * @return Passenger patched (status code 200)
+     *         or Invalid field or value (status code 400)
+     *         or Passenger not found (status code 404)
+     *         or Version in If-Match is stale (status code 412)
+     */
+    @Operation(
+        operationId = "patchPassenger",
+        summary = "Partially update passenger",
+        description = "JSON Merge Patch (RFC 7386): apenas os campos enviados sao alterados e null limpa o campo. Com If-Match, a alteracao so e aplicada se a versao (ETag) ainda for a atual. ",
+        tags = { "Passengers" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Passenger patched", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = PassengerDTOApi.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid field or value"),
+            @ApiResponse(responseCode = "404", description = "Passenger not found"),
+            @ApiResponse(responseCode = "412", description = "Version in If-Match is stale")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.PATCH,
+        value = "/passengers/{id}",
+        produces = { "application/json" },
+        consumes = { "application/merge-patch+json" }
+    )
+    
+    default ResponseEntity<PassengerDTOApi> patchPassenger(
+        @Parameter(name = "id", description = "", required = true, in = ParameterIn.PATH) @PathVariable("id") UUID id,
+        @Parameter(name = "request_body", description = "", required = true) @Valid @RequestBody Map<String, Object> requestBody,
+        @Parameter(name = "If-Match", description = "ETag (versao) obtido no GET; se nao for mais o atual, a resposta e 412", in = ParameterIn.HEADER) @RequestHeader(value = "If-Match", required = false) String ifMatch
+    ) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"zipCode\" : \"zipCode\", \"address\" : \"address\", \"totalSpent\" : 6.027456183070403, \"city\" : \"city\", \"userId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"birthDate\" : \"2000-01-23\", \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"totalTrips\" : 0, \"preferredCabinType\" : \"STANDARD\", \"rg\" : \"rg\", \"cpf\" : \"cpf\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"state\" : \"state\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+
     /**
      * GET /passengers : Search passengers
      *
@@ -219,6 +373,8 @@ public interface PassengersApi {
      * @param createdTo  (optional)
      * @param page  (optional, default to 1)
      * @param size  (optional, default to 20)
+     * @param after Cursor opaco (nextCursor da resposta anterior). Quando presente, a busca usa paginacao por keyset (created_at DESC, id DESC), ignora page e nao calcula totalItems/totalPages. Envie vazio para obter a primeira pagina em modo cursor. (optional)
+     * @param count Como calcular totalItems/totalPages no modo offset. exact executa COUNT(*) com os mesmos filtros; estimate usa a estimativa do planner (pg_class.reltuples) em buscas sem filtros e o COUNT exato nas demais; none nao conta e informa apenas hasNext. Ignorado no modo cursor. (optional, default to exact)
      * @return Paged passengers (status code 200)
      */
     @Operation(
@@ -242,12 +398,14 @@ public interface PassengersApi {
         @Parameter(name = "createdFrom", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
         @Parameter(name = "createdTo", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
         @Min(1) @Parameter(name = "page", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "page", required = false, defaultValue = "1") Integer page,
-        @Min(1) @Max(200) @Parameter(name = "size", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "size", required = false, defaultValue = "20") Integer size
+        @Min(1) @Max(200) @Parameter(name = "size", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "size", required = false, defaultValue = "20") Integer size,
+        @Parameter(name = "after", description = "Cursor opaco (nextCursor da resposta anterior). Quando presente, a busca usa paginacao por keyset (created_at DESC, id DESC), ignora page e nao calcula totalItems/totalPages. Envie vazio para obter a primeira pagina em modo cursor.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "after", required = false) String after,
+        @Parameter(name = "count", description = "Como calcular totalItems/totalPages no modo offset. exact executa COUNT(*) com os mesmos filtros; estimate usa a estimativa do planner (pg_class.reltuples) em buscas sem filtros e o COUNT exato nas demais; none nao conta e informa apenas hasNext. Ignorado no modo cursor.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "count", required = false, defaultValue = "exact") String count
     ) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
                 if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
-                    String exampleString = "{ \"totalItems\" : 5, \"size\" : 5, \"totalPages\" : 2, \"page\" : 1, \"items\" : [ { \"zipCode\" : \"zipCode\", \"address\" : \"address\", \"totalSpent\" : 6.027456183070403, \"city\" : \"city\", \"userId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"birthDate\" : \"2000-01-23\", \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"totalTrips\" : 0, \"preferredCabinType\" : \"STANDARD\", \"rg\" : \"rg\", \"cpf\" : \"cpf\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"state\" : \"state\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" }, { \"zipCode\" : \"zipCode\", \"address\" : \"address\", \"totalSpent\" : 6.027456183070403, \"city\" : \"city\", \"userId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"birthDate\" : \"2000-01-23\", \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"totalTrips\" : 0, \"preferredCabinType\" : \"STANDARD\", \"rg\" : \"rg\", \"cpf\" : \"cpf\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"state\" : \"state\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" } ] }";
+                    String exampleString = "{ \"nextCursor\" : \"nextCursor\", \"totalItems\" : 5, \"size\" : 5, \"totalPages\" : 2, \"hasNext\" : true, \"page\" : 1, \"countMode\" : \"exact\", \"items\" : [ { \"zipCode\" : \"zipCode\", \"address\" : \"address\", \"totalSpent\" : 6.027456183070403, \"city\" : \"city\", \"userId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"birthDate\" : \"2000-01-23\", \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"totalTrips\" : 0, \"preferredCabinType\" : \"STANDARD\", \"rg\" : \"rg\", \"cpf\" : \"cpf\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"state\" : \"state\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" }, { \"zipCode\" : \"zipCode\", \"address\" : \"address\", \"totalSpent\" : 6.027456183070403, \"city\" : \"city\", \"userId\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"birthDate\" : \"2000-01-23\", \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"totalTrips\" : 0, \"preferredCabinType\" : \"STANDARD\", \"rg\" : \"rg\", \"cpf\" : \"cpf\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"state\" : \"state\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" } ] }";
                     ApiUtil.setExampleResponse(request, "application/json", exampleString);
                     break;
                 }
@@ -5,11 +5,16 @@
  */
 package com.viafluvial.srvusuario.adapters.in.web.api;
 
+import com.viafluvial.srvusuario.adapters.in.web.dto.BatchGetRequestApi;
 import org.springframework.format.annotation.DateTimeFormat;
 import com.viafluvial.srvusuario.adapters.in.web.dto.ExistsResponseApi;
 import java.time.LocalDateTime;
+import java.util.Map;
 import com.viafluvial.srvusuario.adapters.in.web.dto.PagedUserResponseApi;
 import java.util.UUID;
+import com.viafluvial.srvusuario.adapters.in.web.dto.UserBatchCreateRequestApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.UserBatchCreateResponseApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.UserBatchGetResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.UserCreateDTOApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.UserDTOApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.UserStatusApi;
@@ -40,7 +45,7 @@ import java.util.Map;
 import java.util.Optional;
 import jakarta.annotation.Generated;
 
-@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-02-08T03:10:33.091278071Z[Etc/UTC]", comments = "Generator version: 7.6.0")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T04:02:54.811153622Z[Etc/UTC]", comments = "Generator version: 7.6.0")
 @Validated
 @Tag(name = "Users", description = "the Users API")
 public interface UsersApi {
@@ -49,6 +54,50 @@ public interface UsersApi {
         return Optional.empty();
     }
 
+    /**
+     * POST /users:batchGet : Get users by id list
+     * Busca ate 500 usuarios pelo id, com as mesmas entradas de cache de GET /users/{id}. Os acertos saem do cache e todos os demais sao lidos numa unica consulta. Os itens seguem a ordem do pedido, sem repeticao; ids inexistentes vao para notFound.
+     *
+     * @param batchGetRequestApi  (required)
+     * @return Found items and missing ids (status code 200)
+     *         or Invalid request (status code 400)
+     */
+    @Operation(
+        operationId = "batchGetUsers",
+        summary = "Get users by id list",
+        description = "Busca ate 500 usuarios pelo id, com as mesmas entradas de cache de GET /users/{id}. Os acertos saem do cache e todos os demais sao lidos numa unica consulta. Os itens seguem a ordem do pedido, sem repeticao; ids inexistentes vao para notFound.",
+        tags = { "Users" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Found items and missing ids", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = UserBatchGetResponseApi.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid request")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.POST,
+        value = "/users:batchGet",
+        produces = { "application/json" },
+        consumes = { "application/json" }
+    )
+    
+    default ResponseEntity<UserBatchGetResponseApi> batchGetUsers(
+        @Parameter(name = "BatchGetRequestApi", description = "", required = true) @Valid @RequestBody BatchGetRequestApi batchGetRequestApi
+    ) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"notFound\" : [ \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\" ], \"items\" : [ { \"emailVerified\" : true, \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"lastLogin\" : \"2000-01-23T04:56:07.000+00:00\", \"password\" : \"password\", \"phone\" : \"phone\", \"fullName\" : \"fullName\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"userType\" : \"PASSENGER\", \"email\" : \"email\", \"status\" : \"PENDING\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" }, { \"emailVerified\" : true, \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"lastLogin\" : \"2000-01-23T04:56:07.000+00:00\", \"password\" : \"password\", \"phone\" : \"phone\", \"fullName\" : \"fullName\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"userType\" : \"PASSENGER\", \"email\" : \"email\", \"status\" : \"PENDING\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" } ] }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+
     /**
      * POST /users : Create user
      *
@@ -93,6 +142,50 @@ public interface UsersApi {
     }
 
 
+    /**
+     * POST /users:batch : Create users in bulk
+     * Cria ate 1000 usuarios numa unica transacao. Emails ja cadastrados ou repetidos no lote nao interrompem a importacao: cada item tem seu proprio resultado, na ordem do pedido.
+     *
+     * @param userBatchCreateRequestApi  (required)
+     * @return Per-item results (status code 200)
+     *         or Invalid request (status code 400)
+     */
+    @Operation(
+        operationId = "createUsers",
+        summary = "Create users in bulk",
+        description = "Cria ate 1000 usuarios numa unica transacao. Emails ja cadastrados ou repetidos no lote nao interrompem a importacao: cada item tem seu proprio resultado, na ordem do pedido.",
+        tags = { "Users" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Per-item results", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = UserBatchCreateResponseApi.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid request")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.POST,
+        value = "/users:batch",
+        produces = { "application/json" },
+        consumes = { "application/json" }
+    )
+    
+    default ResponseEntity<UserBatchCreateResponseApi> createUsers(
+        @Parameter(name = "UserBatchCreateRequestApi", description = "", required = true) @Valid @RequestBody UserBatchCreateRequestApi userBatchCreateRequestApi
+    ) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"created\" : 0, \"failed\" : 6, \"items\" : [ { \"index\" : 1, \"error\" : \"error\", \"user\" : { \"emailVerified\" : true, \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"lastLogin\" : \"2000-01-23T04:56:07.000+00:00\", \"password\" : \"password\", \"phone\" : \"phone\", \"fullName\" : \"fullName\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"userType\" : \"PASSENGER\", \"email\" : \"email\", \"status\" : \"PENDING\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" }, \"status\" : \"CREATED\" }, { \"index\" : 1, \"error\" : \"error\", \"user\" : { \"emailVerified\" : true, \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"lastLogin\" : \"2000-01-23T04:56:07.000+00:00\", \"password\" : \"password\", \"phone\" : \"phone\", \"fullName\" : \"fullName\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"userType\" : \"PASSENGER\", \"email\" : \"email\", \"status\" : \"PENDING\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" }, \"status\" : \"CREATED\" } ] }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+
     /**
      * DELETE /users/{id} : Delete user
      *
@@ -122,6 +215,69 @@ public interface UsersApi {
     }
 
 
+    /**
+     * GET /users:export : Export users
+     * Exporta todos os registros que atendem aos mesmos filtros da busca, na ordem do modo cursor (created_at DESC, id DESC), sem paginacao. As linhas sao enviadas conforme lidas do banco (cursor forward-only); uma falha no meio da exportacao interrompe a resposta.
+     *
+     * @param email Trecho do email, sem diferenciar maiusculas. Sem &#39;*&#39; busca por substring; com &#39;*&#39; o valor e um padrao ancorado (&#39;joao*&#39; busca por prefixo, &#39;*@gmail.com&#39; por sufixo). (optional)
+     * @param name Trecho do nome completo, com as mesmas regras do filtro email. (optional)
+     * @param type  (optional)
+     * @param status  (optional)
+     * @param emailVerified  (optional)
+     * @param createdFrom  (optional)
+     * @param createdTo  (optional)
+     * @param format ndjson (um objeto JSON por linha) ou csv (com cabecalho). (optional, default to ndjson)
+     * @return Exported rows (status code 200)
+     *         or Invalid request (status code 400)
+     */
+    @Operation(
+        operationId = "exportUsers",
+        summary = "Export users",
+        description = "Exporta todos os registros que atendem aos mesmos filtros da busca, na ordem do modo cursor (created_at DESC, id DESC), sem paginacao. As linhas sao enviadas conforme lidas do banco (cursor forward-only); uma falha no meio da exportacao interrompe a resposta.",
+        tags = { "Users" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Exported rows", content = {
+                @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody.class)),
+                @Content(mediaType = "text/csv", schema = @Schema(implementation = org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid request")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = "/users:export",
+        produces = { "application/x-ndjson", "text/csv" }
+    )
+    
+    default ResponseEntity<org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody> exportUsers(
+        @Parameter(name = "email", description = "Trecho do email, sem diferenciar maiusculas. Sem '*' busca por substring; com '*' o valor e um padrao ancorado ('joao*' busca por prefixo, '*@gmail.com' por sufixo).", in = ParameterIn.QUERY) @Valid @RequestParam(value = "email", required = false) String email,
+        @Parameter(name = "name", description = "Trecho do nome completo, com as mesmas regras do filtro email.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "name", required = false) String name,
+        @Parameter(name = "type", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "type", required = false) UserTypeApi type,
+        @Parameter(name = "status", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "status", required = false) UserStatusApi status,
+        @Parameter(name = "emailVerified", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "emailVerified", required = false) Boolean emailVerified,
+        @Parameter(name = "createdFrom", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+        @Parameter(name = "createdTo", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+        @Parameter(name = "format", description = "ndjson (um objeto JSON por linha) ou csv (com cabecalho).", in = ParameterIn.QUERY) @Valid @RequestParam(value = "format", required = false, defaultValue = "ndjson") String format
+    ) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/x-ndjson"))) {
+                    String exampleString = "Custom MIME type example not yet supported: application/x-ndjson";
+                    ApiUtil.setExampleResponse(request, "application/x-ndjson", exampleString);
+                    break;
+                }
+                if (mediaType.isCompatibleWith(MediaType.valueOf("text/csv"))) {
+                    String exampleString = "Custom MIME type example not yet supported: text/csv";
+                    ApiUtil.setExampleResponse(request, "text/csv", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+
     /**
      * GET /users/me : Get current user
      *
@@ -285,10 +441,63 @@ public interface UsersApi {
     }
 
 
+    /**
+     * PATCH /users/{id} : Partially update user
+     * JSON Merge Patch (RFC 7386): apenas os campos enviados sao alterados e null limpa o campo. Com If-Match, a alteracao so e aplicada se a versao (ETag) ainda for a atual. 
+     *
+     * @param id  (required)
+     * @param requestBody  (required)
+     * @param ifMatch ETag (versao) obtido no GET; se nao for mais o atual, a resposta e 412 (optional)
+     * @return User patched (status code 200)
+     *         or Invalid field or value (status code 400)
+     *         or User not found (status code 404)
+     *         or Version in If-Match is stale (status code 412)
+     */
+    @Operation(
+        operationId = "patchUser",
+        summary = "Partially update user",
+        description = "JSON Merge Patch (RFC 7386): apenas os campos enviados sao alterados e null limpa o campo. Com If-Match, a alteracao so e aplicada se a versao (ETag) ainda for a atual. ",
+        tags = { "Users" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "User patched", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = UserDTOApi.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid field or value"),
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "412", description = "Version in If-Match is stale")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.PATCH,
+        value = "/users/{id}",
+        produces = { "application/json" },
+        consumes = { "application/merge-patch+json" }
+    )
+    
+    default ResponseEntity<UserDTOApi> patchUser(
+        @Parameter(name = "id", description = "", required = true, in = ParameterIn.PATH) @PathVariable("id") UUID id,
+        @Parameter(name = "request_body", description = "", required = true) @Valid @RequestBody Map<String, Object> requestBody,
+        @Parameter(name = "If-Match", description = "ETag (versao) obtido no GET; se nao for mais o atual, a resposta e 412", in = ParameterIn.HEADER) @RequestHeader(value = "If-Match", required = false) String ifMatch
+    ) {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"emailVerified\" : true, \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"lastLogin\" : \"2000-01-23T04:56:07.000+00:00\", \"password\" : \"password\", \"phone\" : \"phone\", \"fullName\" : \"fullName\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"userType\" : \"PASSENGER\", \"email\" : \"email\", \"status\" : \"PENDING\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+
     /**
      * GET /users : Search users
      *
-     * @param email  (optional)
+     * @param email Trecho do email, sem diferenciar maiusculas. Sem &#39;*&#39; busca por substring; com &#39;*&#39; o valor e um padrao ancorado (&#39;joao*&#39; busca por prefixo, &#39;*@gmail.com&#39; por sufixo). (optional)
+     * @param name Trecho do nome completo, com as mesmas regras do filtro email. (optional)
      * @param type  (optional)
      * @param status  (optional)
      * @param emailVerified  (optional)
@@ -296,6 +505,8 @@ public interface UsersApi {
      * @param createdTo  (optional)
      * @param page  (optional, default to 1)
      * @param size  (optional, default to 20)
+     * @param after Cursor opaco (nextCursor da resposta anterior). Quando presente, a busca usa paginacao por keyset (created_at DESC, id DESC), ignora page e nao calcula totalItems/totalPages. Envie vazio para obter a primeira pagina em modo cursor. (optional)
+     * @param count Como calcular totalItems/totalPages no modo offset. exact executa COUNT(*) com os mesmos filtros; estimate usa a estimativa do planner (pg_class.reltuples) em buscas sem filtros e o COUNT exato nas demais; none nao conta e informa apenas hasNext. Ignorado no modo cursor. (optional, default to exact)
      * @return Paged users (status code 200)
      */
     @Operation(
@@ -315,19 +526,22 @@ public interface UsersApi {
     )
     
     default ResponseEntity<PagedUserResponseApi> searchUsers(
-        @Parameter(name = "email", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "email", required = false) String email,
+        @Parameter(name = "email", description = "Trecho do email, sem diferenciar maiusculas. Sem '*' busca por substring; com '*' o valor e um padrao ancorado ('joao*' busca por prefixo, '*@gmail.com' por sufixo).", in = ParameterIn.QUERY) @Valid @RequestParam(value = "email", required = false) String email,
+        @Parameter(name = "name", description = "Trecho do nome completo, com as mesmas regras do filtro email.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "name", required = false) String name,
         @Parameter(name = "type", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "type", required = false) UserTypeApi type,
         @Parameter(name = "status", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "status", required = false) UserStatusApi status,
         @Parameter(name = "emailVerified", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "emailVerified", required = false) Boolean emailVerified,
         @Parameter(name = "createdFrom", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
         @Parameter(name = "createdTo", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
         @Min(1) @Parameter(name = "page", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "page", required = false, defaultValue = "1") Integer page,
-        @Min(1) @Max(200) @Parameter(name = "size", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "size", required = false, defaultValue = "20") Integer size
+        @Min(1) @Max(200) @Parameter(name = "size", description = "", in = ParameterIn.QUERY) @Valid @RequestParam(value = "size", required = false, defaultValue = "20") Integer size,
+        @Parameter(name = "after", description = "Cursor opaco (nextCursor da resposta anterior). Quando presente, a busca usa paginacao por keyset (created_at DESC, id DESC), ignora page e nao calcula totalItems/totalPages. Envie vazio para obter a primeira pagina em modo cursor.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "after", required = false) String after,
+        @Parameter(name = "count", description = "Como calcular totalItems/totalPages no modo offset. exact executa COUNT(*) com os mesmos filtros; estimate usa a estimativa do planner (pg_class.reltuples) em buscas sem filtros e o COUNT exato nas demais; none nao conta e informa apenas hasNext. Ignorado no modo cursor.", in = ParameterIn.QUERY) @Valid @RequestParam(value = "count", required = false, defaultValue = "exact") String count
     ) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
                 if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
-                    String exampleString = "{ \"totalItems\" : 1, \"size\" : 6, \"totalPages\" : 5, \"page\" : 0, \"items\" : [ { \"emailVerified\" : true, \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"lastLogin\" : \"2000-01-23T04:56:07.000+00:00\", \"password\" : \"password\", \"phone\" : \"phone\", \"fullName\" : \"fullName\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"userType\" : \"PASSENGER\", \"email\" : \"email\", \"status\" : \"PENDING\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" }, { \"emailVerified\" : true, \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"lastLogin\" : \"2000-01-23T04:56:07.000+00:00\", \"password\" : \"password\", \"phone\" : \"phone\", \"fullName\" : \"fullName\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"userType\" : \"PASSENGER\", \"email\" : \"email\", \"status\" : \"PENDING\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" } ] }";
+                    String exampleString = "{ \"nextCursor\" : \"nextCursor\", \"totalItems\" : 1, \"size\" : 6, \"totalPages\" : 5, \"hasNext\" : true, \"page\" : 0, \"countMode\" : \"exact\", \"items\" : [ { \"emailVerified\" : true, \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"lastLogin\" : \"2000-01-23T04:56:07.000+00:00\", \"password\" : \"password\", \"phone\" : \"phone\", \"fullName\" : \"fullName\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"userType\" : \"PASSENGER\", \"email\" : \"email\", \"status\" : \"PENDING\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" }, { \"emailVerified\" : true, \"createdAt\" : \"2000-01-23T04:56:07.000+00:00\", \"lastLogin\" : \"2000-01-23T04:56:07.000+00:00\", \"password\" : \"password\", \"phone\" : \"phone\", \"fullName\" : \"fullName\", \"id\" : \"046b6c7f-0b8a-43b9-b35d-6489e6daee91\", \"userType\" : \"PASSENGER\", \"email\" : \"email\", \"status\" : \"PENDING\", \"updatedAt\" : \"2000-01-23T04:56:07.000+00:00\" } ] }";
                     ApiUtil.setExampleResponse(request, "application/json", exampleString);
                     break;
                 }
@@ -0,0 +1,108 @@
+package com.viafluvial.srvusuario.adapters.in.web.dto;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * BatchGetRequestApi
+ */
+
+@JsonTypeName("BatchGetRequest")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T04:02:54.811153622Z[Etc/UTC]", comments = "Generator version: 7.6.0")
+public class BatchGetRequestApi {
+
+  @Valid
+  private List<UUID> ids = new ArrayList<>();
+
+  public BatchGetRequestApi() {
+    super();
+  }
+
+  /**
+   * Constructor with only required parameters
+   */
+  public BatchGetRequestApi(List<UUID> ids) {
+    this.ids = ids;
+  }
+
+  public BatchGetRequestApi ids(List<UUID> ids) {
+    this.ids = ids;
+    return this;
+  }
+
+  public BatchGetRequestApi addIdsItem(UUID idsItem) {
+    if (this.ids == null) {
+      this.ids = new ArrayList<>();
+    }
+    this.ids.add(idsItem);
+    return this;
+  }
+
+  /**
+   * Get ids
+   * @return ids
+  */
+  @NotNull @Valid @Size(min = 1, max = 500) 
+  @Schema(name = "ids", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("ids")
+  public List<UUID> getIds() {
+    return ids;
+  }
+
+  public void setIds(List<UUID> ids) {
+    this.ids = ids;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    BatchGetRequestApi batchGetRequest = (BatchGetRequestApi) o;
+    return Objects.equals(this.ids, batchGetRequest.ids);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(ids);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class BatchGetRequestApi {\n");
+    sb.append("    ids: ").append(toIndentedString(ids)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,57 @@
+package com.viafluvial.srvusuario.adapters.in.web.dto;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Gets or Sets BatchItemStatus
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T02:33:18.911411591Z[Etc/UTC]", comments = "Generator version: 7.6.0")
+public enum BatchItemStatusApi {
+  
+  CREATED("CREATED"),
+  
+  DUPLICATE("DUPLICATE"),
+  
+  INVALID("INVALID");
+
+  private String value;
+
+  BatchItemStatusApi(String value) {
+    this.value = value;
+  }
+
+  @JsonValue
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+
+  @JsonCreator
+  public static BatchItemStatusApi fromValue(String value) {
+    for (BatchItemStatusApi b : BatchItemStatusApi.values()) {
+      if (b.value.equals(value)) {
+        return b;
+      }
+    }
+    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+  }
+}
+
@@ -0,0 +1,131 @@
+package com.viafluvial.srvusuario.adapters.in.web.dto;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.viafluvial.srvusuario.adapters.in.web.dto.BoatmanDTOApi;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * BoatmanBatchGetResponseApi
+ */
+
+@JsonTypeName("BoatmanBatchGetResponse")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T04:02:54.811153622Z[Etc/UTC]", comments = "Generator version: 7.6.0")
+public class BoatmanBatchGetResponseApi {
+
+  @Valid
+  private List<@Valid BoatmanDTOApi> items = new ArrayList<>();
+
+  @Valid
+  private List<UUID> notFound = new ArrayList<>();
+
+  public BoatmanBatchGetResponseApi items(List<@Valid BoatmanDTOApi> items) {
+    this.items = items;
+    return this;
+  }
+
+  public BoatmanBatchGetResponseApi addItemsItem(BoatmanDTOApi itemsItem) {
+    if (this.items == null) {
+      this.items = new ArrayList<>();
+    }
+    this.items.add(itemsItem);
+    return this;
+  }
+
+  /**
+   * Get items
+   * @return items
+  */
+  @Valid 
+  @Schema(name = "items", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("items")
+  public List<@Valid BoatmanDTOApi> getItems() {
+    return items;
+  }
+
+  public void setItems(List<@Valid BoatmanDTOApi> items) {
+    this.items = items;
+  }
+
+  public BoatmanBatchGetResponseApi notFound(List<UUID> notFound) {
+    this.notFound = notFound;
+    return this;
+  }
+
+  public BoatmanBatchGetResponseApi addNotFoundItem(UUID notFoundItem) {
+    if (this.notFound == null) {
+      this.notFound = new ArrayList<>();
+    }
+    this.notFound.add(notFoundItem);
+    return this;
+  }
+
+  /**
+   * Get notFound
+   * @return notFound
+  */
+  @Valid 
+  @Schema(name = "notFound", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("notFound")
+  public List<UUID> getNotFound() {
+    return notFound;
+  }
+
+  public void setNotFound(List<UUID> notFound) {
+    this.notFound = notFound;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    BoatmanBatchGetResponseApi boatmanBatchGetResponse = (BoatmanBatchGetResponseApi) o;
+    return Objects.equals(this.items, boatmanBatchGetResponse.items) &&
+        Objects.equals(this.notFound, boatmanBatchGetResponse.notFound);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(items, notFound);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class BoatmanBatchGetResponseApi {\n");
+    sb.append("    items: ").append(toIndentedString(items)).append("\n");
+    sb.append("    notFound: ").append(toIndentedString(notFound)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,57 @@
+package com.viafluvial.srvusuario.adapters.in.web.dto;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Modo usado para calcular totalItems/totalPages (none no modo cursor)
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T02:03:13.753403232Z[Etc/UTC]", comments = "Generator version: 7.6.0")
+public enum CountModeApi {
+  
+  EXACT("exact"),
+  
+  ESTIMATE("estimate"),
+  
+  NONE("none");
+
+  private String value;
+
+  CountModeApi(String value) {
+    this.value = value;
+  }
+
+  @JsonValue
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+
+  @JsonCreator
+  public static CountModeApi fromValue(String value) {
+    for (CountModeApi b : CountModeApi.values()) {
+      if (b.value.equals(value)) {
+        return b;
+      }
+    }
+    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+  }
+}
+
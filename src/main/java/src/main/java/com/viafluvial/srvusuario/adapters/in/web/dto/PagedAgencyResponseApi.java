@@ -5,7 +5,9 @@ import java.util.Objects;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
 import com.viafluvial.srvusuario.adapters.in.web.dto.AgencyDTOApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.CountModeApi;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -23,7 +25,7 @@ import jakarta.annotation.Generated;
  */
 
 @JsonTypeName("PagedAgencyResponse")
-@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-02-08T03:10:33.091278071Z[Etc/UTC]", comments = "Generator version: 7.6.0")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T02:03:13.753403232Z[Etc/UTC]", comments = "Generator version: 7.6.0")
 public class PagedAgencyResponseApi {
 
   @Valid
@@ -37,6 +39,12 @@ public class PagedAgencyResponseApi {
 
   private Integer totalPages;
 
+  private String nextCursor = null;
+
+  private Boolean hasNext;
+
+  private CountModeApi countMode;
+
   public PagedAgencyResponseApi items(List<@Valid AgencyDTOApi> items) {
     this.items = items;
     return this;
@@ -111,11 +119,11 @@ public class PagedAgencyResponseApi {
   }
 
   /**
-   * Get totalItems
+   * Ausente no modo cursor e com count=none
    * @return totalItems
   */
   
-  @Schema(name = "totalItems", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @Schema(name = "totalItems", description = "Ausente no modo cursor e com count=none", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
   @JsonProperty("totalItems")
   public Long getTotalItems() {
     return totalItems;
@@ -131,11 +139,11 @@ public class PagedAgencyResponseApi {
   }
 
   /**
-   * Get totalPages
+   * Ausente no modo cursor e com count=none
    * @return totalPages
   */
   
-  @Schema(name = "totalPages", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @Schema(name = "totalPages", description = "Ausente no modo cursor e com count=none", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
   @JsonProperty("totalPages")
   public Integer getTotalPages() {
     return totalPages;
@@ -145,6 +153,66 @@ public class PagedAgencyResponseApi {
     this.totalPages = totalPages;
   }
 
+  public PagedAgencyResponseApi nextCursor(String nextCursor) {
+    this.nextCursor = nextCursor;
+    return this;
+  }
+
+  /**
+   * Cursor da proxima pagina (modo keyset); ausente na ultima pagina
+   * @return nextCursor
+  */
+  
+  @Schema(name = "nextCursor", description = "Cursor da proxima pagina (modo keyset); ausente na ultima pagina", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("nextCursor")
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public void setNextCursor(String nextCursor) {
+    this.nextCursor = nextCursor;
+  }
+
+  public PagedAgencyResponseApi hasNext(Boolean hasNext) {
+    this.hasNext = hasNext;
+    return this;
+  }
+
+  /**
+   * Indica se existe proxima pagina
+   * @return hasNext
+  */
+  
+  @Schema(name = "hasNext", description = "Indica se existe proxima pagina", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("hasNext")
+  public Boolean getHasNext() {
+    return hasNext;
+  }
+
+  public void setHasNext(Boolean hasNext) {
+    this.hasNext = hasNext;
+  }
+
+  public PagedAgencyResponseApi countMode(CountModeApi countMode) {
+    this.countMode = countMode;
+    return this;
+  }
+
+  /**
+   * Get countMode
+   * @return countMode
+  */
+  @Valid 
+  @Schema(name = "countMode", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("countMode")
+  public CountModeApi getCountMode() {
+    return countMode;
+  }
+
+  public void setCountMode(CountModeApi countMode) {
+    this.countMode = countMode;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -158,12 +226,15 @@ public class PagedAgencyResponseApi {
         Objects.equals(this.page, pagedAgencyResponse.page) &&
         Objects.equals(this.size, pagedAgencyResponse.size) &&
         Objects.equals(this.totalItems, pagedAgencyResponse.totalItems) &&
-        Objects.equals(this.totalPages, pagedAgencyResponse.totalPages);
+        Objects.equals(this.totalPages, pagedAgencyResponse.totalPages) &&
+        Objects.equals(this.nextCursor, pagedAgencyResponse.nextCursor) &&
+        Objects.equals(this.hasNext, pagedAgencyResponse.hasNext) &&
+        Objects.equals(this.countMode, pagedAgencyResponse.countMode);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(items, page, size, totalItems, totalPages);
+    return Objects.hash(items, page, size, totalItems, totalPages, nextCursor, hasNext, countMode);
   }
 
   @Override
@@ -175,6 +246,9 @@ public class PagedAgencyResponseApi {
     sb.append("    size: ").append(toIndentedString(size)).append("\n");
     sb.append("    totalItems: ").append(toIndentedString(totalItems)).append("\n");
     sb.append("    totalPages: ").append(toIndentedString(totalPages)).append("\n");
+    sb.append("    nextCursor: ").append(toIndentedString(nextCursor)).append("\n");
+    sb.append("    hasNext: ").append(toIndentedString(hasNext)).append("\n");
+    sb.append("    countMode: ").append(toIndentedString(countMode)).append("\n");
     sb.append("}");
     return sb.toString();
   }
@@ -0,0 +1,108 @@
+package com.viafluvial.srvusuario.adapters.in.web.dto;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.viafluvial.srvusuario.adapters.in.web.dto.UserCreateDTOApi;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * UserBatchCreateRequestApi
+ */
+
+@JsonTypeName("UserBatchCreateRequest")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T02:33:18.911411591Z[Etc/UTC]", comments = "Generator version: 7.6.0")
+public class UserBatchCreateRequestApi {
+
+  @Valid
+  private List<@Valid UserCreateDTOApi> items = new ArrayList<>();
+
+  public UserBatchCreateRequestApi() {
+    super();
+  }
+
+  /**
+   * Constructor with only required parameters
+   */
+  public UserBatchCreateRequestApi(List<@Valid UserCreateDTOApi> items) {
+    this.items = items;
+  }
+
+  public UserBatchCreateRequestApi items(List<@Valid UserCreateDTOApi> items) {
+    this.items = items;
+    return this;
+  }
+
+  public UserBatchCreateRequestApi addItemsItem(UserCreateDTOApi itemsItem) {
+    if (this.items == null) {
+      this.items = new ArrayList<>();
+    }
+    this.items.add(itemsItem);
+    return this;
+  }
+
+  /**
+   * Get items
+   * @return items
+  */
+  @NotNull @Valid @Size(min = 1, max = 1000) 
+  @Schema(name = "items", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("items")
+  public List<@Valid UserCreateDTOApi> getItems() {
+    return items;
+  }
+
+  public void setItems(List<@Valid UserCreateDTOApi> items) {
+    this.items = items;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    UserBatchCreateRequestApi userBatchCreateRequest = (UserBatchCreateRequestApi) o;
+    return Objects.equals(this.items, userBatchCreateRequest.items);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(items);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class UserBatchCreateRequestApi {\n");
+    sb.append("    items: ").append(toIndentedString(items)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,145 @@
+package com.viafluvial.srvusuario.adapters.in.web.dto;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.viafluvial.srvusuario.adapters.in.web.dto.UserBatchItemResultApi;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * UserBatchCreateResponseApi
+ */
+
+@JsonTypeName("UserBatchCreateResponse")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T02:33:18.911411591Z[Etc/UTC]", comments = "Generator version: 7.6.0")
+public class UserBatchCreateResponseApi {
+
+  private Integer created;
+
+  private Integer failed;
+
+  @Valid
+  private List<@Valid UserBatchItemResultApi> items = new ArrayList<>();
+
+  public UserBatchCreateResponseApi created(Integer created) {
+    this.created = created;
+    return this;
+  }
+
+  /**
+   * Get created
+   * @return created
+  */
+  
+  @Schema(name = "created", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("created")
+  public Integer getCreated() {
+    return created;
+  }
+
+  public void setCreated(Integer created) {
+    this.created = created;
+  }
+
+  public UserBatchCreateResponseApi failed(Integer failed) {
+    this.failed = failed;
+    return this;
+  }
+
+  /**
+   * Get failed
+   * @return failed
+  */
+  
+  @Schema(name = "failed", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("failed")
+  public Integer getFailed() {
+    return failed;
+  }
+
+  public void setFailed(Integer failed) {
+    this.failed = failed;
+  }
+
+  public UserBatchCreateResponseApi items(List<@Valid UserBatchItemResultApi> items) {
+    this.items = items;
+    return this;
+  }
+
+  public UserBatchCreateResponseApi addItemsItem(UserBatchItemResultApi itemsItem) {
+    if (this.items == null) {
+      this.items = new ArrayList<>();
+    }
+    this.items.add(itemsItem);
+    return this;
+  }
+
+  /**
+   * Get items
+   * @return items
+  */
+  @Valid 
+  @Schema(name = "items", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("items")
+  public List<@Valid UserBatchItemResultApi> getItems() {
+    return items;
+  }
+
+  public void setItems(List<@Valid UserBatchItemResultApi> items) {
+    this.items = items;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    UserBatchCreateResponseApi userBatchCreateResponse = (UserBatchCreateResponseApi) o;
+    return Objects.equals(this.created, userBatchCreateResponse.created) &&
+        Objects.equals(this.failed, userBatchCreateResponse.failed) &&
+        Objects.equals(this.items, userBatchCreateResponse.items);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(created, failed, items);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class UserBatchCreateResponseApi {\n");
+    sb.append("    created: ").append(toIndentedString(created)).append("\n");
+    sb.append("    failed: ").append(toIndentedString(failed)).append("\n");
+    sb.append("    items: ").append(toIndentedString(items)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
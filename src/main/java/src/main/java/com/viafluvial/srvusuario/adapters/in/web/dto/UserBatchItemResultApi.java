@@ -0,0 +1,159 @@
+package com.viafluvial.srvusuario.adapters.in.web.dto;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.viafluvial.srvusuario.adapters.in.web.dto.BatchItemStatusApi;
+import com.viafluvial.srvusuario.adapters.in.web.dto.UserDTOApi;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * UserBatchItemResultApi
+ */
+
+@JsonTypeName("UserBatchItemResult")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", date = "2026-10-18T02:33:18.911411591Z[Etc/UTC]", comments = "Generator version: 7.6.0")
+public class UserBatchItemResultApi {
+
+  private Integer index;
+
+  private BatchItemStatusApi status;
+
+  private UserDTOApi user;
+
+  private String error;
+
+  public UserBatchItemResultApi index(Integer index) {
+    this.index = index;
+    return this;
+  }
+
+  /**
+   * Posicao do item no pedido (base 0)
+   * @return index
+  */
+  
+  @Schema(name = "index", description = "Posicao do item no pedido (base 0)", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("index")
+  public Integer getIndex() {
+    return index;
+  }
+
+  public void setIndex(Integer index) {
+    this.index = index;
+  }
+
+  public UserBatchItemResultApi status(BatchItemStatusApi status) {
+    this.status = status;
+    return this;
+  }
+
+  /**
+   * Get status
+   * @return status
+  */
+  @Valid 
+  @Schema(name = "status", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("status")
+  public BatchItemStatusApi getStatus() {
+    return status;
+  }
+
+  public void setStatus(BatchItemStatusApi status) {
+    this.status = status;
+  }
+
+  public UserBatchItemResultApi user(UserDTOApi user) {
+    this.user = user;
+    return this;
+  }
+
+  /**
+   * Get user
+   * @return user
+  */
+  @Valid 
+  @Schema(name = "user", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("user")
+  public UserDTOApi getUser() {
+    return user;
+  }
+
+  public void setUser(UserDTOApi user) {
+    this.user = user;
+  }
+
+  public UserBatchItemResultApi error(String error) {
+    this.error = error;
+    return this;
+  }
+
+  /**
+   * Get error
+   * @return error
+  */
+  
+  @Schema(name = "error", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("error")
+  public String getError() {
+    return error;
+  }
+
+  public void setError(String error) {
+    this.error = error;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    UserBatchItemResultApi userBatchItemResult = (UserBatchItemResultApi) o;
+    return Objects.equals(this.index, userBatchItemResult.index) &&
+        Objects.equals(this.status, userBatchItemResult.status) &&
+        Objects.equals(this.user, userBatchItemResult.user) &&
+        Objects.equals(this.error, userBatchItemResult.error);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(index, status, user, error);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class UserBatchItemResultApi {\n");
+    sb.append("    index: ").append(toIndentedString(index)).append("\n");
+    sb.append("    status: ").append(toIndentedString(status)).append("\n");
+    sb.append("    user: ").append(toIndentedString(user)).append("\n");
+    sb.append("    error: ").append(toIndentedString(error)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,76 @@
+-- Emite pg_notify no canal cache_invalidation para que as instancias do servico
+-- invalidem os caches locais quando outra origem (servicos, scripts, seeds) altera os dados.
+-- Payload: {"table", "op", "id", "user_id", "email"} com os valores anteriores (OLD).
+CREATE OR REPLACE FUNCTION notify_cache_invalidation()
+RETURNS TRIGGER AS $$
+DECLARE
+    old_row JSONB := to_jsonb(OLD);
+BEGIN
+    PERFORM pg_notify('cache_invalidation', json_build_object(
+        'table', TG_TABLE_NAME,
+        'op', TG_OP,
+        'id', OLD.id,
+        'user_id', old_row ->> 'user_id',
+        'email', old_row ->> 'email'
+    )::text);
+    RETURN NULL;
+END;
+$$ language 'plpgsql';
+
+-- UPDATE so notifica quando muda algo que aparece nos caches: cada pg_notify disputa o lock global
+-- da fila de NOTIFY no commit, e o flush de last_login (write-behind) atualiza centenas de linhas por lote.
+DROP TRIGGER IF EXISTS notify_users_cache_invalidation ON users;
+DROP TRIGGER IF EXISTS notify_users_cache_invalidation_update ON users;
+DROP TRIGGER IF EXISTS notify_passengers_cache_invalidation ON passengers;
+DROP TRIGGER IF EXISTS notify_passengers_cache_invalidation_update ON passengers;
+DROP TRIGGER IF EXISTS notify_boatmen_cache_invalidation ON boatmen;
+DROP TRIGGER IF EXISTS notify_boatmen_cache_invalidation_update ON boatmen;
+DROP TRIGGER IF EXISTS notify_agencies_cache_invalidation ON agencies;
+DROP TRIGGER IF EXISTS notify_agencies_cache_invalidation_update ON agencies;
+DROP TRIGGER IF EXISTS notify_admins_cache_invalidation ON admins;
+DROP TRIGGER IF EXISTS notify_admins_cache_invalidation_update ON admins;
+
+CREATE TRIGGER notify_users_cache_invalidation AFTER DELETE ON users
+    FOR EACH ROW EXECUTE FUNCTION notify_cache_invalidation();
+
+CREATE TRIGGER notify_users_cache_invalidation_update AFTER UPDATE ON users
+    FOR EACH ROW
+    WHEN ((to_jsonb(OLD) - ARRAY['last_login', 'updated_at', 'version'])
+        IS DISTINCT FROM (to_jsonb(NEW) - ARRAY['last_login', 'updated_at', 'version']))
+    EXECUTE FUNCTION notify_cache_invalidation();
+
+CREATE TRIGGER notify_passengers_cache_invalidation AFTER DELETE ON passengers
+    FOR EACH ROW EXECUTE FUNCTION notify_cache_invalidation();
+
+CREATE TRIGGER notify_passengers_cache_invalidation_update AFTER UPDATE ON passengers
+    FOR EACH ROW
+    WHEN ((to_jsonb(OLD) - ARRAY['last_login', 'updated_at', 'version'])
+        IS DISTINCT FROM (to_jsonb(NEW) - ARRAY['last_login', 'updated_at', 'version']))
+    EXECUTE FUNCTION notify_cache_invalidation();
+
+CREATE TRIGGER notify_boatmen_cache_invalidation AFTER DELETE ON boatmen
+    FOR EACH ROW EXECUTE FUNCTION notify_cache_invalidation();
+
+CREATE TRIGGER notify_boatmen_cache_invalidation_update AFTER UPDATE ON boatmen
+    FOR EACH ROW
+    WHEN ((to_jsonb(OLD) - ARRAY['last_login', 'updated_at', 'version'])
+        IS DISTINCT FROM (to_jsonb(NEW) - ARRAY['last_login', 'updated_at', 'version']))
+    EXECUTE FUNCTION notify_cache_invalidation();
+
+CREATE TRIGGER notify_agencies_cache_invalidation AFTER DELETE ON agencies
+    FOR EACH ROW EXECUTE FUNCTION notify_cache_invalidation();
+
+CREATE TRIGGER notify_agencies_cache_invalidation_update AFTER UPDATE ON agencies
+    FOR EACH ROW
+    WHEN ((to_jsonb(OLD) - ARRAY['last_login', 'updated_at', 'version'])
+        IS DISTINCT FROM (to_jsonb(NEW) - ARRAY['last_login', 'updated_at', 'version']))
+    EXECUTE FUNCTION notify_cache_invalidation();
+
+CREATE TRIGGER notify_admins_cache_invalidation AFTER DELETE ON admins
+    FOR EACH ROW EXECUTE FUNCTION notify_cache_invalidation();
+
+CREATE TRIGGER notify_admins_cache_invalidation_update AFTER UPDATE ON admins
+    FOR EACH ROW
+    WHEN ((to_jsonb(OLD) - ARRAY['last_login', 'updated_at', 'version'])
+        IS DISTINCT FROM (to_jsonb(NEW) - ARRAY['last_login', 'updated_at', 'version']))
+    EXECUTE FUNCTION notify_cache_invalidation();
@@ -0,0 +1,83 @@
+-- Estende o pg_notify da V31 para INSERT e inclui as chaves unicas da linha nova
+-- (email, cpf, cnpj), usadas pelos Bloom filters das checagens de existencia.
+-- Payload: {"table", "op", "id", "user_id", "email", "new": {"email", "cpf", "cnpj"}}.
+-- "email" continua sendo o valor anterior (OLD) para invalidar o cache por email.
+CREATE OR REPLACE FUNCTION notify_cache_invalidation()
+RETURNS TRIGGER AS $$
+DECLARE
+    old_row JSONB := CASE WHEN TG_OP = 'INSERT' THEN NULL ELSE to_jsonb(OLD) END;
+    new_row JSONB := CASE WHEN TG_OP = 'DELETE' THEN NULL ELSE to_jsonb(NEW) END;
+    any_row JSONB := COALESCE(old_row, new_row);
+BEGIN
+    PERFORM pg_notify('cache_invalidation', json_build_object(
+        'table', TG_TABLE_NAME,
+        'op', TG_OP,
+        'id', any_row ->> 'id',
+        'user_id', any_row ->> 'user_id',
+        'email', old_row ->> 'email',
+        'new', json_build_object(
+            'email', new_row ->> 'email',
+            'cpf', new_row ->> 'cpf',
+            'cnpj', new_row ->> 'cnpj'
+        )
+    )::text);
+    RETURN NULL;
+END;
+$$ language 'plpgsql';
+
+-- O UPDATE mantem o filtro de colunas da V31 (WHEN nao pode citar OLD/NEW num trigger que tambem cobre INSERT/DELETE).
+DROP TRIGGER IF EXISTS notify_users_cache_invalidation ON users;
+DROP TRIGGER IF EXISTS notify_users_cache_invalidation_update ON users;
+DROP TRIGGER IF EXISTS notify_passengers_cache_invalidation ON passengers;
+DROP TRIGGER IF EXISTS notify_passengers_cache_invalidation_update ON passengers;
+DROP TRIGGER IF EXISTS notify_boatmen_cache_invalidation ON boatmen;
+DROP TRIGGER IF EXISTS notify_boatmen_cache_invalidation_update ON boatmen;
+DROP TRIGGER IF EXISTS notify_agencies_cache_invalidation ON agencies;
+DROP TRIGGER IF EXISTS notify_agencies_cache_invalidation_update ON agencies;
+DROP TRIGGER IF EXISTS notify_admins_cache_invalidation ON admins;
+DROP TRIGGER IF EXISTS notify_admins_cache_invalidation_update ON admins;
+
+CREATE TRIGGER notify_users_cache_invalidation AFTER INSERT OR DELETE ON users
+    FOR EACH ROW EXECUTE FUNCTION notify_cache_invalidation();
+
+CREATE TRIGGER notify_users_cache_invalidation_update AFTER UPDATE ON users
+    FOR EACH ROW
+    WHEN ((to_jsonb(OLD) - ARRAY['last_login', 'updated_at', 'version'])
+        IS DISTINCT FROM (to_jsonb(NEW) - ARRAY['last_login', 'updated_at', 'version']))
+    EXECUTE FUNCTION notify_cache_invalidation();
+
+CREATE TRIGGER notify_passengers_cache_invalidation AFTER INSERT OR DELETE ON passengers
+    FOR EACH ROW EXECUTE FUNCTION notify_cache_invalidation();
+
+CREATE TRIGGER notify_passengers_cache_invalidation_update AFTER UPDATE ON passengers
+    FOR EACH ROW
+    WHEN ((to_jsonb(OLD) - ARRAY['last_login', 'updated_at', 'version'])
+        IS DISTINCT FROM (to_jsonb(NEW) - ARRAY['last_login', 'updated_at', 'version']))
+    EXECUTE FUNCTION notify_cache_invalidation();
+
+CREATE TRIGGER notify_boatmen_cache_invalidation AFTER INSERT OR DELETE ON boatmen
+    FOR EACH ROW EXECUTE FUNCTION notify_cache_invalidation();
+
+CREATE TRIGGER notify_boatmen_cache_invalidation_update AFTER UPDATE ON boatmen
+    FOR EACH ROW
+    WHEN ((to_jsonb(OLD) - ARRAY['last_login', 'updated_at', 'version'])
+        IS DISTINCT FROM (to_jsonb(NEW) - ARRAY['last_login', 'updated_at', 'version']))
+    EXECUTE FUNCTION notify_cache_invalidation();
+
+CREATE TRIGGER notify_agencies_cache_invalidation AFTER INSERT OR DELETE ON agencies
+    FOR EACH ROW EXECUTE FUNCTION notify_cache_invalidation();
+
+CREATE TRIGGER notify_agencies_cache_invalidation_update AFTER UPDATE ON agencies
+    FOR EACH ROW
+    WHEN ((to_jsonb(OLD) - ARRAY['last_login', 'updated_at', 'version'])
+        IS DISTINCT FROM (to_jsonb(NEW) - ARRAY['last_login', 'updated_at', 'version']))
+    EXECUTE FUNCTION notify_cache_invalidation();
+
+CREATE TRIGGER notify_admins_cache_invalidation AFTER INSERT OR DELETE ON admins
+    FOR EACH ROW EXECUTE FUNCTION notify_cache_invalidation();
+
+CREATE TRIGGER notify_admins_cache_invalidation_update AFTER UPDATE ON admins
+    FOR EACH ROW
+    WHEN ((to_jsonb(OLD) - ARRAY['last_login', 'updated_at', 'version'])
+        IS DISTINCT FROM (to_jsonb(NEW) - ARRAY['last_login', 'updated_at', 'version']))
+    EXECUTE FUNCTION notify_cache_invalidation();
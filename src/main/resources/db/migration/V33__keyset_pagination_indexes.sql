@@ -0,0 +1,13 @@
+-- Indices compostos para a paginacao por cursor (after=): as buscas ordenam por
+-- created_at DESC, id DESC e continuam a partir do ultimo (created_at, id) entregue,
+-- entao cada pagina vira um index range scan limitado a size+1 linhas, sem OFFSET nem COUNT.
+-- CONCURRENTLY para nao bloquear escritas nas tabelas ja populadas; por isso a migration roda fora
+-- de transacao (V33__keyset_pagination_indexes.sql.conf). Se um build falhar, o indice fica INVALID
+-- e o IF NOT EXISTS o ignora: remova-o com DROP INDEX CONCURRENTLY antes de reexecutar.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_created_at_id ON users(created_at DESC, id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_passengers_created_at_id ON passengers(created_at DESC, id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_boatmen_created_at_id ON boatmen(created_at DESC, id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_agencies_created_at_id ON agencies(created_at DESC, id DESC);
+
+-- A fila de aprovacoes e sempre filtrada por status.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_approvals_status_created_at_id ON approvals(status, created_at DESC, id DESC);
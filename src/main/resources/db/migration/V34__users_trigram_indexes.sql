@@ -0,0 +1,15 @@
+-- Busca por trecho de email/nome: lower(col) LIKE '%x%' nao usa B-tree e varre a tabela inteira.
+-- Indices GIN com pg_trgm atendem LIKE com curinga inicial sobre as mesmas expressoes lower(...)
+-- geradas pelas Specifications.
+-- Os indices sao construidos com CONCURRENTLY (users recebe escrita a todo login) e a migration roda
+-- fora de transacao (V34__users_trigram_indexes.sql.conf). CONCURRENTLY nao cabe num bloco DO, entao
+-- pg_trgm passa a ser requisito: a extensao faz parte do contrib e esta liberada nos Postgres gerenciados.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_email_trgm ON users USING gin (lower(email) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_full_name_trgm ON users USING gin (lower(full_name) gin_trgm_ops);
+
+-- Caminho rapido para padroes sem curinga inicial ('joao*' -> LIKE 'joao%'): text_pattern_ops
+-- permite ao planner transformar o LIKE em range scan independente da collation do banco.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_email_lower_prefix ON users (lower(email) text_pattern_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_full_name_lower_prefix ON users (lower(full_name) text_pattern_ops);
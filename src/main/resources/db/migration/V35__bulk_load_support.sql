@@ -0,0 +1,56 @@
+-- Suporte a carga em massa de passengers/boatmen (COPY para staging + merge nas tabelas reais).
+-- Conversoes que devolvem NULL em vez de abortar o lote: a linha com valor invalido e rejeitada e reportada.
+CREATE OR REPLACE FUNCTION bulk_load_try_uuid(raw_value TEXT)
+RETURNS UUID AS $$
+    SELECT CASE
+        WHEN raw_value ~* '^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$' THEN raw_value::uuid
+    END;
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION bulk_load_try_date(raw_value TEXT)
+RETURNS DATE AS $$
+BEGIN
+    -- So entra no bloco com EXCEPTION (subtransacao) quando o formato ja e YYYY-MM-DD.
+    IF raw_value IS NULL OR raw_value !~ '^\d{4}-\d{2}-\d{2}$' THEN
+        RETURN NULL;
+    END IF;
+    BEGIN
+        RETURN raw_value::date;
+    EXCEPTION WHEN others THEN
+        RETURN NULL;
+    END;
+END;
+$$ LANGUAGE plpgsql STABLE;
+
+-- Mesmo payload da V32. Cargas em massa marcam a transacao com SET LOCAL app.bulk_load = 'on' e
+-- emitem uma unica notificacao {"table", "op": "BULK_LOAD"} no lugar de uma por linha inserida.
+CREATE OR REPLACE FUNCTION notify_cache_invalidation()
+RETURNS TRIGGER AS $$
+DECLARE
+    old_row JSONB;
+    new_row JSONB;
+    any_row JSONB;
+BEGIN
+    IF TG_OP = 'INSERT' AND current_setting('app.bulk_load', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+
+    old_row := CASE WHEN TG_OP = 'INSERT' THEN NULL ELSE to_jsonb(OLD) END;
+    new_row := CASE WHEN TG_OP = 'DELETE' THEN NULL ELSE to_jsonb(NEW) END;
+    any_row := COALESCE(old_row, new_row);
+
+    PERFORM pg_notify('cache_invalidation', json_build_object(
+        'table', TG_TABLE_NAME,
+        'op', TG_OP,
+        'id', any_row ->> 'id',
+        'user_id', any_row ->> 'user_id',
+        'email', old_row ->> 'email',
+        'new', json_build_object(
+            'email', new_row ->> 'email',
+            'cpf', new_row ->> 'cpf',
+            'cnpj', new_row ->> 'cnpj'
+        )
+    )::text);
+    RETURN NULL;
+END;
+$$ language 'plpgsql';
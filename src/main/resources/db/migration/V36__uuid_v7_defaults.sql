@@ -0,0 +1,31 @@
+-- Chaves primarias ordenadas por tempo (UUIDv7, RFC 9562): 48 bits de epoch em ms seguidos de bits aleatorios.
+-- Linhas novas caem no fim do indice da PK em vez de paginas aleatorias (v4), o que reduz page splits,
+-- inchaco do indice e churn no buffer cache. Os ids v4 existentes continuam validos (mesmo tipo UUID).
+-- O PostgreSQL so tem uuidv7() nativo a partir da 18; aqui os bits aleatorios vem do uuid_generate_v4()
+-- (V1), sobrescrevendo os 6 primeiros bytes com o timestamp e a versao 4 (0100) com 7 (0111).
+CREATE OR REPLACE FUNCTION uuid_generate_v7()
+RETURNS UUID AS $$
+    SELECT encode(
+        set_bit(
+            set_bit(
+                overlay(uuid_send(uuid_generate_v4())
+                    PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                    FROM 1 FOR 6),
+                52, 1),
+            53, 1),
+        'hex')::uuid;
+$$ LANGUAGE sql VOLATILE;
+
+-- Os INSERTs via JPA ja chegam com o id gerado pela aplicacao (UuidV7); o default cobre SQL direto,
+-- carga em massa (V35) e tabelas sem entidade.
+ALTER TABLE users ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE passengers ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE boatmen ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE agencies ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE admins ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE approvals ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE payment_methods ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE user_sessions ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE password_resets ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE user_notifications ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE user_preferences ALTER COLUMN id SET DEFAULT uuid_generate_v7();
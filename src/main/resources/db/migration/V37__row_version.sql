@@ -0,0 +1,39 @@
+-- Versao da linha para PATCH condicional (If-Match / ETag). O trigger incrementa em qualquer UPDATE
+-- (JPA, SQL direto, carga em massa), entao a versao nao depende de qual caminho gravou a linha.
+-- UPDATEs que so tocam last_login (flush do write-behind) ou updated_at mantem a versao: um login
+-- entre o GET e o PATCH nao deve virar 412.
+-- ADD COLUMN com default constante nao reescreve a tabela (PostgreSQL 11+).
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE passengers ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE boatmen ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE agencies ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+CREATE OR REPLACE FUNCTION increment_row_version()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF (to_jsonb(NEW) - ARRAY['last_login', 'updated_at', 'version'])
+        IS DISTINCT FROM (to_jsonb(OLD) - ARRAY['last_login', 'updated_at', 'version']) THEN
+        NEW.version = OLD.version + 1;
+    ELSE
+        NEW.version = OLD.version;
+    END IF;
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+DROP TRIGGER IF EXISTS increment_users_version ON users;
+DROP TRIGGER IF EXISTS increment_passengers_version ON passengers;
+DROP TRIGGER IF EXISTS increment_boatmen_version ON boatmen;
+DROP TRIGGER IF EXISTS increment_agencies_version ON agencies;
+
+CREATE TRIGGER increment_users_version BEFORE UPDATE ON users
+    FOR EACH ROW EXECUTE FUNCTION increment_row_version();
+
+CREATE TRIGGER increment_passengers_version BEFORE UPDATE ON passengers
+    FOR EACH ROW EXECUTE FUNCTION increment_row_version();
+
+CREATE TRIGGER increment_boatmen_version BEFORE UPDATE ON boatmen
+    FOR EACH ROW EXECUTE FUNCTION increment_row_version();
+
+CREATE TRIGGER increment_agencies_version BEFORE UPDATE ON agencies
+    FOR EACH ROW EXECUTE FUNCTION increment_row_version();
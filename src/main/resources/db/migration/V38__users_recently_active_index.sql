@@ -0,0 +1,5 @@
+-- Aquecimento de cache no startup: os N usuarios com login mais recente. Com o indice na mesma ordem
+-- do ORDER BY (inclusive NULLS LAST) a consulta le so as N primeiras entradas, sem sort da tabela inteira.
+-- CONCURRENTLY e fora de transacao (V38__users_recently_active_index.sql.conf), como os indices da V33.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_recently_active
+    ON users (last_login DESC NULLS LAST, updated_at DESC);
@@ -1,8 +1,10 @@
 package com.viafluvial.srvusuario.adapters.in.web;
 
+import com.viafluvial.srvusuario.common.error.UniqueConstraintViolationException;
 import com.viafluvial.srvusuario.common.logging.CorrelationIdFilter;
 import com.viafluvial.srvusuario.domain.exception.DuplicateEmailException;
 import com.viafluvial.srvusuario.domain.exception.InvalidUserStateException;
+import com.viafluvial.srvusuario.domain.exception.StaleVersionException;
 import com.viafluvial.srvusuario.domain.exception.UserNotFoundException;
 import com.viafluvial.srvusuario.domain.model.UserStatus;
 import jakarta.servlet.http.HttpServletRequest;
@@ -63,6 +65,37 @@ class GlobalExceptionHandlerTest {
         assertThat(((Map<?, ?>) details).get("email")).isEqualTo("x@example.com");
     }
 
+    @Test
+    @DisplayName("UniqueConstraintViolation: deve retornar 409")
+    void handleUniqueConstraintShouldReturn409() {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(request.getRequestURI()).thenReturn("/api/v1/passengers");
+
+        var response = handler.handleUniqueConstraint(new UniqueConstraintViolationException("CPF", "123"), request);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(409);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getTitle()).isEqualTo("CONFLICT");
+        assertThat(response.getBody().getDetail()).contains("CPF '123'");
+    }
+
+    @Test
+    @DisplayName("StaleVersion: deve retornar 412 com a versao esperada")
+    void handleStaleVersionShouldReturn412() {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(request.getRequestURI()).thenReturn("/api/v1/users/123");
+        UUID id = UUID.randomUUID();
+
+        var response = handler.handleStaleVersion(new StaleVersionException(id, 7L), request);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(412);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getTitle()).isEqualTo("STALE_VERSION");
+        Map<?, ?> details = (Map<?, ?>) response.getBody().getProperties().get("details");
+        assertThat(details.get("resourceId")).isEqualTo(id.toString());
+        assertThat(details.get("expectedVersion")).isEqualTo(7L);
+    }
+
     @Test
     @DisplayName("InvalidUserState: deve retornar 400")
     void handleInvalidUserStateShouldReturn400() {
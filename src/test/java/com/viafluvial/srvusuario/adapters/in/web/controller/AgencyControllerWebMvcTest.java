@@ -1,11 +1,14 @@
 package com.viafluvial.srvusuario.adapters.in.web.controller;
 
 import com.viafluvial.srvusuario.application.dto.AgencyDTO;
+import com.viafluvial.srvusuario.adapters.out.persistence.ActivityWriteBehindBuffer;
+import com.viafluvial.srvusuario.adapters.out.persistence.CopyProfileBulkLoader;
 import com.viafluvial.srvusuario.adapters.out.persistence.AdminRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.AgencyRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.ApprovalRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.BoatmanRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.PassengerRepositoryAdapter;
+import com.viafluvial.srvusuario.adapters.out.persistence.UniqueKeyFilters;
 import com.viafluvial.srvusuario.adapters.out.persistence.UserPreferenceRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.UserRepositoryAdapter;
 import com.viafluvial.srvusuario.application.port.in.AdminUseCase;
@@ -88,6 +91,15 @@ class AgencyControllerWebMvcTest {
     @MockBean
     private UserPreferenceRepositoryAdapter userPreferenceRepositoryAdapter;
 
+    @MockBean
+    private UniqueKeyFilters uniqueKeyFilters;
+
+    @MockBean
+    private ActivityWriteBehindBuffer activityWriteBehindBuffer;
+
+    @MockBean
+    private CopyProfileBulkLoader copyProfileBulkLoader;
+
     @Test
     @DisplayName("POST /agencies cria agência")
     void createAgencyShouldReturnCreated() throws Exception {
@@ -2,11 +2,14 @@ package com.viafluvial.srvusuario.adapters.in.web.controller;
 
 import com.viafluvial.srvusuario.application.dto.ApprovalDTO;
 import com.viafluvial.srvusuario.application.dto.ApprovalCreateDTO;
+import com.viafluvial.srvusuario.adapters.out.persistence.ActivityWriteBehindBuffer;
+import com.viafluvial.srvusuario.adapters.out.persistence.CopyProfileBulkLoader;
 import com.viafluvial.srvusuario.adapters.out.persistence.AdminRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.AgencyRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.ApprovalRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.BoatmanRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.PassengerRepositoryAdapter;
+import com.viafluvial.srvusuario.adapters.out.persistence.UniqueKeyFilters;
 import com.viafluvial.srvusuario.adapters.out.persistence.UserPreferenceRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.UserRepositoryAdapter;
 import com.viafluvial.srvusuario.application.port.in.AdminUseCase;
@@ -89,6 +92,15 @@ class ApprovalControllerWebMvcTest {
     @MockBean
     private UserPreferenceRepositoryAdapter userPreferenceRepositoryAdapter;
 
+    @MockBean
+    private UniqueKeyFilters uniqueKeyFilters;
+
+    @MockBean
+    private ActivityWriteBehindBuffer activityWriteBehindBuffer;
+
+    @MockBean
+    private CopyProfileBulkLoader copyProfileBulkLoader;
+
     @Test
     @DisplayName("POST /approvals cria approval")
     void createApprovalShouldReturnCreated() throws Exception {
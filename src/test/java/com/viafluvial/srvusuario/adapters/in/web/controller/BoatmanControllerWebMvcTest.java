@@ -1,6 +1,7 @@
 package com.viafluvial.srvusuario.adapters.in.web.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.viafluvial.srvusuario.application.dto.BatchGetResult;
 import com.viafluvial.srvusuario.application.dto.BoatmanDTO;
 import com.viafluvial.srvusuario.application.port.in.AdminUseCase;
 import com.viafluvial.srvusuario.application.port.in.AgencyUseCase;
@@ -8,11 +9,14 @@ import com.viafluvial.srvusuario.application.port.in.ApprovalUseCase;
 import com.viafluvial.srvusuario.application.port.in.BoatmanUseCase;
 import com.viafluvial.srvusuario.application.port.in.PassengerUseCase;
 import com.viafluvial.srvusuario.application.port.in.UserManagementUseCase;
+import com.viafluvial.srvusuario.adapters.out.persistence.ActivityWriteBehindBuffer;
+import com.viafluvial.srvusuario.adapters.out.persistence.CopyProfileBulkLoader;
 import com.viafluvial.srvusuario.adapters.out.persistence.AdminRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.AgencyRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.ApprovalRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.BoatmanRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.PassengerRepositoryAdapter;
+import com.viafluvial.srvusuario.adapters.out.persistence.UniqueKeyFilters;
 import com.viafluvial.srvusuario.adapters.out.persistence.UserPreferenceRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.UserRepositoryAdapter;
 import org.junit.jupiter.api.DisplayName;
@@ -28,6 +32,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -95,6 +101,15 @@ class BoatmanControllerWebMvcTest {
     @MockBean
     private UserPreferenceRepositoryAdapter userPreferenceRepositoryAdapter;
 
+    @MockBean
+    private UniqueKeyFilters uniqueKeyFilters;
+
+    @MockBean
+    private ActivityWriteBehindBuffer activityWriteBehindBuffer;
+
+    @MockBean
+    private CopyProfileBulkLoader copyProfileBulkLoader;
+
     @Test
     @DisplayName("POST /boatmen cria barqueiro")
     void createBoatmanShouldReturnCreated() throws Exception {
@@ -132,6 +147,27 @@ class BoatmanControllerWebMvcTest {
         assertThat(captor.getValue().getUserId()).isEqualTo(userId);
     }
 
+    @Test
+    @DisplayName("POST /boatmen:batchGetByUser busca os perfis pelos ids de usuario")
+    void batchGetBoatmenByUserShouldReturnProfiles() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID withoutProfile = UUID.randomUUID();
+        BoatmanDTO boatman = BoatmanDTO.builder()
+            .id(UUID.randomUUID())
+            .userId(userId)
+            .cpf("12345678901")
+            .build();
+        when(boatmanUseCase.getBoatmenByUserIds(List.of(userId, withoutProfile)))
+            .thenReturn(new BatchGetResult<>(List.of(boatman), List.of(withoutProfile)));
+
+        mockMvc.perform(post("/api/v1/boatmen:batchGetByUser").contextPath("/api/v1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("ids", List.of(userId, withoutProfile)))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].userId").value(userId.toString()))
+            .andExpect(jsonPath("$.notFound[0]").value(withoutProfile.toString()));
+    }
+
     @Test
     @DisplayName("GET /boatmen/exists exige cpf ou cnpj")
     void boatmanExistsShouldValidateParams() throws Exception {
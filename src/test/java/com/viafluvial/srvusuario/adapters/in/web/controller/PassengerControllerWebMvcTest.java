@@ -2,6 +2,8 @@ package com.viafluvial.srvusuario.adapters.in.web.controller;
 
 import com.viafluvial.srvusuario.application.dto.PassengerDTO;
 import com.viafluvial.srvusuario.application.port.in.PassengerUseCase;
+import com.viafluvial.srvusuario.adapters.out.persistence.ActivityWriteBehindBuffer;
+import com.viafluvial.srvusuario.adapters.out.persistence.CopyProfileBulkLoader;
 import com.viafluvial.srvusuario.adapters.out.persistence.AdminRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.AgencyRepositoryAdapter;
 import com.viafluvial.srvusuario.application.port.in.AdminUseCase;
@@ -12,6 +14,7 @@ import com.viafluvial.srvusuario.application.port.in.UserManagementUseCase;
 import com.viafluvial.srvusuario.adapters.out.persistence.ApprovalRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.BoatmanRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.PassengerRepositoryAdapter;
+import com.viafluvial.srvusuario.adapters.out.persistence.UniqueKeyFilters;
 import com.viafluvial.srvusuario.adapters.out.persistence.UserPreferenceRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.UserRepositoryAdapter;
 import org.junit.jupiter.api.DisplayName;
@@ -88,6 +91,15 @@ class PassengerControllerWebMvcTest {
     @MockBean
     private UserPreferenceRepositoryAdapter userPreferenceRepositoryAdapter;
 
+    @MockBean
+    private UniqueKeyFilters uniqueKeyFilters;
+
+    @MockBean
+    private ActivityWriteBehindBuffer activityWriteBehindBuffer;
+
+    @MockBean
+    private CopyProfileBulkLoader copyProfileBulkLoader;
+
     @Test
     @DisplayName("POST /passengers cria passageiro")
     void createPassengerShouldReturnCreated() throws Exception {
@@ -1,6 +1,8 @@
 package com.viafluvial.srvusuario.adapters.in.web.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.viafluvial.srvusuario.application.dto.BatchGetResult;
+import com.viafluvial.srvusuario.application.dto.BatchItemResult;
 import com.viafluvial.srvusuario.application.dto.UserDTO;
 import com.viafluvial.srvusuario.application.dto.UserCreateDTO;
 import com.viafluvial.srvusuario.application.port.in.AdminUseCase;
@@ -9,13 +11,17 @@ import com.viafluvial.srvusuario.application.port.in.ApprovalUseCase;
 import com.viafluvial.srvusuario.application.port.in.BoatmanUseCase;
 import com.viafluvial.srvusuario.application.port.in.PassengerUseCase;
 import com.viafluvial.srvusuario.application.port.in.UserManagementUseCase;
+import com.viafluvial.srvusuario.adapters.out.persistence.ActivityWriteBehindBuffer;
+import com.viafluvial.srvusuario.adapters.out.persistence.CopyProfileBulkLoader;
 import com.viafluvial.srvusuario.adapters.out.persistence.AdminRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.AgencyRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.ApprovalRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.BoatmanRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.PassengerRepositoryAdapter;
+import com.viafluvial.srvusuario.adapters.out.persistence.UniqueKeyFilters;
 import com.viafluvial.srvusuario.adapters.out.persistence.UserPreferenceRepositoryAdapter;
 import com.viafluvial.srvusuario.adapters.out.persistence.UserRepositoryAdapter;
+import com.viafluvial.srvusuario.domain.exception.StaleVersionException;
 import com.viafluvial.srvusuario.domain.model.UserStatus;
 import com.viafluvial.srvusuario.domain.model.UserType;
 import org.junit.jupiter.api.DisplayName;
@@ -29,15 +35,27 @@ import org.springframework.http.MediaType;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -97,6 +115,15 @@ class UserControllerWebMvcTest {
     @MockBean
     private UserPreferenceRepositoryAdapter userPreferenceRepositoryAdapter;
 
+    @MockBean
+    private UniqueKeyFilters uniqueKeyFilters;
+
+    @MockBean
+    private ActivityWriteBehindBuffer activityWriteBehindBuffer;
+
+    @MockBean
+    private CopyProfileBulkLoader copyProfileBulkLoader;
+
     @Test
     @DisplayName("POST /users cria usuario e mapeia DTO")
     void createUserShouldMapAndReturnCreated() throws Exception {
@@ -140,4 +167,187 @@ class UserControllerWebMvcTest {
         assertThat(captured.getEmail()).isEqualTo("test@example.com");
         assertThat(captured.getUserType()).isEqualTo(UserType.PASSENGER);
     }
+
+    @Test
+    @DisplayName("POST /users:batch cria em lote e devolve resultado por item")
+    void createUsersShouldReturnPerItemResults() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UserDTO created = UserDTO.builder()
+            .id(userId)
+            .userType(UserType.PASSENGER)
+            .email("a@example.com")
+            .fullName("User A")
+            .status(UserStatus.PENDING)
+            .emailVerified(false)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build();
+
+        when(userManagementUseCase.createUsers(anyList())).thenReturn(List.of(
+            BatchItemResult.created(0, created),
+            BatchItemResult.duplicate(1, "Email 'a@example.com' repetido no lote (item 0)")
+        ));
+
+        String payload = """
+            {
+              "items": [
+                {"userType": "PASSENGER", "email": "a@example.com", "password": "password123", "fullName": "User A", "phone": "1"},
+                {"userType": "PASSENGER", "email": "a@example.com", "password": "password123", "fullName": "User A", "phone": "1"}
+              ]
+            }
+            """;
+
+        mockMvc.perform(post("/api/v1/users:batch").contextPath("/api/v1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(payload))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(1))
+            .andExpect(jsonPath("$.failed").value(1))
+            .andExpect(jsonPath("$.items[0].status").value("CREATED"))
+            .andExpect(jsonPath("$.items[0].user.id").value(userId.toString()))
+            .andExpect(jsonPath("$.items[1].index").value(1))
+            .andExpect(jsonPath("$.items[1].status").value("DUPLICATE"));
+
+        verify(userManagementUseCase).createUsers(argThat(items -> items.size() == 2));
+    }
+
+    @Test
+    @DisplayName("POST /users:batchGet devolve os encontrados e os ids ausentes")
+    void batchGetUsersShouldReturnItemsAndNotFound() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        UserDTO user = UserDTO.builder()
+            .id(userId)
+            .userType(UserType.PASSENGER)
+            .email("a@example.com")
+            .fullName("User A")
+            .status(UserStatus.ACTIVE)
+            .emailVerified(true)
+            .build();
+        when(userManagementUseCase.getUsersByIds(List.of(userId, missingId)))
+            .thenReturn(new BatchGetResult<>(List.of(user), List.of(missingId)));
+
+        mockMvc.perform(post("/api/v1/users:batchGet").contextPath("/api/v1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("ids", List.of(userId, missingId)))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(1))
+            .andExpect(jsonPath("$.items[0].id").value(userId.toString()))
+            .andExpect(jsonPath("$.notFound[0]").value(missingId.toString()));
+    }
+
+    @Test
+    @DisplayName("POST /users:batchGet sem ids retorna 400")
+    void batchGetUsersShouldRejectEmptyIds() throws Exception {
+        mockMvc.perform(post("/api/v1/users:batchGet").contextPath("/api/v1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": []}"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(userManagementUseCase);
+    }
+
+    @Test
+    @DisplayName("GET /users:export?format=csv escreve o CSV em streaming com os filtros da busca")
+    @SuppressWarnings("unchecked")
+    void exportUsersShouldStreamCsv() throws Exception {
+        UUID userId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+        UserDTO user = UserDTO.builder()
+            .id(userId)
+            .userType(UserType.PASSENGER)
+            .email("a@example.com")
+            .fullName("Silva, Ana")
+            .status(UserStatus.ACTIVE)
+            .emailVerified(true)
+            .build();
+
+        when(userManagementUseCase.exportUsers(any(), any(), any(), eq(UserStatus.ACTIVE), any(), any(), any(), any()))
+            .thenAnswer(invocation -> {
+                Consumer<UserDTO> sink = invocation.getArgument(7);
+                sink.accept(user);
+                return 1L;
+            });
+
+        MvcResult started = mockMvc.perform(get("/api/v1/users:export").contextPath("/api/v1")
+                .param("status", "ACTIVE")
+                .param("format", "csv"))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"users.csv\""))
+            .andExpect(content().contentTypeCompatibleWith("text/csv"))
+            .andExpect(content().string(
+                "id,userType,email,fullName,phone,status,emailVerified,createdAt,updatedAt,lastLogin\r\n"
+                    + userId + ",PASSENGER,a@example.com,\"Silva, Ana\",,ACTIVE,true,,,\r\n"));
+    }
+
+    @Test
+    @DisplayName("GET /users:export com formato desconhecido responde 400 sem tocar no banco")
+    void exportUsersShouldRejectUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/v1/users:export").contextPath("/api/v1")
+                .param("format", "xml"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(userManagementUseCase);
+    }
+
+    @Test
+    @DisplayName("PATCH /users/{id} aplica merge patch com If-Match e devolve o novo ETag")
+    void patchUserShouldPassIfMatchAndReturnETag() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UserDTO response = UserDTO.builder()
+            .id(userId)
+            .userType(UserType.PASSENGER)
+            .email("test@example.com")
+            .fullName("Novo Nome")
+            .phone(null)
+            .status(UserStatus.ACTIVE)
+            .emailVerified(true)
+            .version(4L)
+            .build();
+        when(userManagementUseCase.patchUser(eq(userId), anyMap(), eq(3L))).thenReturn(response);
+
+        mockMvc.perform(patch("/users/{id}", userId)
+                .contentType("application/merge-patch+json")
+                .header("If-Match", "\"3\"")
+                .content("{\"fullName\":\"Novo Nome\",\"phone\":null}"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"4\""))
+            .andExpect(jsonPath("$.fullName").value("Novo Nome"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(userManagementUseCase).patchUser(eq(userId), captor.capture(), eq(3L));
+        assertThat(captor.getValue()).containsEntry("fullName", "Novo Nome").containsKey("phone");
+        assertThat(captor.getValue().get("phone")).isNull();
+    }
+
+    @Test
+    @DisplayName("PATCH /users/{id} com versao desatualizada responde 412")
+    void patchUserShouldReturnPreconditionFailed() throws Exception {
+        UUID userId = UUID.randomUUID();
+        when(userManagementUseCase.patchUser(eq(userId), anyMap(), eq(2L)))
+            .thenThrow(new StaleVersionException(userId, 2L));
+
+        mockMvc.perform(patch("/users/{id}", userId)
+                .contentType("application/merge-patch+json")
+                .header("If-Match", "\"2\"")
+                .content("{\"fullName\":\"Outro\"}"))
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.title").value("STALE_VERSION"));
+    }
+
+    @Test
+    @DisplayName("PATCH /users/{id} com ETag fraco no If-Match responde 400")
+    void patchUserShouldRejectWeakETag() throws Exception {
+        mockMvc.perform(patch("/users/{id}", UUID.randomUUID())
+                .contentType("application/merge-patch+json")
+                .header("If-Match", "W/\"2\"")
+                .content("{\"fullName\":\"Outro\"}"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(userManagementUseCase);
+    }
 }
@@ -0,0 +1,103 @@
+package com.viafluvial.srvusuario.adapters.in.web.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Export: StreamingExporter")
+class StreamingExporterTest {
+
+    private static final List<ExportColumn<Map<String, Object>>> COLUMNS = List.of(
+        ExportColumn.of("name", row -> row.get("name")),
+        ExportColumn.of("total", row -> row.get("total"))
+    );
+
+    private final StreamingExporter exporter = new StreamingExporter(new ObjectMapper());
+
+    @Test
+    @DisplayName("NDJSON escreve um objeto por linha")
+    void ndjsonShouldWriteOneObjectPerLine() throws IOException {
+        ResponseEntity<StreamingResponseBody> response = exporter.export("users", ExportFormat.NDJSON, COLUMNS,
+            name -> Map.<String, Object>of("name", name), sink -> {
+                sink.accept("ana");
+                sink.accept("bruno");
+                return 2;
+            });
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(ExportFormat.NDJSON.getMediaType());
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
+            .isEqualTo("attachment; filename=\"users.ndjson\"");
+        assertThat(write(response.getBody())).isEqualTo("{\"name\":\"ana\"}\n{\"name\":\"bruno\"}\n");
+    }
+
+    @Test
+    @DisplayName("CSV escreve cabecalho, escapa separadores e nao usa notacao cientifica")
+    void csvShouldWriteHeaderAndEscapeValues() throws IOException {
+        ResponseEntity<StreamingResponseBody> response = exporter.export("users", ExportFormat.CSV, COLUMNS,
+            (Map<String, Object> row) -> row, sink -> {
+                sink.accept(Map.of("name", "Silva, \"Ana\"", "total", new BigDecimal("1E+3")));
+                sink.accept(Map.of("name", "Bruno", "total", 1.0E7));
+                return 2;
+            });
+
+        assertThat(write(response.getBody())).isEqualTo(
+            "name,total\r\n"
+                + "\"Silva, \"\"Ana\"\"\",1000\r\n"
+                + "Bruno,10000000\r\n");
+    }
+
+    @Test
+    @DisplayName("Falha de escrita (cliente desconectou) interrompe a fonte")
+    void writeFailureShouldStopSource() {
+        AtomicInteger delivered = new AtomicInteger();
+        ResponseEntity<StreamingResponseBody> response = exporter.export("users", ExportFormat.CSV, COLUMNS,
+            (Map<String, Object> row) -> row, sink -> {
+                for (int i = 0; i < 100_000; i++) {
+                    sink.accept(Map.of("name", "linha-" + i));
+                    delivered.incrementAndGet();
+                }
+                return delivered.get();
+            });
+
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThatThrownBy(() -> response.getBody().writeTo(broken))
+            .isInstanceOf(IOException.class)
+            .hasMessage("Broken pipe");
+        assertThat(delivered.get()).isLessThan(100_000);
+    }
+
+    @Test
+    @DisplayName("Formato ausente vira NDJSON e formato desconhecido e rejeitado")
+    void fromValueShouldDefaultAndReject() {
+        assertThat(ExportFormat.fromValue(null)).isEqualTo(ExportFormat.NDJSON);
+        assertThat(ExportFormat.fromValue("CSV")).isEqualTo(ExportFormat.CSV);
+        assertThatThrownBy(() -> ExportFormat.fromValue("xml")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String write(StreamingResponseBody body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -1,14 +1,18 @@
 package com.viafluvial.srvusuario.adapters.in.web.mapper;
 
+import com.viafluvial.srvusuario.adapters.in.web.dto.CountModeApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.ExistsResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.PagedUserResponseApi;
 import com.viafluvial.srvusuario.adapters.in.web.dto.UserTypeApi;
+import com.viafluvial.srvusuario.application.dto.CountMode;
 import com.viafluvial.srvusuario.application.dto.ExistsResponseDTO;
 import com.viafluvial.srvusuario.application.dto.PagedResponse;
 import com.viafluvial.srvusuario.application.dto.UserDTO;
 import com.viafluvial.srvusuario.domain.model.UserType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.List;
 import java.util.UUID;
@@ -58,6 +62,41 @@ class PagedResponseApiMapperTest {
         assertThat(api.getItems().getFirst().getUserType()).isEqualTo(UserTypeApi.ADMIN);
     }
 
+    @Test
+    @DisplayName("toPagedUserResponse: modo cursor deve omitir totais e expor nextCursor")
+    void toPagedUserResponseShouldOmitTotalsInKeysetMode() {
+        PagedResponse<UserDTO> response = PagedResponse.<UserDTO>builder()
+            .items(List.of())
+            .size(10)
+            .keyset()
+            .nextCursor("abc")
+            .build();
+
+        PagedUserResponseApi api = PagedResponseApiMapper.toPagedUserResponse(response);
+
+        assertThat(api.getTotalItems()).isNull();
+        assertThat(api.getTotalPages()).isNull();
+        assertThat(api.getNextCursor()).isEqualTo("abc");
+        assertThat(api.getHasNext()).isTrue();
+        assertThat(api.getCountMode()).isEqualTo(CountModeApi.NONE);
+    }
+
+    @Test
+    @DisplayName("toPagedUserResponse: count=none deve omitir totais e expor hasNext")
+    void toPagedUserResponseShouldExposeCountMode() {
+        PagedResponse<UserDTO> response = PagedResponse.<UserDTO>builder()
+            .items(List.of())
+            .slice(new SliceImpl<>(List.of(), PageRequest.of(2, 10), true), CountMode.NONE)
+            .build();
+
+        PagedUserResponseApi api = PagedResponseApiMapper.toPagedUserResponse(response);
+
+        assertThat(api.getPage()).isEqualTo(3);
+        assertThat(api.getTotalItems()).isNull();
+        assertThat(api.getHasNext()).isTrue();
+        assertThat(api.getCountMode()).isEqualTo(CountModeApi.NONE);
+    }
+
     @Test
     @DisplayName("null-handling: deve retornar null")
     void nullHandlingShouldReturnNull() {
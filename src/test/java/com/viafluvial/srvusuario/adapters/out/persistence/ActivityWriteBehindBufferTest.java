@@ -0,0 +1,157 @@
+package com.viafluvial.srvusuario.adapters.out.persistence;
+
+import com.viafluvial.srvusuario.adapters.out.persistence.ActivityWriteBehindBuffer.Kind;
+import com.viafluvial.srvusuario.infrastructure.cache.UserCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Persistence: ActivityWriteBehindBuffer")
+class ActivityWriteBehindBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private UserCache userCache;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("flush: funde logins do mesmo usuario e grava um unico UPDATE ... FROM (VALUES) no Postgres")
+    void flushShouldCoalesceAndWriteValuesUpdate() {
+        postgres(true);
+        ActivityWriteBehindBuffer buffer = buffer(500, 100);
+        UUID userId = UUID.randomUUID();
+        LocalDateTime first = LocalDateTime.now().minusSeconds(5);
+        LocalDateTime latest = first.plusSeconds(3);
+
+        buffer.recordLastLogin(userId, first);
+        buffer.recordLastLogin(userId, latest);
+        buffer.recordLastLogin(userId, first.plusSeconds(1));
+
+        assertThat(buffer.pending(Kind.LAST_LOGIN)).isEqualTo(1);
+        assertThat(buffer.flush()).isEqualTo(1);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).update(sql.capture(), eq(userId), eq(latest));
+        assertThat(sql.getValue())
+            .startsWith("UPDATE users AS t SET last_login = v.ts FROM (VALUES (CAST(? AS uuid), CAST(? AS timestamp))) AS v(id, ts)")
+            .contains("t.last_login < v.ts");
+        verify(userCache).evict(userId);
+        assertThat(buffer.pending(Kind.LAST_LOGIN)).isZero();
+        assertThat(meterRegistry.get("activity.buffer.batch.size").tag("kind", "last_login").summary().count())
+            .isEqualTo(1L);
+        assertThat(meterRegistry.get("activity.buffer.lag").tag("kind", "last_login").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("flush: divide em lotes de batch-size e usa batch JDBC por linha fora do Postgres")
+    void flushShouldSplitBatchesWithRowFallback() {
+        postgres(false);
+        ActivityWriteBehindBuffer buffer = buffer(2, 100);
+        for (int i = 0; i < 3; i++) {
+            buffer.recordSessionActivity(UUID.randomUUID(), LocalDateTime.now());
+        }
+
+        assertThat(buffer.flush()).isEqualTo(3);
+
+        verify(jdbcTemplate, times(2)).batchUpdate(
+            eq("UPDATE user_sessions SET last_activity = ? WHERE id = ? AND (last_activity IS NULL OR last_activity < ?)"),
+            anyList());
+        verifyNoInteractions(userCache);
+    }
+
+    @Test
+    @DisplayName("flush: lote que falha volta ao buffer e conta falha")
+    void flushShouldKeepFailedBatchPending() {
+        postgres(true);
+        ActivityWriteBehindBuffer buffer = buffer(500, 100);
+        buffer.recordLastLogin(UUID.randomUUID(), LocalDateTime.now());
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThat(buffer.flush()).isZero();
+
+        assertThat(buffer.pending(Kind.LAST_LOGIN)).isEqualTo(1);
+        assertThat(meterRegistry.get("activity.buffer.flush.failures").tag("kind", "last_login").counter().count())
+            .isEqualTo(1.0);
+        verifyNoInteractions(userCache);
+    }
+
+    @Test
+    @DisplayName("record: com o buffer cheio grava chave nova na hora, mas continua fundindo chaves ja pendentes")
+    void recordShouldWriteThroughWhenFull() {
+        ActivityWriteBehindBuffer buffer = buffer(500, 1);
+        UUID pending = UUID.randomUUID();
+        UUID overflow = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        buffer.recordLastLogin(pending, now);
+        buffer.recordLastLogin(pending, now.plusSeconds(1));
+        buffer.recordLastLogin(overflow, now);
+
+        verify(jdbcTemplate).update(
+            "UPDATE users SET last_login = ? WHERE id = ? AND (last_login IS NULL OR last_login < ?)", now, overflow, now);
+        verify(userCache).evict(overflow);
+        assertThat(buffer.pending(Kind.LAST_LOGIN)).isEqualTo(1);
+        assertThat(meterRegistry.get("activity.buffer.overflow").tag("kind", "last_login").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("stop: grava o que estiver pendente no shutdown")
+    void stopShouldFlushPending() {
+        postgres(true);
+        ActivityWriteBehindBuffer buffer = buffer(500, 100);
+        buffer.start();
+        buffer.recordLastLogin(UUID.randomUUID(), LocalDateTime.now());
+
+        buffer.stop();
+
+        assertThat(buffer.isRunning()).isFalse();
+        assertThat(buffer.pending(Kind.LAST_LOGIN)).isZero();
+        verify(jdbcTemplate).update(anyString(), any(Object[].class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void postgres(boolean postgres) {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(postgres);
+    }
+
+    private ActivityWriteBehindBuffer buffer(int batchSize, int maxPending) {
+        return new ActivityWriteBehindBuffer(
+            jdbcTemplate, transactionManager, userCache, meterRegistry,
+            true, Duration.ofMinutes(1), batchSize, maxPending
+        );
+    }
+}
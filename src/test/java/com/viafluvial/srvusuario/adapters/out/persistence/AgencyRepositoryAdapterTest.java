@@ -18,6 +18,7 @@ import org.springframework.data.jpa.domain.Specification;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,6 +34,9 @@ class AgencyRepositoryAdapterTest {
     @Mock
     private AgencyPersistenceMapper agencyMapper;
 
+    @Mock
+    private UniqueKeyFilters uniqueKeyFilters;
+
     @InjectMocks
     private AgencyRepositoryAdapter adapter;
 
@@ -92,6 +96,8 @@ class AgencyRepositoryAdapterTest {
     @Test
     @DisplayName("existsByCnpj: deve delegar para repository")
     void existsByCnpjShouldDelegate() {
+        when(uniqueKeyFilters.exists(any(), any(), any()))
+            .thenAnswer(inv -> inv.<Predicate<String>>getArgument(2).test(inv.getArgument(1)));
         when(agencyRepository.existsByCnpj("55")).thenReturn(true);
 
         assertThat(adapter.existsByCnpj("55")).isTrue();
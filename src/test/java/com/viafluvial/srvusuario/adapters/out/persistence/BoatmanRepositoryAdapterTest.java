@@ -18,6 +18,7 @@ import org.springframework.data.jpa.domain.Specification;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,6 +34,9 @@ class BoatmanRepositoryAdapterTest {
     @Mock
     private BoatmanPersistenceMapper boatmanMapper;
 
+    @Mock
+    private UniqueKeyFilters uniqueKeyFilters;
+
     @InjectMocks
     private BoatmanRepositoryAdapter adapter;
 
@@ -92,6 +96,8 @@ class BoatmanRepositoryAdapterTest {
     @Test
     @DisplayName("existsByCpf/existsByCnpj: deve delegar para repository")
     void existsShouldDelegate() {
+        when(uniqueKeyFilters.exists(any(), any(), any()))
+            .thenAnswer(inv -> inv.<Predicate<String>>getArgument(2).test(inv.getArgument(1)));
         when(boatmanRepository.existsByCpf("111")).thenReturn(true);
         when(boatmanRepository.existsByCnpj("22")).thenReturn(false);
 
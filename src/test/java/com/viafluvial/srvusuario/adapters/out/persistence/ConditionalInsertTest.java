@@ -0,0 +1,76 @@
+package com.viafluvial.srvusuario.adapters.out.persistence;
+
+import com.viafluvial.srvusuario.adapters.out.persistence.entity.Boatman;
+import com.viafluvial.srvusuario.adapters.out.persistence.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Formato do comando gerado a partir do mapeamento; a execucao (ON CONFLICT/RETURNING) e do PostgreSQL.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Adapter: ConditionalInsert")
+class ConditionalInsertTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ConditionalInsert conditionalInsert;
+
+    @Test
+    @DisplayName("statement: colunas nao nulas, conversores aplicados e RETURNING de version/created_at/updated_at")
+    void statementShouldReturnDatabaseManagedColumns() {
+        User user = User.builder()
+            .email("a@example.com")
+            .passwordHash("h")
+            .fullName("Ana")
+            .userType(User.UserType.PASSENGER)
+            .status(User.UserStatus.PENDING)
+            .emailVerified(false)
+            .build();
+        user.setId(UUID.randomUUID());
+
+        ConditionalInsert.Statement statement = statement(user, "email");
+
+        assertThat(statement.sql())
+            .startsWith("INSERT INTO users (id, created_at, email, email_verified, full_name, password_hash, status, "
+                + "updated_at, user_type) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (email) DO NOTHING RETURNING ")
+            .contains("created_at", "updated_at", "version")
+            .doesNotContain("phone, ?");
+        assertThat(statement.values()).contains(user.getId(), "a@example.com", "pending", "passenger");
+    }
+
+    @Test
+    @DisplayName("statement: associacao vira a chave estrangeira e ON CONFLICT sem alvo")
+    void statementShouldBindForeignKeyOfAssociation() {
+        User owner = new User();
+        owner.setId(UUID.randomUUID());
+        Boatman boatman = new Boatman();
+        boatman.setId(UUID.randomUUID());
+        boatman.setUser(owner);
+        boatman.setCpf("12345678901");
+
+        ConditionalInsert.Statement statement = statement(boatman);
+
+        assertThat(statement.sql()).startsWith("INSERT INTO boatmen (").contains("user_id) VALUES", "ON CONFLICT DO NOTHING");
+        assertThat(statement.values()).contains(owner.getId(), "12345678901");
+    }
+
+    private ConditionalInsert.Statement statement(Object entity, String... conflictAttributes) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        return conditionalInsert.statement(session.getEntityPersister(null, entity), entity, session, conflictAttributes);
+    }
+}
@@ -0,0 +1,156 @@
+package com.viafluvial.srvusuario.adapters.out.persistence;
+
+import com.viafluvial.srvusuario.adapters.out.persistence.CopyProfileBulkLoader.Layout;
+import com.viafluvial.srvusuario.application.dto.BulkLoadReport;
+import com.viafluvial.srvusuario.application.dto.BulkLoadTarget;
+import com.viafluvial.srvusuario.infrastructure.cache.NotFoundCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Persistence: CopyProfileBulkLoader")
+class CopyProfileBulkLoaderTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private UniqueKeyFilters uniqueKeyFilters;
+
+    @Mock
+    private NotFoundCache notFoundCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CopyProfileBulkLoader loader;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        loader = new CopyProfileBulkLoader(jdbcTemplate, transactionManager, uniqueKeyFilters, notFoundCache, meterRegistry, 1000);
+    }
+
+    @Test
+    @DisplayName("parseHeader: aceita BOM, aspas e maiusculas e mantem a ordem do arquivo")
+    void parseHeaderShouldNormalizeNames() {
+        assertThat(Layout.PASSENGERS.parseHeader("\uFEFF\"CPF\", user_id ,city"))
+            .containsExactly("cpf", "user_id", "city");
+    }
+
+    @Test
+    @DisplayName("parseHeader: recusa coluna desconhecida, repetida ou obrigatoria ausente")
+    void parseHeaderShouldRejectInvalidHeaders() {
+        assertThatThrownBy(() -> Layout.PASSENGERS.parseHeader("user_id,cpf,total_spent"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("total_spent");
+        assertThatThrownBy(() -> Layout.PASSENGERS.parseHeader("user_id,cpf,cpf"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Coluna repetida no cabecalho: cpf");
+        assertThatThrownBy(() -> Layout.BOATMEN.parseHeader("user_id,cpf,company_name"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Coluna obrigatoria ausente no cabecalho: cnpj");
+        assertThatThrownBy(() -> Layout.BOATMEN.parseHeader(null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("SQL: staging texto com linha do arquivo, COPY csv e merge com ON CONFLICT DO NOTHING")
+    void shouldBuildStagingCopyAndMergeSql() {
+        assertThat(Layout.PASSENGERS.createStagingSql())
+            .startsWith("CREATE TEMP TABLE passengers_load (line_no BIGINT GENERATED ALWAYS AS IDENTITY (START WITH 2), user_id TEXT, cpf TEXT")
+            .endsWith("reject_reason TEXT) ON COMMIT DROP");
+        assertThat(Layout.PASSENGERS.copySql(List.of("cpf", "user_id")))
+            .isEqualTo("COPY passengers_load (cpf, user_id) FROM STDIN WITH (FORMAT csv, FORCE_NULL (cpf, user_id))");
+        assertThat(Layout.BOATMEN.mergeSql())
+            .startsWith("INSERT INTO boatmen (user_id, cpf, rg, birth_date, company_name, cnpj")
+            .contains("SELECT bulk_load_try_uuid(s.user_id), s.cpf, s.rg, bulk_load_try_date(s.birth_date)")
+            .endsWith("FROM boatmen_load AS s WHERE s.reject_reason IS NULL ORDER BY s.line_no ON CONFLICT DO NOTHING");
+    }
+
+    @Test
+    @DisplayName("SQL: validacao cobre obrigatorios, formatos, usuario e chaves unicas de V3/V4")
+    void shouldBuildValidationSql() {
+        assertThat(Layout.PASSENGERS.rejectInvalidSql())
+            .contains("WHEN s.cpf IS NULL THEN 'cpf obrigatorio'")
+            .contains("WHEN length(s.cpf) > 14 THEN 'cpf excede 14 caracteres'")
+            .contains("WHEN upper(s.preferred_cabin_type) NOT IN ('STANDARD', 'EXECUTIVE', 'VIP', 'SUITE')")
+            .contains("NOT EXISTS (SELECT 1 FROM users u WHERE u.id = bulk_load_try_uuid(s.user_id))")
+            .contains("EXISTS (SELECT 1 FROM passengers t WHERE t.user_id = bulk_load_try_uuid(s.user_id))")
+            .contains("EXISTS (SELECT 1 FROM passengers t WHERE t.cpf = s.cpf) THEN 'cpf ja cadastrado em passengers'")
+            .endsWith("WHERE r.line_no = v.line_no AND v.reason IS NOT NULL");
+        assertThat(Layout.BOATMEN.rejectInvalidSql())
+            .contains("EXISTS (SELECT 1 FROM boatmen t WHERE t.cnpj = s.cnpj) THEN 'cnpj ja cadastrado em boatmen'");
+        assertThat(Layout.BOATMEN.rejectDuplicatesSql("cnpj"))
+            .contains("min(s.line_no) OVER (PARTITION BY s.cnpj)")
+            .contains("WHERE s.reject_reason IS NULL");
+    }
+
+    @Test
+    @DisplayName("load: copia, valida, grava e reporta gravadas, rejeitadas e conflitos")
+    @SuppressWarnings("unchecked")
+    void loadShouldReportOutcome() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(true, 3L);
+        when(jdbcTemplate.update(anyString()))
+            .thenAnswer(invocation -> Layout.PASSENGERS.mergeSql().equals(invocation.getArgument(0)) ? 1 : 0);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT count(*)"), eq(Long.class))).thenReturn(1L);
+        when(jdbcTemplate.query(startsWith("SELECT line_no"), any(RowMapper.class), eq(1000)))
+            .thenReturn(List.of(new BulkLoadReport.Rejection(3, "cpf ja cadastrado em passengers")));
+
+        BulkLoadReport report = loader.load(BulkLoadTarget.PASSENGERS, new StringReader(
+            "user_id,cpf\n11111111-1111-1111-1111-111111111111,1\n22222222-2222-2222-2222-222222222222,2\n"));
+
+        assertThat(report.getRowsRead()).isEqualTo(3);
+        assertThat(report.getRowsLoaded()).isEqualTo(1);
+        assertThat(report.getRowsRejected()).isEqualTo(1);
+        assertThat(report.getRowsConflicted()).isEqualTo(1);
+        assertThat(report.getRejections()).extracting(BulkLoadReport.Rejection::getLine).containsExactly(3L);
+
+        verify(jdbcTemplate).execute("SET LOCAL app.bulk_load = 'on'");
+        verify(jdbcTemplate).execute(Layout.PASSENGERS.createStagingSql());
+        verify(jdbcTemplate).update(Layout.PASSENGERS.rejectInvalidSql());
+        verify(jdbcTemplate).update(Layout.PASSENGERS.rejectDuplicatesSql("user_id"));
+        verify(jdbcTemplate).update(Layout.PASSENGERS.rejectDuplicatesSql("cpf"));
+        verify(jdbcTemplate).queryForObject("SELECT pg_notify(?, ?)", Object.class,
+            PgNotifyCacheInvalidationListener.CHANNEL, "{\"table\":\"passengers\",\"op\":\"BULK_LOAD\"}");
+        verify(uniqueKeyFilters).rebuildAsync(UniqueKeyFilters.KeySpace.PASSENGER_CPF);
+        verify(notFoundCache).clear();
+        assertThat(meterRegistry.get("bulk.load.rows").tag("target", "passengers").tag("outcome", "loaded")
+            .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("load: fora do PostgreSQL falha antes de ler o arquivo")
+    @SuppressWarnings("unchecked")
+    void loadShouldRequirePostgres() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(false);
+
+        assertThatThrownBy(() -> loader.load(BulkLoadTarget.BOATMEN, new StringReader("user_id\n")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Carga via COPY exige PostgreSQL");
+
+        verify(jdbcTemplate, never()).execute(anyString());
+        verifyNoInteractions(transactionManager, uniqueKeyFilters, notFoundCache);
+    }
+}
@@ -0,0 +1,59 @@
+package com.viafluvial.srvusuario.adapters.out.persistence;
+
+import com.viafluvial.srvusuario.adapters.out.persistence.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Adapter: PartialUpdate")
+class PartialUpdateTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PartialUpdate partialUpdate;
+
+    @Test
+    @DisplayName("apply: so a linha atualizada sai do contexto; alteracoes pendentes de outras entidades sao mantidas")
+    void applyShouldKeepOtherManagedEntities() {
+        User patched = persist("patched@example.com");
+        User other = persist("other@example.com");
+        entityManager.flush();
+        other.setFullName("Alterado sem flush");
+
+        boolean updated = partialUpdate.apply(User.class, patched.getId(), Map.of("fullName", "Novo nome"), null);
+
+        assertThat(updated).isTrue();
+        assertThat(entityManager.contains(patched)).isFalse();
+        assertThat(entityManager.contains(other)).isTrue();
+        assertThat(entityManager.find(User.class, patched.getId()).getFullName()).isEqualTo("Novo nome");
+        entityManager.clear();
+        assertThat(entityManager.find(User.class, other.getId()).getFullName()).isEqualTo("Alterado sem flush");
+    }
+
+    private User persist(String email) {
+        User user = User.builder()
+            .email(email)
+            .passwordHash("h")
+            .phone("92999990000")
+            .fullName("Original")
+            .userType(User.UserType.PASSENGER)
+            .status(User.UserStatus.PENDING)
+            .emailVerified(false)
+            .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -18,6 +18,7 @@ import org.springframework.data.jpa.domain.Specification;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,6 +34,9 @@ class PassengerRepositoryAdapterTest {
     @Mock
     private PassengerPersistenceMapper passengerMapper;
 
+    @Mock
+    private UniqueKeyFilters uniqueKeyFilters;
+
     @InjectMocks
     private PassengerRepositoryAdapter adapter;
 
@@ -92,6 +96,8 @@ class PassengerRepositoryAdapterTest {
     @Test
     @DisplayName("existsByCpf: deve delegar para repository")
     void existsByCpfShouldDelegate() {
+        when(uniqueKeyFilters.exists(any(), any(), any()))
+            .thenAnswer(inv -> inv.<Predicate<String>>getArgument(2).test(inv.getArgument(1)));
         when(passengerRepository.existsByCpf("123")).thenReturn(true);
 
         assertThat(adapter.existsByCpf("123")).isTrue();
@@ -0,0 +1,168 @@
+package com.viafluvial.srvusuario.adapters.out.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.viafluvial.srvusuario.infrastructure.cache.CacheInvalidationMessage;
+import com.viafluvial.srvusuario.infrastructure.cache.NotFoundCache;
+import com.viafluvial.srvusuario.infrastructure.cache.ProfileCache;
+import com.viafluvial.srvusuario.infrastructure.cache.UserCache;
+import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Adapter: PgNotifyCacheInvalidationListener")
+class PgNotifyCacheInvalidationListenerTest {
+
+    @Mock
+    private ObjectProvider<DataSource> dataSourceProvider;
+
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private ProfileCache profileCache;
+
+    @Mock
+    private NotFoundCache notFoundCache;
+
+    @Mock
+    private UniqueKeyFilters uniqueKeyFilters;
+
+    @Mock
+    private ObjectProvider<DataSourceProperties> dataSourcePropertiesProvider;
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private ObjectProvider<PgNotifyCacheInvalidationTransport> transportProvider;
+
+    private ConcurrentMapCacheManager cacheManager;
+
+    private PgNotifyCacheInvalidationListener listener;
+
+    @BeforeEach
+    void setup() {
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.USERS_CACHE, CacheConfig.NOT_FOUND_CACHE);
+        listener = new PgNotifyCacheInvalidationListener(dataSourceProvider, dataSourcePropertiesProvider, cacheManager,
+            userCache, profileCache, notFoundCache, uniqueKeyFilters, new ObjectMapper(), transportProvider, true, "");
+    }
+
+    @Test
+    @DisplayName("dispatch: o canal de evictions vai para o transporte; o dos triggers, para a invalidacao por linha")
+    void dispatchShouldRouteByChannel() {
+        PgNotifyCacheInvalidationTransport transport =
+            new PgNotifyCacheInvalidationTransport(mock(ObjectProvider.class), new ObjectMapper());
+        List<CacheInvalidationMessage> received = new ArrayList<>();
+        transport.subscribe(received::add);
+        doReturn(transport).when(transportProvider).getIfAvailable();
+        UUID id = UUID.randomUUID();
+
+        listener.dispatch(PgNotifyCacheInvalidationTransport.CHANNEL,
+            transport.toPayload(new CacheInvalidationMessage("outro-no", CacheConfig.USERS_CACHE, id)));
+        listener.dispatch(PgNotifyCacheInvalidationListener.CHANNEL,
+            "{\"table\":\"users\",\"op\":\"UPDATE\",\"id\":\"" + id + "\",\"email\":\"a@example.com\"}");
+
+        assertThat(received).singleElement().satisfies(message -> assertThat(message.getKey()).isEqualTo(id));
+        verify(userCache).evict(id, "a@example.com");
+    }
+
+    @Test
+    @DisplayName("clearLocalCaches: descarta todos os caches, inclusive o negativo, apos reconectar")
+    void clearLocalCachesShouldDropEveryCache() {
+        UUID id = UUID.randomUUID();
+        cacheManager.getCache(CacheConfig.USERS_CACHE).put(id, "user");
+        cacheManager.getCache(CacheConfig.NOT_FOUND_CACHE).put("users:" + id, Boolean.TRUE);
+
+        listener.clearLocalCaches();
+
+        assertThat(cacheManager.getCache(CacheConfig.USERS_CACHE).get(id)).isNull();
+        assertThat(cacheManager.getCache(CacheConfig.NOT_FOUND_CACHE).get("users:" + id)).isNull();
+    }
+
+    @Test
+    @DisplayName("handle: UPDATE em users deve invalidar id e email antigo")
+    void handleShouldEvictUser() {
+        UUID id = UUID.randomUUID();
+
+        listener.handle("{\"table\":\"users\",\"op\":\"UPDATE\",\"id\":\"" + id + "\",\"user_id\":null,\"email\":\"a@example.com\"}");
+
+        verify(userCache).evict(id, "a@example.com");
+        verifyNoInteractions(profileCache);
+    }
+
+    @Test
+    @DisplayName("handle: DELETE em boatmen deve invalidar perfil pelas duas chaves")
+    void handleShouldEvictBoatman() {
+        UUID id = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        listener.handle("{\"table\":\"boatmen\",\"op\":\"DELETE\",\"id\":\"" + id + "\",\"user_id\":\"" + userId + "\",\"email\":null}");
+
+        verify(profileCache).evictBoatman(id, userId);
+        verify(uniqueKeyFilters).recordDeletion(UniqueKeyFilters.KeySpace.BOATMAN_CPF, UniqueKeyFilters.KeySpace.BOATMAN_CNPJ);
+        verifyNoInteractions(userCache);
+    }
+
+    @Test
+    @DisplayName("handle: INSERT deve alimentar os Bloom filters e limpar o cache negativo do usuario")
+    void handleInsertShouldFeedFiltersAndNegativeCache() {
+        UUID id = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        listener.handle("{\"table\":\"passengers\",\"op\":\"INSERT\",\"id\":\"" + id + "\",\"user_id\":\"" + userId
+            + "\",\"email\":null,\"new\":{\"email\":null,\"cpf\":\"123\",\"cnpj\":null}}");
+
+        verify(notFoundCache).evictUser(userId);
+        verify(uniqueKeyFilters).put(UniqueKeyFilters.KeySpace.PASSENGER_CPF, "123");
+        verify(profileCache).evictPassenger(id, userId);
+    }
+
+    @Test
+    @DisplayName("handle: payload invalido ou tabela desconhecida nao invalida nada")
+    void handleShouldIgnoreInvalidPayload() {
+        listener.handle("nao-e-json");
+        listener.handle("{\"table\":\"approvals\",\"id\":\"" + UUID.randomUUID() + "\"}");
+
+        verifyNoInteractions(userCache, profileCache, notFoundCache);
+    }
+
+    @Test
+    @DisplayName("start: nao inicia quando o banco nao e PostgreSQL")
+    void startShouldSkipWhenNotPostgres() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        java.sql.Connection connection = mock(java.sql.Connection.class);
+        when(dataSourceProvider.getIfAvailable()).thenReturn(dataSource);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isWrapperFor(any())).thenReturn(false);
+
+        listener.start();
+
+        assertThat(listener.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("handle: BULK_LOAD deve reconstruir os filtros da tabela e limpar o cache negativo")
+    void handleBulkLoadShouldRebuildFilters() {
+        listener.handle("{\"table\":\"boatmen\",\"op\":\"BULK_LOAD\"}");
+
+        verify(uniqueKeyFilters).rebuildAsync(UniqueKeyFilters.KeySpace.BOATMAN_CPF);
+        verify(uniqueKeyFilters).rebuildAsync(UniqueKeyFilters.KeySpace.BOATMAN_CNPJ);
+        verify(notFoundCache).clear();
+        verifyNoInteractions(profileCache, userCache);
+    }
+}
@@ -0,0 +1,79 @@
+package com.viafluvial.srvusuario.adapters.out.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.viafluvial.srvusuario.infrastructure.cache.CacheInvalidationMessage;
+import com.viafluvial.srvusuario.infrastructure.cache.TwoTierCacheManager;
+import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Adapter: PgNotifyCacheInvalidationTransport")
+class PgNotifyCacheInvalidationTransportTest {
+
+    @Mock
+    private ObjectProvider<JdbcTemplate> jdbcTemplateProvider;
+
+    private PgNotifyCacheInvalidationTransport transport;
+
+    @BeforeEach
+    void setup() {
+        transport = new PgNotifyCacheInvalidationTransport(jdbcTemplateProvider, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("payload: preserva chaves UUID e texto; limpeza segue sem chave")
+    void payloadShouldRoundTripKeys() {
+        UUID id = UUID.randomUUID();
+
+        assertThat(roundTrip(id).getKey()).isEqualTo(id);
+        assertThat(roundTrip("a@example.com").getKey()).isEqualTo("a@example.com");
+        assertThat(roundTrip(null).isClear()).isTrue();
+        assertThat(roundTrip(42L).isClear()).isTrue();
+    }
+
+    @Test
+    @DisplayName("deliver: a mensagem recebida derruba o L1 das demais instancias")
+    void deliverShouldEvictOtherNodes() {
+        ConcurrentMapCacheManager localA = new ConcurrentMapCacheManager(CacheConfig.USERS_CACHE);
+        ConcurrentMapCacheManager localB = new ConcurrentMapCacheManager(CacheConfig.USERS_CACHE);
+        TwoTierCacheManager nodeA = new TwoTierCacheManager(localA, null, transport);
+        new TwoTierCacheManager(localB, null, transport);
+        UUID id = UUID.randomUUID();
+        localB.getCache(CacheConfig.USERS_CACHE).put(id, "dto");
+
+        transport.deliver(transport.toPayload(
+            new CacheInvalidationMessage(nodeA.getNodeId(), CacheConfig.USERS_CACHE, id)));
+
+        assertThat(localB.getCache(CacheConfig.USERS_CACHE).get(id)).isNull();
+    }
+
+    @Test
+    @DisplayName("publish: sem listener ativo (ex.: H2) nao toca o banco")
+    void publishShouldBeNoOpUntilActivated() {
+        transport.publish(new CacheInvalidationMessage("no", CacheConfig.USERS_CACHE, UUID.randomUUID()));
+
+        assertThat(transport.isActive()).isFalse();
+        verifyNoInteractions(jdbcTemplateProvider);
+    }
+
+    private CacheInvalidationMessage roundTrip(Object key) {
+        CacheInvalidationMessage message = transport.fromPayload(
+            transport.toPayload(new CacheInvalidationMessage("no", CacheConfig.USERS_CACHE, key)));
+        assertThat(message.getOrigin()).isEqualTo("no");
+        assertThat(message.getCacheName()).isEqualTo(CacheConfig.USERS_CACHE);
+        return message;
+    }
+}
@@ -0,0 +1,126 @@
+package com.viafluvial.srvusuario.adapters.out.persistence;
+
+import com.viafluvial.srvusuario.adapters.out.persistence.repository.AgencyRepository;
+import com.viafluvial.srvusuario.adapters.out.persistence.repository.BoatmanRepository;
+import com.viafluvial.srvusuario.adapters.out.persistence.repository.PassengerRepository;
+import com.viafluvial.srvusuario.adapters.out.persistence.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Adapter: UniqueKeyFilters")
+class UniqueKeyFiltersTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PassengerRepository passengerRepository;
+
+    @Mock
+    private BoatmanRepository boatmanRepository;
+
+    @Mock
+    private AgencyRepository agencyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Predicate<String> query;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UniqueKeyFilters filters;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        filters = new UniqueKeyFilters(userRepository, passengerRepository, boatmanRepository, agencyRepository,
+            transactionManager, meterRegistry, true, 1_000, 0.01, 0.1, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("exists: antes da construcao do filtro sempre consulta o banco")
+    void existsShouldQueryBeforeFilterIsBuilt() {
+        when(query.test("a@example.com")).thenReturn(false);
+
+        assertThat(filters.exists(UniqueKeyFilters.KeySpace.USER_EMAIL, "a@example.com", query)).isFalse();
+
+        verify(query).test("a@example.com");
+    }
+
+    @Test
+    @DisplayName("exists: 'nao' do filtro dispensa a consulta; 'talvez' consulta o banco")
+    void existsShouldSkipQueryOnDefiniteNo() {
+        when(userRepository.count()).thenReturn(1L);
+        when(userRepository.streamAllEmails()).thenReturn(Stream.of("a@example.com"));
+        when(query.test("a@example.com")).thenReturn(true);
+
+        filters.rebuild(UniqueKeyFilters.KeySpace.USER_EMAIL);
+
+        assertThat(filters.isReady(UniqueKeyFilters.KeySpace.USER_EMAIL)).isTrue();
+        assertThat(filters.exists(UniqueKeyFilters.KeySpace.USER_EMAIL, "novo@example.com", query)).isFalse();
+        assertThat(filters.exists(UniqueKeyFilters.KeySpace.USER_EMAIL, "a@example.com", query)).isTrue();
+
+        verify(query, never()).test("novo@example.com");
+        verify(query).test("a@example.com");
+        assertThat(meterRegistry.get("bloom.filter.checks").tag("keyspace", "users.email").tag("result", "negative")
+            .counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("bloom.filter.rebuild").tag("keyspace", "users.email").timer().count())
+            .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("put: chaves gravadas apos a construcao passam a ser 'talvez'")
+    void putShouldAddKeysToBuiltFilter() {
+        when(passengerRepository.count()).thenReturn(0L);
+        when(passengerRepository.streamAllCpfs()).thenReturn(Stream.empty());
+        when(query.test("123")).thenReturn(true);
+        filters.rebuild(UniqueKeyFilters.KeySpace.PASSENGER_CPF);
+
+        filters.put(UniqueKeyFilters.KeySpace.PASSENGER_CPF, "123");
+
+        assertThat(filters.exists(UniqueKeyFilters.KeySpace.PASSENGER_CPF, "123", query)).isTrue();
+        verify(query).test("123");
+    }
+
+    @Test
+    @DisplayName("notificationsLost: sem LISTEN o filtro e descartado e toda checagem vai ao banco")
+    void notificationsLostShouldDisableFastPath() {
+        when(userRepository.count()).thenReturn(1L);
+        when(userRepository.streamAllEmails()).thenReturn(Stream.of("a@example.com"));
+        when(query.test("novo@example.com")).thenReturn(true);
+        filters.rebuild(UniqueKeyFilters.KeySpace.USER_EMAIL);
+
+        filters.notificationsLost();
+
+        assertThat(filters.isReady(UniqueKeyFilters.KeySpace.USER_EMAIL)).isFalse();
+        assertThat(filters.exists(UniqueKeyFilters.KeySpace.USER_EMAIL, "novo@example.com", query)).isTrue();
+        verify(query).test("novo@example.com");
+    }
+
+    @Test
+    @DisplayName("rebuild: enquanto o LISTEN esta caido o filtro construido nao e publicado")
+    void rebuildShouldNotPublishWhileNotificationsAreDown() {
+        when(userRepository.count()).thenReturn(1L);
+        when(userRepository.streamAllEmails()).thenReturn(Stream.of("a@example.com"));
+        filters.notificationsLost();
+
+        filters.rebuild(UniqueKeyFilters.KeySpace.USER_EMAIL);
+
+        assertThat(filters.isReady(UniqueKeyFilters.KeySpace.USER_EMAIL)).isFalse();
+    }
+}
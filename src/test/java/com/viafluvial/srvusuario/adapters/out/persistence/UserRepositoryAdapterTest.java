@@ -1,6 +1,12 @@
 package com.viafluvial.srvusuario.adapters.out.persistence;
 
 import com.viafluvial.srvusuario.adapters.out.persistence.repository.UserRepository;
+import com.viafluvial.srvusuario.adapters.out.persistence.repository.projection.UserView;
+import com.viafluvial.srvusuario.application.dto.CountMode;
+import com.viafluvial.srvusuario.application.dto.MergePatch;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
+import com.viafluvial.srvusuario.application.dto.Registration;
+import com.viafluvial.srvusuario.application.dto.UserDTO;
 import com.viafluvial.srvusuario.domain.model.User;
 import com.viafluvial.srvusuario.domain.model.UserStatus;
 import com.viafluvial.srvusuario.domain.model.UserType;
@@ -15,15 +21,26 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 
+import java.sql.ResultSet;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -34,6 +51,21 @@ class UserRepositoryAdapterTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UniqueKeyFilters uniqueKeyFilters;
+
+    @Mock
+    private TableStatistics tableStatistics;
+
+    @Mock
+    private PartialUpdate partialUpdate;
+
+    @Mock
+    private ConditionalInsert conditionalInsert;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
     @InjectMocks
     private UserRepositoryAdapter adapter;
 
@@ -106,6 +138,45 @@ class UserRepositoryAdapterTest {
             .isEqualTo(com.viafluvial.srvusuario.adapters.out.persistence.entity.User.UserStatus.BLOCKED);
     }
 
+    @Test
+    @DisplayName("saveAll: deve gravar o lote num unico saveAll e registrar os emails no filtro")
+    void saveAllShouldDelegateInOneCall() {
+        User first = User.builder()
+            .email("b1@example.com")
+            .passwordHash("h")
+            .fullName("Batch 1")
+            .userType(UserType.PASSENGER)
+            .build();
+        User second = User.builder()
+            .email("b2@example.com")
+            .passwordHash("h")
+            .fullName("Batch 2")
+            .userType(UserType.BOATMAN)
+            .build();
+
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<User> saved = adapter.saveAll(List.of(first, second));
+
+        assertThat(saved).extracting(User::getEmail).containsExactly("b1@example.com", "b2@example.com");
+        verify(userRepository, times(1)).saveAll(anyList());
+        verify(userRepository, never()).save(any());
+        verify(uniqueKeyFilters).put(UniqueKeyFilters.KeySpace.USER_EMAIL, "b1@example.com");
+        verify(uniqueKeyFilters).put(UniqueKeyFilters.KeySpace.USER_EMAIL, "b2@example.com");
+    }
+
+    @Test
+    @DisplayName("findExistingEmails: deve consultar com IN e nao ir ao banco com lista vazia")
+    void findExistingEmailsShouldQueryOnce() {
+        when(userRepository.findExistingEmails(List.of("a@example.com", "b@example.com")))
+            .thenReturn(List.of("b@example.com"));
+
+        assertThat(adapter.findExistingEmails(List.of("a@example.com", "b@example.com")))
+            .containsExactly("b@example.com");
+        assertThat(adapter.findExistingEmails(List.of())).isEmpty();
+        verify(userRepository, times(1)).findExistingEmails(any());
+    }
+
     @Test
     @DisplayName("findById/findByEmail/findAll: deve mapear entidade para domínio")
     void findOperationsShouldMapEntityToDomain() {
@@ -163,6 +234,18 @@ class UserRepositoryAdapterTest {
         assertThat(result.getFirst().getUserType()).isEqualTo(UserType.PASSENGER);
     }
 
+    @Test
+    @DisplayName("touchLastLogin: deve delegar ao UPDATE direto e indicar se a linha existia")
+    void touchLastLoginShouldDelegateToModifyingQuery() {
+        UUID id = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        when(userRepository.touchLastLogin(id, now)).thenReturn(1, 0);
+
+        assertThat(adapter.touchLastLogin(id, now)).isTrue();
+        assertThat(adapter.touchLastLogin(id, now)).isFalse();
+        verify(userRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("search: deve delegar findAll(spec,pageable) e mapear Page")
     void searchShouldDelegateAndMapPage() {
@@ -200,11 +283,107 @@ class UserRepositoryAdapterTest {
         verify(userRepository).findAll(anySpecification(), eq(pageable));
     }
 
+    @Test
+    @DisplayName("search(count=none): deve buscar sem COUNT e devolver Slice com hasNext")
+    void searchWithoutCountShouldReturnSlice() {
+        Pageable pageable = PageRequest.of(1, 2);
+        LocalDateTime now = LocalDateTime.now();
+        Window<com.viafluvial.srvusuario.adapters.out.persistence.entity.User> window = Window.from(
+            List.of(entity("a@example.com", now), entity("b@example.com", now)), ScrollPosition::offset, true);
+        doReturn(window).when(userRepository).findBy(anySpecification(), any());
+
+        Slice<User> result = adapter.search(null, null, null, null, null, null, null, pageable, CountMode.NONE);
+
+        assertThat(result).isNotInstanceOf(Page.class);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getNumber()).isEqualTo(1);
+        assertThat(result.getContent()).extracting(User::getEmail).containsExactly("a@example.com", "b@example.com");
+        verify(userRepository, never()).findAll(anySpecification(), any(Pageable.class));
+        verifyNoInteractions(tableStatistics);
+    }
+
+    @Test
+    @DisplayName("search(count=estimate): sem filtros deve usar reltuples; com filtros deve contar")
+    void searchWithEstimateShouldUseStatisticsOnlyWhenUnfiltered() {
+        Pageable pageable = PageRequest.of(0, 2);
+        LocalDateTime now = LocalDateTime.now();
+        Window<com.viafluvial.srvusuario.adapters.out.persistence.entity.User> window = Window.from(
+            List.of(entity("a@example.com", now), entity("b@example.com", now)), ScrollPosition::offset, true);
+        doReturn(window).when(userRepository).findBy(anySpecification(), any());
+        when(tableStatistics.estimatedRows("users")).thenReturn(OptionalLong.of(1_000_000L));
+        when(userRepository.findAll(anySpecification(), eq(pageable))).thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+        Slice<User> unfiltered = adapter.search(" ", null, null, null, null, null, null, pageable, CountMode.ESTIMATE);
+        Slice<User> filtered = adapter.search("a@", null, null, null, null, null, null, pageable, CountMode.ESTIMATE);
+
+        assertThat(unfiltered).isInstanceOf(Page.class);
+        assertThat(((Page<User>) unfiltered).getTotalElements()).isEqualTo(1_000_000L);
+        assertThat(((Page<User>) filtered).getTotalElements()).isZero();
+        verify(tableStatistics, times(1)).estimatedRows("users");
+        verify(userRepository, times(1)).findAll(anySpecification(), eq(pageable));
+    }
+
+    @Test
+    @DisplayName("findViewsByUserType: deve projetar em UserDTO sem senha e converter enums")
+    void findViewsByUserTypeShouldMapProjection() {
+        UUID id = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        when(userRepository.findViewsByUserType(com.viafluvial.srvusuario.adapters.out.persistence.entity.User.UserType.BOATMAN))
+            .thenReturn(List.of(view(id, "b@example.com", now)));
+
+        List<UserDTO> result = adapter.findViewsByUserType(UserType.BOATMAN);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().getId()).isEqualTo(id);
+        assertThat(result.getFirst().getUserType()).isEqualTo(UserType.BOATMAN);
+        assertThat(result.getFirst().getStatus()).isEqualTo(UserStatus.SUSPENDED);
+        assertThat(result.getFirst().getPassword()).isNull();
+        verify(userRepository, never()).findByUserType(any());
+    }
+
+    @Test
+    @DisplayName("searchViews: deve paginar a projecao e pular o COUNT quando a pagina nao esta cheia")
+    void searchViewsShouldSkipCountOnPartialPage() {
+        Pageable pageable = PageRequest.of(0, 10);
+        LocalDateTime now = LocalDateTime.now();
+        when(userRepository.findViews(anySpecification(), eq(pageable.getSort()), eq(0L), eq(10)))
+            .thenReturn(List.of(view(UUID.randomUUID(), "a@example.com", now)));
+
+        Slice<UserDTO> result = adapter.searchViews("a@", null, null, null, null, null, null, pageable, CountMode.EXACT);
+
+        assertThat(((Page<UserDTO>) result).getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent()).extracting(UserDTO::getEmail).containsExactly("a@example.com");
+        verify(userRepository, never()).count(anySpecification());
+        verify(userRepository, never()).findAll(anySpecification(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("searchAfter: deve buscar size+1 sem COUNT e sinalizar proxima pagina")
+    void searchAfterShouldFetchOneExtraRow() {
+        LocalDateTime now = LocalDateTime.now();
+        List<com.viafluvial.srvusuario.adapters.out.persistence.entity.User> rows = List.of(
+            entity("a@example.com", now), entity("b@example.com", now.minusMinutes(1)), entity("c@example.com", now.minusMinutes(2))
+        );
+        doReturn(rows).when(userRepository).findBy(anySpecification(), any());
+
+        Slice<User> result = adapter.searchAfter(
+            null, null, null, null, null, null, null,
+            PageCursor.of(now.plusMinutes(1), UUID.randomUUID()),
+            2
+        );
+
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getContent()).extracting(User::getEmail).containsExactly("a@example.com", "b@example.com");
+        verify(userRepository, never()).count(anySpecification());
+    }
+
     @Test
     @DisplayName("exists/delete: deve delegar")
     void existsAndDeleteShouldDelegate() {
         UUID id = UUID.randomUUID();
 
+        when(uniqueKeyFilters.exists(any(), any(), any()))
+            .thenAnswer(inv -> inv.<Predicate<String>>getArgument(2).test(inv.getArgument(1)));
         when(userRepository.existsByEmail("e@example.com")).thenReturn(true);
         when(userRepository.existsById(id)).thenReturn(false);
 
@@ -214,10 +393,195 @@ class UserRepositoryAdapterTest {
         adapter.deleteById(id);
 
         verify(userRepository).deleteById(id);
+        verify(uniqueKeyFilters).recordDeletion(UniqueKeyFilters.KeySpace.values());
     }
 
     @SuppressWarnings("unchecked")
+    private static com.viafluvial.srvusuario.adapters.out.persistence.entity.User entity(String email, LocalDateTime createdAt) {
+        com.viafluvial.srvusuario.adapters.out.persistence.entity.User entity = com.viafluvial.srvusuario.adapters.out.persistence.entity.User.builder()
+            .userType(com.viafluvial.srvusuario.adapters.out.persistence.entity.User.UserType.PASSENGER)
+            .email(email)
+            .passwordHash("h")
+            .fullName("A")
+            .phone("1")
+            .status(com.viafluvial.srvusuario.adapters.out.persistence.entity.User.UserStatus.ACTIVE)
+            .emailVerified(false)
+            .createdAt(createdAt)
+            .updatedAt(createdAt)
+            .build();
+        entity.setId(UUID.randomUUID());
+        return entity;
+    }
+
+    private static UserView view(UUID id, String email, LocalDateTime createdAt) {
+        return new UserView(
+            id,
+            com.viafluvial.srvusuario.adapters.out.persistence.entity.User.UserType.BOATMAN,
+            email,
+            "B",
+            "1",
+            com.viafluvial.srvusuario.adapters.out.persistence.entity.User.UserStatus.BLOCKED,
+            true,
+            createdAt,
+            createdAt,
+            null
+        );
+    }
+
     private static Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.User> anySpecification() {
         return (Specification<com.viafluvial.srvusuario.adapters.out.persistence.entity.User>) any(Specification.class);
     }
+
+    @Test
+    @DisplayName("patch: deve converter enums para a entidade e registrar o novo email no filtro")
+    void patchShouldConvertEnumsAndTrackEmail() {
+        UUID id = UUID.randomUUID();
+        MergePatch patch = MergePatch.<User>schema("usuario")
+            .required("email", String.class, User::getEmail)
+            .required("status", UserStatus.class, User::getStatus)
+            .build()
+            .parse(Map.of("email", "novo@example.com", "status", "INACTIVE"));
+        when(partialUpdate.apply(eq(com.viafluvial.srvusuario.adapters.out.persistence.entity.User.class), eq(id), any(), eq(2L)))
+            .thenReturn(true);
+
+        assertThat(adapter.patch(id, patch, 2L)).isTrue();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(partialUpdate).apply(eq(com.viafluvial.srvusuario.adapters.out.persistence.entity.User.class), eq(id),
+            captor.capture(), eq(2L));
+        assertThat(captor.getValue())
+            .containsEntry("email", "novo@example.com")
+            .containsEntry("status", com.viafluvial.srvusuario.adapters.out.persistence.entity.User.UserStatus.BLOCKED);
+        verify(uniqueKeyFilters).put(UniqueKeyFilters.KeySpace.USER_EMAIL, "novo@example.com");
+    }
+
+    @Test
+    @DisplayName("insertIfAbsent: conflito no email devolve vazio e nao alimenta o filtro")
+    void insertIfAbsentShouldReturnEmptyOnConflict() {
+        User user = User.builder()
+            .email("dup@example.com")
+            .passwordHash("h")
+            .fullName("User")
+            .phone("1")
+            .userType(UserType.PASSENGER)
+            .status(UserStatus.PENDING)
+            .emailVerified(false)
+            .build();
+        when(conditionalInsert.insert(any(com.viafluvial.srvusuario.adapters.out.persistence.entity.User.class), eq("email")))
+            .thenReturn(false);
+
+        assertThat(adapter.insertIfAbsent(user)).isEmpty();
+
+        verify(userRepository, never()).save(any());
+        verifyNoInteractions(uniqueKeyFilters);
+    }
+
+    @Test
+    @DisplayName("insertIfAbsent: insercao registra o email no filtro e devolve o id gerado")
+    void insertIfAbsentShouldTrackEmailOnInsert() {
+        UUID generated = UUID.randomUUID();
+        User user = User.builder()
+            .email("new@example.com")
+            .passwordHash("h")
+            .fullName("User")
+            .phone("1")
+            .userType(UserType.BOATMAN)
+            .status(UserStatus.PENDING)
+            .emailVerified(false)
+            .build();
+        when(conditionalInsert.insert(any(com.viafluvial.srvusuario.adapters.out.persistence.entity.User.class), eq("email")))
+            .thenAnswer(inv -> {
+                inv.<com.viafluvial.srvusuario.adapters.out.persistence.entity.User>getArgument(0).setId(generated);
+                return true;
+            });
+
+        Optional<User> inserted = adapter.insertIfAbsent(user);
+
+        assertThat(inserted).isPresent();
+        assertThat(inserted.get().getId()).isEqualTo(generated);
+        assertThat(inserted.get().getUserType()).isEqualTo(UserType.BOATMAN);
+        verify(uniqueKeyFilters).put(UniqueKeyFilters.KeySpace.USER_EMAIL, "new@example.com");
+    }
+
+    @Test
+    @DisplayName("insertWithDefaultPreferences: um unico comando devolve usuario e defaults das preferencias")
+    void insertWithDefaultPreferencesShouldMapReturnedRow() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID preferencesId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        User user = User.builder()
+            .email("signup@example.com")
+            .passwordHash("h")
+            .fullName("User")
+            .phone("1")
+            .userType(UserType.PASSENGER)
+            .status(UserStatus.PENDING)
+            .emailVerified(false)
+            .build();
+
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getObject("user_id", UUID.class)).thenReturn(userId);
+        when(rs.getObject("user_created_at", LocalDateTime.class)).thenReturn(now);
+        when(rs.getObject("user_updated_at", LocalDateTime.class)).thenReturn(now);
+        when(rs.getLong("version")).thenReturn(0L);
+        when(rs.getObject("preferences_id", UUID.class)).thenReturn(preferencesId);
+        when(rs.getObject("email_notifications", Boolean.class)).thenReturn(true);
+        when(rs.getObject("sms_notifications", Boolean.class)).thenReturn(false);
+        when(rs.getObject("push_notifications", Boolean.class)).thenReturn(true);
+        when(rs.getObject("receive_promotions", Boolean.class)).thenReturn(true);
+        when(rs.getObject("receive_trip_updates", Boolean.class)).thenReturn(true);
+        when(rs.getString("language")).thenReturn("pt-BR");
+        when(rs.getString("theme")).thenReturn("light");
+        when(rs.getObject("created_at", LocalDateTime.class)).thenReturn(now);
+        when(rs.getObject("updated_at", LocalDateTime.class)).thenReturn(now);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq("PASSENGER"), eq("signup@example.com"), eq("h"),
+            eq("User"), eq("1"), eq("PENDING"), eq(false)))
+            .thenAnswer(inv -> List.of(inv.<RowMapper<Registration>>getArgument(1).mapRow(rs, 0)));
+
+        Optional<Registration> registration = adapter.insertWithDefaultPreferences(user);
+
+        assertThat(registration).isPresent();
+        assertThat(registration.get().getUser().getId()).isEqualTo(userId);
+        assertThat(registration.get().getUser().getVersion()).isZero();
+        assertThat(registration.get().getPreferences().getId()).isEqualTo(preferencesId);
+        assertThat(registration.get().getPreferences().getUserId()).isEqualTo(userId);
+        assertThat(registration.get().getPreferences().getLanguage()).isEqualTo("pt-BR");
+        verify(uniqueKeyFilters).put(UniqueKeyFilters.KeySpace.USER_EMAIL, "signup@example.com");
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("insertWithDefaultPreferences: email duplicado nao devolve linha")
+    void insertWithDefaultPreferencesShouldReturnEmptyOnConflict() {
+        User user = User.builder()
+            .email("dup@example.com")
+            .passwordHash("h")
+            .fullName("User")
+            .phone("1")
+            .userType(UserType.PASSENGER)
+            .status(UserStatus.PENDING)
+            .emailVerified(false)
+            .build();
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(List.of());
+
+        assertThat(adapter.insertWithDefaultPreferences(user)).isEmpty();
+        verifyNoInteractions(uniqueKeyFilters);
+    }
+
+    @Test
+    @DisplayName("findByIds: todos os ids num unico parametro array; lista vazia nao consulta")
+    void findByIdsShouldQueryOnceWithArray() {
+        UUID id = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        com.viafluvial.srvusuario.adapters.out.persistence.entity.User found = entity("a@example.com", LocalDateTime.now());
+        found.setId(id);
+        when(userRepository.findByIdAny(new UUID[]{id, other})).thenReturn(List.of(found));
+
+        List<User> users = adapter.findByIds(List.of(id, other));
+
+        assertThat(users).extracting(User::getId).containsExactly(id);
+        assertThat(adapter.findByIds(List.of())).isEmpty();
+        verify(userRepository).findByIdAny(any(UUID[].class));
+    }
 }
@@ -82,6 +82,7 @@ class UserRepositoryIntegrationTest {
         User saved = userRepository.save(user);
 
         assertThat(saved.getId()).isNotNull();
+        assertThat(saved.getId().version()).isEqualTo(7);
         assertThat(userRepository.findByEmail("integration@example.com"))
             .isPresent()
             .get()
@@ -0,0 +1,140 @@
+package com.viafluvial.srvusuario.adapters.out.persistence;
+
+import com.viafluvial.srvusuario.common.id.UuidV7;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de chave primaria UUID: vazao de INSERT e tamanho do indice da PK com ids v4 (aleatorios)
+ * versus v7 (ordenados por tempo), gerados na aplicacao ({@link UuidV7}) e pelo default do banco (V36).
+ * Nao roda no build padrao; execute com {@code mvn test -Dtest=UuidPrimaryKeyBenchmark} (requer Docker).
+ */
+@Tag("benchmark")
+@Testcontainers
+@DisplayName("Benchmark: PK UUIDv4 x UUIDv7")
+class UuidPrimaryKeyBenchmark {
+
+    private static final int ROWS = 500_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("srv_usuario")
+        .withUsername("test")
+        .withPassword("test")
+        // Buffer cache pequeno para o working set do indice nao caber inteiro na memoria, como em producao.
+        .withCommand("postgres", "-c", "shared_buffers=16MB");
+
+    @Test
+    @DisplayName("Ids v7 devem gerar indice de PK menor que ids v4")
+    void timeOrderedIdsShouldKeepPrimaryKeyIndexSmaller() throws Exception {
+        try (Connection connection = DriverManager.getConnection(
+            POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())) {
+            installUuidV7Function(connection);
+
+            long v4 = run(connection, "v4_app", UUID::randomUUID);
+            long v7 = run(connection, "v7_app", UuidV7::generate);
+            long v7Default = runWithDefault(connection, "v7_db");
+
+            assertThat(v7).isLessThan(v4);
+            assertThat(v7Default).isLessThan(v4);
+        }
+    }
+
+    private static long run(Connection connection, String table, Supplier<UUID> ids) throws SQLException {
+        createTable(connection, table, "");
+        long start = System.nanoTime();
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+            "INSERT INTO " + table + " (id, email) VALUES (?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                insert.setObject(1, ids.get());
+                insert.setString(2, "user" + i + "@example.com");
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        return report(connection, table, System.nanoTime() - start);
+    }
+
+    private static long runWithDefault(Connection connection, String table) throws SQLException {
+        createTable(connection, table, " DEFAULT uuid_generate_v7()");
+        long start = System.nanoTime();
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+            "INSERT INTO " + table + " (email) VALUES (?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                insert.setString(1, "user" + i + "@example.com");
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        return report(connection, table, System.nanoTime() - start);
+    }
+
+    private static void createTable(Connection connection, String table, String idDefault) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY" + idDefault
+                + ", email VARCHAR(255) NOT NULL)");
+        }
+    }
+
+    private static long report(Connection connection, String table, long elapsedNanos) throws SQLException {
+        long indexBytes;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_relation_size('" + table + "_pkey')")) {
+            rs.next();
+            indexBytes = rs.getLong(1);
+        }
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("[UuidPrimaryKeyBenchmark] tabela=%s linhas=%d tempo=%.2fs inserts/s=%.0f indicePk=%dKB%n",
+            table, ROWS, seconds, ROWS / seconds, indexBytes / 1024);
+        return indexBytes;
+    }
+
+    /**
+     * Cria uuid_generate_v7() exatamente como na V36, sem os ALTER TABLE das tabelas reais.
+     */
+    private static void installUuidV7Function(Connection connection) throws SQLException, IOException {
+        String migration;
+        try (InputStream in = UuidPrimaryKeyBenchmark.class
+            .getResourceAsStream("/db/migration/V36__uuid_v7_defaults.sql")) {
+            migration = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String terminator = "LANGUAGE sql VOLATILE;";
+        String function = migration.substring(
+            migration.indexOf("CREATE OR REPLACE FUNCTION"), migration.indexOf(terminator) + terminator.length());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS \"uuid-ossp\"");
+            statement.execute(function);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.viafluvial.srvusuario.adapters.out.persistence.repository.spec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Persistence: LikePatterns")
+class LikePatternsTest {
+
+    @Test
+    @DisplayName("toPattern: sem '*' busca substring em minusculas")
+    void toPatternShouldWrapPlainValue() {
+        assertThat(LikePatterns.toPattern(" Joao ")).isEqualTo("%joao%");
+    }
+
+    @Test
+    @DisplayName("toPattern: '*' vira curinga ancorado (prefixo, sufixo e meio)")
+    void toPatternShouldAnchorWildcards() {
+        assertThat(LikePatterns.toPattern("joao*")).isEqualTo("joao%");
+        assertThat(LikePatterns.toPattern("*@gmail.com")).isEqualTo("%@gmail.com");
+        assertThat(LikePatterns.toPattern("jo**ao")).isEqualTo("jo%ao");
+    }
+
+    @Test
+    @DisplayName("toPattern: escapa curingas do LIKE digitados pelo cliente")
+    void toPatternShouldEscapeLikeWildcards() {
+        assertThat(LikePatterns.toPattern("50%_off\\")).isEqualTo("%50\\%\\_off\\\\%");
+        assertThat(LikePatterns.toPattern("a%*")).isEqualTo("a\\%%");
+    }
+
+    @Test
+    @DisplayName("toPattern: nulo ou branco nao filtra")
+    void toPatternShouldIgnoreBlank() {
+        assertThat(LikePatterns.toPattern(null)).isNull();
+        assertThat(LikePatterns.toPattern("  ")).isNull();
+    }
+}
@@ -149,4 +149,59 @@ class UserSpecificationsIntegrationTest {
 
         assertThat(result).hasSize(1);
     }
+
+    @Test
+    @DisplayName("seekAfter: deve continuar apos (created_at, id) desempatando pelo id")
+    void seekAfterShouldContinueFromCursor() {
+        LocalDateTime sameInstant = LocalDateTime.now().minusDays(1).withNano(0);
+        List<User> saved = userRepository.saveAll(List.of(
+            user("a@seek.com", sameInstant),
+            user("b@seek.com", sameInstant),
+            user("c@seek.com", sameInstant.minusHours(1))
+        ));
+        List<User> ordered = userRepository.findAll(Specification.where(null), KeysetSpecifications.SORT);
+        User cursor = ordered.getFirst();
+
+        List<User> next = userRepository.findAll(
+            UserSpecifications.seekAfter(cursor.getCreatedAt(), cursor.getId()), KeysetSpecifications.SORT);
+
+        assertThat(saved).hasSize(3);
+        assertThat(next).extracting(User::getId).containsExactlyElementsOf(ordered.subList(1, 3).stream().map(User::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Deve filtrar por nome e usar '*' como curinga ancorado, tratando '_' como literal")
+    void shouldFilterByNameAndAnchoredPatterns() {
+        LocalDateTime now = LocalDateTime.now();
+        User joao = user("joao_silva@rio.com", now);
+        joao.setFullName("Joao Silva");
+        User maria = user("maria@joao.com", now);
+        maria.setFullName("Maria Souza");
+        User joaquim = user("joaoxsilva@rio.com", now);
+        joaquim.setFullName("Joaquim Silva");
+        userRepository.saveAll(List.of(joao, maria, joaquim));
+
+        assertThat(userRepository.findAll(UserSpecifications.emailContainsIgnoreCase("JOAO*")))
+            .extracting(User::getEmail)
+            .containsExactlyInAnyOrder("joao_silva@rio.com", "joaoxsilva@rio.com");
+        assertThat(userRepository.findAll(UserSpecifications.emailContainsIgnoreCase("joao_")))
+            .extracting(User::getEmail)
+            .containsExactly("joao_silva@rio.com");
+        assertThat(userRepository.findAll(UserSpecifications.fullNameContainsIgnoreCase("silva")))
+            .extracting(User::getFullName)
+            .containsExactlyInAnyOrder("Joao Silva", "Joaquim Silva");
+    }
+
+    private static User user(String email, LocalDateTime createdAt) {
+        return User.builder()
+            .userType(User.UserType.PASSENGER)
+            .email(email)
+            .passwordHash("h")
+            .fullName("Seek")
+            .phone("1")
+            .emailVerified(false)
+            .createdAt(createdAt)
+            .updatedAt(createdAt)
+            .build();
+    }
 }
@@ -4,6 +4,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.viafluvial.srvusuario.domain.model.UserType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
@@ -15,6 +18,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("DTOs: application/dto")
 class ApplicationDtosTest {
@@ -99,6 +103,36 @@ class ApplicationDtosTest {
         assertThat(response.getPage()).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("PagedResponse: slice() deve copiar totais de Page e omiti-los de Slice")
+    void pagedResponseSliceShouldFollowCountMode() {
+        PagedResponse<String> counted = PagedResponse.<String>builder()
+            .items(List.of("a"))
+            .slice(new PageImpl<>(List.of("a"), PageRequest.of(0, 1), 5), CountMode.ESTIMATE)
+            .build();
+        PagedResponse<String> uncounted = PagedResponse.<String>builder()
+            .items(List.of("a"))
+            .slice(new SliceImpl<>(List.of("a"), PageRequest.of(0, 1), false), CountMode.NONE)
+            .build();
+
+        assertThat(counted.getTotalItems()).isEqualTo(5);
+        assertThat(counted.getTotalPages()).isEqualTo(5);
+        assertThat(counted.isHasNext()).isTrue();
+        assertThat(counted.getCountMode()).isEqualTo(CountMode.ESTIMATE);
+        assertThat(uncounted.isTotalKnown()).isFalse();
+        assertThat(uncounted.isHasNext()).isFalse();
+        assertThat(uncounted.getCountMode()).isEqualTo(CountMode.NONE);
+    }
+
+    @Test
+    @DisplayName("CountMode: fromValue deve aceitar exact/estimate/none e assumir exact quando ausente")
+    void countModeFromValueShouldParse() {
+        assertThat(CountMode.fromValue(null)).isEqualTo(CountMode.EXACT);
+        assertThat(CountMode.fromValue(" ESTIMATE ")).isEqualTo(CountMode.ESTIMATE);
+        assertThat(CountMode.fromValue("none")).isEqualTo(CountMode.NONE);
+        assertThatThrownBy(() -> CountMode.fromValue("approx")).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     @DisplayName("Paged*ResponseDTO: getters/setters")
     void pagedResponseDtosShouldWork() {
@@ -0,0 +1,116 @@
+package com.viafluvial.srvusuario.application.dto;
+
+import com.viafluvial.srvusuario.domain.model.Agency;
+import com.viafluvial.srvusuario.domain.model.Passenger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DTO: MergePatch")
+class MergePatchTest {
+
+    private static final MergePatch.Schema<Passenger> PASSENGER = MergePatch.<Passenger>schema("passageiro")
+        .optional("rg", String.class, Passenger::getRg)
+        .optional("birthDate", LocalDate.class, Passenger::getBirthDate)
+        .optional("preferredCabinType", Passenger.CabinType.class, Passenger::getPreferredCabinType)
+        .build();
+
+    private static final MergePatch.Schema<Agency> AGENCY = MergePatch.<Agency>schema("agencia")
+        .required("companyName", String.class, Agency::getCompanyName)
+        .required("commissionPercent", BigDecimal.class, Agency::getCommissionPercent)
+        .optional("companyEmail", String.class, Agency::getCompanyEmail)
+        .validatedBy(value -> ((String) value).contains("@"), "Email deve ser valido")
+        .build();
+
+    @Test
+    @DisplayName("parse: deve converter valores JSON para os tipos do dominio e manter null")
+    void parseShouldConvertValues() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("birthDate", "1990-05-01");
+        body.put("preferredCabinType", "vip");
+        body.put("rg", null);
+
+        MergePatch patch = PASSENGER.parse(body);
+
+        assertThat(patch.changes()).containsOnlyKeys("birthDate", "preferredCabinType", "rg");
+        assertThat(patch.get("birthDate")).isEqualTo(LocalDate.of(1990, 5, 1));
+        assertThat(patch.get("preferredCabinType")).isEqualTo(Passenger.CabinType.VIP);
+        assertThat(patch.contains("rg")).isTrue();
+        assertThat(patch.get("rg")).isNull();
+        assertThat(patch.contains("address")).isFalse();
+    }
+
+    @Test
+    @DisplayName("parse: deve rejeitar campo desconhecido ou somente leitura")
+    void parseShouldRejectUnknownField() {
+        assertThatThrownBy(() -> PASSENGER.parse(Map.of("cpf", "123")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("cpf");
+    }
+
+    @Test
+    @DisplayName("parse: deve rejeitar tipo incorreto, data invalida e enum desconhecido")
+    void parseShouldRejectInvalidValues() {
+        assertThatThrownBy(() -> PASSENGER.parse(Map.of("rg", 123)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("espera String");
+        assertThatThrownBy(() -> PASSENGER.parse(Map.of("birthDate", "01/05/1990")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("birthDate");
+        assertThatThrownBy(() -> PASSENGER.parse(Map.of("preferredCabinType", "CAMAROTE")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("preferredCabinType");
+    }
+
+    @Test
+    @DisplayName("parse: campo obrigatorio nao aceita null nem texto em branco")
+    void parseShouldRejectNullOnRequiredField() {
+        Map<String, Object> body = new HashMap<>();
+        body.put("companyName", null);
+
+        assertThatThrownBy(() -> AGENCY.parse(body))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("companyName");
+        assertThatThrownBy(() -> AGENCY.parse(Map.of("companyName", " ")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("parse: deve aplicar a regra do campo e rejeitar corpo ausente")
+    void parseShouldApplyRule() {
+        assertThatThrownBy(() -> AGENCY.parse(Map.of("companyEmail", "sem-arroba")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Email deve ser valido");
+        assertThatThrownBy(() -> AGENCY.parse(null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("changedFrom: deve descartar campos iguais ao estado atual, inclusive BigDecimal com outra escala")
+    void changedFromShouldDropUnchangedFields() {
+        Agency current = Agency.builder()
+            .id(UUID.randomUUID())
+            .userId(UUID.randomUUID())
+            .companyName("Rio Negro")
+            .cnpj("12345678000199")
+            .commissionPercent(new BigDecimal("10.00"))
+            .build();
+
+        MergePatch patch = AGENCY.parse(Map.of(
+            "companyName", "Rio Negro",
+            "commissionPercent", 10,
+            "companyEmail", "contato@rionegro.com"));
+
+        assertThat(AGENCY.changedFrom(patch, current).changes())
+            .containsOnlyKeys("companyEmail");
+    }
+}
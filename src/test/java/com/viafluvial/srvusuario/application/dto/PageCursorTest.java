@@ -0,0 +1,60 @@
+package com.viafluvial.srvusuario.application.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DTO: PageCursor")
+class PageCursorTest {
+
+    @Test
+    @DisplayName("encode/decode: deve preservar created_at e id")
+    void encodeDecodeShouldRoundTrip() {
+        PageCursor cursor = PageCursor.of(LocalDateTime.of(2024, 5, 1, 10, 30, 15, 123456000), UUID.randomUUID());
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(PageCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("decode: token nulo ou em branco deve significar primeira pagina")
+    void decodeBlankShouldReturnNull() {
+        assertThat(PageCursor.decode(null)).isNull();
+        assertThat(PageCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    @DisplayName("decode: token invalido deve lancar IllegalArgumentException")
+    void decodeInvalidShouldThrow() {
+        String noSeparator = Base64.getUrlEncoder().encodeToString("abc".getBytes(StandardCharsets.UTF_8));
+        String badDate = Base64.getUrlEncoder().encodeToString(("ontem|" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> PageCursor.decode("%%%")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode(noSeparator)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode(badDate)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("next: deve apontar para o ultimo item, ou null sem proxima pagina")
+    void nextShouldUseLastItem() {
+        PageCursor first = PageCursor.of(LocalDateTime.now(), UUID.randomUUID());
+        PageCursor last = PageCursor.of(LocalDateTime.now().minusMinutes(1), UUID.randomUUID());
+
+        String token = PageCursor.next(new SliceImpl<>(List.of(first, last), PageRequest.of(0, 2), true), c -> c);
+
+        assertThat(PageCursor.decode(token)).isEqualTo(last);
+        assertThat(PageCursor.next(new SliceImpl<>(List.of(first), PageRequest.of(0, 2), false), c -> c)).isNull();
+    }
+}
@@ -3,10 +3,12 @@ package com.viafluvial.srvusuario.application.usecase;
 import com.viafluvial.srvusuario.application.dto.AgencyDTO;
 import com.viafluvial.srvusuario.application.port.out.AgencyRepositoryPort;
 import com.viafluvial.srvusuario.application.port.out.UserRepositoryPort;
+import com.viafluvial.srvusuario.common.error.UniqueConstraintViolationException;
 import com.viafluvial.srvusuario.domain.model.Agency;
 import com.viafluvial.srvusuario.domain.model.User;
 import com.viafluvial.srvusuario.domain.model.UserStatus;
 import com.viafluvial.srvusuario.domain.model.UserType;
+import com.viafluvial.srvusuario.infrastructure.cache.NotFoundCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,6 +36,9 @@ class AgencyUseCaseImplTest {
     @Mock
     private UserRepositoryPort userRepository;
 
+    @Mock
+    private NotFoundCache notFoundCache;
+
     @InjectMocks
     private AgencyUseCaseImpl agencyUseCase;
 
@@ -53,26 +58,36 @@ class AgencyUseCaseImplTest {
     @Test
     @DisplayName("createAgency: deve falhar se CNPJ duplicado")
     void createAgencyShouldThrowWhenCnpjExists() {
+        when(userRepository.findById(userId)).thenReturn(Optional.of(User.builder()
+            .id(userId)
+            .email("agency@example.com")
+            .passwordHash("pw")
+            .fullName("Agency")
+            .phone("x")
+            .userType(UserType.AGENCY)
+            .status(UserStatus.ACTIVE)
+            .emailVerified(true)
+            .build()));
+        when(agencyRepository.insertIfAbsent(any(Agency.class))).thenReturn(Optional.empty());
         when(agencyRepository.existsByCnpj("123")).thenReturn(true);
 
         assertThatThrownBy(() -> agencyUseCase.createAgency(input))
-            .isInstanceOf(IllegalArgumentException.class)
-            .hasMessage("CNPJ ja esta registrado");
+            .isInstanceOf(UniqueConstraintViolationException.class)
+            .hasMessageContaining("CNPJ '123'");
 
-        verify(agencyRepository, never()).save(any());
+        verify(notFoundCache, never()).evictUser(any());
     }
 
     @Test
     @DisplayName("createAgency: deve falhar se usuário não encontrado")
     void createAgencyShouldThrowWhenUserNotFound() {
-        when(agencyRepository.existsByCnpj("123")).thenReturn(false);
         when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> agencyUseCase.createAgency(input))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("Usuario nao encontrado");
 
-        verify(agencyRepository, never()).save(any());
+        verify(agencyRepository, never()).insertIfAbsent(any());
     }
 
     @Test
@@ -88,18 +103,17 @@ class AgencyUseCaseImplTest {
             .status(UserStatus.ACTIVE)
             .emailVerified(true)
             .build();
-        when(agencyRepository.existsByCnpj("123")).thenReturn(false);
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(agencyRepository.save(any(Agency.class))).thenAnswer(inv -> {
+        when(agencyRepository.insertIfAbsent(any(Agency.class))).thenAnswer(inv -> {
             Agency a = inv.getArgument(0);
-            return Agency.builder()
+            return Optional.of(Agency.builder()
                 .id(UUID.randomUUID())
                 .userId(a.getUserId())
                 .companyName(a.getCompanyName())
                 .cnpj(a.getCnpj())
                 .createdAt(a.getCreatedAt())
                 .updatedAt(a.getUpdatedAt())
-                .build();
+                .build());
         });
 
         AgencyDTO result = agencyUseCase.createAgency(input);
@@ -108,9 +122,11 @@ class AgencyUseCaseImplTest {
         assertThat(result.getId()).isNotNull();
         assertThat(result.getUserId()).isEqualTo(userId);
         assertThat(result.getCnpj()).isEqualTo("123");
+        verify(notFoundCache).evictUser(userId);
 
         ArgumentCaptor<Agency> captor = ArgumentCaptor.forClass(Agency.class);
-        verify(agencyRepository).save(captor.capture());
+        verify(agencyRepository).insertIfAbsent(captor.capture());
+        verify(agencyRepository, never()).existsByCnpj(any());
         assertThat(captor.getValue().getCreatedAt()).isNotNull();
         assertThat(captor.getValue().getUpdatedAt()).isNotNull();
     }
@@ -7,6 +7,8 @@ import com.viafluvial.srvusuario.application.port.out.ApprovalRepositoryPort;
 import com.viafluvial.srvusuario.application.port.out.BoatmanRepositoryPort;
 import com.viafluvial.srvusuario.application.port.out.UserRepositoryPort;
 import com.viafluvial.srvusuario.domain.model.*;
+import com.viafluvial.srvusuario.infrastructure.cache.ProfileCache;
+import com.viafluvial.srvusuario.infrastructure.cache.UserCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -40,6 +42,12 @@ class ApprovalUseCaseImplTest {
     @Mock
     private AgencyRepositoryPort agencyRepository;
 
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private ProfileCache profileCache;
+
     @InjectMocks
     private ApprovalUseCaseImpl approvalUseCase;
 
@@ -133,6 +141,7 @@ class ApprovalUseCaseImplTest {
         ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
         verify(userRepository).save(userCaptor.capture());
         assertThat(userCaptor.getValue().getStatus()).isEqualTo(UserStatus.APPROVED);
+        verify(userCache).evict(entityId, "u@example.com");
     }
 
     @Test
@@ -192,5 +201,7 @@ class ApprovalUseCaseImplTest {
         ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
         verify(userRepository).save(userCaptor.capture());
         assertThat(userCaptor.getValue().getStatus()).isEqualTo(UserStatus.APPROVED);
+        verify(profileCache).evictBoatman(boatmanId, boatmanUserId);
+        verify(userCache).evict(boatmanUserId, "b@example.com");
     }
 }
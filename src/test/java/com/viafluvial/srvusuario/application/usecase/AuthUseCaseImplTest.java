@@ -1,9 +1,10 @@
 package com.viafluvial.srvusuario.application.usecase;
 
+import com.viafluvial.srvusuario.application.dto.Registration;
 import com.viafluvial.srvusuario.application.dto.UserDTO;
 import com.viafluvial.srvusuario.application.dto.UserCreateDTO;
 import com.viafluvial.srvusuario.application.mapper.UserMapper;
-import com.viafluvial.srvusuario.application.port.out.UserPreferenceRepositoryPort;
+import com.viafluvial.srvusuario.application.port.out.UserActivityPort;
 import com.viafluvial.srvusuario.application.port.out.UserRepositoryPort;
 import com.viafluvial.srvusuario.domain.exception.DuplicateEmailException;
 import com.viafluvial.srvusuario.domain.exception.InvalidUserStateException;
@@ -16,7 +17,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -28,6 +28,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,10 +39,10 @@ class AuthUseCaseImplTest {
     private UserRepositoryPort userRepository;
 
     @Mock
-    private UserPreferenceRepositoryPort userPreferenceRepository;
+    private UserMapper userMapper;
 
     @Mock
-    private UserMapper userMapper;
+    private UserActivityPort userActivity;
 
     @InjectMocks
     private AuthUseCaseImpl authUseCase;
@@ -100,12 +101,17 @@ class AuthUseCaseImplTest {
     }
 
     @Test
-    @DisplayName("register: deve registrar e criar preferências")
+    @DisplayName("register: deve gravar usuario e preferencias num unico comando e devolver os defaults")
     void registerShouldSaveUserAndPreference() {
-        when(userRepository.existsByEmail(createDTO.getEmail())).thenReturn(false);
+        UserPreference preferences = UserPreference.builder()
+            .id(UUID.randomUUID())
+            .userId(savedUser.getId())
+            .theme("light")
+            .language("pt-BR")
+            .build();
         when(userMapper.toDomain(createDTO)).thenReturn(domainUser);
-        when(userRepository.save(domainUser)).thenReturn(savedUser);
-        when(userPreferenceRepository.save(any(UserPreference.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(userRepository.insertWithDefaultPreferences(domainUser))
+            .thenReturn(Optional.of(new Registration(savedUser, preferences)));
         when(userMapper.toDTO(savedUser)).thenReturn(userDTO);
 
         UserDTO result = authUseCase.register(createDTO);
@@ -113,28 +119,31 @@ class AuthUseCaseImplTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(userDTO.getId());
         assertThat(result.getEmail()).isEqualTo(createDTO.getEmail());
-
-        ArgumentCaptor<UserPreference> preferenceCaptor = ArgumentCaptor.forClass(UserPreference.class);
-        verify(userPreferenceRepository).save(preferenceCaptor.capture());
-        assertThat(preferenceCaptor.getValue().getUserId()).isEqualTo(savedUser.getId());
-
-        verify(userRepository).existsByEmail(createDTO.getEmail());
-        verify(userRepository).save(domainUser);
+        assertThat(result.getPreferences()).isNotNull();
+        assertThat(result.getPreferences().getId()).isEqualTo(preferences.getId());
+        assertThat(result.getPreferences().getUserId()).isEqualTo(savedUser.getId());
+        assertThat(result.getPreferences().getEmailNotifications()).isTrue();
+        assertThat(result.getPreferences().getSmsNotifications()).isFalse();
+        assertThat(result.getPreferences().getTheme()).isEqualTo("light");
+
+        verify(userRepository).insertWithDefaultPreferences(domainUser);
+        verify(userRepository, never()).existsByEmail(any());
+        verify(userRepository, never()).insertIfAbsent(any());
         verify(userMapper).toDTO(savedUser);
     }
 
     @Test
     @DisplayName("register: deve falhar com email duplicado")
     void registerShouldThrowWhenDuplicateEmail() {
-        when(userRepository.existsByEmail(createDTO.getEmail())).thenReturn(true);
+        when(userMapper.toDomain(createDTO)).thenReturn(domainUser);
+        when(userRepository.insertWithDefaultPreferences(domainUser)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> authUseCase.register(createDTO))
             .isInstanceOf(DuplicateEmailException.class)
             .hasMessageContaining(createDTO.getEmail());
 
-        verify(userRepository).existsByEmail(createDTO.getEmail());
         verify(userRepository, never()).save(any());
-        verify(userPreferenceRepository, never()).save(any());
+        verify(userMapper, never()).toDTO(any());
     }
 
     @Test
@@ -191,8 +200,8 @@ class AuthUseCaseImplTest {
     }
 
     @Test
-    @DisplayName("authenticate: deve atualizar lastLogin e salvar")
-    void authenticateShouldUpdateLastLoginAndSave() {
+    @DisplayName("authenticate: deve registrar o lastLogin no write-behind, sem regravar o usuario")
+    void authenticateShouldTouchLastLogin() {
         UUID id = UUID.randomUUID();
         User user = User.builder()
             .id(id)
@@ -207,7 +216,6 @@ class AuthUseCaseImplTest {
             .updatedAt(LocalDateTime.now().minusDays(2))
             .build();
         when(userRepository.findByEmail("ok@example.com")).thenReturn(Optional.of(user));
-        when(userRepository.save(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
         when(userMapper.toDTO(user)).thenReturn(UserDTO.builder().id(id).email("ok@example.com").build());
 
         UserDTO result = authUseCase.authenticate("ok@example.com", "pw");
@@ -215,10 +223,8 @@ class AuthUseCaseImplTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(id);
 
-        ArgumentCaptor<User> savedCaptor = ArgumentCaptor.forClass(User.class);
-        verify(userRepository).save(savedCaptor.capture());
-        assertThat(savedCaptor.getValue().getLastLogin()).isNotNull();
-        assertThat(savedCaptor.getValue().getUpdatedAt()).isNotNull();
-        assertThat(savedCaptor.getValue().getId()).isEqualTo(id);
+        verify(userActivity).recordLastLogin(eq(id), any(LocalDateTime.class));
+        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).touchLastLogin(any(), any());
     }
 }
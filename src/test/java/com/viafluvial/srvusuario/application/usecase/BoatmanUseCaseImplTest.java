@@ -2,15 +2,21 @@ package com.viafluvial.srvusuario.application.usecase;
 
 import com.viafluvial.srvusuario.application.dto.BoatmanDocumentsDTO;
 import com.viafluvial.srvusuario.application.dto.BoatmanDTO;
+import com.viafluvial.srvusuario.application.dto.MergePatch;
 import com.viafluvial.srvusuario.application.mapper.BoatmanMapper;
 import com.viafluvial.srvusuario.application.port.out.BoatmanRepositoryPort;
 import com.viafluvial.srvusuario.application.port.out.UserRepositoryPort;
+import com.viafluvial.srvusuario.common.error.UniqueConstraintViolationException;
 import com.viafluvial.srvusuario.domain.exception.BoatmanNotFoundException;
+import com.viafluvial.srvusuario.domain.exception.StaleVersionException;
 import com.viafluvial.srvusuario.domain.exception.UserNotFoundException;
 import com.viafluvial.srvusuario.domain.model.Boatman;
 import com.viafluvial.srvusuario.domain.model.User;
 import com.viafluvial.srvusuario.domain.model.UserStatus;
 import com.viafluvial.srvusuario.domain.model.UserType;
+import com.viafluvial.srvusuario.infrastructure.cache.NotFoundCache;
+import com.viafluvial.srvusuario.infrastructure.cache.ProfileCache;
+import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,6 +32,8 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +49,12 @@ class BoatmanUseCaseImplTest {
     @Mock
     private BoatmanMapper boatmanMapper;
 
+    @Mock
+    private ProfileCache profileCache;
+
+    @Mock
+    private NotFoundCache notFoundCache;
+
     @InjectMocks
     private BoatmanUseCaseImpl boatmanUseCase;
 
@@ -73,43 +87,66 @@ class BoatmanUseCaseImplTest {
     @Test
     @DisplayName("createBoatman: deve falhar se CPF duplicado")
     void createBoatmanShouldThrowWhenCpfExists() {
+        stubConflictingInsert();
         when(boatmanRepository.existsByCpf("123")).thenReturn(true);
 
         assertThatThrownBy(() -> boatmanUseCase.createBoatman(inputDTO))
-            .isInstanceOf(IllegalArgumentException.class)
-            .hasMessage("CPF ja esta registrado");
+            .isInstanceOf(UniqueConstraintViolationException.class)
+            .hasMessageContaining("CPF '123'");
 
-        verify(boatmanRepository).existsByCpf("123");
-        verify(boatmanRepository, never()).save(any());
+        verify(boatmanRepository, never()).existsByCnpj(any());
+        verify(notFoundCache, never()).evictUser(any());
     }
 
     @Test
     @DisplayName("createBoatman: deve falhar se CNPJ duplicado")
     void createBoatmanShouldThrowWhenCnpjExists() {
+        stubConflictingInsert();
         when(boatmanRepository.existsByCpf("123")).thenReturn(false);
         when(boatmanRepository.existsByCnpj("456")).thenReturn(true);
 
         assertThatThrownBy(() -> boatmanUseCase.createBoatman(inputDTO))
-            .isInstanceOf(IllegalArgumentException.class)
-            .hasMessage("CNPJ ja esta registrado");
+            .isInstanceOf(UniqueConstraintViolationException.class)
+            .hasMessageContaining("CNPJ '456'");
+    }
 
-        verify(boatmanRepository).existsByCpf("123");
-        verify(boatmanRepository).existsByCnpj("456");
-        verify(boatmanRepository, never()).save(any());
+    @Test
+    @DisplayName("createBoatman: deve falhar se o usuário já tem perfil de barqueiro")
+    void createBoatmanShouldThrowWhenUserAlreadyHasProfile() {
+        stubConflictingInsert();
+        when(boatmanRepository.existsByCpf("123")).thenReturn(false);
+        when(boatmanRepository.existsByCnpj("456")).thenReturn(false);
+
+        assertThatThrownBy(() -> boatmanUseCase.createBoatman(inputDTO))
+            .isInstanceOf(UniqueConstraintViolationException.class)
+            .hasMessage("Usuario ja possui perfil de barqueiro");
+    }
+
+    private void stubConflictingInsert() {
+        Boatman base = Boatman.builder()
+            .userId(userId)
+            .cpf("123")
+            .cnpj("456")
+            .companyName("Empresa")
+            .documentCpfUrl("cpf-url")
+            .documentCnpjUrl("cnpj-url")
+            .documentAddressProofUrl("addr-url")
+            .build();
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(boatmanMapper.toDomain(inputDTO)).thenReturn(base);
+        when(boatmanRepository.insertIfAbsent(any(Boatman.class))).thenReturn(Optional.empty());
     }
 
     @Test
     @DisplayName("createBoatman: deve falhar se usuário não existe")
     void createBoatmanShouldThrowWhenUserNotFound() {
-        when(boatmanRepository.existsByCpf("123")).thenReturn(false);
-        when(boatmanRepository.existsByCnpj("456")).thenReturn(false);
         when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> boatmanUseCase.createBoatman(inputDTO))
             .isInstanceOf(UserNotFoundException.class);
 
         verify(userRepository).findById(userId);
-        verify(boatmanRepository, never()).save(any());
+        verify(boatmanRepository, never()).insertIfAbsent(any());
     }
 
     @Test
@@ -146,11 +183,9 @@ class BoatmanUseCaseImplTest {
             .companyName("Empresa")
             .build();
 
-        when(boatmanRepository.existsByCpf("123")).thenReturn(false);
-        when(boatmanRepository.existsByCnpj("456")).thenReturn(false);
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(boatmanMapper.toDomain(inputDTO)).thenReturn(base);
-        when(boatmanRepository.save(any(Boatman.class))).thenReturn(saved);
+        when(boatmanRepository.insertIfAbsent(any(Boatman.class))).thenReturn(Optional.of(saved));
         when(boatmanMapper.toDTO(saved)).thenReturn(out);
 
         BoatmanDTO result = boatmanUseCase.createBoatman(inputDTO);
@@ -160,10 +195,34 @@ class BoatmanUseCaseImplTest {
         assertThat(result.getUserId()).isEqualTo(userId);
 
         ArgumentCaptor<Boatman> captor = ArgumentCaptor.forClass(Boatman.class);
-        verify(boatmanRepository).save(captor.capture());
+        verify(boatmanRepository).insertIfAbsent(captor.capture());
+        verify(boatmanRepository, never()).existsByCpf(any());
         assertThat(captor.getValue().getUserId()).isEqualTo(userId);
         assertThat(captor.getValue().getCreatedAt()).isNotNull();
         assertThat(captor.getValue().getUpdatedAt()).isNotNull();
+        verify(notFoundCache).evictUser(userId);
+    }
+
+    @Test
+    @DisplayName("getBoatmanByUserId: deve marcar no cache negativo quando não encontrado")
+    void getBoatmanByUserIdShouldMarkMissing() {
+        when(boatmanRepository.findByUserId(userId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> boatmanUseCase.getBoatmanByUserId(userId))
+            .isInstanceOf(BoatmanNotFoundException.class);
+
+        verify(notFoundCache).markMissing(CacheConfig.BOATMEN_CACHE, ProfileCache.userIdKey(userId));
+    }
+
+    @Test
+    @DisplayName("getBoatmanByUserId: deve responder pelo cache negativo sem consultar o banco")
+    void getBoatmanByUserIdShouldUseNegativeCache() {
+        when(notFoundCache.isMissing(CacheConfig.BOATMEN_CACHE, ProfileCache.userIdKey(userId))).thenReturn(true);
+
+        assertThatThrownBy(() -> boatmanUseCase.getBoatmanByUserId(userId))
+            .isInstanceOf(BoatmanNotFoundException.class);
+
+        verify(boatmanRepository, never()).findByUserId(any());
     }
 
     @Test
@@ -190,7 +249,7 @@ class BoatmanUseCaseImplTest {
     }
 
     @Test
-    @DisplayName("updateBoatmanDocuments: deve aplicar patch de campos")
+    @DisplayName("updateBoatmanDocuments: deve atualizar so os documentos informados")
     void updateBoatmanDocumentsShouldMergeFields() {
         UUID boatmanId = UUID.randomUUID();
         Boatman existing = Boatman.builder()
@@ -205,9 +264,20 @@ class BoatmanUseCaseImplTest {
             .createdAt(LocalDateTime.now().minusDays(1))
             .updatedAt(LocalDateTime.now().minusDays(1))
             .build();
+        Boatman saved = Boatman.builder()
+            .id(boatmanId)
+            .userId(userId)
+            .cpf("123")
+            .cnpj("456")
+            .companyName("Empresa")
+            .documentCpfUrl("cpf-old")
+            .documentCnpjUrl("cnpj-new")
+            .documentAddressProofUrl("addr-old")
+            .version(2L)
+            .build();
 
-        when(boatmanRepository.findById(boatmanId)).thenReturn(Optional.of(existing));
-        when(boatmanRepository.save(any(Boatman.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(boatmanRepository.findById(boatmanId)).thenReturn(Optional.of(existing), Optional.of(saved));
+        when(boatmanRepository.patch(eq(boatmanId), any(MergePatch.class), isNull())).thenReturn(true);
 
         BoatmanDocumentsDTO patch = BoatmanDocumentsDTO.builder()
             .documentCpfUrl(null)
@@ -215,11 +285,39 @@ class BoatmanUseCaseImplTest {
             .documentAddressProofUrl(null)
             .build();
 
-        BoatmanDocumentsDTO result = boatmanUseCase.updateBoatmanDocuments(boatmanId, patch);
+        BoatmanDocumentsDTO result = boatmanUseCase.updateBoatmanDocuments(boatmanId, patch, null);
 
+        ArgumentCaptor<MergePatch> captor = ArgumentCaptor.forClass(MergePatch.class);
+        verify(boatmanRepository).patch(eq(boatmanId), captor.capture(), isNull());
+        assertThat(captor.getValue().changes()).containsOnlyKeys("documentCnpjUrl");
         assertThat(result.getDocumentCpfUrl()).isEqualTo("cpf-old");
         assertThat(result.getDocumentCnpjUrl()).isEqualTo("cnpj-new");
         assertThat(result.getDocumentAddressProofUrl()).isEqualTo("addr-old");
+        assertThat(result.getVersion()).isEqualTo(2L);
+        verify(boatmanRepository, never()).save(any(Boatman.class));
+        verify(profileCache).evictBoatman(boatmanId, userId);
+    }
+
+    @Test
+    @DisplayName("updateBoatmanDocuments: If-Match desatualizado deve lancar StaleVersionException")
+    void updateBoatmanDocumentsShouldRejectStaleVersion() {
+        UUID boatmanId = UUID.randomUUID();
+        Boatman existing = Boatman.builder()
+            .id(boatmanId)
+            .userId(userId)
+            .cpf("123")
+            .cnpj("456")
+            .companyName("Empresa")
+            .version(5L)
+            .build();
+        when(boatmanRepository.patch(eq(boatmanId), any(MergePatch.class), eq(4L))).thenReturn(false);
+        when(boatmanRepository.findById(boatmanId)).thenReturn(Optional.of(existing));
+
+        BoatmanDocumentsDTO patch = BoatmanDocumentsDTO.builder().documentCpfUrl("cpf-new").build();
+
+        assertThatThrownBy(() -> boatmanUseCase.updateBoatmanDocuments(boatmanId, patch, 4L))
+            .isInstanceOf(StaleVersionException.class);
+        verifyNoInteractions(profileCache);
     }
 
     @Test
@@ -16,6 +16,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -79,9 +80,8 @@ class CreateUserUseCaseImplTest {
     @DisplayName("Deve criar usuário com sucesso")
     void shouldCreateUserSuccessfully() {
         // Arrange
-        when(userRepository.existsByEmail(command.getEmail())).thenReturn(false);
         when(mapper.commandToDomain(command)).thenReturn(user);
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(userRepository.insertIfAbsent(user)).thenReturn(Optional.of(user));
         when(mapper.domainToResponse(user)).thenReturn(response);
         
         // Act
@@ -92,8 +92,8 @@ class CreateUserUseCaseImplTest {
         assertThat(result.getEmail()).isEqualTo(command.getEmail());
         assertThat(result.getFullName()).isEqualTo(command.getFullName());
         
-        verify(userRepository).existsByEmail(command.getEmail());
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).insertIfAbsent(user);
+        verify(userRepository, never()).existsByEmail(any());
         verify(mapper).commandToDomain(command);
         verify(mapper).domainToResponse(user);
     }
@@ -102,23 +102,22 @@ class CreateUserUseCaseImplTest {
     @DisplayName("Deve lançar exceção quando email já existe")
     void shouldThrowExceptionWhenEmailAlreadyExists() {
         // Arrange
-        when(userRepository.existsByEmail(command.getEmail())).thenReturn(true);
+        when(mapper.commandToDomain(command)).thenReturn(user);
+        when(userRepository.insertIfAbsent(user)).thenReturn(Optional.empty());
         
         // Act & Assert
         assertThatThrownBy(() -> createUserUseCase.create(command))
             .isInstanceOf(UniqueConstraintViolationException.class)
             .hasMessageContaining("já está em uso");
         
-        verify(userRepository).existsByEmail(command.getEmail());
         verify(userRepository, never()).save(any());
-        verify(mapper, never()).commandToDomain(any());
+        verify(mapper, never()).domainToResponse(any());
     }
     
     @Test
     @DisplayName("Deve propagar exceções de domínio")
     void shouldPropagateDomainExceptions() {
         // Arrange
-        when(userRepository.existsByEmail(command.getEmail())).thenReturn(false);
         when(mapper.commandToDomain(command)).thenThrow(new IllegalArgumentException("Erro de domínio"));
         
         // Act & Assert
@@ -126,6 +125,6 @@ class CreateUserUseCaseImplTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("Erro de domínio");
         
-        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).insertIfAbsent(any());
     }
 }
@@ -4,11 +4,13 @@ import com.viafluvial.srvusuario.application.dto.PassengerDTO;
 import com.viafluvial.srvusuario.application.mapper.PassengerMapper;
 import com.viafluvial.srvusuario.application.port.out.PassengerRepositoryPort;
 import com.viafluvial.srvusuario.application.port.out.UserRepositoryPort;
+import com.viafluvial.srvusuario.common.error.UniqueConstraintViolationException;
 import com.viafluvial.srvusuario.domain.exception.PassengerNotFoundException;
 import com.viafluvial.srvusuario.domain.model.Passenger;
 import com.viafluvial.srvusuario.domain.model.User;
 import com.viafluvial.srvusuario.domain.model.UserStatus;
 import com.viafluvial.srvusuario.domain.model.UserType;
+import com.viafluvial.srvusuario.infrastructure.cache.NotFoundCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,11 +21,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +45,9 @@ class PassengerUseCaseImplTest {
     @Mock
     private PassengerMapper passengerMapper;
 
+    @Mock
+    private NotFoundCache notFoundCache;
+
     @InjectMocks
     private PassengerUseCaseImpl passengerUseCase;
 
@@ -96,10 +105,9 @@ class PassengerUseCaseImplTest {
     @Test
     @DisplayName("Deve criar novo passageiro com sucesso")
     void testCreatePassengerSuccess() {
-        when(passengerRepository.existsByCpf(passengerDTO.getCpf())).thenReturn(false);
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(passengerMapper.toDomain(passengerDTO)).thenReturn(passenger);
-        when(passengerRepository.save(any(Passenger.class))).thenReturn(passenger);
+        when(passengerRepository.insertIfAbsent(any(Passenger.class))).thenReturn(Optional.of(passenger));
         when(passengerMapper.toDTO(passenger)).thenReturn(passengerDTO);
 
         PassengerDTO result = passengerUseCase.createPassenger(passengerDTO);
@@ -108,22 +116,39 @@ class PassengerUseCaseImplTest {
         assertThat(result.getCpf()).isEqualTo(passengerDTO.getCpf());
         assertThat(result.getCity()).isEqualTo(passengerDTO.getCity());
 
-        verify(passengerRepository, times(1)).existsByCpf(passengerDTO.getCpf());
+        verify(passengerRepository, never()).existsByCpf(any());
         verify(userRepository, times(1)).findById(userId);
-        verify(passengerRepository, times(1)).save(any(Passenger.class));
+        verify(passengerRepository, times(1)).insertIfAbsent(any(Passenger.class));
+        verify(notFoundCache).evictUser(userId);
     }
 
     @Test
     @DisplayName("Deve lancar excecao ao criar passageiro com CPF duplicado")
     void testCreatePassengerWithDuplicateCPF() {
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(passengerMapper.toDomain(passengerDTO)).thenReturn(passenger);
+        when(passengerRepository.insertIfAbsent(any(Passenger.class))).thenReturn(Optional.empty());
         when(passengerRepository.existsByCpf(passengerDTO.getCpf())).thenReturn(true);
 
         assertThatThrownBy(() -> passengerUseCase.createPassenger(passengerDTO))
-            .isInstanceOf(IllegalArgumentException.class)
-            .hasMessage("CPF ja esta registrado");
+            .isInstanceOf(UniqueConstraintViolationException.class)
+            .hasMessageContaining("CPF '" + passengerDTO.getCpf() + "'");
 
-        verify(passengerRepository, times(1)).existsByCpf(passengerDTO.getCpf());
         verify(passengerRepository, never()).save(any(Passenger.class));
+        verify(notFoundCache, never()).evictUser(any());
+    }
+
+    @Test
+    @DisplayName("Deve lancar excecao quando o usuario ja tem perfil de passageiro")
+    void testCreatePassengerWhenUserAlreadyHasProfile() {
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(passengerMapper.toDomain(passengerDTO)).thenReturn(passenger);
+        when(passengerRepository.insertIfAbsent(any(Passenger.class))).thenReturn(Optional.empty());
+        when(passengerRepository.existsByCpf(passengerDTO.getCpf())).thenReturn(false);
+
+        assertThatThrownBy(() -> passengerUseCase.createPassenger(passengerDTO))
+            .isInstanceOf(UniqueConstraintViolationException.class)
+            .hasMessage("Usuario ja possui perfil de passageiro");
     }
 
     @Test
@@ -187,4 +212,22 @@ class PassengerUseCaseImplTest {
         verify(passengerRepository, times(1)).findById(passengerId);
         verify(passengerRepository, times(1)).save(any(Passenger.class));
     }
+
+    @Test
+    @DisplayName("Deve exportar passageiros convertendo cada linha entregue pelo repositorio")
+    @SuppressWarnings("unchecked")
+    void testExportPassengersMapsEachRow() {
+        when(passengerRepository.forEachMatching(eq("123"), any(), any(), any())).thenAnswer(invocation -> {
+            Consumer<Passenger> action = invocation.getArgument(3);
+            action.accept(passenger);
+            return 1L;
+        });
+        when(passengerMapper.toDTO(passenger)).thenReturn(passengerDTO);
+
+        List<PassengerDTO> exported = new ArrayList<>();
+        long count = passengerUseCase.exportPassengers("123", null, null, exported::add);
+
+        assertThat(count).isEqualTo(1);
+        assertThat(exported).containsExactly(passengerDTO);
+    }
 }
@@ -1,29 +1,43 @@
 package com.viafluvial.srvusuario.application.usecase;
 
+import com.viafluvial.srvusuario.application.dto.BatchItemResult;
+import com.viafluvial.srvusuario.application.dto.MergePatch;
+import com.viafluvial.srvusuario.application.dto.PageCursor;
+import com.viafluvial.srvusuario.application.dto.PagedResponse;
 import com.viafluvial.srvusuario.application.dto.UserDTO;
 import com.viafluvial.srvusuario.application.dto.UserCreateDTO;
 import com.viafluvial.srvusuario.application.mapper.UserMapper;
 import com.viafluvial.srvusuario.application.port.out.UserRepositoryPort;
 import com.viafluvial.srvusuario.domain.exception.DuplicateEmailException;
+import com.viafluvial.srvusuario.domain.exception.StaleVersionException;
 import com.viafluvial.srvusuario.domain.exception.UserNotFoundException;
 import com.viafluvial.srvusuario.domain.model.User;
 import com.viafluvial.srvusuario.domain.model.UserStatus;
 import com.viafluvial.srvusuario.domain.model.UserType;
+import com.viafluvial.srvusuario.infrastructure.cache.NotFoundCache;
+import com.viafluvial.srvusuario.infrastructure.cache.UserCache;
+import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +50,12 @@ class UserManagementUseCaseImplTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private NotFoundCache notFoundCache;
+
     @InjectMocks
     private UserManagementUseCaseImpl userManagementUseCase;
 
@@ -85,9 +105,8 @@ class UserManagementUseCaseImplTest {
     @Test
     @DisplayName("Deve criar um novo usuario com sucesso")
     void testCreateUserSuccess() {
-        when(userRepository.existsByEmail(userCreateDTO.getEmail())).thenReturn(false);
         when(userMapper.toDomain(userCreateDTO)).thenReturn(user);
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(userRepository.insertIfAbsent(user)).thenReturn(Optional.of(user));
         when(userMapper.toDTO(user)).thenReturn(userDTO);
 
         UserDTO result = userManagementUseCase.createUser(userCreateDTO);
@@ -96,21 +115,62 @@ class UserManagementUseCaseImplTest {
         assertThat(result.getEmail()).isEqualTo(userDTO.getEmail());
         assertThat(result.getFullName()).isEqualTo(userDTO.getFullName());
 
-        verify(userRepository, times(1)).existsByEmail(userCreateDTO.getEmail());
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).insertIfAbsent(user);
+        verify(userRepository, never()).existsByEmail(any());
     }
 
     @Test
     @DisplayName("Deve lancar excecao ao criar usuario com email duplicado")
     void testCreateUserWithDuplicateEmail() {
-        when(userRepository.existsByEmail(userCreateDTO.getEmail())).thenReturn(true);
+        when(userMapper.toDomain(userCreateDTO)).thenReturn(user);
+        when(userRepository.insertIfAbsent(user)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> userManagementUseCase.createUser(userCreateDTO))
             .isInstanceOf(DuplicateEmailException.class)
             .hasMessage("Email 'test@example.com' já está registrado");
 
-        verify(userRepository, times(1)).existsByEmail(userCreateDTO.getEmail());
         verify(userRepository, never()).save(any(User.class));
+        verify(notFoundCache, never()).evictUser(any());
+    }
+
+    @Test
+    @DisplayName("Deve criar usuarios em lote com uma consulta de emails e resultado por item")
+    void testCreateUsersBatch() {
+        UserCreateDTO repeated = UserCreateDTO.builder().email("test@example.com").build();
+        UserCreateDTO existingDto = UserCreateDTO.builder().email("old@example.com").build();
+        UserCreateDTO invalidDto = UserCreateDTO.builder().email("invalid").build();
+        User existingUser = User.builder()
+            .email("old@example.com")
+            .passwordHash("hash")
+            .fullName("Old User")
+            .userType(UserType.PASSENGER)
+            .build();
+
+        when(userMapper.toDomain(userCreateDTO)).thenReturn(user);
+        when(userMapper.toDomain(repeated)).thenReturn(user);
+        when(userMapper.toDomain(existingDto)).thenReturn(existingUser);
+        when(userMapper.toDomain(invalidDto)).thenThrow(new User.InvalidUserException("Email invalido"));
+        when(userRepository.findExistingEmails(any())).thenReturn(Set.of("old@example.com"));
+        when(userRepository.saveAll(List.of(user))).thenReturn(List.of(user));
+        when(userMapper.toDTO(user)).thenReturn(userDTO);
+
+        List<BatchItemResult<UserDTO>> results = userManagementUseCase.createUsers(
+            List.of(userCreateDTO, repeated, existingDto, invalidDto));
+
+        assertThat(results).extracting(BatchItemResult::getStatus).containsExactly(
+            BatchItemResult.Status.CREATED,
+            BatchItemResult.Status.DUPLICATE,
+            BatchItemResult.Status.DUPLICATE,
+            BatchItemResult.Status.INVALID);
+        assertThat(results.get(0).getItem()).isEqualTo(userDTO);
+        assertThat(results.get(1).getError()).contains("item 0");
+        assertThat(results.get(2).getError()).isEqualTo("Email 'old@example.com' já está registrado");
+        assertThat(results.get(3).getError()).isEqualTo("Email invalido");
+
+        verify(userRepository, times(1)).findExistingEmails(Set.of("test@example.com", "old@example.com"));
+        verify(userRepository, never()).existsByEmail(any());
+        verify(notFoundCache).evictUser(userId);
+        verify(userCache).evict(null, "test@example.com");
     }
 
     @Test
@@ -138,6 +198,18 @@ class UserManagementUseCaseImplTest {
             .hasMessage(String.format("Usuário com ID '%s' não encontrado", userId));
 
         verify(userRepository, times(1)).findById(userId);
+        verify(notFoundCache).markMissing(CacheConfig.USERS_CACHE, userId);
+    }
+
+    @Test
+    @DisplayName("Deve responder nao encontrado pelo cache negativo sem consultar o banco")
+    void testGetUserByIdNegativeCacheHit() {
+        when(notFoundCache.isMissing(CacheConfig.USERS_CACHE, userId)).thenReturn(true);
+
+        assertThatThrownBy(() -> userManagementUseCase.getUserById(userId))
+            .isInstanceOf(UserNotFoundException.class);
+
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
@@ -173,16 +245,49 @@ class UserManagementUseCaseImplTest {
     @Test
     @DisplayName("Deve listar usuarios por tipo")
     void testGetUsersByType() {
-        List<User> users = List.of(user);
-        when(userRepository.findByUserType(UserType.PASSENGER)).thenReturn(users);
-        when(userMapper.toDTO(user)).thenReturn(userDTO);
+        when(userRepository.findViewsByUserType(UserType.PASSENGER)).thenReturn(List.of(userDTO));
 
         List<UserDTO> result = userManagementUseCase.getUsersByType(UserType.PASSENGER);
 
-        assertThat(result).isNotEmpty();
-        assertThat(result).hasSize(1);
+        assertThat(result).containsExactly(userDTO);
+
+        verify(userRepository, times(1)).findViewsByUserType(UserType.PASSENGER);
+        verify(userRepository, never()).findByUserType(any());
+        verifyNoInteractions(userMapper);
+    }
+
+    @Test
+    @DisplayName("Deve registrar email no indice reverso ao carregar usuario por email")
+    void testGetUserByEmailRemembersEmail() {
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        when(userMapper.toDTO(user)).thenReturn(userDTO);
+
+        userManagementUseCase.getUserByEmail(user.getEmail());
 
-        verify(userRepository, times(1)).findByUserType(UserType.PASSENGER);
+        verify(userCache).remember(userId, "test@example.com");
+    }
+
+    @Test
+    @DisplayName("Deve invalidar email antigo e novo ao trocar email do usuario")
+    void testUpdateUserEvictsOldAndNewEmail() {
+        UserDTO updateDTO = UserDTO.builder().email("novo@example.com").build();
+        User saved = User.builder()
+            .id(userId)
+            .email("novo@example.com")
+            .passwordHash("hashedPassword")
+            .fullName("Test User")
+            .phone("(92) 98765-4321")
+            .userType(UserType.PASSENGER)
+            .status(UserStatus.PENDING)
+            .build();
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(userRepository.save(any(User.class))).thenReturn(saved);
+        when(userMapper.toDTO(saved)).thenReturn(userDTO);
+
+        userManagementUseCase.updateUser(userId, updateDTO);
+
+        verify(userCache).evict(userId, "test@example.com", "novo@example.com");
     }
 
     @Test
@@ -209,27 +314,68 @@ class UserManagementUseCaseImplTest {
     @Test
     @DisplayName("Deve deletar usuario com sucesso")
     void testDeleteUserSuccess() {
-        when(userRepository.existsById(userId)).thenReturn(true);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
 
         userManagementUseCase.deleteUser(userId);
 
-        verify(userRepository, times(1)).existsById(userId);
+        verify(userRepository, times(1)).findById(userId);
         verify(userRepository, times(1)).deleteById(userId);
+        verify(userCache).evict(userId, "test@example.com");
     }
 
     @Test
     @DisplayName("Deve lancar excecao ao deletar usuario inexistente")
     void testDeleteUserNotFound() {
-        when(userRepository.existsById(userId)).thenReturn(false);
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> userManagementUseCase.deleteUser(userId))
             .isInstanceOf(UserNotFoundException.class)
             .hasMessage(String.format("Usuário com ID '%s' não encontrado", userId));
 
-        verify(userRepository, times(1)).existsById(userId);
+        verify(userRepository, times(1)).findById(userId);
         verify(userRepository, never()).deleteById(userId);
     }
 
+    @Test
+    @DisplayName("Deve atualizar ultimo login com um unico UPDATE e invalidar so o usuario")
+    void testUpdateLastLogin() {
+        when(userRepository.touchLastLogin(eq(userId), any(LocalDateTime.class))).thenReturn(true);
+
+        userManagementUseCase.updateLastLogin(userId);
+
+        verify(userRepository, never()).findById(any());
+        verify(userRepository, never()).save(any(User.class));
+        verify(userCache).evict(userId);
+    }
+
+    @Test
+    @DisplayName("Deve lancar excecao ao atualizar ultimo login de usuario inexistente")
+    void testUpdateLastLoginNotFound() {
+        when(userRepository.touchLastLogin(eq(userId), any(LocalDateTime.class))).thenReturn(false);
+
+        assertThatThrownBy(() -> userManagementUseCase.updateLastLogin(userId))
+            .isInstanceOf(UserNotFoundException.class);
+
+        verifyNoInteractions(userCache);
+    }
+
+    @Test
+    @DisplayName("Deve buscar usuarios por cursor sem totais e com proximo cursor")
+    void testSearchUsersAfter() {
+        PageCursor after = PageCursor.of(LocalDateTime.now().plusDays(1), UUID.randomUUID());
+        when(userRepository.searchAfter(null, null, UserType.PASSENGER, null, null, null, null, after, 1))
+            .thenReturn(new SliceImpl<>(List.of(user), PageRequest.of(0, 1), true));
+        when(userMapper.toDTO(user)).thenReturn(userDTO);
+
+        PagedResponse<UserDTO> result = userManagementUseCase.searchUsersAfter(
+            null, null, UserType.PASSENGER, null, null, null, null, after, 1);
+
+        assertThat(result.getItems()).containsExactly(userDTO);
+        assertThat(result.isTotalKnown()).isFalse();
+        assertThat(PageCursor.decode(result.getNextCursor()))
+            .isEqualTo(PageCursor.of(user.getCreatedAt(), user.getId()));
+    }
+
     @Test
     @DisplayName("Deve validar senha corretamente")
     void testValidatePassword() {
@@ -240,4 +386,106 @@ class UserManagementUseCaseImplTest {
             .isInstanceOf(UnsupportedOperationException.class)
             .hasMessage("Funcionalidade de seguranca removida");
     }
+
+    @Test
+    @DisplayName("Merge patch com If-Match deve ir direto ao UPDATE condicional e reler so no final")
+    void testPatchUserWithIfMatch() {
+        User patched = User.builder()
+            .id(userId)
+            .email("test@example.com")
+            .passwordHash("hashedPassword")
+            .fullName("Novo Nome")
+            .phone("(92) 98765-4321")
+            .userType(UserType.PASSENGER)
+            .status(UserStatus.PENDING)
+            .emailVerified(false)
+            .version(4L)
+            .build();
+        when(userRepository.patch(eq(userId), any(MergePatch.class), eq(3L))).thenReturn(true);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(patched));
+        when(userMapper.toDTO(patched)).thenReturn(userDTO);
+
+        UserDTO result = userManagementUseCase.patchUser(userId, Map.of("fullName", "Novo Nome"), 3L);
+
+        assertThat(result).isEqualTo(userDTO);
+        ArgumentCaptor<MergePatch> captor = ArgumentCaptor.forClass(MergePatch.class);
+        verify(userRepository).patch(eq(userId), captor.capture(), eq(3L));
+        assertThat(captor.getValue().changes()).containsExactly(Map.entry("fullName", "Novo Nome"));
+        verify(userRepository, times(1)).findById(userId);
+        verify(userCache).evict(userId, "test@example.com");
+    }
+
+    @Test
+    @DisplayName("Merge patch com If-Match desatualizado deve lancar StaleVersionException")
+    void testPatchUserWithStaleVersion() {
+        when(userRepository.patch(eq(userId), any(MergePatch.class), eq(1L))).thenReturn(false);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+        assertThatThrownBy(() -> userManagementUseCase.patchUser(userId, Map.of("phone", "(92) 90000-0000"), 1L))
+            .isInstanceOf(StaleVersionException.class);
+        verifyNoInteractions(userCache);
+    }
+
+    @Test
+    @DisplayName("Merge patch com If-Match para usuario inexistente deve lancar UserNotFoundException")
+    void testPatchUserWithIfMatchNotFound() {
+        when(userRepository.patch(eq(userId), any(MergePatch.class), eq(1L))).thenReturn(false);
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userManagementUseCase.patchUser(userId, Map.of("phone", "(92) 90000-0000"), 1L))
+            .isInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Merge patch sem If-Match deve enviar ao UPDATE apenas os campos alterados")
+    void testPatchUserWithoutIfMatchSendsOnlyChangedFields() {
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(userRepository.patch(eq(userId), any(MergePatch.class), isNull())).thenReturn(true);
+        when(userMapper.toDTO(user)).thenReturn(userDTO);
+
+        userManagementUseCase.patchUser(userId, Map.of("fullName", "Test User", "status", "active"), null);
+
+        ArgumentCaptor<MergePatch> captor = ArgumentCaptor.forClass(MergePatch.class);
+        verify(userRepository).patch(eq(userId), captor.capture(), isNull());
+        assertThat(captor.getValue().changes()).containsExactly(Map.entry("status", UserStatus.ACTIVE));
+    }
+
+    @Test
+    @DisplayName("Merge patch sem mudancas nao deve executar UPDATE")
+    void testPatchUserWithoutChanges() {
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(userMapper.toDTO(user)).thenReturn(userDTO);
+
+        userManagementUseCase.patchUser(userId, Map.of("email", "test@example.com"), null);
+
+        verify(userRepository, never()).patch(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Merge patch com email de outro usuario deve lancar DuplicateEmailException")
+    void testPatchUserDuplicateEmail() {
+        User other = User.builder()
+            .id(UUID.randomUUID())
+            .email("other@example.com")
+            .passwordHash("x")
+            .fullName("Other")
+            .phone("(92) 90000-0000")
+            .userType(UserType.PASSENGER)
+            .status(UserStatus.ACTIVE)
+            .emailVerified(true)
+            .build();
+        when(userRepository.findByEmail("other@example.com")).thenReturn(Optional.of(other));
+
+        assertThatThrownBy(() -> userManagementUseCase.patchUser(userId, Map.of("email", "other@example.com"), null))
+            .isInstanceOf(DuplicateEmailException.class);
+        verify(userRepository, never()).patch(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Merge patch deve rejeitar campo somente leitura")
+    void testPatchUserRejectsReadOnlyField() {
+        assertThatThrownBy(() -> userManagementUseCase.patchUser(userId, Map.of("passwordHash", "x"), null))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(userRepository);
+    }
 }
@@ -0,0 +1,62 @@
+package com.viafluvial.srvusuario.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Common: UuidV7")
+class UuidV7Test {
+
+    @Test
+    @DisplayName("generate: versao 7, variante RFC e timestamp do relogio atual")
+    void generateShouldReturnVersion7WithCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestampOf(id)).get()
+            .satisfies(ts -> assertThat(ts.toEpochMilli()).isBetween(before, after + 1));
+    }
+
+    @Test
+    @DisplayName("generate: ids sucessivos sao estritamente crescentes (inclusive no mesmo ms)")
+    void generateShouldBeStrictlyIncreasing() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            ids.add(UuidV7.generate());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            // Mesma ordem do tipo uuid no PostgreSQL: bytes sem sinal, do mais significativo ao menos.
+            assertThat(Long.compareUnsigned(ids.get(i).getMostSignificantBits(), ids.get(i - 1).getMostSignificantBits()))
+                .isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("build: layout de bits da RFC 9562")
+    void buildShouldFollowRfcLayout() {
+        UUID id = UuidV7.build(0x0189_5C3A_0F00L, 0xABC, -1L);
+
+        assertThat(id.toString()).isEqualTo("01895c3a-0f00-7abc-bfff-ffffffffffff");
+        assertThat(UuidV7.timestampOf(id)).contains(Instant.ofEpochMilli(0x0189_5C3A_0F00L));
+    }
+
+    @Test
+    @DisplayName("timestampOf: ids v4 existentes continuam validos, apenas sem timestamp")
+    void timestampOfShouldIgnoreVersion4() {
+        UUID legacy = UUID.fromString("3f2c1b9e-8d7a-4c6b-9e5f-1a2b3c4d5e6f");
+
+        assertThat(legacy.version()).isEqualTo(4);
+        assertThat(UuidV7.timestampOf(legacy)).isEmpty();
+        assertThat(UuidV7.timestampOf(null)).isEmpty();
+    }
+}
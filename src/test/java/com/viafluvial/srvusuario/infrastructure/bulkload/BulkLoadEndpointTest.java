@@ -0,0 +1,80 @@
+package com.viafluvial.srvusuario.infrastructure.bulkload;
+
+import com.viafluvial.srvusuario.application.dto.BulkLoadReport;
+import com.viafluvial.srvusuario.application.dto.BulkLoadTarget;
+import com.viafluvial.srvusuario.application.port.out.ProfileBulkLoadPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Bulk load: BulkLoadEndpoint")
+class BulkLoadEndpointTest {
+
+    @Mock
+    private ProfileBulkLoadPort bulkLoad;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("load: le o arquivo do diretorio configurado e delega ao port")
+    void loadShouldDelegateWithFileReader() throws IOException {
+        Files.writeString(directory.resolve("passengers.csv"), "user_id,cpf\n");
+        BulkLoadReport report = new BulkLoadReport(BulkLoadTarget.PASSENGERS, 0, 0, 0, 0, 1, List.of());
+        when(bulkLoad.load(eq(BulkLoadTarget.PASSENGERS), any(Reader.class))).thenReturn(report);
+
+        BulkLoadEndpoint endpoint = new BulkLoadEndpoint(bulkLoad, directory.toString());
+
+        assertThat(endpoint.load("Passengers", "passengers.csv")).isSameAs(report);
+    }
+
+    @Test
+    @DisplayName("load: recusa destino invalido, arquivo fora do diretorio e carga desabilitada")
+    void loadShouldRejectInvalidRequests() throws IOException {
+        Files.writeString(directory.resolve("boatmen.csv"), "user_id\n");
+        BulkLoadEndpoint endpoint = new BulkLoadEndpoint(bulkLoad, directory.resolve("sub").toString());
+        Files.createDirectories(directory.resolve("sub"));
+
+        assertThatThrownBy(() -> endpoint.load("agencies", "boatmen.csv"))
+            .isInstanceOf(InvalidEndpointRequestException.class);
+        assertThatThrownBy(() -> endpoint.load("boatmen", "../boatmen.csv"))
+            .isInstanceOf(InvalidEndpointRequestException.class)
+            .hasMessageContaining("fora do diretorio");
+        assertThatThrownBy(() -> endpoint.load("boatmen", "missing.csv"))
+            .isInstanceOf(InvalidEndpointRequestException.class)
+            .hasMessageContaining("nao encontrado");
+        assertThatThrownBy(() -> new BulkLoadEndpoint(bulkLoad, "").load("boatmen", "boatmen.csv"))
+            .isInstanceOf(InvalidEndpointRequestException.class)
+            .hasMessageContaining("desabilitada");
+        verifyNoInteractions(bulkLoad);
+    }
+
+    @Test
+    @DisplayName("load: erro de cabecalho/CSV do port vira requisicao invalida")
+    void loadShouldMapInvalidCsv() throws IOException {
+        Files.writeString(directory.resolve("boatmen.csv"), "foo\n");
+        when(bulkLoad.load(eq(BulkLoadTarget.BOATMEN), any(Reader.class)))
+            .thenThrow(new IllegalArgumentException("Coluna desconhecida para boatmen: 'foo'"));
+
+        assertThatThrownBy(() -> new BulkLoadEndpoint(bulkLoad, directory.toString()).load("boatmen", "boatmen.csv"))
+            .isInstanceOf(InvalidEndpointRequestException.class)
+            .hasMessageContaining("foo");
+    }
+}
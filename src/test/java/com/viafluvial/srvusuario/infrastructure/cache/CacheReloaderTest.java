@@ -0,0 +1,97 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import com.viafluvial.srvusuario.application.dto.BoatmanDTO;
+import com.viafluvial.srvusuario.application.dto.UserDTO;
+import com.viafluvial.srvusuario.application.mapper.BoatmanMapper;
+import com.viafluvial.srvusuario.application.mapper.PassengerMapper;
+import com.viafluvial.srvusuario.application.mapper.UserMapper;
+import com.viafluvial.srvusuario.application.port.out.BoatmanRepositoryPort;
+import com.viafluvial.srvusuario.application.port.out.PassengerRepositoryPort;
+import com.viafluvial.srvusuario.application.port.out.UserRepositoryPort;
+import com.viafluvial.srvusuario.domain.model.Boatman;
+import com.viafluvial.srvusuario.domain.model.User;
+import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Cache: CacheReloader")
+class CacheReloaderTest {
+
+    @Mock
+    private UserRepositoryPort userRepository;
+
+    @Mock
+    private BoatmanRepositoryPort boatmanRepository;
+
+    @Mock
+    private PassengerRepositoryPort passengerRepository;
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private BoatmanMapper boatmanMapper;
+
+    @Mock
+    private PassengerMapper passengerMapper;
+
+    @Mock
+    private UserCache userCache;
+
+    @InjectMocks
+    private CacheReloader reloader;
+
+    @Test
+    @DisplayName("users: recarrega pelo ID e retorna null quando o usuario foi removido")
+    void shouldReloadUsersById() {
+        UUID id = UUID.randomUUID();
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(id);
+        when(user.getEmail()).thenReturn("a@example.com");
+        UserDTO dto = UserDTO.builder().id(id).build();
+        when(userRepository.findById(id)).thenReturn(Optional.of(user));
+        when(userMapper.toDTO(user)).thenReturn(dto);
+
+        assertThat(reloader.reload(CacheConfig.USERS_CACHE, id)).isSameAs(dto);
+        verify(userCache).remember(id, "a@example.com");
+
+        UUID removed = UUID.randomUUID();
+        when(userRepository.findById(removed)).thenReturn(Optional.empty());
+        assertThat(reloader.reload(CacheConfig.USERS_CACHE, removed)).isNull();
+    }
+
+    @Test
+    @DisplayName("boatmen: chave 'userId_' consulta por userId")
+    void shouldReloadBoatmenByUserIdKey() {
+        UUID userId = UUID.randomUUID();
+        Boatman boatman = mock(Boatman.class);
+        BoatmanDTO dto = new BoatmanDTO();
+        when(boatmanRepository.findByUserId(userId)).thenReturn(Optional.of(boatman));
+        when(boatmanMapper.toDTO(boatman)).thenReturn(dto);
+
+        assertThat(reloader.reload(CacheConfig.BOATMEN_CACHE, "userId_" + userId)).isSameAs(dto);
+        verify(boatmanRepository, never()).findById(userId);
+    }
+
+    @Test
+    @DisplayName("cache desconhecido: lanca IllegalArgumentException")
+    void shouldRejectUnknownCache() {
+        assertThatThrownBy(() -> reloader.reload("desconhecido", "k"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
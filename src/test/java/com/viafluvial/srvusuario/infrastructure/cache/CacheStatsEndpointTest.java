@@ -0,0 +1,96 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Cache: CacheStatsEndpoint")
+class CacheStatsEndpointTest {
+
+    private TwoTierCacheManager cacheManager;
+    private CacheStatsEndpoint endpoint;
+
+    @BeforeEach
+    void setup() {
+        CaffeineCacheManager local = new CaffeineCacheManager();
+        local.setCacheNames(List.of());
+        local.registerCustomCache(CacheConfig.USERS_CACHE, Caffeine.newBuilder().maximumSize(100).recordStats().build());
+        local.registerCustomCache(CacheConfig.USER_BY_EMAIL_CACHE, Caffeine.newBuilder().recordStats().build());
+        cacheManager = new TwoTierCacheManager(local, null, new LoopbackCacheInvalidationTransport());
+        endpoint = new CacheStatsEndpoint(cacheManager);
+    }
+
+    @Test
+    @DisplayName("caches: lista todos os caches com hits, misses e tamanho estimado")
+    void cachesShouldListStats() {
+        UUID id = UUID.randomUUID();
+        Cache users = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        users.put(id, "dto");
+        users.get(id);
+        users.get(UUID.randomUUID());
+
+        Map<String, CacheStatsEndpoint.CacheDescriptor> caches = endpoint.caches();
+
+        assertThat(caches).containsOnlyKeys(CacheConfig.USERS_CACHE, CacheConfig.USER_BY_EMAIL_CACHE);
+        CacheStatsEndpoint.CacheDescriptor descriptor = caches.get(CacheConfig.USERS_CACHE);
+        assertThat(descriptor.getHitCount()).isEqualTo(1L);
+        assertThat(descriptor.getMissCount()).isEqualTo(1L);
+        assertThat(descriptor.getHitRate()).isEqualTo(0.5);
+        assertThat(descriptor.getEstimatedSize()).isEqualTo(1L);
+        assertThat(descriptor.isShared()).isFalse();
+    }
+
+    @Test
+    @DisplayName("cache: retorna chaves mais quentes limitadas e null para cache desconhecido")
+    void cacheShouldReturnTopKeys() {
+        Cache byEmail = cacheManager.getCache(CacheConfig.USER_BY_EMAIL_CACHE);
+        byEmail.put("a@example.com", "a");
+        byEmail.put("b@example.com", "b");
+        byEmail.put("c@example.com", "c");
+
+        CacheStatsEndpoint.CacheDetails details = endpoint.cache(CacheConfig.USER_BY_EMAIL_CACHE, 2);
+
+        assertThat(details.getTopKeys()).hasSize(2);
+        assertThat(details.getStats().getEstimatedSize()).isEqualTo(3L);
+        assertThat(endpoint.cache("inexistente", null)).isNull();
+    }
+
+    @Test
+    @DisplayName("evict: remove a chave convertendo UUID, ou limpa o cache inteiro sem chave")
+    void evictShouldRemoveKeyOrClearCache() {
+        UUID id = UUID.randomUUID();
+        UUID otherId = UUID.randomUUID();
+        Cache users = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        users.put(id, "dto");
+        users.put(otherId, "outro");
+
+        endpoint.evict(CacheConfig.USERS_CACHE, id.toString());
+
+        assertThat(users.get(id)).isNull();
+        assertThat(users.get(otherId)).isNotNull();
+
+        endpoint.evict(CacheConfig.USERS_CACHE, null);
+
+        assertThat(users.get(otherId)).isNull();
+    }
+
+    @Test
+    @DisplayName("parseKey: somente UUID canonico vira UUID; demais chaves ficam como texto")
+    void parseKeyShouldKeepNonUuidKeysAsText() {
+        UUID id = UUID.randomUUID();
+
+        assertThat(CacheStatsEndpoint.parseKey(id.toString())).isEqualTo(id);
+        assertThat(CacheStatsEndpoint.parseKey("userId_" + id)).isEqualTo("userId_" + id);
+        assertThat(CacheStatsEndpoint.parseKey("1-2-3-4-5")).isEqualTo("1-2-3-4-5");
+    }
+}
@@ -0,0 +1,153 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import com.viafluvial.srvusuario.application.dto.BoatmanDTO;
+import com.viafluvial.srvusuario.application.dto.UserDTO;
+import com.viafluvial.srvusuario.application.mapper.BoatmanMapper;
+import com.viafluvial.srvusuario.application.mapper.PassengerMapper;
+import com.viafluvial.srvusuario.application.mapper.UserMapper;
+import com.viafluvial.srvusuario.application.port.out.BoatmanRepositoryPort;
+import com.viafluvial.srvusuario.application.port.out.PassengerRepositoryPort;
+import com.viafluvial.srvusuario.application.port.out.UserRepositoryPort;
+import com.viafluvial.srvusuario.domain.model.Boatman;
+import com.viafluvial.srvusuario.domain.model.User;
+import com.viafluvial.srvusuario.domain.model.UserType;
+import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Cache: CacheWarmer")
+class CacheWarmerTest {
+
+    @Mock
+    private UserRepositoryPort userRepository;
+
+    @Mock
+    private BoatmanRepositoryPort boatmanRepository;
+
+    @Mock
+    private PassengerRepositoryPort passengerRepository;
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private BoatmanMapper boatmanMapper;
+
+    @Mock
+    private PassengerMapper passengerMapper;
+
+    @Mock
+    private UserCache userCache;
+
+    private ConcurrentMapCacheManager cacheManager;
+
+    @BeforeEach
+    void setup() {
+        cacheManager = new ConcurrentMapCacheManager(
+            CacheConfig.USERS_CACHE, CacheConfig.USER_BY_EMAIL_CACHE, CacheConfig.BOATMEN_CACHE, CacheConfig.PASSENGERS_CACHE);
+    }
+
+    @Test
+    @DisplayName("warmUp: carrega usuarios recentes e seus perfis sob as duas chaves")
+    void warmUpShouldLoadUsersAndProfiles() {
+        UUID userId = UUID.randomUUID();
+        UUID boatmanId = UUID.randomUUID();
+        User user = user(userId);
+        Boatman boatman = Boatman.builder()
+            .id(boatmanId)
+            .userId(userId)
+            .cpf("12345678900")
+            .cnpj("12345678000199")
+            .companyName("Barcos LTDA")
+            .build();
+        UserDTO userDTO = new UserDTO();
+        BoatmanDTO boatmanDTO = new BoatmanDTO();
+
+        when(userRepository.findRecentlyActive(10)).thenReturn(List.of(user));
+        when(userMapper.toDTO(user)).thenReturn(userDTO);
+        when(boatmanRepository.findByUserIds(List.of(userId))).thenReturn(List.of(boatman));
+        when(boatmanMapper.toDTO(boatman)).thenReturn(boatmanDTO);
+        when(passengerRepository.findByUserIds(List.of(userId))).thenReturn(List.of());
+
+        int warmed = warmer(10, Duration.ofSeconds(5)).warmUp();
+
+        assertThat(warmed).isEqualTo(1);
+        assertThat(cacheManager.getCache(CacheConfig.USERS_CACHE).get(userId, UserDTO.class)).isSameAs(userDTO);
+        assertThat(cacheManager.getCache(CacheConfig.USER_BY_EMAIL_CACHE).get("a@example.com", UserDTO.class)).isSameAs(userDTO);
+        assertThat(cacheManager.getCache(CacheConfig.BOATMEN_CACHE).get(boatmanId, BoatmanDTO.class)).isSameAs(boatmanDTO);
+        assertThat(cacheManager.getCache(CacheConfig.BOATMEN_CACHE).get(ProfileCache.userIdKey(userId), BoatmanDTO.class))
+            .isSameAs(boatmanDTO);
+        verify(userCache).remember(userId, "a@example.com");
+    }
+
+    @Test
+    @DisplayName("warmUp: nao sobrescreve entrada ja preenchida por requisicao real")
+    void warmUpShouldNotOverwriteExistingEntries() {
+        UUID userId = UUID.randomUUID();
+        User user = user(userId);
+        UserDTO fresh = new UserDTO();
+        cacheManager.getCache(CacheConfig.USERS_CACHE).put(userId, fresh);
+
+        when(userRepository.findRecentlyActive(10)).thenReturn(List.of(user));
+        when(userMapper.toDTO(user)).thenReturn(new UserDTO());
+        when(boatmanRepository.findByUserIds(anyCollection())).thenReturn(List.of());
+        when(passengerRepository.findByUserIds(anyCollection())).thenReturn(List.of());
+
+        warmer(10, Duration.ofSeconds(5)).warmUp();
+
+        assertThat(cacheManager.getCache(CacheConfig.USERS_CACHE).get(userId, UserDTO.class)).isSameAs(fresh);
+    }
+
+    @Test
+    @DisplayName("onApplicationReady: libera o startup quando o warm-up estoura o tempo limite")
+    void onApplicationReadyShouldReturnAfterTimeout() {
+        when(userRepository.findRecentlyActive(10)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return List.of();
+        });
+
+        long start = System.nanoTime();
+        warmer(10, Duration.ofMillis(100)).onApplicationReady();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("onApplicationReady: desabilitado nao consulta o banco")
+    void onApplicationReadyShouldSkipWhenDisabled() {
+        warmer(0, Duration.ofSeconds(5)).onApplicationReady();
+
+        verifyNoInteractions(userRepository, boatmanRepository, passengerRepository);
+    }
+
+    private User user(UUID id) {
+        return User.builder()
+            .id(id)
+            .email("a@example.com")
+            .fullName("Usuario")
+            .userType(UserType.PASSENGER)
+            .build();
+    }
+
+    private CacheWarmer warmer(int maxUsers, Duration timeout) {
+        return new CacheWarmer(
+            userRepository, boatmanRepository, passengerRepository,
+            userMapper, boatmanMapper, passengerMapper,
+            cacheManager, userCache, true, maxUsers, 500, timeout
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import com.viafluvial.srvusuario.application.dto.BatchGetResult;
+import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
+import com.viafluvial.srvusuario.infrastructure.datasource.ReadYourWrites;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Cache: MultiGetCache")
+class MultiGetCacheTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private NotFoundCache notFoundCache;
+    private MultiGetCache multiGetCache;
+    private List<Collection<UUID>> loads;
+
+    @BeforeEach
+    void setup() {
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.PASSENGERS_CACHE, CacheConfig.NOT_FOUND_CACHE);
+        notFoundCache = new NotFoundCache(cacheManager);
+        multiGetCache = new MultiGetCache(cacheManager, notFoundCache);
+        loads = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("getAll: acertos saem do cache e os demais vem de uma unica carga, na ordem do pedido")
+    void getAllShouldLoadOnlyMissesInOneCall() {
+        UUID cached = UUID.randomUUID();
+        UUID stored = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        cacheManager.getCache(CacheConfig.PASSENGERS_CACHE).put(ProfileCache.userIdKey(cached), "cached");
+
+        BatchGetResult<String> result = getAll(List.of(stored, cached, missing, stored), Map.of(stored, "stored"));
+
+        assertThat(result.getItems()).containsExactly("stored", "cached");
+        assertThat(result.getNotFound()).containsExactly(missing);
+        assertThat(loads).hasSize(1);
+        assertThat(loads.get(0)).containsExactly(stored, missing);
+    }
+
+    @Test
+    @DisplayName("getAll: o que foi carregado entra no cache e o ausente fica no cache negativo")
+    void getAllShouldFillCachesForNextCall() {
+        UUID stored = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        getAll(List.of(stored, missing), Map.of(stored, "stored"));
+
+        BatchGetResult<String> second = getAll(List.of(stored, missing), Map.of());
+
+        assertThat(second.getItems()).containsExactly("stored");
+        assertThat(second.getNotFound()).containsExactly(missing);
+        assertThat(loads).hasSize(1);
+        assertThat(notFoundCache.isMissing(CacheConfig.PASSENGERS_CACHE, ProfileCache.userIdKey(missing))).isTrue();
+    }
+
+    @Test
+    @DisplayName("getAll: o loader le do primario, ja que o resultado vai para o cache")
+    void getAllShouldLoadFromPrimary() {
+        UUID id = UUID.randomUUID();
+        List<Boolean> pinned = new ArrayList<>();
+
+        multiGetCache.getAll(CacheConfig.PASSENGERS_CACHE, List.of(id), ProfileCache::userIdKey, String.class, misses -> {
+            pinned.add(ReadYourWrites.isPinned());
+            return Map.of();
+        });
+
+        assertThat(pinned).containsExactly(true);
+        assertThat(ReadYourWrites.isPinned()).isFalse();
+    }
+
+    private BatchGetResult<String> getAll(List<UUID> ids, Map<UUID, String> database) {
+        return multiGetCache.getAll(CacheConfig.PASSENGERS_CACHE, ids, ProfileCache::userIdKey, String.class, misses -> {
+            loads.add(List.copyOf(misses));
+            return database;
+        });
+    }
+}
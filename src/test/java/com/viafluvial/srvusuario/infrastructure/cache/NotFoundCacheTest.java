@@ -0,0 +1,64 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Cache: NotFoundCache")
+class NotFoundCacheTest {
+
+    private NotFoundCache notFoundCache;
+
+    @BeforeEach
+    void setup() {
+        notFoundCache = new NotFoundCache(new ConcurrentMapCacheManager(CacheConfig.NOT_FOUND_CACHE));
+    }
+
+    @Test
+    @DisplayName("markMissing: marca a chave apenas no cache informado")
+    void markMissingShouldBeScopedByCache() {
+        UUID userId = UUID.randomUUID();
+
+        notFoundCache.markMissing(CacheConfig.BOATMEN_CACHE, ProfileCache.userIdKey(userId));
+
+        assertThat(notFoundCache.isMissing(CacheConfig.BOATMEN_CACHE, ProfileCache.userIdKey(userId))).isTrue();
+        assertThat(notFoundCache.isMissing(CacheConfig.PASSENGERS_CACHE, ProfileCache.userIdKey(userId))).isFalse();
+    }
+
+    @Test
+    @DisplayName("evictUser: remove as marcacoes do usuario e dos perfis buscados por userId")
+    void evictUserShouldRemoveUserAndProfileMarks() {
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+        notFoundCache.markMissing(CacheConfig.USERS_CACHE, userId);
+        notFoundCache.markMissing(CacheConfig.BOATMEN_CACHE, ProfileCache.userIdKey(userId));
+        notFoundCache.markMissing(CacheConfig.PASSENGERS_CACHE, ProfileCache.userIdKey(userId));
+        notFoundCache.markMissing(CacheConfig.PASSENGERS_CACHE, ProfileCache.userIdKey(otherUserId));
+
+        notFoundCache.evictUser(userId);
+
+        assertThat(notFoundCache.isMissing(CacheConfig.USERS_CACHE, userId)).isFalse();
+        assertThat(notFoundCache.isMissing(CacheConfig.BOATMEN_CACHE, ProfileCache.userIdKey(userId))).isFalse();
+        assertThat(notFoundCache.isMissing(CacheConfig.PASSENGERS_CACHE, ProfileCache.userIdKey(userId))).isFalse();
+        assertThat(notFoundCache.isMissing(CacheConfig.PASSENGERS_CACHE, ProfileCache.userIdKey(otherUserId))).isTrue();
+    }
+
+    @Test
+    @DisplayName("clear: remove todas as marcacoes")
+    void clearShouldRemoveEverything() {
+        UUID userId = UUID.randomUUID();
+        notFoundCache.markMissing(CacheConfig.USERS_CACHE, userId);
+        notFoundCache.markMissing(CacheConfig.PASSENGERS_CACHE, ProfileCache.userIdKey(userId));
+
+        notFoundCache.clear();
+
+        assertThat(notFoundCache.isMissing(CacheConfig.USERS_CACHE, userId)).isFalse();
+        assertThat(notFoundCache.isMissing(CacheConfig.PASSENGERS_CACHE, ProfileCache.userIdKey(userId))).isFalse();
+    }
+}
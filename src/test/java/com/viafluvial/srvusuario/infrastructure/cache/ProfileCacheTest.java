@@ -0,0 +1,63 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Cache: ProfileCache")
+class ProfileCacheTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private ProfileCache profileCache;
+
+    @BeforeEach
+    void setup() {
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.CACHE_NAMES.toArray(String[]::new));
+        profileCache = new ProfileCache(cacheManager);
+    }
+
+    @Test
+    @DisplayName("evictBoatman: remove id, chave por usuario e documentos, preservando outros barqueiros")
+    void evictBoatmanShouldRemoveBothKeysAndDocuments() {
+        UUID boatmanId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID otherId = UUID.randomUUID();
+        Cache boatmen = cacheManager.getCache(CacheConfig.BOATMEN_CACHE);
+        Cache documents = cacheManager.getCache(CacheConfig.BOATMAN_DOCUMENTS_CACHE);
+
+        boatmen.put(boatmanId, "b");
+        boatmen.put(ProfileCache.userIdKey(userId), "b");
+        boatmen.put(otherId, "outro");
+        documents.put(boatmanId, "docs");
+
+        profileCache.evictBoatman(boatmanId, userId);
+
+        assertThat(boatmen.get(boatmanId)).isNull();
+        assertThat(boatmen.get(ProfileCache.userIdKey(userId))).isNull();
+        assertThat(documents.get(boatmanId)).isNull();
+        assertThat(boatmen.get(otherId)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("evictAgency: remove as duas chaves da agencia e tolera userId nulo")
+    void evictAgencyShouldRemoveBothKeys() {
+        UUID agencyId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        Cache agencies = cacheManager.getCache(CacheConfig.AGENCIES_CACHE);
+        agencies.put(agencyId, "a");
+        agencies.put(ProfileCache.userIdKey(userId), "a");
+
+        profileCache.evictAgency(agencyId, userId);
+        profileCache.evictAdmin(UUID.randomUUID(), null);
+
+        assertThat(agencies.get(agencyId)).isNull();
+        assertThat(agencies.get(ProfileCache.userIdKey(userId))).isNull();
+    }
+}
@@ -0,0 +1,155 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
+import com.viafluvial.srvusuario.infrastructure.datasource.ReadYourWrites;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Cache: TwoTierCacheManager")
+class TwoTierCacheManagerTest {
+
+    private ConcurrentMapCacheManager shared;
+    private TwoTierCacheManager nodeA;
+    private TwoTierCacheManager nodeB;
+
+    @BeforeEach
+    void setup() {
+        shared = new ConcurrentMapCacheManager(CacheConfig.USERS_CACHE);
+        LoopbackCacheInvalidationTransport transport = new LoopbackCacheInvalidationTransport();
+        nodeA = new TwoTierCacheManager(new ConcurrentMapCacheManager(CacheConfig.USERS_CACHE), shared, transport);
+        nodeB = new TwoTierCacheManager(new ConcurrentMapCacheManager(CacheConfig.USERS_CACHE), shared, transport);
+    }
+
+    @Test
+    @DisplayName("get: miss no L1 e servido pelo L2 e promovido ao L1")
+    void getShouldPromoteSharedValueToLocal() {
+        UUID id = UUID.randomUUID();
+        nodeA.getCache(CacheConfig.USERS_CACHE).put(id, "dto");
+
+        Cache cacheB = nodeB.getCache(CacheConfig.USERS_CACHE);
+
+        assertThat(cacheB.get(id, String.class)).isEqualTo("dto");
+        assertThat(local(nodeB).get(id)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("evict: remove do L2 e do L1 de todas as instancias")
+    void evictShouldInvalidateOtherNodes() {
+        UUID id = UUID.randomUUID();
+        UUID otherId = UUID.randomUUID();
+        nodeA.getCache(CacheConfig.USERS_CACHE).put(id, "dto");
+        nodeB.getCache(CacheConfig.USERS_CACHE).get(id);
+        local(nodeB).put(otherId, "outro");
+
+        nodeA.getCache(CacheConfig.USERS_CACHE).evict(id);
+
+        assertThat(local(nodeA).get(id)).isNull();
+        assertThat(local(nodeB).get(id)).isNull();
+        assertThat(shared.getCache(CacheConfig.USERS_CACHE).get(id)).isNull();
+        assertThat(local(nodeB).get(otherId)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("clear: limpa o L1 das outras instancias")
+    void clearShouldInvalidateOtherNodes() {
+        local(nodeB).put("k", "v");
+
+        nodeA.getCache(CacheConfig.USERS_CACHE).clear();
+
+        assertThat(local(nodeB).get("k")).isNull();
+    }
+
+    @Test
+    @DisplayName("get com loader: consulta o L2 antes de carregar e grava o valor carregado nos dois niveis")
+    void getWithLoaderShouldCheckSharedBeforeLoading() {
+        nodeA.getCache(CacheConfig.USERS_CACHE).put("k", "compartilhado");
+
+        assertThat(nodeB.getCache(CacheConfig.USERS_CACHE).get("k", () -> "carregado")).isEqualTo("compartilhado");
+        assertThat(nodeB.getCache(CacheConfig.USERS_CACHE).get("novo", () -> "carregado")).isEqualTo("carregado");
+        assertThat(shared.getCache(CacheConfig.USERS_CACHE).get("novo", String.class)).isEqualTo("carregado");
+    }
+
+    @Test
+    @DisplayName("get com loader: o carregamento roda preso ao primario")
+    void getWithLoaderShouldLoadFromPrimary() {
+        assertThat(ReadYourWrites.isPinned()).isFalse();
+
+        assertThat(nodeA.getCache(CacheConfig.USERS_CACHE).get("k", ReadYourWrites::isPinned)).isTrue();
+        assertThat(ReadYourWrites.isPinned()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Sem L2: funciona apenas com L1 e continua difundindo invalidacoes")
+    void shouldWorkWithoutSharedTier() {
+        LoopbackCacheInvalidationTransport transport = new LoopbackCacheInvalidationTransport();
+        TwoTierCacheManager first = new TwoTierCacheManager(new ConcurrentMapCacheManager(CacheConfig.USERS_CACHE), null, transport);
+        TwoTierCacheManager second = new TwoTierCacheManager(new ConcurrentMapCacheManager(CacheConfig.USERS_CACHE), null, transport);
+        local(second).put("k", "v");
+
+        first.getCache(CacheConfig.USERS_CACHE).evict("k");
+
+        assertThat(second.getCache(CacheConfig.USERS_CACHE).get("k")).isNull();
+        assertThat(first.getCache("desconhecido")).isNull();
+    }
+
+    @Test
+    @DisplayName("get com loader: misses concorrentes na mesma chave executam um unico carregamento")
+    void getWithLoaderShouldCoalesceConcurrentMisses() throws Exception {
+        CaffeineCacheManager caffeine = new CaffeineCacheManager(CacheConfig.USERS_CACHE);
+        TwoTierCacheManager manager = new TwoTierCacheManager(caffeine, null, new LoopbackCacheInvalidationTransport());
+        TwoTierCache cache = (TwoTierCache) manager.getCache(CacheConfig.USERS_CACHE);
+
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(callers);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    return cache.get("k", () -> {
+                        loads.incrementAndGet();
+                        release.await();
+                        return "dto";
+                    });
+                }));
+            }
+            ready.await();
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("dto");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.getCoalescedRequests()).isEqualTo(callers - 1);
+    }
+
+    private Cache local(TwoTierCacheManager manager) {
+        CacheManager localManager = manager.getLocalCacheManager();
+        return localManager.getCache(CacheConfig.USERS_CACHE);
+    }
+}
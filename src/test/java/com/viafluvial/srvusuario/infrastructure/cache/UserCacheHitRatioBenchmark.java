@@ -0,0 +1,116 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
+import com.viafluvial.srvusuario.infrastructure.config.CacheProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de hit ratio dos caches de usuario sob carga mista leitura/escrita.
+ * Compara a invalidacao antiga (allEntries em usersByEmail) com a invalidacao direcionada do {@link UserCache}.
+ * Nao roda no build padrao; execute com {@code mvn test -Dtest=UserCacheHitRatioBenchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark: hit ratio de UserCache")
+class UserCacheHitRatioBenchmark {
+
+    private static final int USERS = 5_000;
+    private static final int OPERATIONS = 500_000;
+    private static final double WRITE_RATIO = 0.10;
+    private static final double EMAIL_CHANGE_RATIO = 0.01;
+    private static final long SEED = 42L;
+
+    @Test
+    @DisplayName("Invalidacao direcionada deve manter hit ratio acima da invalidacao allEntries")
+    void targetedEvictionKeepsHigherHitRatio() {
+        double legacy = run("allEntries", (ctx, id, oldEmail, newEmail) -> {
+            ctx.users.evict(id);
+            ctx.byEmail.clear();
+        });
+        double targeted = run("direcionada", (ctx, id, oldEmail, newEmail) ->
+            ctx.userCache.evict(id, oldEmail, newEmail));
+
+        assertThat(targeted).isGreaterThan(legacy);
+    }
+
+    private double run(String label, WriteStrategy strategy) {
+        Context ctx = new Context();
+        Random random = new Random(SEED);
+
+        long hits = 0;
+        long reads = 0;
+        for (int op = 0; op < OPERATIONS; op++) {
+            int index = skewedIndex(random);
+            UUID id = ctx.ids[index];
+
+            if (random.nextDouble() < WRITE_RATIO) {
+                String oldEmail = ctx.emails[index];
+                if (random.nextDouble() < EMAIL_CHANGE_RATIO / WRITE_RATIO) {
+                    ctx.emails[index] = "u" + index + "-" + op + "@example.com";
+                }
+                strategy.onWrite(ctx, id, oldEmail, ctx.emails[index]);
+                continue;
+            }
+
+            reads++;
+            boolean byId = random.nextBoolean();
+            Cache cache = byId ? ctx.users : ctx.byEmail;
+            Object key = byId ? id : ctx.emails[index];
+            if (cache.get(key) != null) {
+                hits++;
+            } else {
+                cache.put(key, "dto-" + index);
+                ctx.userCache.remember(id, ctx.emails[index]);
+            }
+        }
+
+        double ratio = (double) hits / reads;
+        System.out.printf("[UserCacheHitRatioBenchmark] invalidacao=%s leituras=%d hits=%d hitRatio=%.4f%n",
+            label, reads, hits, ratio);
+        return ratio;
+    }
+
+    /**
+     * 80% dos acessos concentrados em 20% dos usuarios.
+     */
+    private int skewedIndex(Random random) {
+        int hotSet = USERS / 5;
+        return random.nextDouble() < 0.8 ? random.nextInt(hotSet) : hotSet + random.nextInt(USERS - hotSet);
+    }
+
+    @FunctionalInterface
+    private interface WriteStrategy {
+        void onWrite(Context ctx, UUID id, String oldEmail, String newEmail);
+    }
+
+    private static final class Context {
+        private final UUID[] ids = new UUID[USERS];
+        private final String[] emails = new String[USERS];
+        private final Cache users;
+        private final Cache byEmail;
+        private final UserCache userCache;
+
+        private Context() {
+            CaffeineCacheManager manager = new CaffeineCacheManager();
+            manager.setCacheSpecification("maximumSize=" + USERS);
+            manager.setCacheNames(List.of(CacheConfig.USERS_CACHE, CacheConfig.USER_BY_EMAIL_CACHE));
+            users = manager.getCache(CacheConfig.USERS_CACHE);
+            byEmail = manager.getCache(CacheConfig.USER_BY_EMAIL_CACHE);
+            userCache = new UserCache(manager, new CacheProperties());
+
+            for (int i = 0; i < USERS; i++) {
+                ids[i] = new UUID(0L, i);
+                emails[i] = "u" + i + "@example.com";
+            }
+        }
+    }
+}
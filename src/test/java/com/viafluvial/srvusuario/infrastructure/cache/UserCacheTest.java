@@ -0,0 +1,82 @@
+package com.viafluvial.srvusuario.infrastructure.cache;
+
+import com.viafluvial.srvusuario.application.dto.UserDTO;
+import com.viafluvial.srvusuario.infrastructure.config.CacheConfig;
+import com.viafluvial.srvusuario.infrastructure.config.CacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Cache: UserCache")
+class UserCacheTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private UserCache userCache;
+
+    @BeforeEach
+    void setup() {
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.USERS_CACHE, CacheConfig.USER_BY_EMAIL_CACHE);
+        userCache = new UserCache(cacheManager, new CacheProperties());
+    }
+
+    @Test
+    @DisplayName("evict: remove apenas as entradas do usuario afetado, usando o indice reverso")
+    void evictShouldRemoveOnlyAffectedUserEntries() {
+        UUID id = UUID.randomUUID();
+        UUID otherId = UUID.randomUUID();
+        Cache users = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        Cache byEmail = cacheManager.getCache(CacheConfig.USER_BY_EMAIL_CACHE);
+
+        users.put(id, "a");
+        users.put(otherId, "b");
+        byEmail.put("a@example.com", "a");
+        byEmail.put("b@example.com", "b");
+        userCache.remember(id, "a@example.com");
+        userCache.remember(otherId, "b@example.com");
+
+        userCache.evict(id);
+
+        assertThat(users.get(id)).isNull();
+        assertThat(byEmail.get("a@example.com")).isNull();
+        assertThat(users.get(otherId)).isNotNull();
+        assertThat(byEmail.get("b@example.com")).isNotNull();
+        assertThat(userCache.indexedEmail(id)).isNull();
+        assertThat(userCache.indexedEmail(otherId)).isEqualTo("b@example.com");
+    }
+
+    @Test
+    @DisplayName("evict: remove tambem emails informados pelo chamador (troca de email)")
+    void evictShouldRemoveKnownEmails() {
+        UUID id = UUID.randomUUID();
+        Cache byEmail = cacheManager.getCache(CacheConfig.USER_BY_EMAIL_CACHE);
+        byEmail.put("antigo@example.com", "x");
+        byEmail.put("novo@example.com", "x");
+
+        userCache.evict(id, "antigo@example.com", "novo@example.com", null);
+
+        assertThat(byEmail.get("antigo@example.com")).isNull();
+        assertThat(byEmail.get("novo@example.com")).isNull();
+    }
+
+    @Test
+    @DisplayName("evict: sem o email no indice, usa o do UserDTO ainda em cache")
+    void evictShouldFallBackToCachedUserEmail() {
+        UUID id = UUID.randomUUID();
+        Cache users = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        Cache byEmail = cacheManager.getCache(CacheConfig.USER_BY_EMAIL_CACHE);
+        UserDTO dto = UserDTO.builder().id(id).email("a@example.com").build();
+        users.put(id, dto);
+        byEmail.put("a@example.com", dto);
+
+        userCache.evict(id);
+
+        assertThat(users.get(id)).isNull();
+        assertThat(byEmail.get("a@example.com")).isNull();
+    }
+}
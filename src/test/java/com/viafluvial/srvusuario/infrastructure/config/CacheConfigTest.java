@@ -1,13 +1,28 @@
 package com.viafluvial.srvusuario.infrastructure.config;
 
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.viafluvial.srvusuario.infrastructure.cache.CacheReloader;
+import com.viafluvial.srvusuario.infrastructure.cache.TwoTierCache;
+import com.viafluvial.srvusuario.infrastructure.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @DisplayName("Config: CacheConfig")
 class CacheConfigTest {
@@ -22,7 +37,8 @@ class CacheConfigTest {
             assertThat(context).hasSingleBean(CacheManager.class);
 
             CacheManager cacheManager = context.getBean(CacheManager.class);
-            assertThat(cacheManager).isInstanceOf(CaffeineCacheManager.class);
+            assertThat(cacheManager).isInstanceOf(TwoTierCacheManager.class);
+            assertThat(((TwoTierCacheManager) cacheManager).getLocalCacheManager()).isInstanceOf(CaffeineCacheManager.class);
 
             Cache users = cacheManager.getCache(CacheConfig.USERS_CACHE);
             Cache byEmail = cacheManager.getCache(CacheConfig.USER_BY_EMAIL_CACHE);
@@ -33,9 +49,107 @@ class CacheConfigTest {
             assertThat(byEmail).isNotNull();
             assertThat(boatmen).isNotNull();
             assertThat(passengers).isNotNull();
+            assertThat(cacheManager.getCache(CacheConfig.BOATMAN_DOCUMENTS_CACHE)).isNotNull();
+            assertThat(cacheManager.getCache(CacheConfig.AGENCIES_CACHE)).isNotNull();
+            assertThat(cacheManager.getCache(CacheConfig.ADMINS_CACHE)).isNotNull();
 
             users.put("k", "v");
             assertThat(users.get("k", String.class)).isEqualTo("v");
         });
     }
+
+    @Test
+    @DisplayName("Deve aplicar politica especifica por cache sobre os defaults")
+    void shouldApplyPerCachePolicy() {
+        contextRunner
+            .withPropertyValues(
+                "app.cache.defaults.maximum-size=50",
+                "app.cache.specs[users].maximum-size=1234",
+                "app.cache.specs[users].expire-after-write=30m"
+            )
+            .run(context -> {
+                CacheManager cacheManager = context.getBean(CacheManager.class);
+
+                var users = nativeCache(cacheManager, CacheConfig.USERS_CACHE);
+                var boatmen = nativeCache(cacheManager, CacheConfig.BOATMEN_CACHE);
+
+                assertThat(users.policy().eviction().orElseThrow().getMaximum()).isEqualTo(1234L);
+                assertThat(users.policy().expireAfterWrite().orElseThrow().getExpiresAfter())
+                    .isEqualTo(Duration.ofMinutes(30));
+                assertThat(boatmen.policy().eviction().orElseThrow().getMaximum()).isEqualTo(50L);
+                assertThat(cacheManager.getCache("desconhecido")).isNull();
+            });
+    }
+
+    @Test
+    @DisplayName("Deve recarregar entradas via CacheReloader quando refresh-after-write esta configurado")
+    void shouldReloadThroughCacheReloaderWhenRefreshConfigured() {
+        CacheReloader reloader = mock(CacheReloader.class);
+        UUID id = UUID.randomUUID();
+        when(reloader.reload(CacheConfig.USERS_CACHE, id)).thenReturn("novo");
+
+        contextRunner
+            .withBean(CacheReloader.class, () -> reloader)
+            .withPropertyValues("app.cache.specs[users].refresh-after-write=1m")
+            .run(context -> {
+                CacheManager cacheManager = context.getBean(CacheManager.class);
+                var nativeCache = nativeCache(cacheManager, CacheConfig.USERS_CACHE);
+                assertThat(nativeCache).isInstanceOf(LoadingCache.class);
+
+                @SuppressWarnings("unchecked")
+                LoadingCache<Object, Object> loadingCache = (LoadingCache<Object, Object>) nativeCache;
+                assertThat(loadingCache.get(id)).isNull();
+
+                loadingCache.put(id, "antigo");
+                loadingCache.refresh(id).join();
+
+                // O valor recarregado e instalado no callback do future de refresh.
+                long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+                while (!"novo".equals(loadingCache.getIfPresent(id)) && System.nanoTime() < deadline) {
+                    Thread.onSpinWait();
+                }
+                assertThat(loadingCache.getIfPresent(id)).isEqualTo("novo");
+                verify(reloader).reload(any(), any());
+            });
+    }
+
+    @Test
+    @DisplayName("Deve usar o bean sharedCacheManager como L2 quando presente")
+    void shouldUseSharedCacheManagerAsSecondTier() {
+        ConcurrentMapCacheManager shared = new ConcurrentMapCacheManager();
+
+        contextRunner
+            .withBean(CacheConfig.SHARED_CACHE_MANAGER, CacheManager.class, () -> shared)
+            .run(context -> {
+                CacheManager cacheManager = context.getBean(CacheManager.class);
+                assertThat(cacheManager).isInstanceOf(TwoTierCacheManager.class);
+
+                cacheManager.getCache(CacheConfig.USERS_CACHE).put("k", "v");
+
+                assertThat(shared.getCache(CacheConfig.USERS_CACHE).get("k", String.class)).isEqualTo("v");
+            });
+    }
+
+    @Test
+    @DisplayName("Deve expor metricas do Caffeine e de requisicoes coalescidas por cache")
+    @SuppressWarnings("unchecked")
+    void shouldBindCoalescedRequestsMetric() {
+        contextRunner.run(context -> {
+            CacheManager cacheManager = context.getBean(CacheManager.class);
+            CacheMeterBinderProvider<TwoTierCache> provider = context.getBean(CacheMeterBinderProvider.class);
+            TwoTierCache users = (TwoTierCache) cacheManager.getCache(CacheConfig.USERS_CACHE);
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+            provider.getMeterBinder(users, Tags.empty()).bindTo(registry);
+
+            assertThat(registry.find("cache.coalesced.requests").tag("cache", CacheConfig.USERS_CACHE).functionCounter())
+                .isNotNull();
+            assertThat(registry.find("cache.gets").tag("cache", CacheConfig.USERS_CACHE).meters()).isNotEmpty();
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(CacheManager cacheManager, String name) {
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cacheManager.getCache(name).getNativeCache();
+    }
 }
@@ -0,0 +1,119 @@
+package com.viafluvial.srvusuario.infrastructure.config;
+
+import com.viafluvial.srvusuario.infrastructure.datasource.ReadYourWrites;
+import com.viafluvial.srvusuario.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Config: ReadReplicaDataSourceConfig")
+class ReadReplicaDataSourceConfigTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:rr_primary;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_URL = "jdbc:h2:mem:rr_replica;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(
+            DataSourceAutoConfiguration.class,
+            DataSourceTransactionManagerAutoConfiguration.class,
+            JdbcTemplateAutoConfiguration.class))
+        .withUserConfiguration(ReadReplicaDataSourceConfig.class)
+        .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+        .withPropertyValues(
+            "spring.datasource.url=" + PRIMARY_URL,
+            "spring.datasource.username=sa",
+            "spring.datasource.hikari.maximum-pool-size=3");
+
+    @Test
+    @DisplayName("Desabilitado: mantem o DataSource do Spring Boot")
+    void shouldKeepDefaultDataSourceWhenDisabled() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(DataSource.class);
+            assertThat(context).doesNotHaveBean(ReplicaRoutingDataSource.class);
+        });
+    }
+
+    @Test
+    @DisplayName("readOnly vai para a replica; escrita e leitura presa (read-your-writes) ficam no primario")
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        contextRunner
+            .withPropertyValues(
+                "app.datasource.read-replica.enabled=true",
+                "app.datasource.read-replica.urls=" + REPLICA_URL)
+            .run(context -> {
+                assertThat(context.getBean(DataSource.class)).isInstanceOf(LazyConnectionDataSourceProxy.class);
+                HikariDataSource replica = (HikariDataSource) context.getBean(ReplicaRoutingDataSource.class)
+                    .getReplicas().get(0);
+                assertThat(replica.getPoolName()).isEqualTo("replica-1");
+                assertThat(replica.getMaximumPoolSize()).isEqualTo(3);
+                assertThat(replica.isReadOnly()).isTrue();
+
+                assertThat(database(context, true)).isEqualToIgnoringCase("rr_replica");
+                assertThat(database(context, false)).isEqualToIgnoringCase("rr_primary");
+                try (ReadYourWrites.Pin ignored = ReadYourWrites.pin()) {
+                    assertThat(database(context, true)).isEqualToIgnoringCase("rr_primary");
+                }
+            });
+    }
+
+    @Test
+    @DisplayName("Local: primario e replica podem apontar para o mesmo H2")
+    void shouldAcceptSameDatabaseForBothRoutes() {
+        contextRunner
+            .withPropertyValues(
+                "app.datasource.read-replica.enabled=true",
+                "app.datasource.read-replica.urls=" + PRIMARY_URL,
+                "app.datasource.read-replica.maximum-pool-size=2")
+            .run(context -> {
+                JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+                transaction(context, false).executeWithoutResult(status -> {
+                    jdbcTemplate.execute("CREATE TABLE rr_same (id INT)");
+                    jdbcTemplate.update("INSERT INTO rr_same VALUES (1)");
+                });
+                Integer count = transaction(context, true)
+                    .execute(status -> jdbcTemplate.queryForObject("SELECT count(*) FROM rr_same", Integer.class));
+
+                assertThat(count).isEqualTo(1);
+                assertThat(((HikariDataSource) context.getBean(ReplicaRoutingDataSource.class).getReplicas().get(0))
+                    .getMaximumPoolSize()).isEqualTo(2);
+            });
+    }
+
+    @Test
+    @DisplayName("Habilitado sem urls deve falhar no startup")
+    void shouldFailWhenEnabledWithoutUrls() {
+        contextRunner
+            .withPropertyValues("app.datasource.read-replica.enabled=true")
+            .run(context -> assertThat(context.getStartupFailure())
+                .isNotNull()
+                .hasMessageContaining("app.datasource.read-replica.urls must be configured"));
+    }
+
+    private static String database(ApplicationContext context, boolean readOnly) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        return transaction(context, readOnly)
+            .execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private static TransactionTemplate transaction(ApplicationContext context, boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        template.setReadOnly(readOnly);
+        return template;
+    }
+}
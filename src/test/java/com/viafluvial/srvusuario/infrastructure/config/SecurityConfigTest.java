@@ -10,12 +10,16 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.web.FilterChainProxy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.Collection;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 
 @DisplayName("Config: SecurityConfig")
 class SecurityConfigTest {
@@ -62,6 +66,28 @@ class SecurityConfigTest {
             });
     }
 
+    @Test
+    @DisplayName("Probes de readiness/liveness passam sem credenciais; o restante exige autenticacao")
+    void healthGroupsShouldBePublicWhenSecurityEnabled() {
+        contextRunner
+            .withPropertyValues(
+                "app.security.enabled=true",
+                "app.security.jwt.jwk-set-uri=https://example.com/.well-known/jwks.json"
+            )
+            .run(context -> {
+                MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                    .addFilters(context.getBean(FilterChainProxy.class))
+                    .build();
+
+                assertThat(mockMvc.perform(get("/actuator/health/readiness")).andReturn().getResponse().getStatus())
+                    .isNotEqualTo(401);
+                assertThat(mockMvc.perform(get("/actuator/health/liveness")).andReturn().getResponse().getStatus())
+                    .isNotEqualTo(401);
+                assertThat(mockMvc.perform(get("/api/v1/users")).andReturn().getResponse().getStatus())
+                    .isEqualTo(401);
+            });
+    }
+
     @Test
     @DisplayName("Deve converter claim de roles em authorities com prefixo ROLE_")
     void shouldConvertRolesClaimToAuthorities() {
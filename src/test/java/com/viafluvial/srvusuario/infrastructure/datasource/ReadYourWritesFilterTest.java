@@ -0,0 +1,82 @@
+package com.viafluvial.srvusuario.infrastructure.datasource;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DataSource: ReadYourWritesFilter")
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofMinutes(1), 100);
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("GET anonimo sem cabecalho nao fica preso ao primario")
+    void readShouldNotBePinned() throws Exception {
+        assertThat(pinnedDuring(new MockHttpServletRequest("GET", "/users/1"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Metodos de escrita e o cabecalho X-Read-Your-Writes prendem a requisicao ao primario")
+    void writesAndHeaderShouldBePinned() throws Exception {
+        MockHttpServletRequest withHeader = new MockHttpServletRequest("GET", "/users/1");
+        withHeader.addHeader(ReadYourWritesFilter.HEADER, "true");
+        MockHttpServletRequest optOut = new MockHttpServletRequest("GET", "/users/1");
+        optOut.addHeader(ReadYourWritesFilter.HEADER, "false");
+
+        assertThat(pinnedDuring(new MockHttpServletRequest("POST", "/users"))).isTrue();
+        assertThat(pinnedDuring(new MockHttpServletRequest("PATCH", "/users/1"))).isTrue();
+        assertThat(pinnedDuring(withHeader)).isTrue();
+        assertThat(pinnedDuring(optOut)).isFalse();
+        assertThat(ReadYourWrites.isPinned()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Apos uma escrita, leituras do mesmo usuario ficam no primario durante a janela")
+    void recentWriterShouldBePinned() throws Exception {
+        authenticate("ana");
+        pinnedDuring(new MockHttpServletRequest("PUT", "/users/1"));
+
+        assertThat(pinnedDuring(new MockHttpServletRequest("GET", "/users/1"))).isTrue();
+
+        authenticate("bruno");
+        assertThat(pinnedDuring(new MockHttpServletRequest("GET", "/users/1"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("POST de consulta (:batchGet) nao prende ao primario nem registra o usuario como escritor")
+    void batchGetPostShouldBeTreatedAsRead() throws Exception {
+        authenticate("ana");
+
+        assertThat(pinnedDuring(new MockHttpServletRequest("POST", "/users:batchGet"))).isFalse();
+        assertThat(pinnedDuring(new MockHttpServletRequest("POST", "/api/v1/passengers:batchGetByUser"))).isFalse();
+        assertThat(pinnedDuring(new MockHttpServletRequest("GET", "/users/1"))).isFalse();
+    }
+
+    private boolean pinnedDuring(MockHttpServletRequest request) throws Exception {
+        AtomicBoolean pinned = new AtomicBoolean();
+        FilterChain chain = (req, res) -> pinned.set(ReadYourWrites.isPinned());
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return pinned.get();
+    }
+
+    private static void authenticate(String name) {
+        SecurityContextHolder.getContext()
+            .setAuthentication(new UsernamePasswordAuthenticationToken(name, "n/a", List.of()));
+    }
+}
@@ -0,0 +1,107 @@
+package com.viafluvial.srvusuario.infrastructure.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DataSource: ReplicaRoutingDataSource")
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replicaA;
+
+    @Mock
+    private DataSource replicaB;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection connectionA;
+
+    @Mock
+    private Connection connectionB;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new ReplicaRoutingDataSource(primary, List.of(replicaA, replicaB), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve alternar entre as replicas em round-robin")
+    void shouldRoundRobinReplicas() throws SQLException {
+        when(replicaA.getConnection()).thenReturn(connectionA);
+        when(replicaB.getConnection()).thenReturn(connectionB);
+
+        assertThat(dataSource.getConnection()).isSameAs(connectionA);
+        assertThat(dataSource.getConnection()).isSameAs(connectionB);
+        assertThat(dataSource.getConnection()).isSameAs(connectionA);
+
+        verifyNoInteractions(primary);
+        assertThat(routes("replica")).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Replica indisponivel: tenta a proxima e, sem nenhuma, cai no primario")
+    void shouldFallBackWhenReplicaFails() throws SQLException {
+        when(replicaA.getConnection()).thenThrow(new SQLException("replica-1 fora"));
+        when(replicaB.getConnection()).thenReturn(connectionB).thenThrow(new SQLException("replica-2 fora"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(dataSource.getConnection()).isSameAs(connectionB);
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+
+        assertThat(routes("replica")).isEqualTo(1.0);
+        assertThat(routes("fallback")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Com ReadYourWrites.pin(), deve ler do primario ate o close")
+    void shouldUsePrimaryWhilePinned() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicaA.getConnection()).thenReturn(connectionA);
+
+        try (ReadYourWrites.Pin ignored = ReadYourWrites.pin()) {
+            try (ReadYourWrites.Pin nested = ReadYourWrites.pin()) {
+                assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+            }
+            assertThat(ReadYourWrites.isPinned()).isTrue();
+        }
+
+        assertThat(ReadYourWrites.isPinned()).isFalse();
+        assertThat(dataSource.getConnection()).isSameAs(connectionA);
+        assertThat(routes("pinned")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve exigir ao menos uma replica")
+    void shouldRequireReplicas() {
+        assertThatThrownBy(() -> new ReplicaRoutingDataSource(primary, List.of(), meterRegistry))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private double routes(String route) {
+        return meterRegistry.get("datasource.read.routes").tag("route", route).counter().count();
+    }
+}
@@ -0,0 +1,52 @@
+package com.viafluvial.srvusuario.infrastructure.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Util: BloomFilter")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("mightContain: nunca da falso negativo para valores inseridos")
+    void shouldNeverReturnFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i + "@example.com")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("mightContain: taxa de falso positivo fica proxima do alvo")
+    void shouldKeepFalsePositiveRateNearTarget() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(String.format("%011d", i));
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(String.format("%011d", 1_000_000 + i))) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("create: deve validar parametros")
+    void createShouldValidateArguments() {
+        assertThatThrownBy(() -> BloomFilter.create(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilter.create(10, 1.5)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(BloomFilter.create(10, 0.01).mightContain(null)).isFalse();
+    }
+}